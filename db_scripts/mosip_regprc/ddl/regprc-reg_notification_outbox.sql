@@ -0,0 +1,78 @@
+-- -------------------------------------------------------------------------------------------------
+-- Database Name: mosip_regprc
+-- Table Name 	: regprc.reg_notification_outbox
+-- Purpose    	: Registration Notification Outbox: Table to store the sms and email notifications queued by the message sender stage until they are sent.
+--           
+-- Create By   	: Registration Processor Team
+-- Created Date	: 19-Oct-2026
+-- 
+-- Modified Date        Modified By         Comments / Remarks
+-- ------------------------------------------------------------------------------------------
+-- 
+-- ------------------------------------------------------------------------------------------
+
+-- object: regprc.reg_notification_outbox | type: TABLE --
+-- DROP TABLE IF EXISTS regprc.reg_notification_outbox CASCADE;
+CREATE TABLE regprc.reg_notification_outbox(
+	id character varying(36) NOT NULL,
+	reg_id character varying(39) NOT NULL,
+	process character varying(36),
+	reg_type character varying(36),
+	id_type character varying(36) NOT NULL,
+	notification_type character varying(36) NOT NULL,
+	template_type_code character varying(128) NOT NULL,
+	subject character varying(512),
+	mail_cc character varying(1024),
+	status_code character varying(36) NOT NULL,
+	retry_count smallint NOT NULL DEFAULT 0,
+	next_attempt_dtimes timestamp NOT NULL,
+	status_comment character varying(256),
+	version integer NOT NULL DEFAULT 0,
+	cr_by character varying(256) NOT NULL,
+	cr_dtimes timestamp NOT NULL,
+	upd_by character varying(256),
+	upd_dtimes timestamp,
+	CONSTRAINT pk_rnotob_id PRIMARY KEY (id)
+
+);
+-- ddl-end --
+CREATE INDEX idx_rnotob_status_next ON regprc.reg_notification_outbox (status_code, next_attempt_dtimes);
+-- ddl-end --
+COMMENT ON TABLE regprc.reg_notification_outbox IS 'Registration Notification Outbox: Table to store the sms and email notifications queued by the message sender stage until they are sent.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.id IS 'ID: Unique id of the queued notification';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.reg_id IS 'Registration ID: Registration id of the packet the notification is sent for.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.process IS 'Process: Registration type of the packet, used to read the packet fields.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.reg_type IS 'Registration Type: Registration type from the sync record of the packet.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.id_type IS 'ID Type: Type of the id the notification refers to, UIN or RID.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.notification_type IS 'Notification Type: Channel of the notification, SMS or EMAIL.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.template_type_code IS 'Template Type Code: Code of the master data template used for the notification.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.subject IS 'Subject: Subject of the email notification.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.mail_cc IS 'Mail CC: Pipe separated cc addresses of the email notification.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.status_code IS 'Status Code: PENDING, PROCESSING, SENT or FAILED.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.retry_count IS 'Retry Count: Number of failed attempts to send the notification.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.next_attempt_dtimes IS 'Next Attempt DateTimestamp: Date and Timestamp after which the notification is sent or retried.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.status_comment IS 'Status Comment: Reason of the last failed attempt.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.version IS 'Version: Optimistic lock version, so only one instance claims a notification.';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.cr_by IS 'Created By : ID or name of the user who create / insert record';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.upd_by IS 'Updated By : ID or name of the user who update the record with new values';
+-- ddl-end --
+COMMENT ON COLUMN regprc.reg_notification_outbox.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
+-- ddl-end --
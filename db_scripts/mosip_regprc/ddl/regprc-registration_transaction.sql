@@ -71,3 +71,5 @@ COMMENT ON COLUMN regprc.registration_transaction.is_deleted IS 'IS_Deleted : Fl
 -- ddl-end --
 COMMENT ON COLUMN regprc.registration_transaction.del_dtimes IS 'Deleted DateTimestamp : Date and Timestamp when the record is soft deleted with is_deleted=TRUE';
 -- ddl-end --
+CREATE INDEX idx_regtrn_reg_id_cr_dtimes ON regprc.registration_transaction (reg_id, cr_dtimes);
+-- ddl-end --
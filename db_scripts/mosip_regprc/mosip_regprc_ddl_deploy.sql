@@ -16,5 +16,6 @@
 \ir ddl/regprc-abis_response_det.sql
 
 \ir ddl/regprc-reg_lost_uin_det.sql
+\ir ddl/regprc-reg_notification_outbox.sql
 
 \ir ddl/regprc-fk.sql
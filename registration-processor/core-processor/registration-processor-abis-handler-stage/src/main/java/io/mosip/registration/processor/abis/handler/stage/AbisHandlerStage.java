@@ -2,11 +2,13 @@ package io.mosip.registration.processor.abis.handler.stage;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.json.simple.JSONObject;
@@ -32,6 +34,7 @@ import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.core.util.JsonUtils;
 import io.mosip.kernel.core.util.exception.JsonProcessingException;
 import io.mosip.registration.processor.abis.handler.constant.AbisHandlerStageConstant;
+import io.mosip.registration.processor.abis.handler.dto.DataShare;
 import io.mosip.registration.processor.abis.handler.dto.DataShareResponseDto;
 import io.mosip.registration.processor.abis.handler.dto.Filter;
 import io.mosip.registration.processor.abis.handler.dto.ShareableAttributes;
@@ -116,6 +119,13 @@ public class AbisHandlerStage extends MosipVerticleAPIManager {
 	@Value("${registration.processor.subscriber.id}")
 	private String subscriberId;
 
+	/** Time to live of the cached policy type and subtype mapping. */
+	@Value("${registration.processor.abis.policy.cache.ttl.seconds:600}")
+	private long policyCacheTtlSeconds;
+
+	/** The type and subtype mapping of the datashare policy, shared by all packets. */
+	private volatile CachedTypeSubtypeMapping cachedTypeSubtypeMapping;
+
 	@Autowired
 	private RegistrationProcessorRestClientService registrationProcessorRestClientService;
 
@@ -439,6 +449,9 @@ public class AbisHandlerStage extends MosipVerticleAPIManager {
 		for (AbisQueueDetails abisQueue : abisQueueDetails) {
 			abisAppCodeList.add(abisQueue.getName());
 		}
+		// a datashare reference is sent to as many abis as it allows transactions
+		DataShare dataShare = null;
+		int dataShareUses = 0;
 
 		for (String appCode : abisAppCodeList) {
 
@@ -451,7 +464,12 @@ public class AbisHandlerStage extends MosipVerticleAPIManager {
 			abisRequestDto.setReqBatchId(batchId);
 			abisRequestDto.setRefRegtrnId(transactionId);
 
-			byte[] abisInsertRequestBytes = getInsertRequestBytes(regId, id, process, bioRefId, description);
+			if (dataShare == null || dataShareUses >= dataShare.getTransactionsAllowed()) {
+				dataShare = getDataShare(regId, process);
+				dataShareUses = 0;
+			}
+			dataShareUses++;
+			byte[] abisInsertRequestBytes = getInsertRequestBytes(dataShare.getUrl(), id, bioRefId, description);
 			abisRequestDto.setReqText(abisInsertRequestBytes);
 
 			abisRequestDto.setStatusCode(AbisStatusCode.IN_PROGRESS.toString());
@@ -479,8 +497,8 @@ public class AbisHandlerStage extends MosipVerticleAPIManager {
 	/**
 	 * Gets the insert request bytes.
 	 *
-	 * @param regId
-	 *            the reg id
+	 * @param dataShareUrl
+	 *            the datashare url of the biometrics
 	 * @param id
 	 *            the id
 	 * @param bioRefId
@@ -488,11 +506,12 @@ public class AbisHandlerStage extends MosipVerticleAPIManager {
 	 * @param description
 	 * @return the insert request bytes
 	 */
-	private byte[] getInsertRequestBytes(String regId, String id, String process, String bioRefId, LogDescription description) throws Exception {
+	private byte[] getInsertRequestBytes(String dataShareUrl, String id, String bioRefId,
+			LogDescription description) {
 		AbisInsertRequestDto abisInsertRequestDto = new AbisInsertRequestDto();
 		abisInsertRequestDto.setId(AbisHandlerStageConstant.MOSIP_ABIS_INSERT);
 		abisInsertRequestDto.setReferenceId(bioRefId);
-		abisInsertRequestDto.setReferenceURL(getDataShareUrl(regId, process));
+		abisInsertRequestDto.setReferenceURL(dataShareUrl);
 		abisInsertRequestDto.setRequestId(id);
 		abisInsertRequestDto.setRequesttime(DateUtils.getUTCCurrentDateTimeString(env.getProperty(DATETIME_PATTERN)));
 		abisInsertRequestDto.setVersion(AbisHandlerStageConstant.VERSION);
@@ -518,8 +537,14 @@ public class AbisHandlerStage extends MosipVerticleAPIManager {
 		return UUID.randomUUID().toString();
 	}
 
-	private String getDataShareUrl(String id, String process) throws Exception {
-		Map<String,List<String>> typeAndSubtypMap=createTypeSubtypeMapping();
+	/**
+	 * Shares the biometrics of the packet.
+	 *
+	 * @return the datashare with its url and the number of transactions it
+	 *         allows, a datashare allowing none is used once
+	 */
+	private DataShare getDataShare(String id, String process) throws Exception {
+		Map<String,List<String>> typeAndSubtypMap=getTypeSubtypeMapping();
 		List<String> modalities=new ArrayList<>();
 		for(Map.Entry<String,List<String>> entry:typeAndSubtypMap.entrySet()) {
 			if(entry.getValue()==null) {
@@ -555,8 +580,48 @@ public class AbisHandlerStage extends MosipVerticleAPIManager {
 		if (response == null || (response.getErrors() != null && response.getErrors().size() >0))
 			throw new DataShareException(response == null ? "Datashare response is null" : response.getErrors().get(0).getMessage());
 
-		return response.getDataShare().getUrl();
+		return response.getDataShare();
 	}
+
+	/**
+	 * Gets the type and subtype mapping of the datashare policy from the cache,
+	 * fetching it from PMS once it has expired. Packets arriving while it is
+	 * fetched may fetch it as well. If the refresh fails the expired mapping is
+	 * used and the refresh is retried on the next packet.
+	 *
+	 * @return the type and subtype mapping
+	 */
+	private Map<String, List<String>> getTypeSubtypeMapping() throws Exception {
+		CachedTypeSubtypeMapping cached = cachedTypeSubtypeMapping;
+		if (cached != null && System.currentTimeMillis() < cached.expiry)
+			return cached.typeSubtypeMap;
+		try {
+			cached = new CachedTypeSubtypeMapping(Collections.unmodifiableMap(createTypeSubtypeMapping()),
+					System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(policyCacheTtlSeconds));
+			cachedTypeSubtypeMapping = cached;
+		} catch (ApisResourceAccessException | DataShareException e) {
+			if (cached == null)
+				throw e;
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"AbisHandlerStage::getTypeSubtypeMapping():: policy refresh failed, using cached mapping "
+							+ ExceptionUtils.getStackTrace(e));
+		}
+		return cached.typeSubtypeMap;
+	}
+
+	/** The mapping with its expiry, replaced as a whole when it is refreshed. */
+	private static class CachedTypeSubtypeMapping {
+
+		private final Map<String, List<String>> typeSubtypeMap;
+
+		private final long expiry;
+
+		CachedTypeSubtypeMapping(Map<String, List<String>> typeSubtypeMap, long expiry) {
+			this.typeSubtypeMap = typeSubtypeMap;
+			this.expiry = expiry;
+		}
+	}
+
 	public Map<String, List<String>> createTypeSubtypeMapping() throws ApisResourceAccessException, DataShareException, JsonParseException, JsonMappingException, com.fasterxml.jackson.core.JsonProcessingException, IOException{
 		Map<String, List<String>> typeAndSubTypeMap = new HashMap<>();
 		ResponseWrapper<?> policyResponse = (ResponseWrapper<?>) registrationProcessorRestClientService.getApi(
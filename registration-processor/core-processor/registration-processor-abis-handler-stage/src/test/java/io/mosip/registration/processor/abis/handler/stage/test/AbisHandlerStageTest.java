@@ -2,11 +2,17 @@ package io.mosip.registration.processor.abis.handler.stage.test;
 
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import io.mosip.kernel.biometrics.constant.BiometricType;
 import io.mosip.kernel.biometrics.constant.QualityType;
@@ -214,6 +220,89 @@ public class AbisHandlerStageTest {
 		Mockito.when(registrationProcessorRestClientService.postApi(any(ApiName.class), any(MediaType.class), any(),any(),any(), any(), any())).thenReturn(dataShareResponseDto);
 	}
 
+	@Test
+	public void testDataShareCreatedOncePerPacketAndPolicyCached() throws Exception {
+		ReflectionTestUtils.setField(abisHandlerStage, "policyCacheTtlSeconds", 600L);
+		mockDataSharePolicy();
+		mockDataShare(3);
+		mockInsertRequest("ABIS1", "ABIS2", "ABIS3");
+
+		MessageDTO dto = new MessageDTO();
+		dto.setRid("10003100030001520190422074511");
+		abisHandlerStage.process(dto);
+		MessageDTO result = abisHandlerStage.process(dto);
+
+		assertTrue(result.getMessageBusAddress().getAddress().equalsIgnoreCase("abis-middle-ware-bus-in"));
+		// one upload per packet for three abis queues, one policy fetch for both packets
+		verify(registrationProcessorRestClientService, times(2)).postApi(any(ApiName.class), any(MediaType.class),
+				any(), any(), any(), any(), any());
+		verify(registrationProcessorRestClientService, times(1)).getApi(eq(ApiName.PMS), any(), anyString(),
+				anyString(), any());
+		verify(packetManagerService, times(2)).getBiometrics(any(), any(), any(), any());
+	}
+
+	@Test
+	public void testDataShareNotUsedBeyondTransactionsAllowed() throws Exception {
+		mockDataSharePolicy();
+		mockDataShare(2);
+		mockInsertRequest("ABIS1", "ABIS2", "ABIS3");
+
+		MessageDTO dto = new MessageDTO();
+		dto.setRid("10003100030001520190422074511");
+		MessageDTO result = abisHandlerStage.process(dto);
+
+		assertTrue(result.getMessageBusAddress().getAddress().equalsIgnoreCase("abis-middle-ware-bus-in"));
+		// the second datashare is created for the third abis queue
+		verify(registrationProcessorRestClientService, times(2)).postApi(any(ApiName.class), any(MediaType.class),
+				any(), any(), any(), any(), any());
+	}
+
+	private void mockInsertRequest(String... abisQueueNames) throws Exception {
+		List<AbisQueueDetails> abisQueueDetails = new ArrayList<>();
+		for (String abisQueueName : abisQueueNames) {
+			AbisQueueDetails abisQueue = new AbisQueueDetails();
+			abisQueue.setName(abisQueueName);
+			abisQueueDetails.add(abisQueue);
+		}
+		Mockito.when(utility.getAbisQueueDetails()).thenReturn(abisQueueDetails);
+		Mockito.when(registrationStatusService.getRegistrationStatus(any())).thenReturn(registrationStatusDto);
+		Mockito.when(registrationStatusDto.getLatestTransactionTypeCode()).thenReturn("BIOGRAPHIC_VERIFICATION");
+		Mockito.when(registrationStatusDto.getLatestRegistrationTransactionId())
+				.thenReturn("dd7b7d20-910a-4b84-be21-c9f211318563");
+		Mockito.when(packetInfoManager.getIdentifyByTransactionId(any(), any())).thenReturn(Boolean.FALSE);
+		Mockito.when(packetInfoManager.getBioRefIdByRegId(any())).thenReturn(bioRefDtos);
+	}
+
+	private void mockDataShare(int transactionsAllowed) throws Exception {
+		DataShareResponseDto dataShareResponseDto = new DataShareResponseDto();
+		DataShare dataShare = new DataShare();
+		dataShare.setUrl("http://localhost");
+		dataShare.setTransactionsAllowed(transactionsAllowed);
+		dataShareResponseDto.setDataShare(dataShare);
+		Mockito.when(registrationProcessorRestClientService.postApi(any(ApiName.class), any(MediaType.class), any(),
+				any(), any(), any(), any())).thenReturn(dataShareResponseDto);
+	}
+
+	private void mockDataSharePolicy() throws Exception {
+		Map<String, Object> filter = new LinkedHashMap<>();
+		filter.put("type", "Finger");
+		filter.put("subType", Arrays.asList("Left RingFinger"));
+		Map<String, Object> source = new LinkedHashMap<>();
+		source.put("attribute", "biometrics");
+		source.put("filter", Arrays.asList(filter));
+		Map<String, Object> shareableAttribute = new LinkedHashMap<>();
+		shareableAttribute.put("attributeName", "biometrics");
+		shareableAttribute.put("source", Arrays.asList(source));
+		LinkedHashMap<String, Object> policies = new LinkedHashMap<>();
+		policies.put("shareableAttributes", Arrays.asList(shareableAttribute));
+		LinkedHashMap<String, Object> policyMap = new LinkedHashMap<>();
+		policyMap.put("policies", policies);
+		ResponseWrapper<LinkedHashMap<String, Object>> policyResponse = new ResponseWrapper<>();
+		policyResponse.setResponse(policyMap);
+		Mockito.when(registrationProcessorRestClientService.getApi(eq(ApiName.PMS), any(), anyString(), anyString(),
+				any())).thenReturn(policyResponse);
+	}
+
 	@Test
 	public void testDeployVerticle() {
 		abisHandlerStage.deployVerticle();
@@ -25,6 +25,7 @@ public class UinGeneratorApplication {
 				"io.mosip.registration.processor.core.kernel.beans");
 
 		configApplicationContext.refresh();
+		configApplicationContext.registerShutdownHook();
 
 		UinGeneratorStage uinGeneratorStage = configApplicationContext.getBean(UinGeneratorStage.class);
 		uinGeneratorStage.deployVerticle();
@@ -4,6 +4,7 @@ import io.mosip.registration.processor.packet.storage.utils.IdSchemaUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import io.mosip.registration.processor.stages.uingenerator.stage.UinGeneratorStage;
+import io.mosip.registration.processor.stages.uingenerator.util.UinReservationPool;
 
 @Configuration
 public class UINBeanConfig {
@@ -17,4 +18,9 @@ public class UINBeanConfig {
 	public IdSchemaUtil idSchemaUtil() {
 		return new IdSchemaUtil();
 	}
+
+	@Bean
+	public UinReservationPool getUinReservationPool() {
+		return new UinReservationPool();
+	}
 }
@@ -0,0 +1,26 @@
+package io.mosip.registration.processor.stages.uingenerator.exception;
+
+import io.mosip.kernel.core.exception.BaseCheckedException;
+
+/**
+ * Thrown when the documents of a packet do not fit in the document memory
+ * budget of the stage, or the budget did not free up in time.
+ */
+public class DocumentBudgetExceededException extends BaseCheckedException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Instantiates a new document budget exceeded exception.
+	 *
+	 * @param errorCode    the error code
+	 * @param errorMessage the error message
+	 */
+	public DocumentBudgetExceededException(String errorCode, String errorMessage) {
+		super(errorCode, errorMessage);
+	}
+
+}
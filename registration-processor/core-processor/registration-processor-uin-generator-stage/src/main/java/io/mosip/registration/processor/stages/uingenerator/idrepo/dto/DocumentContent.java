@@ -0,0 +1,28 @@
+package io.mosip.registration.processor.stages.uingenerator.idrepo.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import io.mosip.registration.processor.stages.uingenerator.util.Base64UrlSafeSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Document sent to the id repository. The raw bytes are kept as they are and
+ * base64 encoded while the request body is serialized, so no separate base64
+ * String of the document is built. The serialized body itself is still
+ * buffered before it is sent, the stage bounds that memory with its document
+ * memory budget.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentContent {
+
+	/** The doc type. */
+	private String category;
+
+	/** The doc value. */
+	@JsonSerialize(using = Base64UrlSafeSerializer.class)
+	private byte[] value;
+}
@@ -5,7 +5,6 @@ package io.mosip.registration.processor.stages.uingenerator.idrepo.dto;
 
 import java.util.List;
 
-import io.mosip.registration.processor.core.idrepo.dto.Documents;
 import lombok.Data;
 
 /**
@@ -24,7 +23,7 @@ public class RequestDto {
 	private Object identity;
 	
 	/** The documents. */
-	private List<Documents> documents;
+	private List<DocumentContent> documents;
 	
 	/** The registration id. */
 	private String registrationId;
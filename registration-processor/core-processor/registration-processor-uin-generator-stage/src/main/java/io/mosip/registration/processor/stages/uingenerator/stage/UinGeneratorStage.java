@@ -7,6 +7,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.PreDestroy;
 
 import io.mosip.kernel.biometrics.entities.BiometricRecord;
 import io.mosip.kernel.core.cbeffutil.spi.CbeffUtil;
@@ -35,7 +42,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 
 import io.mosip.kernel.core.logger.spi.Logger;
-import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.processor.core.abstractverticle.MessageBusAddress;
 import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
@@ -59,7 +65,6 @@ import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages
 import io.mosip.registration.processor.core.exception.util.PlatformSuccessMessages;
 import io.mosip.registration.processor.core.http.RequestWrapper;
 import io.mosip.registration.processor.core.http.ResponseWrapper;
-import io.mosip.registration.processor.core.idrepo.dto.Documents;
 import io.mosip.registration.processor.core.logger.LogDescription;
 import io.mosip.registration.processor.core.logger.RegProcessorLogger;
 import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
@@ -78,10 +83,14 @@ import io.mosip.registration.processor.stages.uingenerator.dto.UinRequestDto;
 import io.mosip.registration.processor.stages.uingenerator.dto.UinResponseDto;
 import io.mosip.registration.processor.stages.uingenerator.dto.VidRequestDto;
 import io.mosip.registration.processor.stages.uingenerator.dto.VidResponseDto;
+import io.mosip.registration.processor.stages.uingenerator.exception.DocumentBudgetExceededException;
 import io.mosip.registration.processor.stages.uingenerator.exception.VidCreationException;
+import io.mosip.registration.processor.stages.uingenerator.idrepo.dto.DocumentContent;
 import io.mosip.registration.processor.stages.uingenerator.idrepo.dto.IdRequestDto;
 import io.mosip.registration.processor.stages.uingenerator.idrepo.dto.IdResponseDTO;
 import io.mosip.registration.processor.stages.uingenerator.idrepo.dto.RequestDto;
+import io.mosip.registration.processor.stages.uingenerator.util.DocumentMemoryBudget;
+import io.mosip.registration.processor.stages.uingenerator.util.UinReservationPool;
 import io.mosip.registration.processor.stages.uingenerator.util.UinStatusMessage;
 import io.mosip.registration.processor.status.code.RegistrationStatusCode;
 import io.mosip.registration.processor.status.code.RegistrationType;
@@ -102,6 +111,9 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 	private static Logger regProcLogger = RegProcessorLogger.getLogger(UinGeneratorStage.class);
 	private static final String RECORD_ALREADY_EXISTS_ERROR = "IDR-IDC-012";
 
+	/** Gson instances are thread safe, shared for parsing uin generator responses. */
+	private static final Gson GSON = new Gson();
+
 	@Autowired
 	private Environment env;
 
@@ -138,6 +150,28 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 	@Value("${packet.default.source}")
 	private String defaultSource;
 
+	/** Threads shared by all packets for fetching documents and biometrics. */
+	@Value("${registration.processor.uin.document.fetch.threads:10}")
+	private int documentFetchThreads;
+
+	/** The document fetch executor, created on first use. */
+	private ExecutorService documentFetchExecutor;
+
+	/** Memory the documents of all packets in flight may hold, in KB. Zero or less disables the budget. */
+	@Value("${registration.processor.uin.document.memory.budget.kb:262144}")
+	private int documentMemoryBudgetKb;
+
+	/** Memory reserved per document before the documents of a packet are fetched, in KB. */
+	@Value("${registration.processor.uin.document.reservation.kb:2048}")
+	private int documentReservationKb;
+
+	/** How long a packet waits for the document memory budget to free up. */
+	@Value("${registration.processor.uin.document.memory.wait.millis:60000}")
+	private long documentMemoryWaitMillis;
+
+	/** The document memory budget, created on first use. */
+	private DocumentMemoryBudget documentMemoryBudget;
+
 	/** The core audit request builder. */
 	@Autowired
 	private AuditLogRequestBuilder auditLogRequestBuilder;
@@ -180,6 +214,10 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 	@Autowired
 	private IdSchemaUtil idSchemaUtil;
 
+	/** Pool of prefetched uins, falls back to the uin generator when empty. */
+	@Autowired
+	private UinReservationPool uinReservationPool;
+
 	private TrimExceptionMessage trimExceptionMessage = new TrimExceptionMessage();
 
 	/*
@@ -200,8 +238,6 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 		String registrationId = object.getRid();
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
 				registrationId, "UinGeneratorStage::process()::entry");
-		UinGenResponseDto uinResponseDto = null;
-
 		InternalRegistrationStatusDto registrationStatusDto = registrationStatusService.getRegistrationStatus(registrationId);
 		try {
 			registrationStatusDto
@@ -231,27 +267,32 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 
 				if (StringUtils.isEmpty(uinField) || uinField.equalsIgnoreCase("null") ) {
 
-					String test = (String) registrationProcessorRestClientService.getApi(ApiName.UINGENERATOR, null, "",
-							"", String.class);
-
-					Gson gsonObj = new Gson();
-					uinResponseDto = gsonObj.fromJson(test, UinGenResponseDto.class);
-
-					uinField = uinResponseDto.getResponse().getUin();
+					uinField = uinReservationPool.acquireUin();
+					if (uinField == null) {
+						String test = (String) registrationProcessorRestClientService.getApi(ApiName.UINGENERATOR, null,
+								"", "", String.class);
+						UinGenResponseDto uinResponseDto = GSON.fromJson(test, UinGenResponseDto.class);
+						uinField = uinResponseDto.getResponse().getUin();
+					}
 					demographicIdentity.put("UIN", uinField);
 
-					idResponseDTO = sendIdRepoWithUin(registrationId, registrationStatusDto.getRegistrationType(), demographicIdentity,
-							uinField, description);
+					try {
+						idResponseDTO = sendIdRepoWithUin(registrationId, registrationStatusDto.getRegistrationType(),
+								demographicIdentity, uinField, description);
+					} catch (DocumentBudgetExceededException e) {
+						// the packet is reprocessed and takes a new uin then
+						returnUin(registrationId, uinField);
+						throw e;
+					}
 
 					boolean isUinAlreadyPresent = isUinAlreadyPresent(idResponseDTO, registrationId);
 
 					if (isIdResponseNotNull(idResponseDTO) || isUinAlreadyPresent) {
-						generateVid(registrationId, uinResponseDto.getResponse().getUin(), isUinAlreadyPresent);
+						generateVid(registrationId, uinField, isUinAlreadyPresent);
 						registrationStatusDto.setStatusComment(StatusUtil.UIN_GENERATED_SUCCESS.getMessage());
 						registrationStatusDto.setSubStatusCode(StatusUtil.UIN_GENERATED_SUCCESS.getCode());
 						String uinStatus = isUinAlreadyPresent ? UINConstants.UIN_UNASSIGNED : UINConstants.UIN_ASSIGNED;
-						sendResponseToUinGenerator(registrationId, uinResponseDto.getResponse().getUin(),
-								uinStatus);
+						sendResponseToUinGenerator(registrationId, uinField, uinStatus);
 						isTransactionSuccessful = true;
 						registrationStatusDto.setStatusCode(RegistrationStatusCode.PROCESSED.toString());
 						description.setMessage(PlatformSuccessMessages.RPR_UIN_GENERATOR_STAGE_SUCCESS.getMessage());
@@ -270,8 +311,7 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 						registrationStatusDto.setStatusCode(RegistrationStatusCode.REJECTED.toString());
 						registrationStatusDto.setLatestTransactionStatusCode(registrationStatusMapperUtil
 								.getStatusCode(RegistrationExceptionTypeCode.PACKET_UIN_GENERATION_FAILED));
-						sendResponseToUinGenerator(registrationId, uinResponseDto.getResponse().getUin(),
-								UINConstants.UIN_UNASSIGNED);
+						sendResponseToUinGenerator(registrationId, uinField, UINConstants.UIN_UNASSIGNED);
 						isTransactionSuccessful = false;
 						description.setMessage(PlatformErrorMessages.RPR_UGS_UIN_UPDATE_FAILURE.getMessage());
 						description.setCode(PlatformErrorMessages.RPR_UGS_UIN_UPDATE_FAILURE.getCode());
@@ -368,6 +408,19 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 			object.setIsValid(Boolean.FALSE);
 			description.setMessage(PlatformErrorMessages.RPR_SYS_IO_EXCEPTION.getMessage());
 			description.setCode(PlatformErrorMessages.RPR_SYS_IO_EXCEPTION.getCode());
+		} catch (DocumentBudgetExceededException e) {
+			registrationStatusDto.setStatusCode(RegistrationStatusCode.PROCESSING.name());
+			registrationStatusDto.setStatusComment(trimExceptionMessage
+					.trimExceptionMessage(StatusUtil.DOCUMENT_MEMORY_BUDGET_EXCEEDED.getMessage() + e.getMessage()));
+			registrationStatusDto.setSubStatusCode(StatusUtil.DOCUMENT_MEMORY_BUDGET_EXCEEDED.getCode());
+			registrationStatusDto.setLatestTransactionStatusCode(registrationStatusMapperUtil
+					.getStatusCode(RegistrationExceptionTypeCode.DOCUMENT_MEMORY_BUDGET_EXCEEDED));
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+					registrationId, RegistrationStatusCode.PROCESSING.toString() + e.getMessage());
+			object.setInternalError(Boolean.TRUE);
+			object.setIsValid(Boolean.FALSE);
+			description.setMessage(PlatformErrorMessages.RPR_UGS_DOCUMENT_MEMORY_BUDGET_EXCEEDED.getMessage());
+			description.setCode(PlatformErrorMessages.RPR_UGS_DOCUMENT_MEMORY_BUDGET_EXCEEDED.getCode());
 		} catch (Exception ex) {
 			registrationStatusDto.setStatusCode(RegistrationStatusCode.FAILED.name());
 			registrationStatusDto.setStatusComment(
@@ -459,47 +512,49 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 			LogDescription description)
 			throws Exception {
 
-		List<Documents> documentInfo = getAllDocumentsByRegId(regId, process, demographicIdentity);
-		RequestDto requestDto = new RequestDto();
-		requestDto.setIdentity(demographicIdentity);
-		requestDto.setDocuments(documentInfo);
-		requestDto.setRegistrationId(regId);
-		requestDto.setStatus(RegistrationType.ACTIVATED.toString());
-		requestDto.setBiometricReferenceId(uin);
-
 		IdResponseDTO result = null;
-		IdRequestDto idRequestDTO = new IdRequestDto();
-		idRequestDTO.setId(idRepoCreate);
-		idRequestDTO.setRequest(requestDto);
-		idRequestDTO.setRequesttime(DateUtils.getUTCCurrentDateTimeString());
-		idRequestDTO.setVersion(UINConstants.idRepoApiVersion);
-		idRequestDTO.setMetadata(null);
+		try (DocumentMemoryBudget.Lease lease = newDocumentLease(regId)) {
+			List<DocumentContent> documentInfo = getAllDocumentsByRegId(regId, process, demographicIdentity, lease);
+			RequestDto requestDto = new RequestDto();
+			requestDto.setIdentity(demographicIdentity);
+			requestDto.setDocuments(documentInfo);
+			requestDto.setRegistrationId(regId);
+			requestDto.setStatus(RegistrationType.ACTIVATED.toString());
+			requestDto.setBiometricReferenceId(uin);
 
-		try {
+			IdRequestDto idRequestDTO = new IdRequestDto();
+			idRequestDTO.setId(idRepoCreate);
+			idRequestDTO.setRequest(requestDto);
+			idRequestDTO.setRequesttime(DateUtils.getUTCCurrentDateTimeString());
+			idRequestDTO.setVersion(UINConstants.idRepoApiVersion);
+			idRequestDTO.setMetadata(null);
 
-			result = (IdResponseDTO) registrationProcessorRestClientService.postApi(ApiName.IDREPOSITORY, "", "",
-					idRequestDTO, IdResponseDTO.class);
+			try {
 
-		} catch (ApisResourceAccessException e) {
+				result = (IdResponseDTO) registrationProcessorRestClientService.postApi(ApiName.IDREPOSITORY, "", "",
+						idRequestDTO, IdResponseDTO.class);
 
-			if (e.getCause() instanceof HttpClientErrorException) {
-				HttpClientErrorException httpClientException = (HttpClientErrorException) e.getCause();
-				description.setMessage(UINConstants.UIN_GENERATION_FAILED + regId + "::"
-						+ httpClientException.getResponseBodyAsString());
-				throw new ApisResourceAccessException(httpClientException.getResponseBodyAsString(),
-						httpClientException);
-			} else if (e.getCause() instanceof HttpServerErrorException) {
-				HttpServerErrorException httpServerException = (HttpServerErrorException) e.getCause();
-				description.setMessage(UINConstants.UIN_GENERATION_FAILED + regId + "::"
-						+ httpServerException.getResponseBodyAsString());
+			} catch (ApisResourceAccessException e) {
 
-				throw new ApisResourceAccessException(httpServerException.getResponseBodyAsString(),
-						httpServerException);
-			} else {
-				description.setMessage(UINConstants.UIN_GENERATION_FAILED + regId + "::" + e.getMessage());
-				throw e;
-			}
+				if (e.getCause() instanceof HttpClientErrorException) {
+					HttpClientErrorException httpClientException = (HttpClientErrorException) e.getCause();
+					description.setMessage(UINConstants.UIN_GENERATION_FAILED + regId + "::"
+							+ httpClientException.getResponseBodyAsString());
+					throw new ApisResourceAccessException(httpClientException.getResponseBodyAsString(),
+							httpClientException);
+				} else if (e.getCause() instanceof HttpServerErrorException) {
+					HttpServerErrorException httpServerException = (HttpServerErrorException) e.getCause();
+					description.setMessage(UINConstants.UIN_GENERATION_FAILED + regId + "::"
+							+ httpServerException.getResponseBodyAsString());
+
+					throw new ApisResourceAccessException(httpServerException.getResponseBodyAsString(),
+							httpServerException);
+				} else {
+					description.setMessage(UINConstants.UIN_GENERATION_FAILED + regId + "::" + e.getMessage());
+					throw e;
+				}
 
+			}
 		}
 		return result;
 
@@ -510,6 +565,9 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 	 *
 	 * @param regId
 	 *            the reg id
+	 * @param lease
+	 *            the document memory lease of the packet, null when the budget
+	 *            is disabled
 	 * @return the all documents by reg id
 	 * @throws IOException
 	 * @throws io.mosip.kernel.core.exception.IOException
@@ -517,8 +575,9 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 	 * @throws JsonMappingException
 	 * @throws JsonParseException
 	 */
-	private List<Documents> getAllDocumentsByRegId(String regId, String process, JSONObject demographicIdentity) throws Exception {
-		List<Documents> applicantDocuments = new ArrayList<>();
+	private List<DocumentContent> getAllDocumentsByRegId(String regId, String process, JSONObject demographicIdentity,
+			DocumentMemoryBudget.Lease lease) throws Exception {
+		List<Callable<DocumentContent>> documentFetchers = new ArrayList<>();
 
 		JSONObject idJSON = demographicIdentity;
 		JSONObject  docJson = utility.getRegistrationProcessorMappingJson(MappingJsonConstants.DOCUMENT);
@@ -536,45 +595,120 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 		HashMap<String, String> proofOfRelationship = (HashMap<String, String>) idJSON.get(proofOfRelationshipLabel);
 		HashMap<String, String> applicantBiometric = (HashMap<String, String>) idJSON.get(applicantBiometricLabel);
 		if (proofOfAddress != null) {
-			applicantDocuments
-					.add(getIdDocumnet(regId, process, MappingJsonConstants.POA));
+			documentFetchers.add(() -> getIdDocumnet(regId, process, MappingJsonConstants.POA));
 		}
 		if (proofOfDateOfBirth != null) {
-			applicantDocuments.add(
-					getIdDocumnet(regId, process, MappingJsonConstants.POB));
+			documentFetchers.add(() -> getIdDocumnet(regId, process, MappingJsonConstants.POB));
 		}
 		if (proofOfIdentity != null) {
-			applicantDocuments
-					.add(getIdDocumnet(regId, process, MappingJsonConstants.POI));
+			documentFetchers.add(() -> getIdDocumnet(regId, process, MappingJsonConstants.POI));
 		}
 		if (proofOfRelationship != null) {
-			applicantDocuments.add(getIdDocumnet(regId, process, MappingJsonConstants.POR));
+			documentFetchers.add(() -> getIdDocumnet(regId, process, MappingJsonConstants.POR));
 		}
 		if (applicantBiometric != null) {
-			applicantDocuments.add(getBiometrics(regId, process, MappingJsonConstants.INDIVIDUAL_BIOMETRICS));
+			documentFetchers.add(() -> getBiometrics(regId, process, MappingJsonConstants.INDIVIDUAL_BIOMETRICS));
+		}
+		return fetchDocuments(documentFetchers, lease);
+	}
+
+	/**
+	 * Runs the document fetches concurrently on the shared document fetch pool
+	 * and returns the documents in the order of the fetchers. The first failure
+	 * is rethrown as is. The documents of the packet are held in memory until the
+	 * id repo request is sent and the rest template buffers the request body as
+	 * well, so the memory of all fetches is reserved from the lease of the packet
+	 * on the calling thread before they start. The pool threads only fetch and
+	 * never wait for memory. Once fetched, the reservation is corrected to the
+	 * actual size of the documents.
+	 *
+	 * @param documentFetchers
+	 *            the document fetchers
+	 * @param lease
+	 *            the document memory lease of the packet, null when the budget
+	 *            is disabled
+	 * @return the documents
+	 * @throws Exception
+	 */
+	private List<DocumentContent> fetchDocuments(List<Callable<DocumentContent>> documentFetchers,
+			DocumentMemoryBudget.Lease lease) throws Exception {
+		int reservedKb = lease != null ? lease.reserve(documentReservationKb * documentFetchers.size()) : 0;
+		List<DocumentContent> applicantDocuments = new ArrayList<>();
+		if (documentFetchers.size() == 1) {
+			applicantDocuments.add(documentFetchers.get(0).call());
+		} else {
+			List<Future<DocumentContent>> futures = getDocumentFetchExecutor().invokeAll(documentFetchers);
+			for (Future<DocumentContent> future : futures) {
+				try {
+					applicantDocuments.add(future.get());
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof Exception)
+						throw (Exception) e.getCause();
+					throw e;
+				}
+			}
+		}
+		if (lease != null) {
+			long fetchedBytes = 0;
+			for (DocumentContent document : applicantDocuments)
+				fetchedBytes += document.getValue() != null ? document.getValue().length : 0;
+			lease.adjust(reservedKb, fetchedBytes);
 		}
 		return applicantDocuments;
 	}
 
-	private Documents getIdDocumnet(String registrationId, String process, String idDocLabel)
-			throws IOException, ApisResourceAccessException, PacketManagerException, io.mosip.kernel.core.util.exception.JsonProcessingException {
-		Documents documentsInfoDto = new Documents();
+	private DocumentMemoryBudget.Lease newDocumentLease(String regId) {
+		DocumentMemoryBudget budget = getDocumentMemoryBudget();
+		return budget != null ? budget.newLease(regId) : null;
+	}
 
+	private synchronized DocumentMemoryBudget getDocumentMemoryBudget() {
+		if (documentMemoryBudget == null && documentMemoryBudgetKb > 0)
+			documentMemoryBudget = new DocumentMemoryBudget(documentMemoryBudgetKb, documentMemoryWaitMillis);
+		return documentMemoryBudget;
+	}
+
+	/**
+	 * Returns a uin taken for a packet that is reprocessed later as unassigned.
+	 */
+	private void returnUin(String registrationId, String uin) {
+		try {
+			sendResponseToUinGenerator(registrationId, uin, UINConstants.UIN_UNASSIGNED);
+		} catch (ApisResourceAccessException | IOException e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+					registrationId, "UinGeneratorStage::returnUin():: " + e.getMessage()
+							+ ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	private synchronized ExecutorService getDocumentFetchExecutor() {
+		if (documentFetchExecutor == null) {
+			documentFetchExecutor = Executors.newFixedThreadPool(Math.max(1, documentFetchThreads), runnable -> {
+				Thread thread = new Thread(runnable, "uin-document-fetch");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return documentFetchExecutor;
+	}
+
+	@PreDestroy
+	public synchronized void shutdownDocumentFetchExecutor() {
+		if (documentFetchExecutor != null)
+			documentFetchExecutor.shutdownNow();
+	}
+
+	private DocumentContent getIdDocumnet(String registrationId, String process, String idDocLabel)
+			throws IOException, ApisResourceAccessException, PacketManagerException, io.mosip.kernel.core.util.exception.JsonProcessingException {
 		Document document = packetManagerService.getDocument(registrationId, idDocLabel, process);
-		documentsInfoDto.setValue(CryptoUtil.encodeBase64(document.getDocument()));
-		documentsInfoDto.setCategory(document.getValue());
-		return documentsInfoDto;
+		return new DocumentContent(document.getValue(), document.getDocument());
 	}
 
-	private Documents getBiometrics(String registrationId, String process, String idDocLabel)
+	private DocumentContent getBiometrics(String registrationId, String process, String idDocLabel)
 			throws Exception {
 		BiometricRecord biometricRecord = packetManagerService.getBiometrics(registrationId, idDocLabel, null, process);
 		byte[] xml = cbeffutil.createXML(BIRConverter.convertSegmentsToBIRList(biometricRecord.getSegments()));
-		Documents documentsInfoDto = new Documents();
-		documentsInfoDto.setValue(CryptoUtil.encodeBase64(xml));
-		documentsInfoDto.setCategory(utility.getMappingJsonValue(idDocLabel, MappingJsonConstants.IDENTITY));
-		return documentsInfoDto;
-
+		return new DocumentContent(utility.getMappingJsonValue(idDocLabel, MappingJsonConstants.IDENTITY), xml);
 	}
 
 	/**
@@ -596,9 +730,11 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 			throws Exception {
 		IdResponseDTO result;
 		boolean isTransactionSuccessful = Boolean.FALSE;
-		List<Documents> documentInfo = getAllDocumentsByRegId(regId, process, demographicIdentity);
-		result = idRepoRequestBuilder(RegistrationType.ACTIVATED.toString().toUpperCase(), regId, documentInfo,
-				demographicIdentity);
+		try (DocumentMemoryBudget.Lease lease = newDocumentLease(regId)) {
+			List<DocumentContent> documentInfo = getAllDocumentsByRegId(regId, process, demographicIdentity, lease);
+			result = idRepoRequestBuilder(RegistrationType.ACTIVATED.toString().toUpperCase(), regId, documentInfo,
+					demographicIdentity);
+		}
 		if (isIdResponseNotNull(result)) {
 
 			if ((RegistrationType.ACTIVATED.toString().toUpperCase())
@@ -645,7 +781,7 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 	 *             the apis resource access exception
 	 * @throws IOException
 	 */
-	private IdResponseDTO idRepoRequestBuilder(String status, String regId, List<Documents> documentInfo,
+	private IdResponseDTO idRepoRequestBuilder(String status, String regId, List<DocumentContent> documentInfo,
 			JSONObject demographicIdentity) throws ApisResourceAccessException, IOException {
 		IdResponseDTO idResponseDto;
 		List<String> pathsegments = new ArrayList<>();
@@ -937,6 +1073,8 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 	 */
 	private void sendResponseToUinGenerator(String registrationId, String uin, String uinStatus)
 			throws ApisResourceAccessException, IOException {
+		if (uinReservationPool.acknowledge(registrationId, uin, uinStatus))
+			return;
 		UinRequestDto uinRequest = new UinRequestDto();
 		UinResponseDto uinDto = new UinResponseDto();
 		uinDto.setUin(uin);
@@ -951,8 +1089,7 @@ public class UinGeneratorStage extends MosipVerticleAPIManager {
 			response = (String) registrationProcessorRestClientService.putApi(ApiName.UINGENERATOR, null, "", "",
 					jsonString, String.class, MediaType.APPLICATION_JSON);
 
-			Gson gsonValue = new Gson();
-			UinDto uinresponse = gsonValue.fromJson(response, UinDto.class);
+			UinDto uinresponse = GSON.fromJson(response, UinDto.class);
 
 			if (uinresponse.getResponse() != null) {
 				String uinSuccessDescription = "Kernel service called successfully to update the uin status as assigned";
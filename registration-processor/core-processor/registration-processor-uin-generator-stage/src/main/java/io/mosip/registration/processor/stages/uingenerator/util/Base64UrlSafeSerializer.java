@@ -0,0 +1,27 @@
+package io.mosip.registration.processor.stages.uingenerator.util;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a byte array as url safe base64 without padding, the same encoding as
+ * {@code CryptoUtil.encodeBase64}, directly to the json output.
+ */
+public class Base64UrlSafeSerializer extends StdSerializer<byte[]> {
+
+	private static final long serialVersionUID = 1L;
+
+	public Base64UrlSafeSerializer() {
+		super(byte[].class);
+	}
+
+	@Override
+	public void serialize(byte[] value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		gen.writeBinary(Base64Variants.MODIFIED_FOR_URL, value, 0, value.length);
+	}
+
+}
@@ -0,0 +1,148 @@
+package io.mosip.registration.processor.stages.uingenerator.util;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
+import io.mosip.registration.processor.stages.uingenerator.exception.DocumentBudgetExceededException;
+
+/**
+ * Caps the memory held by the documents of the packets being sent to the id
+ * repository. The budget is counted in KB and shared by all packets in flight.
+ *
+ * Each packet takes a {@link Lease}. Before the documents of the packet are
+ * fetched the lease reserves their expected size from the budget, once they
+ * are fetched the reservation is corrected to their actual size. Everything
+ * the lease holds is given back when it is closed, after the id repo request
+ * is sent. A packet waits while other packets hold the budget and fails when
+ * the budget does not free up within the wait time or when its own documents
+ * need more than the whole budget.
+ */
+public class DocumentMemoryBudget {
+
+	private final Semaphore permits;
+
+	private final int budgetKb;
+
+	private final long waitMillis;
+
+	/**
+	 * Instantiates a new document memory budget.
+	 *
+	 * @param budgetKb   the memory all packets may hold, in KB
+	 * @param waitMillis how long a packet waits for the budget to free up
+	 */
+	public DocumentMemoryBudget(int budgetKb, long waitMillis) {
+		this.permits = new Semaphore(budgetKb, true);
+		this.budgetKb = budgetKb;
+		this.waitMillis = waitMillis;
+	}
+
+	/**
+	 * Opens a lease for the documents of one packet.
+	 *
+	 * @param registrationId the registration id of the packet
+	 * @return the lease
+	 */
+	public Lease newLease(String registrationId) {
+		return new Lease(registrationId);
+	}
+
+	/**
+	 * @return the budget left for other packets, in KB
+	 */
+	public int availableKb() {
+		return permits.availablePermits();
+	}
+
+	static int toKb(long bytes) {
+		return (int) Math.min(Integer.MAX_VALUE, (bytes + 1023) / 1024);
+	}
+
+	/**
+	 * The part of the budget held by one packet.
+	 */
+	public class Lease implements AutoCloseable {
+
+		private final String registrationId;
+
+		private final AtomicInteger heldKb = new AtomicInteger();
+
+		private Lease(String registrationId) {
+			this.registrationId = registrationId;
+		}
+
+		/**
+		 * Reserves memory for a document before it is fetched.
+		 *
+		 * @param kb the expected size, in KB
+		 * @return the reserved size, in KB
+		 * @throws DocumentBudgetExceededException if the packet needs more than
+		 *                                         the whole budget or the
+		 *                                         budget did not free up in time
+		 * @throws InterruptedException            if interrupted while waiting
+		 */
+		public int reserve(int kb) throws DocumentBudgetExceededException, InterruptedException {
+			int requestedKb = Math.max(0, kb);
+			if (requestedKb == 0)
+				return 0;
+			// checked against the whole budget, a packet that can never fit would
+			// otherwise wait on permits it holds itself
+			if (heldKb.addAndGet(requestedKb) > budgetKb) {
+				heldKb.addAndGet(-requestedKb);
+				throw exceeded("documents of the packet need more than the budget of " + budgetKb + " KB");
+			}
+			if (!permits.tryAcquire(requestedKb, waitMillis, TimeUnit.MILLISECONDS)) {
+				heldKb.addAndGet(-requestedKb);
+				throw exceeded("budget did not free up within " + waitMillis + " ms");
+			}
+			return requestedKb;
+		}
+
+		/**
+		 * Corrects a reservation to the actual size of the fetched document.
+		 *
+		 * @param reservedKb  the reserved size, in KB
+		 * @param actualBytes the actual size, in bytes
+		 * @throws DocumentBudgetExceededException if the document is larger than
+		 *                                         reserved and the rest does
+		 *                                         not fit
+		 * @throws InterruptedException            if interrupted while waiting
+		 */
+		public void adjust(int reservedKb, long actualBytes)
+				throws DocumentBudgetExceededException, InterruptedException {
+			int actualKb = toKb(actualBytes);
+			if (actualKb > reservedKb) {
+				reserve(actualKb - reservedKb);
+			} else if (actualKb < reservedKb) {
+				heldKb.addAndGet(actualKb - reservedKb);
+				permits.release(reservedKb - actualKb);
+			}
+		}
+
+		/**
+		 * @return the memory held by the packet, in KB
+		 */
+		public int heldKb() {
+			return heldKb.get();
+		}
+
+		/**
+		 * Gives back everything the packet holds.
+		 */
+		@Override
+		public void close() {
+			int released = heldKb.getAndSet(0);
+			if (released > 0)
+				permits.release(released);
+		}
+
+		private DocumentBudgetExceededException exceeded(String reason) {
+			return new DocumentBudgetExceededException(
+					PlatformErrorMessages.RPR_UGS_DOCUMENT_MEMORY_BUDGET_EXCEEDED.getCode(),
+					PlatformErrorMessages.RPR_UGS_DOCUMENT_MEMORY_BUDGET_EXCEEDED.getMessage() + " for registration Id: "
+							+ registrationId + " : " + reason);
+		}
+	}
+}
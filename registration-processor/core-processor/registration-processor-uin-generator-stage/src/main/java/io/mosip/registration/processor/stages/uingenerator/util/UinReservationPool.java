@@ -0,0 +1,477 @@
+package io.mosip.registration.processor.stages.uingenerator.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.processor.core.code.ApiName;
+import io.mosip.registration.processor.core.constant.LoggerFileConstant;
+import io.mosip.registration.processor.core.exception.ApisResourceAccessException;
+import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
+import io.mosip.registration.processor.stages.uingenerator.constants.UINConstants;
+import io.mosip.registration.processor.stages.uingenerator.dto.UinDto;
+import io.mosip.registration.processor.stages.uingenerator.dto.UinGenResponseDto;
+import io.mosip.registration.processor.stages.uingenerator.dto.UinRequestDto;
+import io.mosip.registration.processor.stages.uingenerator.dto.UinResponseDto;
+
+/**
+ * Local reservation pool of UINs issued by the kernel UIN generator.
+ *
+ * UINs are fetched in the background so that the stage can take one without a
+ * blocking remote call, and assignment status updates are queued and sent to
+ * the UIN generator in batches. On shutdown all UINs left in the pool are
+ * returned as unassigned and pending status updates are flushed.
+ *
+ * Every change of a reserved UIN is appended to a local journal file before it
+ * takes effect, so a status update is recorded when the stage reports success.
+ * On startup after a crash, UINs still reserved are put back into the pool and
+ * status updates not sent yet are queued again. A UIN taken by the stage but
+ * without a status update may or may not be stored in the ID repository, so it
+ * is only logged for manual reconciliation and stays issued in the kernel. The
+ * journal is written without fsync: it survives a killed process but not a
+ * crash of the host, and a UIN fetched but not journalled yet is lost as well.
+ * The journal file must not be shared between stage instances. Without a
+ * journal file all these UINs stay issued in the kernel after a crash, until
+ * they are released there.
+ *
+ * When the pool is disabled, empty or shutting down, {@link #acquireUin()}
+ * returns null and {@link #acknowledge(String, String, String)} returns false,
+ * and the caller talks to the UIN generator directly.
+ */
+public class UinReservationPool {
+
+	/** The reg proc logger. */
+	private static Logger regProcLogger = RegProcessorLogger.getLogger(UinReservationPool.class);
+
+	private static final Gson GSON = new Gson();
+
+	private static final String JOURNAL_RESERVED = "RESERVED";
+	private static final String JOURNAL_ACQUIRED = "ACQUIRED";
+	private static final String JOURNAL_PENDING = "PENDING";
+
+	@Value("${registration.processor.uin.pool.enabled:false}")
+	private boolean enabled;
+
+	/** Number of UINs kept reserved. */
+	@Value("${registration.processor.uin.pool.size:100}")
+	private int poolSize;
+
+	@Value("${registration.processor.uin.pool.refill.interval.millis:1000}")
+	private long refillIntervalMillis;
+
+	/** Maximum number of status updates sent per flush. */
+	@Value("${registration.processor.uin.pool.ack.batch.size:50}")
+	private int ackBatchSize;
+
+	@Value("${registration.processor.uin.pool.ack.interval.millis:2000}")
+	private long ackIntervalMillis;
+
+	/** Number of status updates of a batch sent at the same time. */
+	@Value("${registration.processor.uin.pool.ack.threads:8}")
+	private int ackThreads;
+
+	/** Journal of the reserved UINs, empty to keep them in memory only. */
+	@Value("${registration.processor.uin.pool.journal.file:uin-reservation-pool.journal}")
+	private String journalFile;
+
+	@Autowired
+	private RegistrationProcessorRestClientService<Object> registrationProcessorRestClientService;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	private BlockingQueue<String> availableUins;
+
+	private final BlockingQueue<UinResponseDto> pendingAcknowledgements = new LinkedBlockingQueue<>();
+
+	/** UINs taken by the stage and not acknowledged yet. */
+	private final Set<String> acquiredUins = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Guards the pool state together with its journal entry, and the running flag
+	 * so that no acknowledgement is queued once the shutdown has started.
+	 */
+	private final Object lock = new Object();
+
+	private ScheduledExecutorService scheduler;
+
+	private ExecutorService ackExecutor;
+
+	private BufferedWriter journalWriter;
+
+	private volatile boolean running;
+
+	@PostConstruct
+	public void init() {
+		if (!enabled)
+			return;
+		availableUins = new ArrayBlockingQueue<>(poolSize);
+		recoverJournal();
+		scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+			Thread thread = new Thread(runnable, "uin-reservation-pool");
+			thread.setDaemon(true);
+			return thread;
+		});
+		ackExecutor = Executors.newFixedThreadPool(Math.max(1, ackThreads), runnable -> {
+			Thread thread = new Thread(runnable, "uin-reservation-pool-ack");
+			thread.setDaemon(true);
+			return thread;
+		});
+		running = true;
+		scheduler.execute(this::refill);
+		scheduler.scheduleWithFixedDelay(this::refill, refillIntervalMillis, refillIntervalMillis,
+				TimeUnit.MILLISECONDS);
+		scheduler.scheduleWithFixedDelay(this::flushAcknowledgements, ackIntervalMillis, ackIntervalMillis,
+				TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Takes a reserved UIN from the pool without blocking.
+	 *
+	 * @return a reserved UIN, or null if none is available
+	 */
+	public String acquireUin() {
+		synchronized (lock) {
+			if (!running)
+				return null;
+			String uin = availableUins.poll();
+			if (uin == null)
+				return null;
+			if (!journal(JOURNAL_ACQUIRED, uin, null)) {
+				availableUins.offer(uin);
+				return null;
+			}
+			acquiredUins.add(uin);
+			return uin;
+		}
+	}
+
+	/**
+	 * Queues the status update of a UIN for the next batch. The update is in the
+	 * journal when this returns true.
+	 *
+	 * @param registrationId
+	 *            the registration id the UIN was used for
+	 * @param uin
+	 *            the uin
+	 * @param uinStatus
+	 *            ASSIGNED or UNASSIGNED
+	 * @return true if the update was queued, false if the caller has to send it
+	 */
+	public boolean acknowledge(String registrationId, String uin, String uinStatus) {
+		synchronized (lock) {
+			if (!running || !journal(JOURNAL_PENDING, uin, uinStatus))
+				return false;
+			acquiredUins.remove(uin);
+			pendingAcknowledgements.offer(new UinResponseDto(uin, uinStatus));
+		}
+		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+				registrationId, "UinReservationPool::acknowledge()::queued status " + uinStatus);
+		return true;
+	}
+
+	/**
+	 * Returns all reserved UINs as unassigned and flushes pending status updates.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		synchronized (lock) {
+			if (!running)
+				return;
+			running = false;
+		}
+		scheduler.shutdown();
+		try {
+			scheduler.awaitTermination(refillIntervalMillis + ackIntervalMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		synchronized (this) {
+			List<String> unusedUins = new ArrayList<>();
+			availableUins.drainTo(unusedUins);
+			unusedUins
+					.forEach(uin -> pendingAcknowledgements.offer(new UinResponseDto(uin, UINConstants.UIN_UNASSIGNED)));
+			List<UinResponseDto> remaining = new ArrayList<>();
+			pendingAcknowledgements.drainTo(remaining);
+			List<UinResponseDto> failed = sendAcknowledgements(remaining);
+			pendingAcknowledgements.addAll(failed);
+			ackExecutor.shutdown();
+			synchronized (lock) {
+				compactJournal();
+				closeJournal();
+			}
+			regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"UinReservationPool::shutdown():: returned " + unusedUins.size() + " unused uins, "
+							+ failed.size() + " status updates could not be sent and are kept in the journal");
+		}
+	}
+
+	/**
+	 * Tops up the pool to its configured size. Stops at the first failure and
+	 * retries on the next scheduled run.
+	 */
+	void refill() {
+		while (running && availableUins.remainingCapacity() > 0) {
+			try {
+				String uin = fetchUin();
+				synchronized (lock) {
+					if (availableUins.offer(uin)) {
+						journal(JOURNAL_RESERVED, uin, null);
+					} else {
+						journal(JOURNAL_PENDING, uin, UINConstants.UIN_UNASSIGNED);
+						pendingAcknowledgements.offer(new UinResponseDto(uin, UINConstants.UIN_UNASSIGNED));
+					}
+				}
+			} catch (ApisResourceAccessException | RuntimeException e) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+						"UinReservationPool::refill():: " + e.getMessage() + ExceptionUtils.getStackTrace(e));
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Sends up to one batch of queued status updates. Failed updates are queued
+	 * again for the next run. The journal is compacted afterwards, no batch is in
+	 * flight then.
+	 */
+	synchronized void flushAcknowledgements() {
+		List<UinResponseDto> batch = new ArrayList<>(ackBatchSize);
+		pendingAcknowledgements.drainTo(batch, ackBatchSize);
+		if (batch.isEmpty())
+			return;
+		List<UinResponseDto> failed = sendAcknowledgements(batch);
+		synchronized (lock) {
+			pendingAcknowledgements.addAll(failed);
+			compactJournal();
+		}
+	}
+
+	int getAvailableCount() {
+		return availableUins == null ? 0 : availableUins.size();
+	}
+
+	int getPendingAcknowledgementCount() {
+		return pendingAcknowledgements.size();
+	}
+
+	/**
+	 * Restores the pool from the journal left by the last run. UINs still
+	 * reserved are put back into the pool, or returned as unassigned when it is
+	 * full, and status updates not sent are queued again.
+	 */
+	private void recoverJournal() {
+		if (StringUtils.isBlank(journalFile))
+			return;
+		Path journalPath = Paths.get(journalFile);
+		Map<String, String[]> entries = new LinkedHashMap<>();
+		if (Files.exists(journalPath)) {
+			try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					String[] entry = line.trim().split(" ");
+					if (entry.length >= 2)
+						entries.put(entry[1], entry);
+				}
+			} catch (IOException e) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+						"UinReservationPool::recoverJournal():: " + e.getMessage() + ExceptionUtils.getStackTrace(e));
+			}
+		}
+		int reserved = 0;
+		int pending = 0;
+		for (String[] entry : entries.values()) {
+			String uin = entry[1];
+			if (JOURNAL_RESERVED.equals(entry[0])) {
+				if (!availableUins.offer(uin))
+					pendingAcknowledgements.offer(new UinResponseDto(uin, UINConstants.UIN_UNASSIGNED));
+				reserved++;
+			} else if (JOURNAL_PENDING.equals(entry[0]) && entry.length == 3) {
+				pendingAcknowledgements.offer(new UinResponseDto(uin, entry[2]));
+				pending++;
+			} else if (JOURNAL_ACQUIRED.equals(entry[0])) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), uin,
+						"UinReservationPool::recoverJournal():: uin was taken before a crash without a status update,"
+								+ " it stays issued until it is checked against the ID repository");
+			}
+		}
+		regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+				"UinReservationPool::recoverJournal():: recovered " + reserved + " reserved uins and " + pending
+						+ " status updates");
+		compactJournal();
+	}
+
+	/**
+	 * Appends an entry to the journal, callers hold the lock.
+	 *
+	 * @return false if the entry could not be written
+	 */
+	private boolean journal(String state, String uin, String uinStatus) {
+		if (journalWriter == null)
+			return StringUtils.isBlank(journalFile);
+		try {
+			journalWriter.write(uinStatus == null ? state + " " + uin : state + " " + uin + " " + uinStatus);
+			journalWriter.newLine();
+			journalWriter.flush();
+			return true;
+		} catch (IOException e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), uin,
+					"UinReservationPool::journal():: " + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Rewrites the journal with the current state of the pool, callers hold the
+	 * lock.
+	 */
+	private void compactJournal() {
+		if (StringUtils.isBlank(journalFile))
+			return;
+		Path journalPath = Paths.get(journalFile).toAbsolutePath();
+		Path compactedPath = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+		closeJournal();
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(compactedPath, StandardCharsets.UTF_8)) {
+				for (String uin : availableUins) {
+					writer.write(JOURNAL_RESERVED + " " + uin);
+					writer.newLine();
+				}
+				for (String uin : acquiredUins) {
+					writer.write(JOURNAL_ACQUIRED + " " + uin);
+					writer.newLine();
+				}
+				for (UinResponseDto acknowledgement : pendingAcknowledgements) {
+					writer.write(JOURNAL_PENDING + " " + acknowledgement.getUin() + " " + acknowledgement.getStatus());
+					writer.newLine();
+				}
+			}
+			Files.move(compactedPath, journalPath, StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			// the entries are still appended to the old journal
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"UinReservationPool::compactJournal():: " + e.getMessage() + ExceptionUtils.getStackTrace(e));
+		}
+		try {
+			journalWriter = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"UinReservationPool::compactJournal():: " + e.getMessage() + ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	private void closeJournal() {
+		if (journalWriter == null)
+			return;
+		try {
+			journalWriter.close();
+		} catch (IOException e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"UinReservationPool::closeJournal():: " + e.getMessage());
+		}
+		journalWriter = null;
+	}
+
+	private String fetchUin() throws ApisResourceAccessException {
+		String response = (String) registrationProcessorRestClientService.getApi(ApiName.UINGENERATOR, null, "", "",
+				String.class);
+		UinGenResponseDto uinResponseDto = GSON.fromJson(response, UinGenResponseDto.class);
+		return uinResponseDto.getResponse().getUin();
+	}
+
+	/**
+	 * Sends the status updates concurrently on the acknowledgement pool. The uin
+	 * generator takes one uin per request, so a batch costs about one round trip
+	 * for every {@code ackThreads} updates.
+	 *
+	 * @return the updates that could not be sent, in their original order
+	 */
+	private List<UinResponseDto> sendAcknowledgements(List<UinResponseDto> acknowledgements) {
+		List<UinResponseDto> failed = new ArrayList<>();
+		if (acknowledgements.size() <= 1 || ackExecutor == null || ackExecutor.isShutdown()) {
+			for (UinResponseDto acknowledgement : acknowledgements) {
+				if (!sendAcknowledgement(acknowledgement))
+					failed.add(acknowledgement);
+			}
+			return failed;
+		}
+		List<Callable<Boolean>> senders = new ArrayList<>(acknowledgements.size());
+		acknowledgements.forEach(acknowledgement -> senders.add(() -> sendAcknowledgement(acknowledgement)));
+		List<Future<Boolean>> results;
+		try {
+			results = ackExecutor.invokeAll(senders);
+		} catch (InterruptedException e) {
+			// updates sent already are sent again on the next run
+			Thread.currentThread().interrupt();
+			return new ArrayList<>(acknowledgements);
+		}
+		for (int i = 0; i < acknowledgements.size(); i++) {
+			try {
+				if (!results.get(i).get())
+					failed.add(acknowledgements.get(i));
+			} catch (ExecutionException | InterruptedException e) {
+				failed.add(acknowledgements.get(i));
+			}
+		}
+		return failed;
+	}
+
+	private boolean sendAcknowledgement(UinResponseDto acknowledgement) {
+		try {
+			UinRequestDto uinRequest = new UinRequestDto();
+			uinRequest.setRequest(acknowledgement);
+			String response = (String) registrationProcessorRestClientService.putApi(ApiName.UINGENERATOR, null, "",
+					"", mapper.writeValueAsString(uinRequest), String.class, MediaType.APPLICATION_JSON);
+			UinDto uinResponse = GSON.fromJson(response, UinDto.class);
+			if (uinResponse == null || uinResponse.getResponse() == null)
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+						"UinReservationPool::sendAcknowledgements():: status " + acknowledgement.getStatus()
+								+ " not accepted by uin generator");
+			return true;
+		} catch (ApisResourceAccessException | JsonProcessingException | RuntimeException e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"UinReservationPool::sendAcknowledgements():: " + e.getMessage());
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,29 @@
+package io.mosip.registration.processor.stages.uigenerator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.registration.processor.stages.uingenerator.idrepo.dto.DocumentContent;
+
+public class DocumentContentSerializationTest {
+
+	@Test
+	public void testValueIsEncodedLikeCryptoUtil() throws IOException {
+		byte[] document = "document ??>> with url unsafe base64 characters ~~~".getBytes(StandardCharsets.UTF_8);
+
+		String json = new ObjectMapper().writeValueAsString(new DocumentContent("DOC001", document));
+		JsonNode node = new ObjectMapper().readTree(json);
+
+		assertEquals("DOC001", node.get("category").asText());
+		assertEquals(CryptoUtil.encodeBase64(document), node.get("value").asText());
+	}
+
+}
@@ -0,0 +1,99 @@
+package io.mosip.registration.processor.stages.uigenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import io.mosip.registration.processor.stages.uingenerator.exception.DocumentBudgetExceededException;
+import io.mosip.registration.processor.stages.uingenerator.util.DocumentMemoryBudget;
+
+public class DocumentMemoryBudgetTest {
+
+	@Test
+	public void testPacketWaitsWhileOtherPacketHoldsBudget() throws Exception {
+		DocumentMemoryBudget budget = new DocumentMemoryBudget(4, 5000);
+		DocumentMemoryBudget.Lease first = budget.newLease("10001");
+		DocumentMemoryBudget.Lease second = budget.newLease("10002");
+		first.reserve(4);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Integer> reserved = executor.submit(() -> second.reserve(2));
+			try {
+				reserved.get(200, TimeUnit.MILLISECONDS);
+				fail("reservation should wait for the budget");
+			} catch (TimeoutException e) {
+				assertFalse(reserved.isDone());
+			}
+
+			first.close();
+
+			assertEquals(Integer.valueOf(2), reserved.get(5, TimeUnit.SECONDS));
+			assertEquals(2, second.heldKb());
+			assertEquals(2, budget.availableKb());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testPacketFailsWhenBudgetDoesNotFreeUp() throws Exception {
+		DocumentMemoryBudget budget = new DocumentMemoryBudget(4, 50);
+		DocumentMemoryBudget.Lease first = budget.newLease("10001");
+		DocumentMemoryBudget.Lease second = budget.newLease("10002");
+		first.reserve(4);
+
+		try {
+			second.reserve(1);
+			fail("reservation should time out");
+		} catch (DocumentBudgetExceededException e) {
+			assertEquals(0, second.heldKb());
+			assertEquals(0, budget.availableKb());
+		}
+	}
+
+	@Test
+	public void testPacketLargerThanBudgetFailsWithoutWaiting() throws Exception {
+		DocumentMemoryBudget budget = new DocumentMemoryBudget(4, 60000);
+		DocumentMemoryBudget.Lease lease = budget.newLease("10001");
+		lease.reserve(3);
+
+		long start = System.nanoTime();
+		try {
+			lease.reserve(2);
+			fail("packet needs more than the whole budget");
+		} catch (DocumentBudgetExceededException e) {
+			assertFalse(System.nanoTime() - start > TimeUnit.SECONDS.toNanos(5));
+			assertEquals(3, lease.heldKb());
+			assertEquals(1, budget.availableKb());
+		}
+	}
+
+	@Test
+	public void testReservationCorrectedToActualSizeAndReleasedOnClose() throws Exception {
+		DocumentMemoryBudget budget = new DocumentMemoryBudget(8, 0);
+		DocumentMemoryBudget.Lease lease = budget.newLease("10001");
+
+		int reserved = lease.reserve(4);
+		lease.adjust(reserved, 1025);
+		assertEquals(2, lease.heldKb());
+		assertEquals(6, budget.availableKb());
+
+		reserved = lease.reserve(1);
+		lease.adjust(reserved, 3 * 1024);
+		assertEquals(5, lease.heldKb());
+		assertEquals(3, budget.availableKb());
+
+		lease.close();
+		assertEquals(0, lease.heldKb());
+		assertEquals(8, budget.availableKb());
+	}
+}
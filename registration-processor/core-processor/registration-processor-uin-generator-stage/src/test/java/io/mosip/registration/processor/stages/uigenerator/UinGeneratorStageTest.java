@@ -1,5 +1,6 @@
 package io.mosip.registration.processor.stages.uigenerator;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -24,6 +25,8 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mosip.kernel.biometrics.constant.BiometricType;
@@ -46,6 +49,7 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -85,6 +89,7 @@ import io.mosip.registration.processor.core.packet.dto.Identity;
 import io.mosip.registration.processor.core.spi.eventbus.EventHandler;
 import io.mosip.registration.processor.core.spi.packetmanager.PacketInfoManager;
 import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
+import io.mosip.registration.processor.core.status.util.StatusUtil;
 import io.mosip.registration.processor.core.util.JsonUtil;
 import io.mosip.registration.processor.core.util.RegistrationExceptionMapperUtil;
 import io.mosip.registration.processor.packet.manager.idreposervice.IdRepoService;
@@ -95,10 +100,15 @@ import io.mosip.registration.processor.packet.storage.repository.BasePacketRepos
 import io.mosip.registration.processor.packet.storage.utils.Utilities;
 import io.mosip.registration.processor.rest.client.audit.builder.AuditLogRequestBuilder;
 import io.mosip.registration.processor.rest.client.audit.dto.AuditResponseDto;
+import io.mosip.registration.processor.stages.uingenerator.constants.UINConstants;
 import io.mosip.registration.processor.stages.uingenerator.dto.VidResponseDto;
+import io.mosip.registration.processor.stages.uingenerator.idrepo.dto.IdRequestDto;
 import io.mosip.registration.processor.stages.uingenerator.idrepo.dto.IdResponseDTO;
 import io.mosip.registration.processor.stages.uingenerator.idrepo.dto.ResponseDTO;
 import io.mosip.registration.processor.stages.uingenerator.stage.UinGeneratorStage;
+import io.mosip.registration.processor.stages.uingenerator.util.DocumentMemoryBudget;
+import io.mosip.registration.processor.stages.uingenerator.util.UinReservationPool;
+import io.mosip.registration.processor.status.code.RegistrationStatusCode;
 import io.mosip.registration.processor.status.dto.InternalRegistrationStatusDto;
 import io.mosip.registration.processor.status.dto.RegistrationStatusDto;
 import io.mosip.registration.processor.status.service.RegistrationStatusService;
@@ -222,6 +232,9 @@ public class UinGeneratorStageTest {
 	@Mock
 	private IdSchemaUtil idSchemaUtil;
 
+	@Mock
+	private UinReservationPool uinReservationPool;
+
 	@Before
 	public void setup() throws Exception {
 		ReflectionTestUtils.setField(uinGeneratorStage, "workerPoolSize", 10);
@@ -375,6 +388,190 @@ public class UinGeneratorStageTest {
 
 	}
 
+	@Test
+	public void testUinGenerationSuccessWithPooledUin() throws Exception {
+		MessageDTO messageDTO = new MessageDTO();
+		messageDTO.setRid("27847657360002520181210094052");
+		messageDTO.setReg_type(RegistrationType.NEW);
+		when(uinReservationPool.acquireUin()).thenReturn("2812936908");
+		when(uinReservationPool.acknowledge(anyString(), anyString(), anyString())).thenReturn(true);
+
+		IdResponseDTO idResponseDTO = new IdResponseDTO();
+		ResponseDTO responseDTO = new ResponseDTO();
+		responseDTO.setStatus("ACTIVATED");
+		idResponseDTO.setResponse(responseDTO);
+
+		ResponseWrapper<VidResponseDto> responseVid = new ResponseWrapper<VidResponseDto>();
+		responseVid.setErrors(new ArrayList<>());
+		VidResponseDto vidResponseDto = new VidResponseDto();
+		vidResponseDto.setVID("123456");
+		vidResponseDto.setVidStatus("ACTIVE");
+		responseVid.setResponse(vidResponseDto);
+
+		when(registrationProcessorRestClientService.postApi(any(), any(), any(), any(), any(Class.class)))
+				.thenReturn(idResponseDTO).thenReturn(responseVid);
+
+		MessageDTO result = uinGeneratorStage.process(messageDTO);
+		assertFalse(result.getInternalError());
+		Mockito.verify(registrationProcessorRestClientService, Mockito.never()).getApi(any(), any(), anyString(),
+				any(), any());
+		Mockito.verify(registrationProcessorRestClientService, Mockito.never()).putApi(any(), any(), any(), any(),
+				any(), any(), any());
+		Mockito.verify(uinReservationPool).acknowledge("27847657360002520181210094052", "2812936908", "ASSIGNED");
+	}
+
+	@Test
+	public void testDocumentsSentInFetchOrder() throws Exception {
+		ReflectionTestUtils.setField(uinGeneratorStage, "documentFetchThreads", 4);
+		MessageDTO messageDTO = new MessageDTO();
+		messageDTO.setRid("27847657360002520181210094052");
+		messageDTO.setReg_type(RegistrationType.NEW);
+		when(packetManagerService.getFields(anyString(), anyList(), anyString(), any()))
+				.thenReturn(getDocumentFieldMap());
+		when(uinReservationPool.acquireUin()).thenReturn("2812936908");
+		when(uinReservationPool.acknowledge(anyString(), anyString(), anyString())).thenReturn(true);
+
+		// the first document completes last
+		CountDownLatch otherDocuments = new CountDownLatch(3);
+		when(packetManagerService.getDocument(anyString(), anyString(), any())).thenAnswer(invocation -> {
+			String label = invocation.getArgument(1);
+			if (MappingJsonConstants.POA.equals(label))
+				assertTrue(otherDocuments.await(5, TimeUnit.SECONDS));
+			else
+				otherDocuments.countDown();
+			Document document = new Document();
+			document.setValue(label);
+			document.setDocument(label.getBytes());
+			return document;
+		});
+
+		IdResponseDTO idResponseDTO = new IdResponseDTO();
+		ResponseDTO responseDTO = new ResponseDTO();
+		responseDTO.setStatus("ACTIVATED");
+		idResponseDTO.setResponse(responseDTO);
+		ResponseWrapper<VidResponseDto> responseVid = new ResponseWrapper<VidResponseDto>();
+		responseVid.setErrors(new ArrayList<>());
+		VidResponseDto vidResponseDto = new VidResponseDto();
+		vidResponseDto.setVID("123456");
+		responseVid.setResponse(vidResponseDto);
+		when(registrationProcessorRestClientService.postApi(any(), any(), any(), any(), any(Class.class)))
+				.thenReturn(idResponseDTO).thenReturn(responseVid);
+
+		MessageDTO result = uinGeneratorStage.process(messageDTO);
+
+		assertFalse(result.getInternalError());
+		ArgumentCaptor<Object> idRequest = ArgumentCaptor.forClass(Object.class);
+		Mockito.verify(registrationProcessorRestClientService).postApi(Mockito.eq(ApiName.IDREPOSITORY), any(),
+				any(), idRequest.capture(), any(Class.class));
+		List<String> categories = new ArrayList<>();
+		((IdRequestDto) idRequest.getValue()).getRequest().getDocuments()
+				.forEach(document -> categories.add(document.getCategory()));
+		assertEquals(Arrays.asList(MappingJsonConstants.POA, MappingJsonConstants.POB, MappingJsonConstants.POI,
+				MappingJsonConstants.POR), categories);
+		uinGeneratorStage.shutdownDocumentFetchExecutor();
+	}
+
+	@Test
+	public void testDocumentFetchFailureFailsStage() throws Exception {
+		ReflectionTestUtils.setField(uinGeneratorStage, "documentFetchThreads", 4);
+		MessageDTO messageDTO = new MessageDTO();
+		messageDTO.setRid("27847657360002520181210094052");
+		messageDTO.setReg_type(RegistrationType.NEW);
+		when(packetManagerService.getFields(anyString(), anyList(), anyString(), any()))
+				.thenReturn(getDocumentFieldMap());
+		when(uinReservationPool.acquireUin()).thenReturn("2812936908");
+		when(packetManagerService.getDocument(anyString(), Mockito.eq(MappingJsonConstants.POB), any()))
+				.thenThrow(new PacketManagerException("PCM-001", "document not found"));
+
+		MessageDTO result = uinGeneratorStage.process(messageDTO);
+
+		assertTrue(result.getInternalError());
+		assertFalse(result.getIsValid());
+		Mockito.verify(registrationProcessorRestClientService, Mockito.never()).postApi(
+				Mockito.eq(ApiName.IDREPOSITORY), any(), any(), any(), any(Class.class));
+		uinGeneratorStage.shutdownDocumentFetchExecutor();
+	}
+
+	@Test
+	public void testPacketOverDocumentMemoryBudgetIsReprocessed() throws Exception {
+		ReflectionTestUtils.setField(uinGeneratorStage, "documentFetchThreads", 4);
+		ReflectionTestUtils.setField(uinGeneratorStage, "documentMemoryBudgetKb", 3);
+		ReflectionTestUtils.setField(uinGeneratorStage, "documentReservationKb", 1);
+		MessageDTO messageDTO = new MessageDTO();
+		messageDTO.setRid("27847657360002520181210094052");
+		messageDTO.setReg_type(RegistrationType.NEW);
+		when(packetManagerService.getFields(anyString(), anyList(), anyString(), any()))
+				.thenReturn(getDocumentFieldMap());
+		when(uinReservationPool.acquireUin()).thenReturn("2812936908");
+		when(uinReservationPool.acknowledge(anyString(), anyString(), anyString())).thenReturn(true);
+
+		// four documents reserved at 1 KB each do not fit in a budget of 3 KB
+		MessageDTO result = uinGeneratorStage.process(messageDTO);
+
+		assertTrue(result.getInternalError());
+		assertFalse(result.getIsValid());
+		assertEquals(RegistrationStatusCode.PROCESSING.name(), registrationStatusDto.getStatusCode());
+		assertEquals(StatusUtil.DOCUMENT_MEMORY_BUDGET_EXCEEDED.getCode(), registrationStatusDto.getSubStatusCode());
+		// nothing is fetched before the whole reservation is taken
+		Mockito.verify(packetManagerService, Mockito.never()).getDocument(anyString(), anyString(), any());
+		Mockito.verify(registrationProcessorRestClientService, Mockito.never()).postApi(
+				Mockito.eq(ApiName.IDREPOSITORY), any(), any(), any(), any(Class.class));
+		// the uin is given back, the packet takes a new one when it is reprocessed
+		Mockito.verify(uinReservationPool).acknowledge("27847657360002520181210094052", "2812936908",
+				UINConstants.UIN_UNASSIGNED);
+		uinGeneratorStage.shutdownDocumentFetchExecutor();
+	}
+
+	@Test
+	public void testDocumentMemoryReleasedAfterSend() throws Exception {
+		ReflectionTestUtils.setField(uinGeneratorStage, "documentFetchThreads", 4);
+		ReflectionTestUtils.setField(uinGeneratorStage, "documentMemoryBudgetKb", 8);
+		ReflectionTestUtils.setField(uinGeneratorStage, "documentReservationKb", 2);
+		MessageDTO messageDTO = new MessageDTO();
+		messageDTO.setRid("27847657360002520181210094052");
+		messageDTO.setReg_type(RegistrationType.NEW);
+		when(packetManagerService.getFields(anyString(), anyList(), anyString(), any()))
+				.thenReturn(getDocumentFieldMap());
+		when(uinReservationPool.acquireUin()).thenReturn("2812936908");
+		when(uinReservationPool.acknowledge(anyString(), anyString(), anyString())).thenReturn(true);
+		when(packetManagerService.getDocument(anyString(), anyString(), any())).thenAnswer(invocation -> {
+			Document document = new Document();
+			document.setValue(invocation.getArgument(1));
+			document.setDocument(new byte[1024]);
+			return document;
+		});
+		IdResponseDTO idResponseDTO = new IdResponseDTO();
+		ResponseDTO responseDTO = new ResponseDTO();
+		responseDTO.setStatus("ACTIVATED");
+		idResponseDTO.setResponse(responseDTO);
+		ResponseWrapper<VidResponseDto> responseVid = new ResponseWrapper<VidResponseDto>();
+		responseVid.setErrors(new ArrayList<>());
+		VidResponseDto vidResponseDto = new VidResponseDto();
+		vidResponseDto.setVID("123456");
+		responseVid.setResponse(vidResponseDto);
+		when(registrationProcessorRestClientService.postApi(any(), any(), any(), any(), any(Class.class)))
+				.thenReturn(idResponseDTO).thenReturn(responseVid);
+
+		MessageDTO result = uinGeneratorStage.process(messageDTO);
+
+		assertFalse(result.getInternalError());
+		Mockito.verify(packetManagerService, Mockito.times(4)).getDocument(anyString(), anyString(), any());
+		DocumentMemoryBudget budget = (DocumentMemoryBudget) ReflectionTestUtils.getField(uinGeneratorStage,
+				"documentMemoryBudget");
+		assertEquals(8, budget.availableKb());
+		uinGeneratorStage.shutdownDocumentFetchExecutor();
+	}
+
+	private Map<String, String> getDocumentFieldMap() {
+		Map<String, String> fieldMap = new HashMap<>();
+		fieldMap.put("name", "mono");
+		fieldMap.put("proofOfAddress", "{\"value\":\"POA\"}");
+		fieldMap.put("proofOfDateOfBirth", "{\"value\":\"POB\"}");
+		fieldMap.put("proofOfIdentity", "{\"value\":\"POI\"}");
+		fieldMap.put("proofOfRelationship", "{\"value\":\"POR\"}");
+		return fieldMap;
+	}
+
 	@Test
 	public void testUinGenerationResponseNull() throws Exception {
 		MessageDTO messageDTO = new MessageDTO();
@@ -0,0 +1,196 @@
+package io.mosip.registration.processor.stages.uigenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.registration.processor.core.exception.ApisResourceAccessException;
+import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
+import io.mosip.registration.processor.stages.uingenerator.util.UinReservationPool;
+
+@RunWith(SpringRunner.class)
+public class UinReservationPoolTest {
+
+	private static final String UIN_RESPONSE = "{\"id\":\"mosip.kernel.uin\",\"response\":{\"uin\":\"2812936908\"}}";
+
+	private static final String STATUS_RESPONSE = "{\"response\":{\"uin\":\"2812936908\",\"status\":\"ASSIGNED\"}}";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@InjectMocks
+	private UinReservationPool uinReservationPool;
+
+	@Mock
+	private RegistrationProcessorRestClientService<Object> registrationProcessorRestClientService;
+
+	@Spy
+	private ObjectMapper mapper = new ObjectMapper();
+
+	@Before
+	public void setup() {
+		ReflectionTestUtils.setField(uinReservationPool, "enabled", true);
+		ReflectionTestUtils.setField(uinReservationPool, "poolSize", 3);
+		ReflectionTestUtils.setField(uinReservationPool, "refillIntervalMillis", 60000L);
+		ReflectionTestUtils.setField(uinReservationPool, "ackBatchSize", 10);
+		ReflectionTestUtils.setField(uinReservationPool, "ackIntervalMillis", 60000L);
+	}
+
+	@Test
+	public void testDisabledPoolFallsBackToCaller() {
+		ReflectionTestUtils.setField(uinReservationPool, "enabled", false);
+		uinReservationPool.init();
+
+		assertNull(uinReservationPool.acquireUin());
+		assertFalse(uinReservationPool.acknowledge("10001", "2812936908", "ASSIGNED"));
+	}
+
+	@Test
+	public void testAcquireAndReturnUnusedOnShutdown() throws ApisResourceAccessException, InterruptedException {
+		when(registrationProcessorRestClientService.getApi(any(), any(), anyString(), anyString(), any()))
+				.thenReturn(UIN_RESPONSE);
+		when(registrationProcessorRestClientService.putApi(any(), any(), any(), any(), any(), any(), any()))
+				.thenReturn(STATUS_RESPONSE);
+		uinReservationPool.init();
+		drainScheduler();
+
+		assertEquals(3, (int) ReflectionTestUtils.invokeMethod(uinReservationPool, "getAvailableCount"));
+		assertEquals("2812936908", uinReservationPool.acquireUin());
+		assertTrue(uinReservationPool.acknowledge("10001", "2812936908", "ASSIGNED"));
+
+		uinReservationPool.shutdown();
+
+		// one assigned acknowledgement plus the unused uins returned as unassigned
+		verify(registrationProcessorRestClientService, times(3)).putApi(any(), any(), any(), any(), any(), any(),
+				any());
+		assertNull(uinReservationPool.acquireUin());
+	}
+
+	@Test
+	public void testFailedAcknowledgementIsRetried() throws ApisResourceAccessException, InterruptedException {
+		when(registrationProcessorRestClientService.putApi(any(), any(), any(), any(), any(), any(), any()))
+				.thenThrow(new ApisResourceAccessException("unavailable")).thenReturn(STATUS_RESPONSE);
+		ReflectionTestUtils.setField(uinReservationPool, "poolSize", 1);
+		when(registrationProcessorRestClientService.getApi(any(), any(), anyString(), anyString(), any()))
+				.thenReturn(UIN_RESPONSE);
+		uinReservationPool.init();
+		drainScheduler();
+		uinReservationPool.acknowledge("10001", "2812936908", "ASSIGNED");
+
+		ReflectionTestUtils.invokeMethod(uinReservationPool, "flushAcknowledgements");
+		assertEquals(1, (int) ReflectionTestUtils.invokeMethod(uinReservationPool, "getPendingAcknowledgementCount"));
+
+		ReflectionTestUtils.invokeMethod(uinReservationPool, "flushAcknowledgements");
+		assertEquals(0, (int) ReflectionTestUtils.invokeMethod(uinReservationPool, "getPendingAcknowledgementCount"));
+	}
+
+	@Test
+	public void testAcknowledgementBatchSentConcurrently() throws ApisResourceAccessException, InterruptedException {
+		ReflectionTestUtils.setField(uinReservationPool, "poolSize", 1);
+		ReflectionTestUtils.setField(uinReservationPool, "ackThreads", 3);
+		when(registrationProcessorRestClientService.getApi(any(), any(), anyString(), anyString(), any()))
+				.thenReturn(UIN_RESPONSE);
+		// each update only completes once all three are in flight
+		CountDownLatch inFlight = new CountDownLatch(3);
+		when(registrationProcessorRestClientService.putApi(any(), any(), any(), any(), any(), any(), any()))
+				.thenAnswer(invocation -> {
+					inFlight.countDown();
+					if (!inFlight.await(5, TimeUnit.SECONDS))
+						throw new ApisResourceAccessException("sent one at a time");
+					return STATUS_RESPONSE;
+				});
+		uinReservationPool.init();
+		drainScheduler();
+		uinReservationPool.acknowledge("10001", "2812936908", "ASSIGNED");
+		uinReservationPool.acknowledge("10002", "2812936909", "ASSIGNED");
+		uinReservationPool.acknowledge("10003", "2812936910", "UNASSIGNED");
+
+		ReflectionTestUtils.invokeMethod(uinReservationPool, "flushAcknowledgements");
+
+		assertEquals(0, (int) ReflectionTestUtils.invokeMethod(uinReservationPool, "getPendingAcknowledgementCount"));
+		verify(registrationProcessorRestClientService, times(3)).putApi(any(), any(), any(), any(), any(), any(),
+				any());
+	}
+
+	@Test
+	public void testAcknowledgeAfterShutdownIsSentByCaller() throws InterruptedException {
+		uinReservationPool.init();
+		drainScheduler();
+		uinReservationPool.shutdown();
+
+		assertFalse(uinReservationPool.acknowledge("10001", "2812936908", "ASSIGNED"));
+		assertEquals(0, (int) ReflectionTestUtils.invokeMethod(uinReservationPool, "getPendingAcknowledgementCount"));
+	}
+
+	@Test
+	public void testJournalRecoveredAfterCrash() throws IOException, InterruptedException {
+		File journal = temporaryFolder.newFile("uin-reservation-pool.journal");
+		Files.write(journal.toPath(), Arrays.asList("RESERVED 1001", "RESERVED 1002", "ACQUIRED 1002",
+				"ACQUIRED 1003", "PENDING 1003 ASSIGNED", "RESERVED 1004"), StandardCharsets.UTF_8);
+		ReflectionTestUtils.setField(uinReservationPool, "poolSize", 1);
+		ReflectionTestUtils.setField(uinReservationPool, "journalFile", journal.getPath());
+
+		uinReservationPool.init();
+		drainScheduler();
+
+		// 1001 back in the pool, 1004 returned as the pool is full, the status of
+		// 1003 sent again and 1002 only logged
+		assertEquals(2, (int) ReflectionTestUtils.invokeMethod(uinReservationPool, "getPendingAcknowledgementCount"));
+		assertEquals("1001", uinReservationPool.acquireUin());
+		assertEquals(
+				Arrays.asList("RESERVED 1001", "PENDING 1003 ASSIGNED", "PENDING 1004 UNASSIGNED", "ACQUIRED 1001"),
+				Files.readAllLines(journal.toPath(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testAcknowledgementJournalledBeforeSuccess() throws IOException, InterruptedException {
+		File journal = new File(temporaryFolder.getRoot(), "uin-reservation-pool.journal");
+		ReflectionTestUtils.setField(uinReservationPool, "journalFile", journal.getPath());
+		uinReservationPool.init();
+		drainScheduler();
+
+		assertTrue(uinReservationPool.acknowledge("10001", "2812936908", "ASSIGNED"));
+
+		assertTrue(Files.readAllLines(journal.toPath(), StandardCharsets.UTF_8)
+				.contains("PENDING 2812936908 ASSIGNED"));
+	}
+
+	/**
+	 * Runs the refill submitted on init to its end, the scheduled runs are
+	 * cancelled.
+	 */
+	private void drainScheduler() throws InterruptedException {
+		ExecutorService scheduler = (ExecutorService) ReflectionTestUtils.getField(uinReservationPool, "scheduler");
+		scheduler.shutdown();
+		assertTrue(scheduler.awaitTermination(5, TimeUnit.SECONDS));
+	}
+
+}
@@ -3,6 +3,7 @@ package io.mosip.registration.processor.status.api.controller;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,12 +19,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
 import io.mosip.registration.processor.core.util.DigitalSignatureUtility;
+import io.mosip.registration.processor.core.util.JsonUtil;
 import io.mosip.registration.processor.status.code.RegistrationExternalStatusCode;
 import io.mosip.registration.processor.status.dto.ErrorDTO;
 import io.mosip.registration.processor.status.dto.InternalRegistrationStatusDto;
@@ -80,7 +79,9 @@ public class RegistrationStatusController {
 	private DigitalSignatureUtility digitalSignatureUtility;
 
 	/**
-	 * Search.
+	 * Search. The number of registration ids per request is limited by
+	 * mosip.registration.processor.registration.status.search.max.ids, 100 by
+	 * default, a larger request is rejected with RPR-RGS-032.
 	 *
 	 * @param registrationIds the registration ids
 	 * @return the response entity
@@ -100,23 +101,23 @@ public class RegistrationStatusController {
 					env.getProperty(REG_STATUS_SERVICE_ID));
 			List<RegistrationStatusDto> registrations = registrationStatusService
 					.getByIds(registrationStatusRequestDTO.getRequest());
-			List<RegistrationStatusSubRequestDto> requestIdsNotAvailable = registrationStatusRequestDTO.getRequest()
-					.stream()
-					.filter(request -> registrations.stream().noneMatch(
-							registration -> registration.getRegistrationId().equals(request.getRegistrationId())))
-					.collect(Collectors.toList());
-			List<RegistrationStatusDto> registrationsList = syncRegistrationService.getByIds(requestIdsNotAvailable);
-			if (registrationsList != null && !registrationsList.isEmpty()) {
-				registrations.addAll(syncRegistrationService.getByIds(requestIdsNotAvailable));
+			List<RegistrationStatusSubRequestDto> requestIdsNotAvailable = getRequestIdsNotAvailable(registrations,
+					registrationStatusRequestDTO.getRequest());
+			if (!requestIdsNotAvailable.isEmpty()) {
+				List<RegistrationStatusDto> registrationsList = syncRegistrationService
+						.getByIds(requestIdsNotAvailable);
+				if (registrationsList != null && !registrationsList.isEmpty()) {
+					registrations.addAll(registrationsList);
+				}
 			}
 
 			if (isEnabled) {
 				RegStatusResponseDTO response = buildRegistrationStatusResponse(registrations,
 						registrationStatusRequestDTO.getRequest());
-				Gson gson = new GsonBuilder().serializeNulls().create();
+				String body = JsonUtil.objectToJsonWithNulls(response);
 				HttpHeaders headers = new HttpHeaders();
-				headers.add(RESPONSE_SIGNATURE, digitalSignatureUtility.getDigitalSignature(gson.toJson(response)));
-				return ResponseEntity.status(HttpStatus.OK).headers(headers).body(gson.toJson(response));
+				headers.add(RESPONSE_SIGNATURE, digitalSignatureUtility.getDigitalSignature(body));
+				return ResponseEntity.status(HttpStatus.OK).headers(headers).body(body);
 			}
 			return ResponseEntity.status(HttpStatus.OK)
 					.body(buildRegistrationStatusResponse(registrations, registrationStatusRequestDTO.getRequest()));
@@ -137,10 +138,8 @@ public class RegistrationStatusController {
 		response.setResponsetime(DateUtils.getUTCCurrentDateTimeString(env.getProperty(DATETIME_PATTERN)));
 		response.setVersion(env.getProperty(REG_STATUS_APPLICATION_VERSION));
 		response.setResponse(registrations);
-		List<RegistrationStatusSubRequestDto> requestIdsNotAvailable = requestIds.stream()
-				.filter(request -> registrations.stream().noneMatch(
-						registration -> registration.getRegistrationId().equals(request.getRegistrationId())))
-				.collect(Collectors.toList());
+		List<RegistrationStatusSubRequestDto> requestIdsNotAvailable = getRequestIdsNotAvailable(registrations,
+				requestIds);
 		List<ErrorDTO> errors = new ArrayList<ErrorDTO>();
 		if (!requestIdsNotAvailable.isEmpty()) {
 
@@ -157,4 +156,12 @@ public class RegistrationStatusController {
 		return response;
 	}
 
+	private List<RegistrationStatusSubRequestDto> getRequestIdsNotAvailable(List<RegistrationStatusDto> registrations,
+			List<RegistrationStatusSubRequestDto> requestIds) {
+		Set<String> availableIds = registrations.stream().map(RegistrationStatusDto::getRegistrationId)
+				.collect(Collectors.toSet());
+		return requestIds.stream().filter(request -> !availableIds.contains(request.getRegistrationId()))
+				.collect(Collectors.toList());
+	}
+
 }
\ No newline at end of file
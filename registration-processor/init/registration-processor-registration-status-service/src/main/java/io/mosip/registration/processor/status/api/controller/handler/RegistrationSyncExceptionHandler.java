@@ -18,8 +18,6 @@ import org.springframework.web.context.request.WebRequest;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 import io.mosip.kernel.core.exception.BaseCheckedException;
 import io.mosip.kernel.core.exception.BaseUncheckedException;
@@ -31,6 +29,7 @@ import io.mosip.registration.processor.core.logger.RegProcessorLogger;
 import io.mosip.registration.processor.core.token.validation.exception.AccessDeniedException;
 import io.mosip.registration.processor.core.token.validation.exception.InvalidTokenException;
 import io.mosip.registration.processor.core.util.DigitalSignatureUtility;
+import io.mosip.registration.processor.core.util.JsonUtil;
 import io.mosip.registration.processor.status.api.controller.RegistrationSyncController;
 import io.mosip.registration.processor.status.dto.SyncErrorDTO;
 import io.mosip.registration.processor.status.exception.RegStatusAppException;
@@ -142,13 +141,12 @@ public class RegistrationSyncExceptionHandler {
 		response.setResponsetime(DateUtils.getUTCCurrentDateTimeString(env.getProperty(DATETIME_PATTERN)));
 		response.setVersion(env.getProperty(REG_SYNC_APPLICATION_VERSION));
 		response.setResponse(null);
-		Gson gson = new GsonBuilder().serializeNulls().create();
-
 
 		if(isEnabled) {
+			String body = JsonUtil.objectToJsonWithNulls(response);
 			HttpHeaders headers = new HttpHeaders();
-			headers.add(RESPONSE_SIGNATURE,digitalSignatureUtility.getDigitalSignature(gson.toJson(response)));
-			return ResponseEntity.ok().headers(headers).body(gson.toJson(response));
+			headers.add(RESPONSE_SIGNATURE,digitalSignatureUtility.getDigitalSignature(body));
+			return ResponseEntity.ok().headers(headers).body(body);
 		}
 		return ResponseEntity.status(HttpStatus.OK).body(response);
 
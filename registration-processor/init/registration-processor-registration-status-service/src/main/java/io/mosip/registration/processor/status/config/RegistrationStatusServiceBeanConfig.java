@@ -32,7 +32,7 @@ import io.mosip.registration.processor.status.service.impl.TransactionServiceImp
 import io.mosip.registration.processor.status.utilities.RegistrationExternalStatusUtility;
 @Configuration
 @PropertySource("classpath:bootstrap.properties")
-@Import({ HibernateDaoConfig.class })
+@Import({ HibernateDaoConfig.class, JdbcBatchingConfig.class })
 @EnableJpaRepositories(basePackages = "io.mosip.registration.processor", repositoryBaseClass = HibernateRepositoryImpl.class)
 public class RegistrationStatusServiceBeanConfig {
 
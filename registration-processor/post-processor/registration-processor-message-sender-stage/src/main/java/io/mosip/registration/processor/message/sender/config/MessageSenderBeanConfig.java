@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import io.mosip.registration.processor.message.sender.dto.MessageSenderDto;
+import io.mosip.registration.processor.message.sender.outbox.NotificationOutboxService;
 import io.mosip.registration.processor.message.sender.stage.MessageSenderStage;
 import io.mosip.registration.processor.message.sender.util.StatusNotificationTypeMapUtil;
 
@@ -25,6 +26,11 @@ public class MessageSenderBeanConfig {
 		return new MessageSenderDto();
 	}
 
+	@Bean
+	public NotificationOutboxService getNotificationOutboxService() {
+		return new NotificationOutboxService();
+	}
+
 	
 	
 }
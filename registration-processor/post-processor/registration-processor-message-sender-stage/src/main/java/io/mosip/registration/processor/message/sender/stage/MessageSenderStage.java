@@ -1,9 +1,7 @@
 package io.mosip.registration.processor.message.sender.stage;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -18,7 +16,6 @@ import org.springframework.web.multipart.MultipartFile;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.fsadapter.exception.FSAdapterException;
@@ -28,7 +25,6 @@ import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
 import io.mosip.registration.processor.core.abstractverticle.MosipEventBus;
 import io.mosip.registration.processor.core.abstractverticle.MosipRouter;
 import io.mosip.registration.processor.core.abstractverticle.MosipVerticleAPIManager;
-import io.mosip.registration.processor.core.code.ApiName;
 import io.mosip.registration.processor.core.code.EventId;
 import io.mosip.registration.processor.core.code.EventName;
 import io.mosip.registration.processor.core.code.EventType;
@@ -41,14 +37,11 @@ import io.mosip.registration.processor.core.exception.ApisResourceAccessExceptio
 import io.mosip.registration.processor.core.exception.RegistrationProcessorCheckedException;
 import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
 import io.mosip.registration.processor.core.exception.util.PlatformSuccessMessages;
-import io.mosip.registration.processor.core.http.ResponseWrapper;
 import io.mosip.registration.processor.core.logger.LogDescription;
 import io.mosip.registration.processor.core.logger.RegProcessorLogger;
 import io.mosip.registration.processor.core.notification.template.generator.dto.ResponseDto;
 import io.mosip.registration.processor.core.notification.template.generator.dto.SmsResponseDto;
-import io.mosip.registration.processor.core.notification.template.generator.dto.TemplateResponseDto;
 import io.mosip.registration.processor.core.spi.message.sender.MessageNotificationService;
-import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
 import io.mosip.registration.processor.core.status.util.StatusUtil;
 import io.mosip.registration.processor.core.status.util.TrimExceptionMessage;
 import io.mosip.registration.processor.message.sender.constants.MessageSenderConstant;
@@ -59,6 +52,8 @@ import io.mosip.registration.processor.message.sender.exception.EmailIdNotFoundE
 import io.mosip.registration.processor.message.sender.exception.PhoneNumberNotFoundException;
 import io.mosip.registration.processor.message.sender.exception.TemplateGenerationFailedException;
 import io.mosip.registration.processor.message.sender.exception.TemplateNotFoundException;
+import io.mosip.registration.processor.message.sender.outbox.NotificationOutboxService;
+import io.mosip.registration.processor.message.sender.template.NotificationTemplateCatalog;
 import io.mosip.registration.processor.message.sender.util.StatusNotificationTypeMapUtil;
 import io.mosip.registration.processor.message.sender.utility.MessageSenderStatusMessage;
 import io.mosip.registration.processor.message.sender.utility.NotificationTemplateCode;
@@ -132,10 +127,6 @@ public class MessageSenderStage extends MosipVerticleAPIManager {
 	@Value("${registration.processor.updated.subject}")
 	private String uinUpdatedSubject;
 
-	/** The rest client service. */
-	@Autowired
-	private RegistrationProcessorRestClientService<Object> restClientService;
-
 	/** The service. */
 	@Autowired
 	private MessageNotificationService<SmsResponseDto, ResponseDto, MultipartFile[]> service;
@@ -157,6 +148,23 @@ public class MessageSenderStage extends MosipVerticleAPIManager {
 	
 	@Autowired
 	private SyncRegistrationService<SyncResponseDto, SyncRegistrationDto> syncRegistrationservice;
+
+	/** The cached notification templates. */
+	@Autowired
+	private NotificationTemplateCatalog templateCatalog;
+
+	/** The outbox the notifications are queued in when sent asynchronously. */
+	@Autowired
+	private NotificationOutboxService notificationOutboxService;
+
+	/** Queue notifications in the outbox instead of sending them while processing. */
+	@Value("${registration.processor.notification.async.enabled:false}")
+	private boolean asyncNotificationEnabled;
+
+	/** Interval at which the outbox is drained. */
+	@Value("${registration.processor.notification.outbox.drain.interval.millis:10000}")
+	private long outboxDrainIntervalMillis;
+
 	/**
 	 * Deploy verticle.
 	 */
@@ -174,6 +182,18 @@ public class MessageSenderStage extends MosipVerticleAPIManager {
 	public void start() {
 		router.setRoute(this.postUrl(vertx, MessageBusAddress.MESSAGE_SENDER_BUS, null));
 		this.createServer(router.getRouter(), Integer.parseInt(port));
+		if (asyncNotificationEnabled) {
+			vertx.setPeriodic(outboxDrainIntervalMillis, id -> vertx.executeBlocking(promise -> {
+				try {
+					notificationOutboxService.drain();
+				} catch (Exception e) {
+					regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
+							LoggerFileConstant.REGISTRATIONID.toString(), "",
+							"MessageSenderStage::drainOutbox():: " + ExceptionUtils.getStackTrace(e));
+				}
+				promise.complete();
+			}, false, null));
+		}
 	}
 
 	/*
@@ -398,6 +418,10 @@ public class MessageSenderStage extends MosipVerticleAPIManager {
 			description.setSubStatusCode(StatusUtil.MESSAGE_SENDER_NOT_CONFIGURED.getCode());
 			return isNotificationSuccess;
 		}
+		if (asyncNotificationEnabled) {
+			return queueNotification(id, process, ccEMailList, allNotificationTypes, regType, messageSenderDto,
+					description);
+		}
 		if (allNotificationTypes != null) {
 			for (String notificationType : allNotificationTypes) {
 				if (notificationType.equalsIgnoreCase(NotificationTypeEnum.SMS.name())
@@ -442,6 +466,34 @@ public class MessageSenderStage extends MosipVerticleAPIManager {
 		return isNotificationSuccess;
 	}
 
+	/**
+	 * Queues the notifications in the outbox, they are sent and retried outside
+	 * of packet processing.
+	 */
+	private boolean queueNotification(String id, String process, String[] ccEMailList,
+			String[] allNotificationTypes, String regType, MessageSenderDto messageSenderDto,
+			LogDescription description) throws Exception {
+		for (String notificationType : allNotificationTypes) {
+			if (notificationType.equalsIgnoreCase(NotificationTypeEnum.SMS.name())
+					&& isTemplateAvailable(messageSenderDto)) {
+				notificationOutboxService.enqueue(id, process, regType, messageSenderDto.getIdType(),
+						NotificationTypeEnum.SMS.name(), messageSenderDto.getSmsTemplateCode().name(), null, null);
+			} else if (notificationType.equalsIgnoreCase(NotificationTypeEnum.EMAIL.name())
+					&& isTemplateAvailable(messageSenderDto)) {
+				notificationOutboxService.enqueue(id, process, regType, messageSenderDto.getIdType(),
+						NotificationTypeEnum.EMAIL.name(), messageSenderDto.getEmailTemplateCode().name(),
+						messageSenderDto.getSubject(), ccEMailList);
+			} else {
+				throw new TemplateNotFoundException(MessageSenderStatusMessage.TEMPLATE_NOT_FOUND);
+			}
+		}
+		description.setMessage(StatusUtil.MESSAGE_SENDER_NOTIFICATION_QUEUED.getMessage());
+		description.setCode(PlatformSuccessMessages.RPR_MESSAGE_SENDER_STAGE_SUCCESS.getCode());
+		description.setStatusComment(StatusUtil.MESSAGE_SENDER_NOTIFICATION_QUEUED.getMessage());
+		description.setSubStatusCode(StatusUtil.MESSAGE_SENDER_NOTIFICATION_QUEUED.getCode());
+		return true;
+	}
+
 	private boolean sendEmail(String id, String process, Map<String, Object> attributes, String[] ccEMailList, String regType,
 			MessageSenderDto messageSenderDto, LogDescription description) throws Exception {
 		boolean isEmailSuccess = false;
@@ -593,23 +645,8 @@ public class MessageSenderStage extends MosipVerticleAPIManager {
 	 */
 	private boolean isTemplateAvailable(MessageSenderDto messageSenderDto)
 			throws ApisResourceAccessException, IOException {
-
-		List<String> pathSegments = new ArrayList<>();
-		ResponseWrapper<?> responseWrapper;
-		TemplateResponseDto templateResponseDto = null;
-		ObjectMapper mapper = new ObjectMapper();
-
-		responseWrapper = (ResponseWrapper<?>) restClientService.getApi(ApiName.TEMPLATES, pathSegments, "", "",
-				ResponseWrapper.class);
-		templateResponseDto = mapper.readValue(mapper.writeValueAsString(responseWrapper.getResponse()),
-				TemplateResponseDto.class);
-
-		if (responseWrapper.getErrors() == null) {
-			templateResponseDto.getTemplates().forEach(dto -> {
-				if (dto.getTemplateTypeCode().equalsIgnoreCase(messageSenderDto.getSmsTemplateCode().name())) {
-					messageSenderDto.setTemplateAvailable(true);
-				}
-			});
+		if (templateCatalog.isTemplateAvailable(messageSenderDto.getSmsTemplateCode().name())) {
+			messageSenderDto.setTemplateAvailable(true);
 		}
 		return messageSenderDto.isTemplateAvailable();
 	}
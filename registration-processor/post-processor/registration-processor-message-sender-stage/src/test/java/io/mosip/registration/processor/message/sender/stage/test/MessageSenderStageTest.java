@@ -51,6 +51,7 @@ import io.mosip.registration.processor.message.sender.dto.MessageSenderDto;
 import io.mosip.registration.processor.message.sender.exception.EmailIdNotFoundException;
 import io.mosip.registration.processor.message.sender.exception.PhoneNumberNotFoundException;
 import io.mosip.registration.processor.message.sender.stage.MessageSenderStage;
+import io.mosip.registration.processor.message.sender.template.NotificationTemplateCatalog;
 import io.mosip.registration.processor.message.sender.utility.NotificationTemplateCode;
 import io.mosip.registration.processor.packet.storage.utils.Utilities;
 import io.mosip.registration.processor.rest.client.audit.builder.AuditLogRequestBuilder;
@@ -176,6 +177,11 @@ public class MessageSenderStageTest {
 		ReflectionTestUtils.setField(stage, "reregisterSubject", "re register");
 		ReflectionTestUtils.setField(stage, "notificationEmails", "abc@gmail.com");
 
+		NotificationTemplateCatalog templateCatalog = new NotificationTemplateCatalog();
+		ReflectionTestUtils.setField(templateCatalog, "restClientService", restClientService);
+		ReflectionTestUtils.setField(templateCatalog, "mapper", mapper);
+		ReflectionTestUtils.setField(stage, "templateCatalog", templateCatalog);
+
 		Mockito.doNothing().when(registrationStatusDto).setStatusCode(any());
 		Mockito.doNothing().when(registrationStatusDto).setStatusComment(any());
 		Mockito.when(registrationStatusDto.getRegistrationType()).thenReturn("NEW");
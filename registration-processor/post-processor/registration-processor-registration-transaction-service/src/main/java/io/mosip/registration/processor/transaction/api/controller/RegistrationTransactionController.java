@@ -15,22 +15,23 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
 import io.mosip.registration.processor.core.token.validation.exception.AccessDeniedException;
 import io.mosip.registration.processor.core.token.validation.exception.InvalidTokenException;
 import io.mosip.registration.processor.core.util.DigitalSignatureUtility;
+import io.mosip.registration.processor.core.util.JsonUtil;
 import io.mosip.registration.processor.status.dto.RegistrationTransactionDto;
+import io.mosip.registration.processor.status.dto.RegistrationTransactionPageDto;
 import io.mosip.registration.processor.status.dto.TransactionDto;
 import io.mosip.registration.processor.status.exception.RegTransactionAppException;
 import io.mosip.registration.processor.status.exception.TransactionTableNotAccessibleException;
 import io.mosip.registration.processor.status.exception.TransactionsUnavailableException;
 import io.mosip.registration.processor.status.service.TransactionService;
+import io.mosip.registration.processor.status.sync.response.dto.RegTransactionPageResponseDTO;
 import io.mosip.registration.processor.status.sync.response.dto.RegTransactionResponseDTO;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -105,6 +106,50 @@ public class RegistrationTransactionController {
 		}
 	}
 
+	/**
+	 * get one page of the transaction details for the given registration id
+	 * 
+	 * @param rid registration id
+	 * @param langCode language code
+	 * @param cursor next cursor of the previous page, absent for the first page
+	 * @param limit page size, capped by the server
+	 * @param request servlet request
+	 * @return page of transactions and the cursor of the next page
+	 * @throws Exception
+	 */
+	@PreAuthorize("hasAnyRole('REGISTRATION_PROCESSOR','REGISTRATION_ADMIN')")
+	@GetMapping(path = "/search/page/{langCode}/{rid}")
+	@ApiOperation(value = "Get one page of the transaction entities")
+	@ApiResponses(value = { @ApiResponse(code = 200, message = "Transaction Entities successfully fetched"),
+			@ApiResponse(code = 400, message = "Unable to fetch Transaction Entities") })
+	public ResponseEntity<RegTransactionPageResponseDTO> getTransactionPagebyRid(@PathVariable("rid") String rid,
+			@PathVariable("langCode") String langCode,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "limit", required = false) Integer limit, HttpServletRequest request)
+			throws Exception {
+		HttpHeaders headers = new HttpHeaders();
+		try {
+			RegistrationTransactionPageDto page = transactionService.getTransactionPageByRegId(rid, langCode, cursor,
+					limit);
+			RegTransactionPageResponseDTO responseDTO = buildRegistrationTransactionPageResponse(page);
+			if (isEnabled) {
+				headers.add(RESPONSE_SIGNATURE,
+						digitalSignatureUtility.getDigitalSignature(JsonUtil.objectToJsonWithNulls(responseDTO)));
+				return ResponseEntity.status(HttpStatus.OK).headers(headers).body(responseDTO);
+			}
+			return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
+		} catch (Exception e) {
+			if (e instanceof InvalidTokenException | e instanceof AccessDeniedException
+					| e instanceof RegTransactionAppException | e instanceof TransactionsUnavailableException
+					| e instanceof TransactionTableNotAccessibleException) {
+				throw e;
+			} else {
+				throw new RegTransactionAppException(PlatformErrorMessages.RPR_RTS_UNKNOWN_EXCEPTION.getCode(),
+						PlatformErrorMessages.RPR_RTS_UNKNOWN_EXCEPTION.getMessage() + " -->" + e.getMessage());
+			}
+		}
+	}
+
 	/**
 	 * build the registration transaction response
 	 * @param dtoList registration transaction dtos
@@ -122,13 +167,29 @@ public class RegistrationTransactionController {
 		return regTransactionResponseDTO;
 	}
 
+	/**
+	 * build the registration transaction page response
+	 * @param page page of registration transaction dtos
+	 * @return registration transaction page response
+	 */
+	private RegTransactionPageResponseDTO buildRegistrationTransactionPageResponse(
+			RegistrationTransactionPageDto page) {
+		RegTransactionPageResponseDTO regTransactionPageResponseDTO = new RegTransactionPageResponseDTO();
+		regTransactionPageResponseDTO.setId(env.getProperty(REG_TRANSACTION_SERVICE_ID));
+		regTransactionPageResponseDTO
+				.setResponsetime(DateUtils.getUTCCurrentDateTimeString(env.getProperty(DATETIME_PATTERN)));
+		regTransactionPageResponseDTO.setVersion(env.getProperty(REG_TRANSACTION_APPLICATION_VERSION));
+		regTransactionPageResponseDTO.setErrors(null);
+		regTransactionPageResponseDTO.setResponse(page);
+		return regTransactionPageResponseDTO;
+	}
+
 	/**
 	 * convert registration transaction response dto to json string
 	 * @param dto registration transaction response dto
 	 * @return
 	 */
 	private String buildSignatureRegistrationTransactionResponse(RegTransactionResponseDTO dto) {
-		Gson gson = new GsonBuilder().serializeNulls().create();
-		return gson.toJson(dto);
+		return JsonUtil.objectToJsonWithNulls(dto);
 	}
 }
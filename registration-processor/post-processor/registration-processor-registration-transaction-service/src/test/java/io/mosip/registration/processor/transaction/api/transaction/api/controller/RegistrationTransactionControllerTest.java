@@ -33,6 +33,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
 import io.mosip.registration.processor.core.util.DigitalSignatureUtility;
 import io.mosip.registration.processor.status.dto.RegistrationTransactionDto;
+import io.mosip.registration.processor.status.dto.RegistrationTransactionPageDto;
 import io.mosip.registration.processor.status.dto.TransactionDto;
 import io.mosip.registration.processor.status.exception.RegTransactionAppException;
 import io.mosip.registration.processor.status.exception.TransactionsUnavailableException;
@@ -122,5 +123,37 @@ public class RegistrationTransactionControllerTest {
 		this.mockMvc.perform(get("/search/eng/27847657360002520190320095010").accept(MediaType.APPLICATION_JSON_VALUE))
 				.andExpect(status().isOk());
 	}
+
+	@WithUserDetails("reg-admin")
+	@Test
+	public void testTransactionPage() throws Exception {
+		List<RegistrationTransactionDto> dtoList = new ArrayList<>();
+		dtoList.add(new RegistrationTransactionDto("id", "registrationId", "transactionTypeCode", "parentTransactionId",
+				"statusCode", "statusComment", null));
+		RegistrationTransactionPageDto page = new RegistrationTransactionPageDto();
+		page.setTransactions(dtoList);
+		page.setNextCursor("next-cursor");
+		Mockito.when(transactionService.getTransactionPageByRegId("27847657360002520190320095010", "eng", "cursor", 10))
+				.thenReturn(page);
+		this.mockMvc
+				.perform(get("/search/page/eng/27847657360002520190320095010").param("cursor", "cursor")
+						.param("limit", "10").accept(MediaType.APPLICATION_JSON_VALUE))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.response.nextCursor", is("next-cursor")))
+				.andExpect(jsonPath("$.response.transactions[0].id", is("id")));
+	}
+
+	@WithUserDetails("reg-admin")
+	@Test
+	public void testTransactionPageInvalidCursor() throws Exception {
+
+		Mockito.doThrow(new RegTransactionAppException(PlatformErrorMessages.RPR_RTS_INVALID_REQUEST.getCode(),
+				PlatformErrorMessages.RPR_RTS_INVALID_REQUEST.getMessage() + " - cursor")).when(transactionService)
+				.getTransactionPageByRegId(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+						ArgumentMatchers.any());
+		this.mockMvc
+				.perform(get("/search/page/eng/27847657360002520190320095010").param("cursor", "not-a-cursor")
+						.accept(MediaType.APPLICATION_JSON_VALUE))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.errors[0].errorCode", is("RPR-RTS-003")));
+	}
 	
 }
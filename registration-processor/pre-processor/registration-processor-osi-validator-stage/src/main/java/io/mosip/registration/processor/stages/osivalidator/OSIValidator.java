@@ -32,6 +32,8 @@ import io.mosip.registration.processor.core.util.JsonUtil;
 import io.mosip.registration.processor.core.util.RegistrationExceptionMapperUtil;
 import io.mosip.registration.processor.packet.manager.idreposervice.IdRepoService;
 import io.mosip.registration.processor.packet.storage.dto.ApplicantInfoDto;
+import io.mosip.registration.processor.packet.storage.dto.IndividualAuthRequestDto;
+import io.mosip.registration.processor.packet.storage.dto.IndividualAuthResultDto;
 import io.mosip.registration.processor.core.exception.PacketManagerException;
 import io.mosip.registration.processor.packet.storage.utils.ABISHandlerUtil;
 import io.mosip.registration.processor.packet.storage.utils.AuthUtil;
@@ -197,9 +199,13 @@ public class OSIValidator {
 						StatusMessage.SUPERVISOR_OR_OFFICER_WAS_INACTIVE);
 				return false;
 			}
-			if (((isValidOperator(regOsi, registrationId, registrationStatusDto))
-					&& (isValidSupervisor(regOsi, registrationId, registrationStatusDto)))
-					&& (isValidIntroducer(registrationId, registrationStatusDto)))
+			// the biometric authentications are collected by the checks and sent
+			// together once every other check passed
+			List<IndividualAuthRequestDto> authRequests = new ArrayList<>();
+			if (((isValidOperator(regOsi, registrationId, registrationStatusDto, authRequests))
+					&& (isValidSupervisor(regOsi, registrationId, registrationStatusDto, authRequests)))
+					&& (isValidIntroducer(registrationId, registrationStatusDto, authRequests))
+					&& (validateUserBiometrics(registrationId, authRequests, registrationStatusDto)))
 				isValidOsi = true;
 			regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
 					registrationId, "OSIValidator::isValidOSI()::exit");
@@ -289,9 +295,8 @@ public class OSIValidator {
 	 * 
 	 */
 	private boolean isValidOperator(RegOsiDto regOsi, String registrationId,
-			InternalRegistrationStatusDto registrationStatusDto)
-			throws IOException, ApisResourceAccessException, BioTypeException,
-			AuthSystemException, JsonProcessingException, PacketManagerException, CertificateException, NoSuchAlgorithmException {
+			InternalRegistrationStatusDto registrationStatusDto, List<IndividualAuthRequestDto> authRequests)
+			throws IOException, ApisResourceAccessException, JsonProcessingException, PacketManagerException {
 		boolean isValid = false;
 		String officerId = regOsi.getOfficerId();
 		if (officerId != null) {
@@ -325,8 +330,9 @@ public class OSIValidator {
 					registrationStatusDto.setStatusCode(RegistrationStatusCode.FAILED.toString());
 					isValid = false;
 				} else {
-					isValid = validateUserBiometric(registrationId, officerId, biometricRecord.getSegments(), INDIVIDUAL_TYPE_USERID,
-							registrationStatusDto);
+					authRequests.add(new IndividualAuthRequestDto(officerId, INDIVIDUAL_TYPE_USERID,
+							biometricRecord.getSegments()));
+					isValid = true;
 				}
 			}
 		} else {
@@ -373,9 +379,8 @@ public class OSIValidator {
 	 * @throws Exception
 	 */
 	private boolean isValidSupervisor(RegOsiDto regOsi, String registrationId,
-			InternalRegistrationStatusDto registrationStatusDto)
-			throws IOException, ApisResourceAccessException, InvalidKeySpecException, NoSuchAlgorithmException,
-			BiometricException, BioTypeException, AuthSystemException, JsonProcessingException, PacketManagerException, CertificateException {
+			InternalRegistrationStatusDto registrationStatusDto, List<IndividualAuthRequestDto> authRequests)
+			throws IOException, ApisResourceAccessException, JsonProcessingException, PacketManagerException {
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
 				registrationId, "OSIValidator::isValidSupervisor()::entry");
 		String supervisorId = regOsi.getSupervisorId();
@@ -412,9 +417,11 @@ public class OSIValidator {
 					registrationStatusDto.setStatusComment(StatusUtil.BIOMETRICS_VALIDATION_FAILURE.getMessage() + " for officer : " + supervisorId);
 					registrationStatusDto.setStatusCode(RegistrationStatusCode.FAILED.toString());
 					isValid = false;
+				} else {
+					authRequests.add(new IndividualAuthRequestDto(supervisorId, INDIVIDUAL_TYPE_USERID,
+							biometricRecord.getSegments()));
+					isValid = true;
 				}
-				isValid = validateUserBiometric(registrationId, supervisorId, biometricRecord.getSegments(),
-						INDIVIDUAL_TYPE_USERID, registrationStatusDto);
 			}
 
 		} else {
@@ -448,10 +455,9 @@ public class OSIValidator {
 	 * @throws AuthSystemException
 	 * @throws RegistrationProcessorCheckedException
 	 */
-	private boolean isValidIntroducer(String registrationId, InternalRegistrationStatusDto registrationStatusDto)
-			throws IOException, ApisResourceAccessException, InvalidKeySpecException, NoSuchAlgorithmException,
-			BioTypeException, ParentOnHoldException,
-			AuthSystemException, JsonProcessingException, PacketManagerException, CertificateException {
+	private boolean isValidIntroducer(String registrationId, InternalRegistrationStatusDto registrationStatusDto,
+			List<IndividualAuthRequestDto> authRequests) throws IOException, ApisResourceAccessException,
+			ParentOnHoldException, JsonProcessingException, PacketManagerException {
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
 				registrationId, "OSIValidator::isValidIntroducer()::entry");
 
@@ -500,7 +506,8 @@ public class OSIValidator {
 
 				}
 				if (introducerUIN != null && !introducerUIN.isEmpty()) {
-					return validateIntroducerBiometric(registrationId, registrationStatusDto, introducerBiometricsLabel, introducerUIN);
+					return validateIntroducerBiometric(registrationId, registrationStatusDto, introducerBiometricsLabel,
+							introducerUIN, authRequests);
 				} else {
 					return false;
 				}
@@ -515,14 +522,15 @@ public class OSIValidator {
 
 	private boolean validateIntroducerBiometric(String registrationId,
 			InternalRegistrationStatusDto registrationStatusDto, String introducerBiometricsFileName,
-			String introducerUIN) throws IOException, ApisResourceAccessException,
-			BioTypeException, AuthSystemException, JsonProcessingException, PacketManagerException, CertificateException, NoSuchAlgorithmException {
+			String introducerUIN, List<IndividualAuthRequestDto> authRequests)
+			throws IOException, ApisResourceAccessException, JsonProcessingException, PacketManagerException {
 		BiometricRecord biometricRecord = packetManagerService.getBiometrics(registrationId,
 				introducerBiometricsFileName, null, registrationStatusDto.getRegistrationType());
 		if (introducerBiometricsFileName != null && (!introducerBiometricsFileName.trim().isEmpty())
 				&& biometricRecord != null && biometricRecord.getSegments() != null) {
-			return validateUserBiometric(registrationId, introducerUIN, biometricRecord.getSegments(),
-					INDIVIDUAL_TYPE_UIN, registrationStatusDto);
+			authRequests.add(new IndividualAuthRequestDto(introducerUIN, INDIVIDUAL_TYPE_UIN,
+					biometricRecord.getSegments()));
+			return true;
 		} else {
 			registrationStatusDto.setLatestTransactionStatusCode(registrationExceptionMapperUtil
 					.getStatusCode(RegistrationExceptionTypeCode.PARENT_BIOMETRIC_NOT_IN_PACKET));
@@ -581,17 +589,36 @@ public class OSIValidator {
 	 * @throws PacketDecryptionFailureException
 	 */
 
+	/**
+	 * Authenticates the operator, supervisor and introducer biometrics collected by
+	 * the checks in one concurrent batch and validates the results in that order.
+	 *
+	 * @param registrationId
+	 *            the registration id
+	 * @param authRequests
+	 *            the biometric authentications of the packet
+	 * @param registrationStatusDto
+	 * @return true, if every authentication succeeded
+	 */
+	private boolean validateUserBiometrics(String registrationId, List<IndividualAuthRequestDto> authRequests,
+			InternalRegistrationStatusDto registrationStatusDto)
+			throws ApisResourceAccessException, IOException, BioTypeException, AuthSystemException, CertificateException, NoSuchAlgorithmException {
+		if (authRequests.isEmpty())
+			return true;
+		for (IndividualAuthResultDto authResult : authUtil.authByIdAuthentication(authRequests)) {
+			if (!validateUserBiometric(registrationId, authResult, registrationStatusDto))
+				return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Validate user.
 	 *
-	 * @param userId
-	 *            the userid
 	 * @param registrationId
 	 *            the registration id
-	 * @param list
-	 *            biometric data as BIR object
-	 * @param individualType
-	 *            user type
+	 * @param authResult
+	 *            the auth result of the user
 	 * @param registrationStatusDto
 	 * @return true, if successful
 	 * @throws SAXException
@@ -607,11 +634,12 @@ public class OSIValidator {
 	 * @throws AuthSystemException 
 	 */
 
-	private boolean validateUserBiometric(String registrationId, String userId, List<BIR> list,
-			String individualType, InternalRegistrationStatusDto registrationStatusDto)
+	private boolean validateUserBiometric(String registrationId, IndividualAuthResultDto authResult,
+			InternalRegistrationStatusDto registrationStatusDto)
 			throws ApisResourceAccessException, IOException, BioTypeException, AuthSystemException, CertificateException, NoSuchAlgorithmException {
 
-		AuthResponseDTO authResponseDTO = authUtil.authByIdAuthentication(userId, individualType, list);
+		String userId = authResult.getIndividualId();
+		AuthResponseDTO authResponseDTO = AuthUtil.getAuthResponse(authResult);
 		if (authResponseDTO.getErrors() == null || authResponseDTO.getErrors().isEmpty()) {
 			if (authResponseDTO.getResponse().isAuthStatus()) {
 				return true;
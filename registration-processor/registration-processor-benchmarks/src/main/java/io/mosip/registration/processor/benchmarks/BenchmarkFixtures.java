@@ -0,0 +1,75 @@
+package io.mosip.registration.processor.benchmarks;
+
+import java.lang.reflect.Field;
+
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Synthetic inputs shared by the benchmarks, sized like a typical new
+ * registration.
+ */
+public final class BenchmarkFixtures {
+
+	public static final String REGISTRATION_ID = "10001100020000120200101120000";
+
+	/** A demographic ID.json with the fields every stage reads. */
+	public static final String ID_JSON = "{\"identity\":{"
+			+ "\"IDSchemaVersion\":0.1,"
+			+ "\"fullName\":[{\"language\":\"eng\",\"value\":\"Synthetic Applicant\"},{\"language\":\"ara\",\"value\":\"Synthetic Applicant\"}],"
+			+ "\"dateOfBirth\":\"1990/01/01\","
+			+ "\"gender\":[{\"language\":\"eng\",\"value\":\"Male\"},{\"language\":\"ara\",\"value\":\"Male\"}],"
+			+ "\"addressLine1\":[{\"language\":\"eng\",\"value\":\"1 Main Street\"},{\"language\":\"ara\",\"value\":\"1 Main Street\"}],"
+			+ "\"region\":[{\"language\":\"eng\",\"value\":\"Region\"},{\"language\":\"ara\",\"value\":\"Region\"}],"
+			+ "\"province\":[{\"language\":\"eng\",\"value\":\"Province\"},{\"language\":\"ara\",\"value\":\"Province\"}],"
+			+ "\"city\":[{\"language\":\"eng\",\"value\":\"City\"},{\"language\":\"ara\",\"value\":\"City\"}],"
+			+ "\"postalCode\":\"10112\","
+			+ "\"phone\":\"9876543210\","
+			+ "\"email\":\"applicant@example.com\","
+			+ "\"individualBiometrics\":{\"format\":\"cbeff\",\"version\":1.0,\"value\":\"individualBiometrics_bio_CBEFF\"}"
+			+ "}}";
+
+	/** The registration processor identity mapping, as served by the config server. */
+	public static final String MAPPING_JSON = "{\"identity\":{"
+			+ "\"IDSchemaVersion\":{\"value\":\"IDSchemaVersion\"},"
+			+ "\"name\":{\"value\":\"fullName\"},"
+			+ "\"dob\":{\"value\":\"dateOfBirth\"},"
+			+ "\"age\":{\"value\":\"age\"},"
+			+ "\"gender\":{\"value\":\"gender\"},"
+			+ "\"addressLine1\":{\"value\":\"addressLine1\"},"
+			+ "\"region\":{\"value\":\"region\"},"
+			+ "\"province\":{\"value\":\"province\"},"
+			+ "\"city\":{\"value\":\"city\"},"
+			+ "\"postalCode\":{\"value\":\"postalCode\"},"
+			+ "\"phone\":{\"value\":\"phone\"},"
+			+ "\"email\":{\"value\":\"email\"},"
+			+ "\"uin\":{\"value\":\"UIN\"},"
+			+ "\"individualBiometrics\":{\"value\":\"individualBiometrics\"},"
+			+ "\"parentOrGuardianUIN\":{\"value\":\"parentOrGuardianUIN\"},"
+			+ "\"parentOrGuardianRID\":{\"value\":\"parentOrGuardianRID\"}"
+			+ "},\"metaInfo\":{\"value\":\"metaInfo\"}}";
+
+	/** A notification template using the attributes the message sender fills in. */
+	public static final String TEMPLATE = "Dear $name_eng, your registration $RID was processed on $date. "
+			+ "#if($UIN)Your UIN is $UIN.#end "
+			+ "#foreach($line in [$addressLine1_eng, $city_eng, $region_eng])$line #end";
+
+	private BenchmarkFixtures() {
+	}
+
+	/**
+	 * Sets a field the way Spring would inject it.
+	 *
+	 * @param target
+	 *            the object
+	 * @param name
+	 *            the field name
+	 * @param value
+	 *            the value
+	 */
+	public static void inject(Object target, String name, Object value) {
+		Field field = ReflectionUtils.findField(target.getClass(), name);
+		ReflectionUtils.makeAccessible(field);
+		ReflectionUtils.setField(field, target, value);
+	}
+
+}
@@ -0,0 +1,105 @@
+package io.mosip.registration.processor.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biometrics.constant.ProcessedLevelType;
+import io.mosip.kernel.biometrics.constant.PurposeType;
+import io.mosip.kernel.biometrics.constant.QualityType;
+import io.mosip.kernel.biometrics.entities.BDBInfo;
+import io.mosip.kernel.biometrics.entities.BIR;
+import io.mosip.kernel.biometrics.entities.BIRInfo;
+import io.mosip.kernel.biometrics.entities.RegistryIDType;
+import io.mosip.kernel.biometrics.entities.VersionType;
+import io.mosip.kernel.cbeffutil.impl.CbeffImpl;
+import io.mosip.kernel.core.cbeffutil.spi.CbeffUtil;
+import io.mosip.registration.processor.packet.storage.utils.BIRConverter;
+
+/**
+ * Conversion of the biometric segments of a packet to CBEFF BIRs and the CBEFF
+ * XML, done by the abis handler, bio dedupe and uin generator for every
+ * packet with biometrics.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CbeffBenchmark {
+
+	/** Size of one synthetic biometric data block. */
+	private static final int BDB_SIZE = 16 * 1024;
+
+	private static final List<String> FINGERS = Arrays.asList("Left IndexFinger", "Left MiddleFinger",
+			"Left RingFinger", "Left LittleFinger", "Right IndexFinger", "Right MiddleFinger", "Right RingFinger",
+			"Right LittleFinger", "Left Thumb", "Right Thumb");
+
+	private final CbeffUtil cbeffUtil = new CbeffImpl();
+
+	private List<BIR> segments;
+
+	private List<io.mosip.kernel.core.cbeffutil.entity.BIR> birs;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		segments = new ArrayList<>();
+		for (String finger : FINGERS) {
+			segments.add(segment(BiometricType.FINGER, Arrays.asList(finger.split(" ")), random));
+		}
+		segments.add(segment(BiometricType.IRIS, Collections.singletonList("Left"), random));
+		segments.add(segment(BiometricType.IRIS, Collections.singletonList("Right"), random));
+		segments.add(segment(BiometricType.FACE, Collections.emptyList(), random));
+		birs = BIRConverter.convertSegmentsToBIRList(segments);
+	}
+
+	@Benchmark
+	public List<io.mosip.kernel.core.cbeffutil.entity.BIR> convertSegments() {
+		return BIRConverter.convertSegmentsToBIRList(segments);
+	}
+
+	@Benchmark
+	public byte[] createXml() throws Exception {
+		return cbeffUtil.createXML(birs);
+	}
+
+	@Benchmark
+	public byte[] convertAndCreateXml() throws Exception {
+		return cbeffUtil.createXML(BIRConverter.convertSegmentsToBIRList(segments));
+	}
+
+	private static BIR segment(BiometricType type, List<String> subtype, Random random) {
+		byte[] bdb = new byte[BDB_SIZE];
+		random.nextBytes(bdb);
+		QualityType quality = new QualityType();
+		quality.setAlgorithm(new RegistryIDType("HMAC", "SHA-256"));
+		quality.setScore(80L);
+		return new BIR.BIRBuilder().withBdb(bdb).withVersion(new VersionType(1, 1))
+				.withCbeffversion(new VersionType(1, 1))
+				.withBirInfo(new BIRInfo.BIRInfoBuilder().withIntegrity(false).build())
+				.withBdbInfo(new BDBInfo.BDBInfoBuilder().withFormat(new RegistryIDType("Mosip", "7"))
+						.withType(Collections.singletonList(type)).withQuality(quality)
+						.withCreationDate(LocalDateTime.now()).withPurpose(PurposeType.ENROLL)
+						.withLevel(ProcessedLevelType.RAW).withSubtype(new ArrayList<>(subtype)).build())
+				.build();
+	}
+
+}
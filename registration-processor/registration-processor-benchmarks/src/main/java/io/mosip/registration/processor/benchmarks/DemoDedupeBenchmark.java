@@ -0,0 +1,99 @@
+package io.mosip.registration.processor.benchmarks;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.registration.processor.core.packet.dto.demographicinfo.DemographicInfoDto;
+import io.mosip.registration.processor.packet.storage.dao.PacketInfoDao;
+import io.mosip.registration.processor.packet.storage.entity.IndividualDemographicDedupeEntity;
+import io.mosip.registration.processor.packet.storage.entity.IndividualDemographicDedupePKEntity;
+import io.mosip.registration.processor.packet.storage.repository.BasePacketRepository;
+import io.mosip.registration.processor.stages.demodedupe.DemoDedupe;
+import io.mosip.registration.processor.status.service.RegistrationStatusService;
+
+/**
+ * Demographic dedupe of one packet against a set of candidates with the same
+ * name, gender and date of birth. The database and the registration status
+ * service answer from memory, so the figure is the in JVM cost of building the
+ * query, converting the candidates and filtering them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DemoDedupeBenchmark {
+
+	@Param({ "10", "1000" })
+	private int candidates;
+
+	private DemoDedupe demoDedupe;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		List<IndividualDemographicDedupeEntity> applicant = new ArrayList<>();
+		applicant.add(entity(BenchmarkFixtures.REGISTRATION_ID, "eng"));
+		applicant.add(entity(BenchmarkFixtures.REGISTRATION_ID, "ara"));
+		List<IndividualDemographicDedupeEntity> matches = new ArrayList<>();
+		for (int i = 0; i < candidates; i++) {
+			matches.add(entity(String.format("1000110002%05d20200101120000", i), "eng"));
+		}
+
+		BasePacketRepository<IndividualDemographicDedupeEntity, String> demographicDedupeRepository = Mockito
+				.mock(BasePacketRepository.class);
+		Mockito.when(demographicDedupeRepository.findDemoById(anyString())).thenReturn(applicant);
+		Mockito.when(demographicDedupeRepository.createQuerySelect(anyString(), anyMap())).thenReturn(matches);
+		PacketInfoDao packetInfoDao = new PacketInfoDao();
+		BenchmarkFixtures.inject(packetInfoDao, "demographicDedupeRepository", demographicDedupeRepository);
+
+		RegistrationStatusService<String, ?, ?> registrationStatusService = Mockito
+				.mock(RegistrationStatusService.class);
+		Mockito.when(registrationStatusService.checkUinAvailabilityForRid(anyString()))
+				.thenAnswer(invocation -> ((String) invocation.getArgument(0)).hashCode() % 2 == 0);
+
+		demoDedupe = new DemoDedupe();
+		BenchmarkFixtures.inject(demoDedupe, "packetInfoDao", packetInfoDao);
+		BenchmarkFixtures.inject(demoDedupe, "registrationStatusService", registrationStatusService);
+	}
+
+	@Benchmark
+	public List<DemographicInfoDto> performDedupe() {
+		return demoDedupe.performDedupe(BenchmarkFixtures.REGISTRATION_ID);
+	}
+
+	private static IndividualDemographicDedupeEntity entity(String registrationId, String langCode) {
+		IndividualDemographicDedupePKEntity id = new IndividualDemographicDedupePKEntity();
+		id.setRegId(registrationId);
+		id.setLangCode(langCode);
+		IndividualDemographicDedupeEntity entity = new IndividualDemographicDedupeEntity();
+		entity.setId(id);
+		entity.setName("SYNTHETICAPPLICANT");
+		entity.setGender("MLE");
+		entity.setDob("1990/01/01");
+		entity.setPhone("9876543210");
+		entity.setEmail("applicant@example.com");
+		entity.setPostalCode("10112");
+		entity.setIsActive(Boolean.TRUE);
+		return entity;
+	}
+
+}
@@ -0,0 +1,69 @@
+package io.mosip.registration.processor.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.registration.processor.core.constant.MappingJsonConstants;
+import io.mosip.registration.processor.core.packet.dto.demographicinfo.JsonValue;
+import io.mosip.registration.processor.core.util.JsonUtil;
+import io.mosip.registration.processor.packet.storage.utils.Utilities;
+
+/**
+ * Lookups in the identity mapping JSON and the demographic JSON, done several
+ * times per packet by most stages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingJsonBenchmark {
+
+	private Utilities utilities;
+
+	private JSONObject demographicIdentity;
+
+	@Setup
+	public void setup() throws IOException {
+		utilities = new Utilities();
+		BenchmarkFixtures.inject(utilities, "mappingJsonString", BenchmarkFixtures.MAPPING_JSON);
+		JSONObject idJson = new ObjectMapper().readValue(BenchmarkFixtures.ID_JSON, JSONObject.class);
+		demographicIdentity = JsonUtil.getJSONObject(idJson, MappingJsonConstants.IDENTITY);
+	}
+
+	@Benchmark
+	public String mappingJsonValue() throws IOException {
+		return utilities.getMappingJsonValue(MappingJsonConstants.NAME, MappingJsonConstants.IDENTITY);
+	}
+
+	@Benchmark
+	public JSONObject mappingJsonSegment() throws IOException {
+		return utilities.getRegistrationProcessorMappingJson(MappingJsonConstants.IDENTITY);
+	}
+
+	@Benchmark
+	public JsonValue[] demographicJsonValues() {
+		return JsonUtil.getJsonValues(demographicIdentity, "fullName");
+	}
+
+	@Benchmark
+	public String demographicJsonValue() {
+		return JsonUtil.getJSONValue(demographicIdentity, "dateOfBirth");
+	}
+
+}
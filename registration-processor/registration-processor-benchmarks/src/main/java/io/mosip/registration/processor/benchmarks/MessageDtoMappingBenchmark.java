@@ -0,0 +1,59 @@
+package io.mosip.registration.processor.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.registration.processor.core.abstractverticle.MessageBusAddress;
+import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
+import io.mosip.registration.processor.core.constant.RegistrationType;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Mapping of the message every stage receives and sends, as done by
+ * MosipVerticleManager.consume and the event bus send.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageDtoMappingBenchmark {
+
+	private MessageDTO messageDTO;
+
+	private JsonObject jsonObject;
+
+	@Setup
+	public void setup() {
+		messageDTO = new MessageDTO();
+		messageDTO.setRid(BenchmarkFixtures.REGISTRATION_ID);
+		messageDTO.setReg_type(RegistrationType.NEW);
+		messageDTO.setIsValid(Boolean.TRUE);
+		messageDTO.setInternalError(Boolean.FALSE);
+		messageDTO.setRetryCount(0);
+		messageDTO.setMessageBusAddress(MessageBusAddress.PACKET_VALIDATOR_BUS_IN);
+		jsonObject = JsonObject.mapFrom(messageDTO);
+	}
+
+	@Benchmark
+	public MessageDTO jsonToMessage() {
+		return jsonObject.mapTo(MessageDTO.class);
+	}
+
+	@Benchmark
+	public JsonObject messageToJson() {
+		return JsonObject.mapFrom(messageDTO);
+	}
+
+}
@@ -0,0 +1,65 @@
+package io.mosip.registration.processor.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.core.templatemanager.spi.TemplateManager;
+import io.mosip.registration.processor.message.sender.template.TemplateGenerator;
+
+/**
+ * Rendering of a notification template, done for every sms and email the
+ * message sender sends.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateGeneratorBenchmark {
+
+	private TemplateManager templateManager;
+
+	private byte[] template;
+
+	private Map<String, Object> attributes;
+
+	@Setup
+	public void setup() {
+		templateManager = new TemplateGenerator().getTemplateManager();
+		template = BenchmarkFixtures.TEMPLATE.getBytes(StandardCharsets.UTF_8);
+		attributes = new HashMap<>();
+		attributes.put("RID", BenchmarkFixtures.REGISTRATION_ID);
+		attributes.put("UIN", "2345678901");
+		attributes.put("date", "2020-01-01");
+		attributes.put("name_eng", "Synthetic Applicant");
+		attributes.put("addressLine1_eng", "1 Main Street");
+		attributes.put("city_eng", "City");
+		attributes.put("region_eng", "Region");
+	}
+
+	@Benchmark
+	public String render() throws IOException {
+		try (InputStream merged = templateManager.merge(new ByteArrayInputStream(template), attributes)) {
+			return IOUtils.toString(merged, StandardCharsets.UTF_8);
+		}
+	}
+
+}
@@ -12,18 +12,18 @@ import org.apache.camel.component.kafka.KafkaConfiguration;
 import org.apache.camel.component.vertx.VertxComponent;
 import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.impl.JndiRegistry;
-import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.processor.camel.bridge.component.SentTimeVertxComponent;
+import io.mosip.registration.processor.camel.bridge.processor.TokenGenerationProcessor;
+import io.mosip.registration.processor.camel.bridge.processor.UnauthorizedResponseNotifier;
+import io.mosip.registration.processor.camel.bridge.route.CamelRouteLoader;
 import io.mosip.registration.processor.core.abstractverticle.MessageBusAddress;
 import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
 import io.mosip.registration.processor.core.abstractverticle.MosipEventBus;
@@ -76,6 +76,27 @@ public class MosipBridgeFactory extends MosipVerticleAPIManager {
 
 	@Value("${mosip.regproc.eventbus.kafka.group.id}")
 	private String kafkaGroupId;
+
+	/** Number of kafka consumers per bridge endpoint. */
+	@Value("${mosip.regproc.eventbus.kafka.consumers.count:1}")
+	private int kafkaConsumersCount;
+
+	/** Core and max size of the thread pools used by the routes. */
+	@Value("${camel.threadpool.size:10}")
+	private int threadPoolSize;
+
+	@Value("${camel.threadpool.max.size:20}")
+	private int threadPoolMaxSize;
+
+	/** Interval for checking the config server for changed routes, 0 disables. */
+	@Value("${camel.routes.reload.interval.millis:0}")
+	private long routesReloadIntervalMillis;
+
+	@Autowired
+	private CamelRouteLoader camelRouteLoader;
+
+	@Autowired
+	private TokenGenerationProcessor tokenGenerationProcessor;
 	
 	/**
 	 * Gets the event bus.
@@ -132,20 +153,15 @@ public class MosipBridgeFactory extends MosipVerticleAPIManager {
         }
 		CamelContext camelContext = new DefaultCamelContext(registry);
 		camelContext.setStreamCaching(true);
+		camelContext.getManagementStrategy()
+				.addEventNotifier(new UnauthorizedResponseNotifier(tokenGenerationProcessor));
+		ThreadPoolProfile threadPoolProfile = camelContext.getExecutorServiceManager().getDefaultThreadPoolProfile();
+		threadPoolProfile.setPoolSize(threadPoolSize);
+		threadPoolProfile.setMaxPoolSize(threadPoolMaxSize);
 		List<String> camelRoutesFilesArr = Arrays.asList(camelRoutesFileName.split(","));
-        RestTemplate restTemplate = new RestTemplate();
-        String camelRoutesBaseUrl = environment.getProperty("camel.routes.url");
-        ResponseEntity<Resource> responseEntity;
-        RoutesDefinition routes;
-        for (String camelRouteFileName : camelRoutesFilesArr) {
-			String camelRoutesUrl = camelRoutesBaseUrl + camelRouteFileName;
-			responseEntity = restTemplate.exchange(camelRoutesUrl, HttpMethod.GET, null,
-	                Resource.class);
-			routes = camelContext.loadRoutesDefinition(responseEntity.getBody().getInputStream());
-			camelContext.addRouteDefinitions(routes.getRoutes());
-		}
+		camelRouteLoader.loadRoutes(camelContext, camelRoutesFilesArr);
 		if(eventBusType.equals("vertx")) {
-			VertxComponent vertxComponent = new VertxComponent();
+			VertxComponent vertxComponent = new SentTimeVertxComponent();
 			vertxComponent.setVertx(vertx);
 			camelContext.addComponent("eventbus", vertxComponent);
 		} else if(eventBusType.equals("kafka")) {
@@ -153,6 +169,7 @@ public class MosipBridgeFactory extends MosipVerticleAPIManager {
 			KafkaConfiguration kafkaConfiguration = new KafkaConfiguration();
 			kafkaConfiguration.setGroupId(kafkaGroupId);
 			kafkaConfiguration.setBrokers(kafkaBootstrapServers);
+			kafkaConfiguration.setConsumersCount(kafkaConsumersCount);
 			kafkaComponent.setConfiguration(kafkaConfiguration);
 			camelContext.addComponent("eventbus", kafkaComponent);
 		} else
@@ -161,6 +178,12 @@ public class MosipBridgeFactory extends MosipVerticleAPIManager {
 
 		camelContext.start();
 		CamelBridge.create(vertx, new CamelBridgeOptions(camelContext)).start();
+		if (routesReloadIntervalMillis > 0) {
+			vertx.setPeriodic(routesReloadIntervalMillis, id -> vertx.executeBlocking(promise -> {
+				camelRouteLoader.reloadRoutes(camelContext);
+				promise.complete();
+			}, false, null));
+		}
 	}
 
 	@Override
@@ -0,0 +1,77 @@
+package io.mosip.registration.processor.camel.bridge.component;
+
+import java.util.Map;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.component.vertx.VertxComponent;
+import org.apache.camel.component.vertx.VertxEndpoint;
+import org.apache.camel.component.vertx.VertxHelper;
+import org.apache.camel.component.vertx.VertxProducer;
+import org.apache.camel.impl.DefaultAsyncProducer;
+import org.apache.camel.util.ExchangeHelper;
+
+import io.mosip.registration.processor.core.eventbus.VertxMosipEventBus;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+
+/**
+ * Vert.x event bus component of the camel bridge that sets the send time
+ * header of {@link VertxMosipEventBus} on the messages it forwards, so the
+ * receiving stage records the event bus hop like for a message sent by a
+ * stage. The camel vertx producer sends the body only.
+ *
+ * Request-reply exchanges are sent by the camel vertx producer as before.
+ */
+public class SentTimeVertxComponent extends VertxComponent {
+
+	@Override
+	protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters)
+			throws Exception {
+		VertxEndpoint endpoint = new VertxEndpoint(uri, this, remaining) {
+
+			@Override
+			public Producer createProducer() throws Exception {
+				return new SentTimeVertxProducer(this);
+			}
+		};
+		setProperties(endpoint, parameters);
+		return endpoint;
+	}
+
+	private static class SentTimeVertxProducer extends DefaultAsyncProducer {
+
+		private final VertxProducer replyProducer;
+
+		SentTimeVertxProducer(VertxEndpoint endpoint) {
+			super(endpoint);
+			this.replyProducer = new VertxProducer(endpoint);
+		}
+
+		@Override
+		public VertxEndpoint getEndpoint() {
+			return (VertxEndpoint) super.getEndpoint();
+		}
+
+		@Override
+		public boolean process(Exchange exchange, AsyncCallback callback) {
+			if (ExchangeHelper.isOutCapable(exchange))
+				return replyProducer.process(exchange, callback);
+
+			EventBus eventBus = getEndpoint().getEventBus();
+			Object body = VertxHelper.getVertxBody(exchange);
+			String address = getEndpoint().getAddress();
+			DeliveryOptions options = new DeliveryOptions().addHeader(VertxMosipEventBus.SENT_TIME_HEADER,
+					String.valueOf(System.currentTimeMillis()));
+			if (getEndpoint().isPubSub())
+				eventBus.publish(address, body, options);
+			else
+				eventBus.send(address, body, options);
+			callback.done(true);
+			return true;
+		}
+	}
+
+}
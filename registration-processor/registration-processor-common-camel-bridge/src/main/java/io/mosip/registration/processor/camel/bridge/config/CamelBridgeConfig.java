@@ -8,6 +8,7 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
 import io.mosip.registration.processor.camel.bridge.MosipBridgeFactory;
 import io.mosip.registration.processor.camel.bridge.processor.TokenGenerationProcessor;
+import io.mosip.registration.processor.camel.bridge.route.CamelRouteLoader;
 import org.springframework.context.annotation.Primary;
 
 @Configuration
@@ -24,6 +25,11 @@ public class CamelBridgeConfig {
 		return new TokenGenerationProcessor();
 	}
 
+	@Bean
+	public CamelRouteLoader camelRouteLoader() {
+		return new CamelRouteLoader();
+	}
+
 	@Bean
 	@Primary
 	public ObjectMapper getObjectMapper() {
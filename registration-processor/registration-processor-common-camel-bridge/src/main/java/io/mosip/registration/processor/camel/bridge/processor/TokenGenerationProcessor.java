@@ -1,14 +1,28 @@
 package io.mosip.registration.processor.camel.bridge.processor;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.registration.processor.core.constant.LoggerFileConstant;
 import io.mosip.registration.processor.core.logger.RegProcessorLogger;
 import io.mosip.registration.processor.rest.client.utils.RestApiClient;
 
 /**
+ * Sets the auth token cookie on the exchange. The token is fetched once and
+ * reused until shortly before the expiry in its "exp" claim, or for a fixed
+ * time when the token carries no readable expiry. A token rejected by the
+ * server is evicted through {@link #evictToken(Exchange)}, so the next
+ * exchange fetches a new one.
+ *
  * @author Pranav Kumar
  * 
  * @since 0.12.0
@@ -18,19 +32,86 @@ public class TokenGenerationProcessor implements Processor {
 	/** The reg proc logger. */
 	private static Logger regProcLogger = RegProcessorLogger.getLogger(TokenGenerationProcessor.class);
 
+	/** Exchange property holding the token set on the exchange. */
+	public static final String TOKEN_PROPERTY = "mosipAuthToken";
+
 	@Autowired
 	RestApiClient restApiClient;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	/** Seconds before the token expiry at which a new token is fetched. */
+	@Value("${camel.token.expiry.skew.seconds:30}")
+	private long expirySkewSeconds;
+
+	/** Seconds to reuse a token whose expiry cannot be read. */
+	@Value("${camel.token.default.ttl.seconds:300}")
+	private long defaultTtlSeconds;
+
+	private volatile String cachedToken;
+
+	private volatile long cachedTokenExpiryMillis;
+
 	@Override
 	public void process(Exchange exchange) throws Exception {
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
 				"", "TokenGenerationProcessor::process()::entry");
 
-		String token = restApiClient.getToken();
+		String token = getToken();
+		exchange.setProperty(TOKEN_PROPERTY, token);
 		exchange.getIn().setHeader("Cookie", token);
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
 				"", "TokenGenerationProcessor::process()::exit");
 
 	}
 
+	private String getToken() throws Exception {
+		String token = cachedToken;
+		if (token != null && System.currentTimeMillis() < cachedTokenExpiryMillis)
+			return token;
+		synchronized (this) {
+			if (cachedToken == null || System.currentTimeMillis() >= cachedTokenExpiryMillis) {
+				String newToken = restApiClient.getToken();
+				cachedTokenExpiryMillis = getExpiryMillis(newToken) - expirySkewSeconds * 1000;
+				cachedToken = newToken;
+			}
+			return cachedToken;
+		}
+	}
+
+	/**
+	 * Evicts the token used by the exchange, unless a new token was fetched
+	 * already.
+	 *
+	 * @param exchange
+	 *            the exchange whose request was rejected
+	 */
+	public synchronized void evictToken(Exchange exchange) {
+		String token = exchange.getProperty(TOKEN_PROPERTY, String.class);
+		if (token != null && token.equals(cachedToken)) {
+			cachedToken = null;
+			regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+					"", "TokenGenerationProcessor::evictToken():: token rejected, fetching a new one");
+		}
+	}
+
+	/**
+	 * Reads the "exp" claim of the jwt in the cookie value.
+	 */
+	private long getExpiryMillis(String token) {
+		try {
+			String jwt = token.substring(token.indexOf('=') + 1);
+			String[] parts = jwt.split("\\.");
+			JsonNode claims = objectMapper.readTree(
+					new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+			if (claims.hasNonNull("exp"))
+				return claims.get("exp").asLong() * 1000;
+		} catch (Exception e) {
+			regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+					"", "TokenGenerationProcessor::getExpiryMillis():: " + e.getMessage());
+		}
+		return System.currentTimeMillis() + (defaultTtlSeconds + expirySkewSeconds) * 1000;
+	}
+
 }
@@ -0,0 +1,66 @@
+package io.mosip.registration.processor.camel.bridge.processor;
+
+import java.util.EventObject;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.http.common.HttpOperationFailedException;
+import org.apache.camel.management.event.ExchangeSentEvent;
+import org.apache.camel.support.EventNotifierSupport;
+
+/**
+ * Evicts the cached auth token of {@link TokenGenerationProcessor} when an
+ * endpoint answers with 401, whether the http endpoint throws on failure or
+ * returns the response code. The routes come from the config server, so the
+ * check is done on the sent events of the context instead of in the routes.
+ */
+public class UnauthorizedResponseNotifier extends EventNotifierSupport {
+
+	private static final int UNAUTHORIZED = 401;
+
+	private final TokenGenerationProcessor tokenGenerationProcessor;
+
+	public UnauthorizedResponseNotifier(TokenGenerationProcessor tokenGenerationProcessor) {
+		this.tokenGenerationProcessor = tokenGenerationProcessor;
+		setIgnoreCamelContextEvents(true);
+		setIgnoreRouteEvents(true);
+		setIgnoreServiceEvents(true);
+		setIgnoreExchangeCreatedEvent(true);
+		setIgnoreExchangeCompletedEvent(true);
+		setIgnoreExchangeFailedEvents(true);
+		setIgnoreExchangeRedeliveryEvents(true);
+		setIgnoreExchangeSendingEvents(true);
+	}
+
+	@Override
+	public boolean isEnabled(EventObject event) {
+		return event instanceof ExchangeSentEvent;
+	}
+
+	@Override
+	public void notify(EventObject event) {
+		Exchange exchange = ((ExchangeSentEvent) event).getExchange();
+		if (isUnauthorized(exchange))
+			tokenGenerationProcessor.evictToken(exchange);
+	}
+
+	@Override
+	protected void doStart() throws Exception {
+		// nothing to start
+	}
+
+	@Override
+	protected void doStop() throws Exception {
+		// nothing to stop
+	}
+
+	private static boolean isUnauthorized(Exchange exchange) {
+		HttpOperationFailedException failure = exchange.getException(HttpOperationFailedException.class);
+		if (failure != null)
+			return failure.getStatusCode() == UNAUTHORIZED;
+		Message response = exchange.hasOut() ? exchange.getOut() : exchange.getIn();
+		Integer responseCode = response.getHeader(Exchange.HTTP_RESPONSE_CODE, Integer.class);
+		return responseCode != null && responseCode == UNAUTHORIZED;
+	}
+
+}
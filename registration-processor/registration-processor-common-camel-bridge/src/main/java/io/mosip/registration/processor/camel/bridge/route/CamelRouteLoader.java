@@ -0,0 +1,203 @@
+package io.mosip.registration.processor.camel.bridge.route;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.model.FromDefinition;
+import org.apache.camel.model.ProcessorDefinitionHelper;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.model.SendDefinition;
+import org.apache.camel.model.ToDynamicDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.processor.core.constant.LoggerFileConstant;
+import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+
+/**
+ * Loads the camel route definitions from the config server into a camel
+ * context and keeps them up to date.
+ *
+ * Every downloaded route file is also written to a local cache directory, so
+ * the bridge can still start with the last known routes when the config server
+ * is unreachable. {@link #reloadRoutes(CamelContext)} downloads the files again
+ * and replaces the routes of a file only when its content changed.
+ *
+ * Stream caching stays enabled on the context for routes that call http
+ * endpoints, but is switched off for routes that only move MessageDTO json
+ * between event bus addresses, unless the route sets streamCache itself.
+ */
+public class CamelRouteLoader {
+
+	/** The reg proc logger. */
+	private static Logger regProcLogger = RegProcessorLogger.getLogger(CamelRouteLoader.class);
+
+	private static final String EVENTBUS_SCHEME = "eventbus:";
+
+	@Value("${camel.routes.url}")
+	private String camelRoutesBaseUrl;
+
+	@Value("${camel.routes.cache.dir:${java.io.tmpdir}/camel-routes}")
+	private String cacheDirectory;
+
+	private final RestTemplate restTemplate = new RestTemplate();
+
+	/** The routes currently in the context, by route file name. */
+	private final Map<String, LoadedRoutes> loadedRoutes = new ConcurrentHashMap<>();
+
+	/**
+	 * Loads the route files into the context, falling back to the local copy of
+	 * a file when it cannot be downloaded.
+	 *
+	 * @param camelContext
+	 *            the camel context
+	 * @param camelRouteFileNames
+	 *            the route file names
+	 * @throws Exception
+	 *             if a route file is neither downloadable nor cached, or invalid
+	 */
+	public synchronized void loadRoutes(CamelContext camelContext, List<String> camelRouteFileNames)
+			throws Exception {
+		for (String camelRouteFileName : camelRouteFileNames) {
+			byte[] routesXml;
+			try {
+				routesXml = download(camelRouteFileName);
+			} catch (RestClientException e) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+						camelRouteFileName, "CamelRouteLoader::loadRoutes():: download failed, using cached routes "
+								+ e.getMessage());
+				routesXml = Files.readAllBytes(getCacheFile(camelRouteFileName));
+			}
+			load(camelContext, camelRouteFileName, routesXml);
+		}
+	}
+
+	/**
+	 * Downloads the loaded route files again and replaces the routes of every
+	 * file whose content changed. A file that fails to download or load keeps
+	 * its current routes.
+	 *
+	 * @param camelContext
+	 *            the camel context
+	 */
+	public synchronized void reloadRoutes(CamelContext camelContext) {
+		for (Map.Entry<String, LoadedRoutes> entry : loadedRoutes.entrySet()) {
+			String camelRouteFileName = entry.getKey();
+			try {
+				byte[] routesXml = download(camelRouteFileName);
+				if (Arrays.equals(digest(routesXml), entry.getValue().digest))
+					continue;
+				load(camelContext, camelRouteFileName, routesXml);
+				regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+						camelRouteFileName, "CamelRouteLoader::reloadRoutes():: routes reloaded");
+			} catch (Exception e) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+						camelRouteFileName, "CamelRouteLoader::reloadRoutes():: keeping current routes "
+								+ ExceptionUtils.getStackTrace(e));
+			}
+		}
+	}
+
+	private void load(CamelContext camelContext, String camelRouteFileName, byte[] routesXml) throws Exception {
+		RoutesDefinition routes = camelContext.loadRoutesDefinition(new ByteArrayInputStream(routesXml));
+		for (RouteDefinition route : routes.getRoutes()) {
+			if (route.getStreamCache() == null && carriesOnlyEventBusMessages(route))
+				route.setStreamCache(Boolean.FALSE.toString());
+		}
+		LoadedRoutes previous = loadedRoutes.get(camelRouteFileName);
+		if (previous != null)
+			camelContext.removeRouteDefinitions(previous.routes);
+		try {
+			camelContext.addRouteDefinitions(routes.getRoutes());
+		} catch (Exception e) {
+			if (previous != null)
+				camelContext.addRouteDefinitions(previous.routes);
+			throw e;
+		}
+		loadedRoutes.put(camelRouteFileName, new LoadedRoutes(routes.getRoutes(), digest(routesXml)));
+		writeCache(camelRouteFileName, routesXml);
+	}
+
+	private byte[] download(String camelRouteFileName) {
+		byte[] routesXml = restTemplate.getForObject(camelRoutesBaseUrl + camelRouteFileName, byte[].class);
+		if (routesXml == null)
+			throw new RestClientException("empty route file " + camelRouteFileName);
+		return routesXml;
+	}
+
+	private void writeCache(String camelRouteFileName, byte[] routesXml) {
+		try {
+			Path cacheFile = getCacheFile(camelRouteFileName);
+			Files.createDirectories(cacheFile.getParent());
+			Path tempFile = Files.createTempFile(cacheFile.getParent(), camelRouteFileName, ".tmp");
+			Files.write(tempFile, routesXml);
+			Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+					camelRouteFileName, "CamelRouteLoader::writeCache():: " + e.getMessage());
+		}
+	}
+
+	private Path getCacheFile(String camelRouteFileName) {
+		return Paths.get(cacheDirectory, camelRouteFileName);
+	}
+
+	/**
+	 * Returns true if the route only reads from and writes to event bus
+	 * addresses, i.e. only carries small MessageDTO bodies.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static boolean carriesOnlyEventBusMessages(RouteDefinition route) {
+		for (FromDefinition from : route.getInputs()) {
+			if (!isEventBusUri(from.getUri()))
+				return false;
+		}
+		if (ProcessorDefinitionHelper.filterTypeInOutputs(route.getOutputs(), ToDynamicDefinition.class).hasNext())
+			return false;
+		Iterator<SendDefinition> sends = ProcessorDefinitionHelper.filterTypeInOutputs(route.getOutputs(),
+				SendDefinition.class);
+		while (sends.hasNext()) {
+			if (!isEventBusUri(sends.next().getUri()))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean isEventBusUri(String uri) {
+		return uri != null && uri.startsWith(EVENTBUS_SCHEME);
+	}
+
+	private static byte[] digest(byte[] data) throws NoSuchAlgorithmException {
+		return MessageDigest.getInstance("SHA-256").digest(data);
+	}
+
+	/** The routes loaded from one route file. */
+	private static class LoadedRoutes {
+
+		private final List<RouteDefinition> routes;
+
+		private final byte[] digest;
+
+		LoadedRoutes(List<RouteDefinition> routes, byte[] digest) {
+			this.routes = routes;
+			this.digest = digest;
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+package io.mosip.registration.processor.camel.bridge.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.http.common.HttpOperationFailedException;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.DefaultExchange;
+import org.apache.camel.management.event.ExchangeSentEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.registration.processor.rest.client.utils.RestApiClient;
+
+public class TokenGenerationProcessorTest {
+
+	private TokenGenerationProcessor tokenGenerationProcessor = new TokenGenerationProcessor();
+
+	private UnauthorizedResponseNotifier unauthorizedResponseNotifier = new UnauthorizedResponseNotifier(
+			tokenGenerationProcessor);
+
+	private RestApiClient restApiClient = mock(RestApiClient.class);
+
+	private CamelContext camelContext = new DefaultCamelContext();
+
+	@Before
+	public void setup() {
+		ReflectionTestUtils.setField(tokenGenerationProcessor, "restApiClient", restApiClient);
+		ReflectionTestUtils.setField(tokenGenerationProcessor, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(tokenGenerationProcessor, "expirySkewSeconds", 30L);
+		ReflectionTestUtils.setField(tokenGenerationProcessor, "defaultTtlSeconds", 300L);
+	}
+
+	@Test
+	public void testTokenReusedUntilExpiry() throws Exception {
+		String token = token(3600);
+		when(restApiClient.getToken()).thenReturn(token);
+
+		Exchange first = process();
+		Exchange second = process();
+
+		verify(restApiClient, times(1)).getToken();
+		assertEquals(token, first.getIn().getHeader("Cookie"));
+		assertEquals(token, second.getIn().getHeader("Cookie"));
+	}
+
+	@Test
+	public void testTokenFetchedAgainWithinExpirySkew() throws Exception {
+		when(restApiClient.getToken()).thenReturn(token(10));
+
+		process();
+		process();
+
+		verify(restApiClient, times(2)).getToken();
+	}
+
+	@Test
+	public void testTokenEvictedOnUnauthorizedResponse() throws Exception {
+		String rejectedToken = token(3600);
+		String newToken = token(7200);
+		when(restApiClient.getToken()).thenReturn(rejectedToken, newToken);
+
+		Exchange rejected = process();
+		rejected.setException(new HttpOperationFailedException("http://localhost/auth", 401, "Unauthorized", null,
+				null, null));
+		unauthorizedResponseNotifier.notify(new ExchangeSentEvent(rejected, mock(Endpoint.class), 10));
+		Exchange retried = process();
+
+		verify(restApiClient, times(2)).getToken();
+		assertEquals(newToken, retried.getIn().getHeader("Cookie"));
+	}
+
+	@Test
+	public void testTokenEvictedOnUnauthorizedResponseCode() throws Exception {
+		when(restApiClient.getToken()).thenReturn(token(3600), token(7200));
+
+		Exchange rejected = process();
+		rejected.getOut().setHeader(Exchange.HTTP_RESPONSE_CODE, 401);
+		unauthorizedResponseNotifier.notify(new ExchangeSentEvent(rejected, mock(Endpoint.class), 10));
+		process();
+
+		verify(restApiClient, times(2)).getToken();
+	}
+
+	@Test
+	public void testTokenKeptOnOtherFailures() throws Exception {
+		when(restApiClient.getToken()).thenReturn(token(3600));
+
+		Exchange failed = process();
+		failed.setException(new HttpOperationFailedException("http://localhost/auth", 500, "Server Error", null,
+				null, null));
+		unauthorizedResponseNotifier.notify(new ExchangeSentEvent(failed, mock(Endpoint.class), 10));
+		process();
+
+		verify(restApiClient, times(1)).getToken();
+	}
+
+	@Test
+	public void testNewerTokenKeptWhenOldTokenRejected() throws Exception {
+		when(restApiClient.getToken()).thenReturn(token(10), token(3600));
+
+		// the first token is within the expiry skew, so the second exchange
+		// fetches a new token before the first one is rejected
+		Exchange rejected = process();
+		process();
+		rejected.setException(new HttpOperationFailedException("http://localhost/auth", 401, "Unauthorized", null,
+				null, null));
+		unauthorizedResponseNotifier.notify(new ExchangeSentEvent(rejected, mock(Endpoint.class), 10));
+		process();
+
+		verify(restApiClient, times(2)).getToken();
+	}
+
+	private Exchange process() throws Exception {
+		Exchange exchange = new DefaultExchange(camelContext);
+		tokenGenerationProcessor.process(exchange);
+		return exchange;
+	}
+
+	private static String token(long expiresInSeconds) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+		String claims = encoder.encodeToString(
+				("{\"exp\":" + (System.currentTimeMillis() / 1000 + expiresInSeconds) + ",\"nonce\":\""
+						+ System.nanoTime() + "\"}").getBytes(StandardCharsets.UTF_8));
+		return "Authorization=" + header + "." + claims + ".signature";
+	}
+
+}
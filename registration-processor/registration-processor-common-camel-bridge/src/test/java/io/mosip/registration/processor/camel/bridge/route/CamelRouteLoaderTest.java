@@ -0,0 +1,135 @@
+package io.mosip.registration.processor.camel.bridge.route;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.ToDefinition;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+public class CamelRouteLoaderTest {
+
+	private static final String ROUTES_URL = "http://localhost/config/";
+
+	private static final String ROUTE_FILE = "routes.xml";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private CamelRouteLoader camelRouteLoader;
+
+	private RestTemplate restTemplate;
+
+	private CamelContext camelContext = new DefaultCamelContext();
+
+	@Before
+	public void setup() {
+		camelRouteLoader = createLoader();
+		restTemplate = (RestTemplate) ReflectionTestUtils.getField(camelRouteLoader, "restTemplate");
+	}
+
+	@Test
+	public void testCachedRoutesUsedWhenConfigServerDown() throws Exception {
+		mockRouteFile(routes(eventBusRoute("route-1", "eventbus:packet-validator-bus-in")));
+		camelRouteLoader.loadRoutes(camelContext, Collections.singletonList(ROUTE_FILE));
+
+		CamelRouteLoader restartedLoader = createLoader();
+		RestTemplate unavailable = (RestTemplate) ReflectionTestUtils.getField(restartedLoader, "restTemplate");
+		when(unavailable.getForObject(ROUTES_URL + ROUTE_FILE, byte[].class))
+				.thenThrow(new ResourceAccessException("connection refused"));
+		CamelContext restartedContext = new DefaultCamelContext();
+		restartedLoader.loadRoutes(restartedContext, Collections.singletonList(ROUTE_FILE));
+
+		assertNotNull(restartedContext.getRouteDefinition("route-1"));
+	}
+
+	@Test(expected = Exception.class)
+	public void testLoadFailsWithoutCachedRoutes() throws Exception {
+		when(restTemplate.getForObject(ROUTES_URL + ROUTE_FILE, byte[].class))
+				.thenThrow(new ResourceAccessException("connection refused"));
+
+		camelRouteLoader.loadRoutes(camelContext, Collections.singletonList(ROUTE_FILE));
+	}
+
+	@Test
+	public void testRoutesReplacedOnlyWhenChanged() throws Exception {
+		mockRouteFile(routes(eventBusRoute("route-1", "eventbus:packet-validator-bus-in")));
+		camelRouteLoader.loadRoutes(camelContext, Collections.singletonList(ROUTE_FILE));
+		RouteDefinition loaded = camelContext.getRouteDefinition("route-1");
+
+		camelRouteLoader.reloadRoutes(camelContext);
+		assertSame(loaded, camelContext.getRouteDefinition("route-1"));
+
+		mockRouteFile(routes(eventBusRoute("route-1", "eventbus:osi-bus-in")));
+		camelRouteLoader.reloadRoutes(camelContext);
+
+		RouteDefinition reloaded = camelContext.getRouteDefinition("route-1");
+		assertEquals(1, camelContext.getRouteDefinitions().size());
+		assertEquals("eventbus:osi-bus-in", ((ToDefinition) reloaded.getOutputs().get(0)).getUri());
+	}
+
+	@Test
+	public void testInvalidRoutesKeepCurrentRoutes() throws Exception {
+		mockRouteFile(routes(eventBusRoute("route-1", "eventbus:packet-validator-bus-in")));
+		camelRouteLoader.loadRoutes(camelContext, Collections.singletonList(ROUTE_FILE));
+		RouteDefinition loaded = camelContext.getRouteDefinition("route-1");
+
+		mockRouteFile("<routes");
+		camelRouteLoader.reloadRoutes(camelContext);
+
+		assertSame(loaded, camelContext.getRouteDefinition("route-1"));
+	}
+
+	@Test
+	public void testStreamCachingOffOnlyForEventBusRoutes() throws Exception {
+		mockRouteFile(routes(eventBusRoute("eventbus-route", "eventbus:packet-validator-bus-in")
+				+ "<route id=\"http-route\"><from uri=\"eventbus:packet-validator-bus-out\"/>"
+				+ "<toD uri=\"http://localhost/print\"/></route>"
+				+ "<route id=\"cached-route\" streamCache=\"true\"><from uri=\"eventbus:osi-bus-out\"/>"
+				+ "<to uri=\"eventbus:demo-dedupe-bus-in\"/></route>"));
+
+		camelRouteLoader.loadRoutes(camelContext, Collections.singletonList(ROUTE_FILE));
+
+		assertEquals("false", camelContext.getRouteDefinition("eventbus-route").getStreamCache());
+		assertNull(camelContext.getRouteDefinition("http-route").getStreamCache());
+		assertEquals("true", camelContext.getRouteDefinition("cached-route").getStreamCache());
+	}
+
+	private CamelRouteLoader createLoader() {
+		CamelRouteLoader loader = new CamelRouteLoader();
+		ReflectionTestUtils.setField(loader, "camelRoutesBaseUrl", ROUTES_URL);
+		ReflectionTestUtils.setField(loader, "cacheDirectory", temporaryFolder.getRoot().getAbsolutePath());
+		ReflectionTestUtils.setField(loader, "restTemplate", mock(RestTemplate.class));
+		return loader;
+	}
+
+	private void mockRouteFile(String routesXml) {
+		when(restTemplate.getForObject(ROUTES_URL + ROUTE_FILE, byte[].class))
+				.thenReturn(routesXml.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String routes(String routes) {
+		return "<routes xmlns=\"http://camel.apache.org/schema/spring\">" + routes + "</routes>";
+	}
+
+	private static String eventBusRoute(String id, String to) {
+		return "<route id=\"" + id + "\"><from uri=\"eventbus:packet-receiver-bus-out\"/><to uri=\"" + to
+				+ "\"/></route>";
+	}
+
+}
@@ -1,15 +1,17 @@
 package io.mosip.registration.processor.core.abstractverticle;
 
+import javax.sql.DataSource;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 import io.mosip.registration.processor.core.constant.HealthConstant;
+import io.mosip.registration.processor.core.metrics.StageMetricsRegistry;
 import io.mosip.registration.processor.core.util.DigitalSignatureUtility;
+import io.mosip.registration.processor.core.util.JsonUtil;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.Json;
@@ -35,6 +37,10 @@ public abstract class MosipVerticleAPIManager extends MosipVerticleManager {
 	@Autowired
 	ObjectMapper objectMapper;
 
+	/** The connection pool of the stage, used by the database health check. */
+	@Autowired(required = false)
+	DataSource dataSource;
+
 	/**
 	 * This method creates a body handler for the routes
 	 *
@@ -62,8 +68,11 @@ public abstract class MosipVerticleAPIManager extends MosipVerticleManager {
 	public void configureHealthCheckEndpoint(Vertx vertx, Router router, final String servletPath,
 			String consumeAddress, String sendAddress) {
 		StageHealthCheckHandler healthCheckHandler = new StageHealthCheckHandler(vertx, null, objectMapper,
-				environment);
+				environment, dataSource);
 		router.get(servletPath + HealthConstant.HEALTH_ENDPOINT).handler(healthCheckHandler);
+		router.get(servletPath + HealthConstant.PROMETHEUS_ENDPOINT)
+				.handler(ctx -> ctx.response().putHeader("content-type", StageMetricsRegistry.PROMETHEUS_CONTENT_TYPE)
+						.end(StageMetricsRegistry.scrape()));
 		if (servletPath.contains("packetreceiver") || servletPath.contains("uploader")) {
 			healthCheckHandler.register("virusscanner", healthCheckHandler::virusScanHealthChecker);
 			healthCheckHandler.register(
@@ -111,6 +120,7 @@ public abstract class MosipVerticleAPIManager extends MosipVerticleManager {
 
 		healthCheckHandler.register("diskSpace", healthCheckHandler::dispSpaceHealthChecker);
 		healthCheckHandler.register("db", healthCheckHandler::databaseHealthChecker);
+		healthCheckHandler.start();
 	}
 
 	private boolean checkServletPathContainsCoreProcessor(String servletPath) {
@@ -150,12 +160,10 @@ public abstract class MosipVerticleAPIManager extends MosipVerticleManager {
 	 */
 	public void setResponseWithDigitalSignature(RoutingContext ctx, Object object, String contentType) {
 		HttpServerResponse response = ctx.response();
-	Gson gson=new GsonBuilder().serializeNulls().create();
+		String body = JsonUtil.objectToJsonWithNulls(object);
 		if (isEnabled)
-			response.putHeader("Response-Signature",
-					digitalSignatureUtility.getDigitalSignature(gson.toJson(object)));
+			response.putHeader("Response-Signature", digitalSignatureUtility.getDigitalSignature(body));
 		response.putHeader("content-type", contentType).putHeader("Access-Control-Allow-Origin", "*")
-				.putHeader("Access-Control-Allow-Methods", "GET, POST").setStatusCode(200)
-				.end(gson.toJson(object));
+				.putHeader("Access-Control-Allow-Methods", "GET, POST").setStatusCode(200).end(body);
 	}
 }
\ No newline at end of file
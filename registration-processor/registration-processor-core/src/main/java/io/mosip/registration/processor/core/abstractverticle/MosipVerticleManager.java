@@ -5,6 +5,7 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,13 +13,17 @@ import org.springframework.beans.factory.annotation.Value;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.UrlXmlConfig;
 
+import io.mosip.registration.processor.core.eventbus.EmbeddedVertx;
 import io.mosip.registration.processor.core.eventbus.MosipEventBusFactory;
 import io.mosip.registration.processor.core.exception.DeploymentFailureException;
 import io.mosip.registration.processor.core.exception.UnsupportedEventBusTypeException;
 import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
+import io.mosip.registration.processor.core.metrics.StageMetricsRegistry;
 import io.mosip.registration.processor.core.spi.eventbus.EventBusManager;
 import io.vertx.core.AbstractVerticle;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Handler;
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -51,6 +56,10 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 	@Value("${eventbus.port}")
 	private String eventBusPort;
 
+	/** Deploy on the shared in-JVM vertx instead of joining the cluster. */
+	@Value("${mosip.regproc.eventbus.embedded:false}")
+	private boolean embeddedEventBus;
+
 	@Autowired
 	private MosipEventBusFactory mosipEventBusFactory;
 
@@ -75,6 +84,8 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 	 */
 	@Override
 	public MosipEventBus getEventBus(Object verticleName, String clusterManagerUrl, int instanceNumber) {
+		if (embeddedEventBus)
+			return getEmbeddedEventBus(verticleName, instanceNumber);
 		CompletableFuture<Vertx> eventBus = new CompletableFuture<>();
 		MosipEventBus mosipEventBus = null;
 		Config config;
@@ -114,6 +125,23 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 		return mosipEventBus;
 	}
 
+	/**
+	 * Deploys the verticle on the shared in-JVM vertx, with its own worker pool
+	 * so that stages running together do not share worker threads.
+	 */
+	private MosipEventBus getEmbeddedEventBus(Object verticleName, int instanceNumber) {
+		Vertx vertx = EmbeddedVertx.get();
+		vertx.deployVerticle((Verticle) verticleName,
+				new DeploymentOptions().setWorker(true).setWorkerPoolSize(instanceNumber)
+						.setWorkerPoolName(verticleName.getClass().getSimpleName()));
+		logger.debug(verticleName + " deployed on the embedded event bus");
+		try {
+			return mosipEventBusFactory.getEventBus(vertx, getEventBusType());
+		} catch (UnsupportedEventBusTypeException e) {
+			throw new DeploymentFailureException(PlatformErrorMessages.RPR_CMB_DEPLOYMENT_FAILURE.getMessage(), e);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -125,12 +153,7 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 			MessageBusAddress toAddress) {
 		mosipEventBus.consumeAndSend(fromAddress, toAddress, (msg, handler) -> {
 			logger.debug("received from " + fromAddress.toString() + " " + msg.getBody());
-			vertx.executeBlocking(future -> {
-				JsonObject jsonObject = (JsonObject) msg.getBody();
-				MessageDTO messageDTO = jsonObject.mapTo(MessageDTO.class);
-				MessageDTO result = process(messageDTO);
-				future.complete(result);
-			}, false, handler);
+			processEvent(msg, handler);
 		});
 	}
 
@@ -159,15 +182,41 @@ public abstract class MosipVerticleManager extends AbstractVerticle
 	public void consume(MosipEventBus mosipEventBus, MessageBusAddress fromAddress) {
 		mosipEventBus.consume(fromAddress, (msg, handler) -> {
 				logger.debug("Received from " + fromAddress.toString() + " " + msg.getBody());
-				vertx.executeBlocking(future -> {
-					JsonObject jsonObject = (JsonObject) msg.getBody();
-					MessageDTO messageDTO = jsonObject.mapTo(MessageDTO.class);
-					MessageDTO result = process(messageDTO);
-					future.complete(result);
-				}, false, handler);
+				processEvent(msg, handler);
 			});
 	}
 
+	/**
+	 * Runs process() for a received event on a worker thread and records the
+	 * queue wait, processing time, outcome and in-flight count of the stage.
+	 *
+	 * @param msg
+	 *            the received event
+	 * @param handler
+	 *            the handler to complete with the processed message
+	 */
+	private void processEvent(EventDTO msg, Handler<AsyncResult<MessageDTO>> handler) {
+		String stageName = getClass().getSimpleName();
+		long receivedTime = System.nanoTime();
+		vertx.executeBlocking(future -> {
+			long startTime = System.nanoTime();
+			StageMetricsRegistry.recordQueueWait(stageName, startTime - receivedTime);
+			AtomicInteger inFlight = StageMetricsRegistry.inFlight(stageName);
+			inFlight.incrementAndGet();
+			boolean success = false;
+			try {
+				JsonObject jsonObject = (JsonObject) msg.getBody();
+				MessageDTO messageDTO = jsonObject.mapTo(MessageDTO.class);
+				MessageDTO result = process(messageDTO);
+				success = result != null && !Boolean.TRUE.equals(result.getInternalError());
+				future.complete(result);
+			} finally {
+				inFlight.decrementAndGet();
+				StageMetricsRegistry.recordProcess(stageName, System.nanoTime() - startTime, success);
+			}
+		}, false, handler);
+	}
+
 	public Integer getEventBusPort() {
 		return Integer.parseInt(eventBusPort);
 	}
@@ -2,25 +2,27 @@ package io.mosip.registration.processor.core.abstractverticle;
 
 import static io.vertx.ext.healthchecks.impl.StatusHelper.isUp;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.security.PrivilegedExceptionAction;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.jms.BytesMessage;
+import javax.jms.JMSException;
 import javax.jms.MessageConsumer;
 import javax.jms.MessageProducer;
 import javax.jms.Queue;
 import javax.jms.Session;
+import javax.sql.DataSource;
 
 import org.apache.activemq.ActiveMQConnectionFactory;
 import org.apache.activemq.command.ActiveMQBytesMessage;
@@ -50,6 +52,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 //import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
@@ -63,9 +66,19 @@ import io.vertx.ext.healthchecks.impl.HealthChecksImpl;
 import io.vertx.ext.web.RoutingContext;
 import xyz.capybara.clamav.ClamavClient;
 import xyz.capybara.clamav.commands.scan.result.ScanResult;
-import xyz.capybara.clamav.exceptions.ClamavException;
 
 /**
+ * Health check handler of a stage.
+ *
+ * Registered checks are run on a worker pool of their own on a fixed schedule,
+ * each with a timeout, so a hanging check does not hold a thread of the stage
+ * worker pool. The schedule is started by {@link #start()} once the checks are
+ * registered. Probes are answered from the last result of every check, only a
+ * probe that arrives before the first run of a check waits for it. The queue
+ * check keeps one broker connection open across runs, the database check uses
+ * the connection pool of the stage when there is one and the virus scanner
+ * check reuses one client, so frequent probes do not open new connections.
+ *
  * @author Mukul Puspam
  *
  */
@@ -97,6 +110,37 @@ public class StageHealthCheckHandler implements HealthCheckHandler {
 
 	private static final String DEFAULT_QUERY = "SELECT 1";
 
+	private static final long DEFAULT_REFRESH_INTERVAL = 30000;
+
+	private static final long DEFAULT_CHECK_TIMEOUT = 10000;
+
+	private static final long DEFAULT_WORKER_POOL_SIZE = 4;
+
+	private static final String WORKER_POOL_NAME = "stage-health-check";
+
+	private static final byte[] VIRUS_SCAN_TEST_DATA = "virus scan test".getBytes();
+
+	private final Vertx vertx;
+
+	private final DataSource dataSource;
+
+	private final long checkTimeoutMillis;
+
+	private final long refreshIntervalMillis;
+
+	/** The worker pool the checks run on, separate from the stage worker pool. */
+	private final WorkerExecutor workerExecutor;
+
+	/** Whether the checks are run on the schedule. */
+	private boolean started;
+
+	/** The registered checks by name, with their last result. */
+	private final Map<String, CachedCheck> checks = new ConcurrentHashMap<>();
+
+	private ActiveMQConnectionFactory activeMQConnectionFactory;
+
+	private javax.jms.Connection queueConnection;
+
 	private StageHealthCheckHandler.JSONResultBuilder resultBuilder;
 	/**
 	 * The field for Logger
@@ -113,6 +157,21 @@ public class StageHealthCheckHandler implements HealthCheckHandler {
 	 */
 	public StageHealthCheckHandler(Vertx vertx, AuthProvider provider, ObjectMapper objectMapper,
 			Environment environment) {
+		this(vertx, provider, objectMapper, environment, null);
+	}
+
+	/**
+	 * @param vertx
+	 * @param provider
+	 * @param objectMapper
+	 * @param environment
+	 * @param dataSource   the connection pool of the stage, null to connect with
+	 *                     the jdbc properties
+	 */
+	public StageHealthCheckHandler(Vertx vertx, AuthProvider provider, ObjectMapper objectMapper,
+			Environment environment, DataSource dataSource) {
+		this.vertx = vertx;
+		this.dataSource = dataSource;
 		this.healthChecks = new HealthChecksImpl(vertx);
 		this.authProvider = provider;
 		this.objectMapper = objectMapper;
@@ -127,45 +186,143 @@ public class StageHealthCheckHandler implements HealthCheckHandler {
 		this.queueBrokerUrl = environment.getProperty(HealthConstant.QUEUE_BROKER_URL);
 		this.currentWorkingDirPath = new File(System.getProperty(HealthConstant.CURRENT_WORKING_DIRECTORY));
 		this.resultBuilder = new StageHealthCheckHandler.JSONResultBuilder();
+		this.checkTimeoutMillis = getLongProperty(environment, HealthConstant.CHECK_TIMEOUT, DEFAULT_CHECK_TIMEOUT);
+		this.refreshIntervalMillis = getLongProperty(environment, HealthConstant.REFRESH_INTERVAL,
+				DEFAULT_REFRESH_INTERVAL);
+		this.workerExecutor = vertx.createSharedWorkerExecutor(WORKER_POOL_NAME,
+				(int) Math.max(getLongProperty(environment, HealthConstant.WORKER_POOL_SIZE, DEFAULT_WORKER_POOL_SIZE),
+						1));
+	}
+
+	/**
+	 * Runs the registered checks and schedules them to run again every refresh
+	 * interval. Checks registered afterwards are run when they are registered.
+	 */
+	public synchronized void start() {
+		if (started)
+			return;
+		started = true;
+		checks.values().forEach(this::refresh);
+		if (refreshIntervalMillis > 0)
+			vertx.setPeriodic(refreshIntervalMillis, id -> checks.values().forEach(this::refresh));
 	}
 
 	@Override
 	public StageHealthCheckHandler register(String name, Handler<Promise<Status>> procedure) {
-		healthChecks.register(name, procedure);
-		return this;
+		return register(name, checkTimeoutMillis, procedure);
 	}
 
 	@Override
 	public StageHealthCheckHandler register(String name, long timeout, Handler<Promise<Status>> procedure) {
-		healthChecks.register(name, timeout, procedure);
+		CachedCheck check = new CachedCheck(procedure, timeout);
+		checks.put(name, check);
+		healthChecks.register(name, timeout, promise -> {
+			Status status = check.status;
+			if (status != null)
+				promise.complete(status);
+			else
+				refresh(check).onComplete(result -> promise.complete(result.result()));
+		});
+		synchronized (this) {
+			if (started)
+				refresh(check);
+		}
 		return this;
 	}
 
+	/**
+	 * Runs a check on the health check worker pool unless it is already
+	 * running, and caches its result. A check that does not complete within its timeout is cached as
+	 * down, and is not started again until the running invocation returns.
+	 *
+	 * @param check the check
+	 * @return the future result of the check
+	 */
+	private synchronized Future<Status> refresh(CachedCheck check) {
+		if (check.pending != null)
+			return check.pending;
+		if (check.running)
+			return Future.succeededFuture(check.status);
+		Promise<Status> result = Promise.promise();
+		check.pending = result.future();
+		check.running = true;
+		long timerId = vertx.setTimer(check.timeout, id -> result.tryComplete(Status.KO(resultBuilder.create()
+				.add(HealthConstant.ERROR, "Health check timed out after " + check.timeout + " ms").build())));
+		workerExecutor.<Status>executeBlocking(check.procedure, false, ar -> {
+			vertx.cancelTimer(timerId);
+			synchronized (this) {
+				check.running = false;
+			}
+			result.tryComplete(ar.succeeded() ? ar.result()
+					: Status.KO(resultBuilder.create().add(HealthConstant.ERROR, ar.cause().getMessage()).build()));
+		});
+		result.future().onComplete(ar -> {
+			synchronized (this) {
+				check.status = ar.result();
+				check.pending = null;
+			}
+		});
+		return result.future();
+	}
+
 	/**
 	 * @param promise
 	 */
 	public void queueHealthChecker(Promise<Status> promise) {
 		try {
-			ActiveMQConnectionFactory activeMQConnectionFactory = new ActiveMQConnectionFactory(queueUsername,
-					queuePassword, queueBrokerUrl);
-			javax.jms.Connection connection = activeMQConnectionFactory.createConnection();
-			connection.start();
+			javax.jms.Connection connection = getQueueConnection();
 			Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
-			Queue destination = session.createQueue(HealthConstant.QUEUE_ADDRESS);
-			MessageProducer messageProducer = session.createProducer(destination);
-			BytesMessage byteMessage = session.createBytesMessage();
-			byteMessage.writeObject((HealthConstant.PING).getBytes());
-			messageProducer.send(byteMessage);
-			MessageConsumer messageConsumer = session.createConsumer(destination);
-			String res = new String(((ActiveMQBytesMessage) messageConsumer.receive()).getContent().data);
-			final JsonObject result = resultBuilder.create().add(HealthConstant.RESPONSE, res).build();
-			promise.complete(Status.OK(result));
+			try {
+				Queue destination = session.createQueue(HealthConstant.QUEUE_ADDRESS);
+				MessageProducer messageProducer = session.createProducer(destination);
+				BytesMessage byteMessage = session.createBytesMessage();
+				byteMessage.writeObject((HealthConstant.PING).getBytes());
+				messageProducer.send(byteMessage);
+				MessageConsumer messageConsumer = session.createConsumer(destination);
+				ActiveMQBytesMessage response = (ActiveMQBytesMessage) messageConsumer.receive(checkTimeoutMillis);
+				if (response == null) {
+					final JsonObject result = resultBuilder.create()
+							.add(HealthConstant.ERROR, "No response from queue within " + checkTimeoutMillis + " ms")
+							.build();
+					promise.complete(Status.KO(result));
+					return;
+				}
+				String res = new String(response.getContent().data);
+				final JsonObject result = resultBuilder.create().add(HealthConstant.RESPONSE, res).build();
+				promise.complete(Status.OK(result));
+			} finally {
+				session.close();
+			}
 		} catch (Exception e) {
+			closeQueueConnection();
 			final JsonObject result = resultBuilder.create().add(HealthConstant.ERROR, e.getMessage()).build();
 			promise.complete(Status.KO(result));
 		}
 	}
 
+	private synchronized javax.jms.Connection getQueueConnection() throws JMSException {
+		if (queueConnection == null) {
+			if (activeMQConnectionFactory == null)
+				activeMQConnectionFactory = new ActiveMQConnectionFactory(queueUsername, queuePassword,
+						queueBrokerUrl);
+			javax.jms.Connection connection = activeMQConnectionFactory.createConnection();
+			connection.start();
+			queueConnection = connection;
+		}
+		return queueConnection;
+	}
+
+	private synchronized void closeQueueConnection() {
+		if (queueConnection != null) {
+			try {
+				queueConnection.close();
+			} catch (JMSException e) {
+				LOGGER.error(e.getMessage());
+			}
+			queueConnection = null;
+		}
+	}
+
 	/**
 	 * @param configuration
 	 * @return
@@ -209,19 +366,15 @@ public class StageHealthCheckHandler implements HealthCheckHandler {
 	 */
 	public void virusScanHealthChecker(Promise<Status> promise) {
 		try {
-			this.clamavClient = new ClamavClient(clamavHost, clamavPort);
-			ScanResult scanResult;
-
-			File file = new File("virus_scan_test.txt");
-			String fileData = "virus scan test";
-			Files.write(Paths.get("virus_scan_test.txt"), fileData.getBytes());
-			scanResult = this.clamavClient.scan(new FileInputStream(file));
+			if (this.clamavClient == null)
+				this.clamavClient = new ClamavClient(clamavHost, clamavPort);
+			ScanResult scanResult = this.clamavClient.scan(new ByteArrayInputStream(VIRUS_SCAN_TEST_DATA));
 
 			final JsonObject result = resultBuilder.create().add(HealthConstant.RESPONSE, scanResult.getStatus().name())
 					.build();
 			promise.complete(Status.OK(result));
 
-		} catch (ClamavException | IOException e) {
+		} catch (Exception e) {
 			final JsonObject result = resultBuilder.create().add(HealthConstant.ERROR, e.getMessage()).build();
 			promise.complete(Status.KO(result));
 		}
@@ -234,14 +387,9 @@ public class StageHealthCheckHandler implements HealthCheckHandler {
 	 */
 	public void databaseHealthChecker(Promise<Status> promise) {
 
-		try {
-			Class.forName(driver);
-		} catch (ClassNotFoundException exception) {
-			final JsonObject result = resultBuilder.create().add(HealthConstant.ERROR, exception.getMessage()).build();
-			promise.complete(Status.KO(result));
-		}
-		try (Connection conn = DriverManager.getConnection(url, username, password)) {
+		try (Connection conn = getDatabaseConnection()) {
 			try (final Statement statement = conn.createStatement()) {
+				statement.setQueryTimeout((int) Math.max(1, checkTimeoutMillis / 1000));
 
 				try (final ResultSet rs = statement.executeQuery(DEFAULT_QUERY)) {
 
@@ -254,12 +402,19 @@ public class StageHealthCheckHandler implements HealthCheckHandler {
 					}
 				}
 			}
-		} catch (SQLException exception) {
+		} catch (SQLException | ClassNotFoundException exception) {
 			final JsonObject result = resultBuilder.create().add(HealthConstant.ERROR, exception.getMessage()).build();
 			promise.complete(Status.KO(result));
 		}
 	}
 
+	private Connection getDatabaseConnection() throws SQLException, ClassNotFoundException {
+		if (dataSource != null)
+			return dataSource.getConnection();
+		Class.forName(driver);
+		return DriverManager.getConnection(url, username, password);
+	}
+
 	/**
 	 * Disk-Space health check Handler
 	 * 
@@ -441,9 +596,15 @@ public class StageHealthCheckHandler implements HealthCheckHandler {
 	@Override
 	public synchronized StageHealthCheckHandler unregister(String name) {
 		healthChecks.unregister(name);
+		checks.remove(name);
 		return this;
 	}
 
+	private static long getLongProperty(Environment environment, String key, long defaultValue) {
+		String value = environment.getProperty(key);
+		return value == null ? defaultValue : Long.parseLong(value);
+	}
+
 	/**
 	 * Check if error has occurred or not
 	 * 
@@ -486,9 +647,14 @@ public class StageHealthCheckHandler implements HealthCheckHandler {
 
 		private JsonObject jsonObject;
 
+		/**
+		 * Creates a new builder, so that checks running in parallel do not share
+		 * the json being built.
+		 */
 		public JSONResultBuilder create() {
-			jsonObject = new JsonObject();
-			return this;
+			JSONResultBuilder builder = new JSONResultBuilder();
+			builder.jsonObject = new JsonObject();
+			return builder;
 		}
 
 		public JSONResultBuilder add(String key, Object object) {
@@ -502,4 +668,26 @@ public class StageHealthCheckHandler implements HealthCheckHandler {
 
 	}
 
+	private static class CachedCheck {
+
+		private final Handler<Promise<Status>> procedure;
+
+		private final long timeout;
+
+		/** The last result, null until the first run completes. */
+		private volatile Status status;
+
+		/** The result of the current run, null when no run is awaited. */
+		private Future<Status> pending;
+
+		/** Whether the procedure is still executing, also after a timeout. */
+		private boolean running;
+
+		private CachedCheck(Handler<Promise<Status>> procedure, long timeout) {
+			this.procedure = procedure;
+			this.timeout = timeout;
+		}
+
+	}
+
 }
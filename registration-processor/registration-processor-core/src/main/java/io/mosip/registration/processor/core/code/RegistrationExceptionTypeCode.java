@@ -253,6 +253,9 @@ public enum RegistrationExceptionTypeCode {
 	
 	AUTH_SYSTEM_EXCEPTION,
 
-	PACKET_REJECTED
+	PACKET_REJECTED,
+
+	/** The documents of the packet did not fit in the document memory budget. */
+	DOCUMENT_MEMORY_BUDGET_EXCEEDED
 
 }
@@ -24,6 +24,7 @@ import io.mosip.registration.processor.core.spi.queue.MosipQueueConnectionFactor
 import io.mosip.registration.processor.core.spi.queue.MosipQueueManager;
 import io.mosip.registration.processor.core.token.validation.TokenValidator;
 import io.mosip.registration.processor.core.util.DigitalSignatureUtility;
+import io.mosip.registration.processor.core.util.LocalDigitalSignatureProvider;
 import io.mosip.registration.processor.core.util.RegistrationExceptionMapperUtil;
 import io.vertx.config.ConfigRetriever;
 import io.vertx.config.ConfigRetrieverOptions;
@@ -152,6 +153,11 @@ public class CoreConfigBean {
 		return new DigitalSignatureUtility();
 	}
 
+	@Bean
+	public LocalDigitalSignatureProvider getLocalDigitalSignatureProvider() {
+		return new LocalDigitalSignatureProvider();
+	}
+
 	@Bean
 	public LogDescription getLogDescription() {
 		return new LogDescription();
@@ -21,6 +21,7 @@ public class HealthConstant {
 	public static final String STATUS = "status";
 	public static final String OUTCOME = "outcome";
 	public static final String HEALTH_ENDPOINT = "/actuator/health";
+	public static final String PROMETHEUS_ENDPOINT = "/actuator/prometheus";
 	public static final String SERVLET_PATH = "server.servlet.path";
 	public static final String CONTENT_TYPE = "application/json";
 	public static final String CLAMAV_HOST = "mosip.kernel.virus-scanner.host";
@@ -29,6 +30,9 @@ public class HealthConstant {
 	public static final String QUEUE_USERNAME = "registration.processor.queue.username";
 	public static final String QUEUE_PASSWORD = "registration.processor.queue.password";
 	public static final String QUEUE_BROKER_URL = "registration.processor.queue.url";
+	public static final String REFRESH_INTERVAL = "registration.processor.health.refresh.interval.millis";
+	public static final String CHECK_TIMEOUT = "registration.processor.health.check.timeout.millis";
+	public static final String WORKER_POOL_SIZE = "registration.processor.health.worker.pool.size";
 	public static final String CURRENT_WORKING_DIRECTORY= "user.dir";
 	
 }
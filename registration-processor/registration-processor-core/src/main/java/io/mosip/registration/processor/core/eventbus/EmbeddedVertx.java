@@ -0,0 +1,46 @@
+package io.mosip.registration.processor.core.eventbus;
+
+import io.vertx.core.Vertx;
+
+/**
+ * Process wide, non clustered Vert.x instance for stages that run together in
+ * one JVM, e.g. in the load test harness. When
+ * mosip.regproc.eventbus.embedded is true the stages deploy on this instance
+ * instead of joining the Hazelcast cluster, so they talk over the local event
+ * bus.
+ */
+public final class EmbeddedVertx {
+
+	private static volatile Vertx vertx;
+
+	private EmbeddedVertx() {
+	}
+
+	/**
+	 * Gets the shared instance, creating it on first use.
+	 *
+	 * @return the shared vertx instance
+	 */
+	public static Vertx get() {
+		Vertx instance = vertx;
+		if (instance == null) {
+			synchronized (EmbeddedVertx.class) {
+				if (vertx == null)
+					vertx = Vertx.vertx();
+				instance = vertx;
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Closes the shared instance, undeploying every stage deployed on it.
+	 */
+	public static synchronized void close() {
+		if (vertx != null) {
+			vertx.close();
+			vertx = null;
+		}
+	}
+
+}
@@ -17,6 +17,7 @@ import io.mosip.registration.processor.core.abstractverticle.MessageBusAddress;
 import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
 import io.mosip.registration.processor.core.abstractverticle.MosipEventBus;
 import io.mosip.registration.processor.core.exception.ConfigurationServerFailureException;
+import io.mosip.registration.processor.core.metrics.StageMetricsRegistry;
 import io.mosip.registration.processor.core.spi.eventbus.EventHandler;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
@@ -297,6 +298,9 @@ public class KafkaMosipEventBus implements MosipEventBus {
 		KafkaConsumerRecord<String, String> record, boolean commitRecord) {
 		logger.debug("Processing key=" + record.key() + ",value=" + record.value() +
 				",partition=" + record.partition() + ",offset=" + record.offset());
+		if (record.timestamp() > 0)
+			StageMetricsRegistry.recordEventBusHop(record.topic(),
+					System.currentTimeMillis() - record.timestamp());
 
 		EventDTO eventDTO = new EventDTO();
 		eventDTO.setBody((JsonObject) new JsonObject(record.value()));
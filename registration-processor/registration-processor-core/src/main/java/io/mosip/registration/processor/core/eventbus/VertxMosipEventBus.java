@@ -4,10 +4,13 @@ import io.mosip.registration.processor.core.abstractverticle.EventDTO;
 import io.mosip.registration.processor.core.abstractverticle.MessageBusAddress;
 import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
 import io.mosip.registration.processor.core.abstractverticle.MosipEventBus;
+import io.mosip.registration.processor.core.metrics.StageMetricsRegistry;
 import io.mosip.registration.processor.core.spi.eventbus.EventHandler;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -22,6 +25,12 @@ public class VertxMosipEventBus implements MosipEventBus {
 	/** The logger. */
 	private Logger logger = LoggerFactory.getLogger(VertxMosipEventBus.class);
 
+	/**
+	 * The message header carrying the send time, used for the hop latency. The
+	 * camel bridge sets it as well when it forwards a message to a stage.
+	 */
+	public static final String SENT_TIME_HEADER = "regproc-sent-time";
+
 	/** The vertx instance that will be used by this event bus */
 	private Vertx vertx = null;
 
@@ -57,6 +66,7 @@ public class VertxMosipEventBus implements MosipEventBus {
 			EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler) {
 
 		vertx.eventBus().consumer(fromAddress.getAddress(), msg -> {
+			recordHop(fromAddress, msg);
 			EventDTO eventDTO = new EventDTO();
 			eventDTO.setBody((JsonObject) msg.body());
 			eventHandler.handle(eventDTO, res -> {
@@ -78,6 +88,7 @@ public class VertxMosipEventBus implements MosipEventBus {
 			EventHandler<EventDTO, Handler<AsyncResult<MessageDTO>>> eventHandler) {
 
 		vertx.eventBus().consumer(fromAddress.getAddress(), msg -> {
+			recordHop(fromAddress, msg);
 			EventDTO eventDTO = new EventDTO();
 			eventDTO.setBody((JsonObject) msg.body());
 			eventHandler.handle(eventDTO, res -> {
@@ -87,7 +98,7 @@ public class VertxMosipEventBus implements MosipEventBus {
 					MessageDTO messageDTO = res.result();
 					MessageBusAddress messageBusToAddress = new MessageBusAddress(toAddress, messageDTO.getReg_type());
 					JsonObject jsonObject = JsonObject.mapFrom(messageDTO);
-					vertx.eventBus().send(messageBusToAddress.getAddress(), jsonObject);
+					vertx.eventBus().send(messageBusToAddress.getAddress(), jsonObject, sentTimeOptions());
 				}
 			});
 			
@@ -105,7 +116,18 @@ public class VertxMosipEventBus implements MosipEventBus {
 		MessageBusAddress messageBusAddress = new MessageBusAddress(toAddress, message.getReg_type());
 		JsonObject jsonObject = JsonObject.mapFrom(message);
 		logger.debug("send called with toAddress " + toAddress.getAddress() + " for message " + jsonObject.toString());
-		this.vertx.eventBus().send(messageBusAddress.getAddress(), jsonObject);
+		this.vertx.eventBus().send(messageBusAddress.getAddress(), jsonObject, sentTimeOptions());
+	}
+
+	private DeliveryOptions sentTimeOptions() {
+		return new DeliveryOptions().addHeader(SENT_TIME_HEADER, String.valueOf(System.currentTimeMillis()));
+	}
+
+	private void recordHop(MessageBusAddress fromAddress, Message<Object> msg) {
+		String sentTime = msg.headers().get(SENT_TIME_HEADER);
+		if (sentTime != null)
+			StageMetricsRegistry.recordEventBusHop(fromAddress.getAddress(),
+					System.currentTimeMillis() - Long.parseLong(sentTime));
 	}
 
 }
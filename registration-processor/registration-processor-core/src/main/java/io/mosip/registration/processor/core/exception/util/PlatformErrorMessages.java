@@ -178,6 +178,10 @@ public enum PlatformErrorMessages {
 	/** The rpr rgs rid not found. */
 	RPR_RGS_RID_NOT_FOUND(PlatformConstants.RPR_REGISTRATION_STATUS_MODULE + "031", "RID Not Found"),
 
+	/** The rpr rgs request size exceeded. */
+	RPR_RGS_REQUEST_SIZE_EXCEEDED(PlatformConstants.RPR_REGISTRATION_STATUS_MODULE + "032",
+			"Number of Registration Ids in the request exceeds the limit"),
+
 	/** The rpr pis registration table not accessible. */
 	// Packet Info Storage Exception error code and message
 	RPR_PIS_REGISTRATION_TABLE_NOT_ACCESSIBLE(PlatformConstants.RPR_PACKET_INFO_STORAGE_MODULE + "001",
@@ -847,6 +851,9 @@ public enum PlatformErrorMessages {
 	/** The rpr utl digital sign exception. */
 	RPR_UTL_DIGITAL_SIGN_EXCEPTION(PlatformConstants.RPR_UTIL + "003", "Failed to generate digital signature"),
 
+	/** The rpr utl sign key not available. */
+	RPR_UTL_SIGN_KEY_NOT_AVAILABLE(PlatformConstants.RPR_UTIL + "004", "Local signing key is not available"),
+
 	/** The rpr prt pdf not generated. */
 	// Printing stage exceptions
 	RPR_PRT_PDF_NOT_GENERATED(PlatformConstants.RPR_PRINTING_MODULE + "001", "Error while generating PDF for UIN Card"),
@@ -983,6 +990,10 @@ public enum PlatformErrorMessages {
 	/** The uin generation failed. */
 	UIN_GENERATION_FAILED(PlatformConstants.RPR_UIN_GENERATOR_STAGE + "013", "UIN Generation failed"),
 
+	/** The documents of a packet do not fit in the document memory budget. */
+	RPR_UGS_DOCUMENT_MEMORY_BUDGET_EXCEEDED(PlatformConstants.RPR_UIN_GENERATOR_STAGE + "014",
+			"Documents of the packet do not fit in the document memory budget"),
+
 	/** The rpr pgs file not present. */
 	RPR_PGS_FILE_NOT_PRESENT(PlatformConstants.RPR_PACKET_GENERATOR_MODULE + "001",
 			"The Packet store set by the System is not accessible"),
@@ -0,0 +1,205 @@
+package io.mosip.registration.processor.core.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.mosip.registration.processor.core.code.ApiName;
+
+/**
+ * Process wide registry of the latency metrics of a stage.
+ *
+ * Every timer keeps an HDR histogram of the recorded latencies, published both
+ * as client side percentiles and as Prometheus histogram buckets so that
+ * percentiles can also be aggregated across instances. The registry is static,
+ * like the loggers, so that the verticle base classes, the event buses and the
+ * rest client can record without being wired through Spring.
+ *
+ * Recorded metrics:
+ * <ul>
+ * <li>regproc_stage_process_seconds - time spent in process(), by stage and
+ * outcome</li>
+ * <li>regproc_stage_queue_wait_seconds - time between a message being received
+ * and a worker thread picking it up, by stage</li>
+ * <li>regproc_stage_in_flight - messages currently being processed, by
+ * stage</li>
+ * <li>regproc_eventbus_hop_seconds - time between a message being sent and
+ * received, by address. Messages routed through the camel bridge are timed
+ * from the bridge to the stage, the hop from the sending stage into the bridge
+ * is not recorded</li>
+ * <li>regproc_rest_call_seconds - outbound rest calls, by api and outcome</li>
+ * <li>regproc_db_call_seconds - database calls, by operation and outcome</li>
+ * </ul>
+ */
+public final class StageMetricsRegistry {
+
+	/** The content type of the Prometheus text exposition format. */
+	public static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private static final String PROCESS_TIMER = "regproc.stage.process";
+
+	private static final String QUEUE_WAIT_TIMER = "regproc.stage.queue.wait";
+
+	private static final String IN_FLIGHT_GAUGE = "regproc.stage.in.flight";
+
+	private static final String EVENTBUS_HOP_TIMER = "regproc.eventbus.hop";
+
+	private static final String REST_CALL_TIMER = "regproc.rest.call";
+
+	private static final String DB_CALL_TIMER = "regproc.db.call";
+
+	private static final String SUCCESS = "success";
+
+	private static final String FAILURE = "failure";
+
+	private static final PrometheusMeterRegistry REGISTRY = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+	/** Timers by name and tag values, to avoid rebuilding meter ids per call. */
+	private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+
+	private static final Map<String, AtomicInteger> IN_FLIGHT = new ConcurrentHashMap<>();
+
+	private StageMetricsRegistry() {
+	}
+
+	/**
+	 * Gets the underlying meter registry, for stages that want to register their
+	 * own meters.
+	 *
+	 * @return the meter registry
+	 */
+	public static MeterRegistry getRegistry() {
+		return REGISTRY;
+	}
+
+	/**
+	 * Records one call of process().
+	 *
+	 * @param stage
+	 *            the stage name
+	 * @param nanos
+	 *            the elapsed time in nanoseconds
+	 * @param success
+	 *            false if process() threw or returned an internal error
+	 */
+	public static void recordProcess(String stage, long nanos, boolean success) {
+		timer(PROCESS_TIMER, "stage", stage, outcome(success)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Records the time a received message waited for a worker thread.
+	 *
+	 * @param stage
+	 *            the stage name
+	 * @param nanos
+	 *            the elapsed time in nanoseconds
+	 */
+	public static void recordQueueWait(String stage, long nanos) {
+		timer(QUEUE_WAIT_TIMER, "stage", stage, null).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Gets the in-flight counter of a stage. Callers increment it before
+	 * processing a message and decrement it afterwards.
+	 *
+	 * @param stage
+	 *            the stage name
+	 * @return the counter backing the in-flight gauge
+	 */
+	public static AtomicInteger inFlight(String stage) {
+		return IN_FLIGHT.computeIfAbsent(stage, key -> {
+			AtomicInteger counter = new AtomicInteger();
+			Gauge.builder(IN_FLIGHT_GAUGE, counter, AtomicInteger::get).tag("stage", key)
+					.description("Messages currently being processed").register(REGISTRY);
+			return counter;
+		});
+	}
+
+	/**
+	 * Records the time between a message being sent and being received. Negative
+	 * values caused by clock skew between hosts are dropped.
+	 *
+	 * @param address
+	 *            the event bus address or topic
+	 * @param millis
+	 *            the elapsed time in milliseconds
+	 */
+	public static void recordEventBusHop(String address, long millis) {
+		if (millis >= 0)
+			timer(EVENTBUS_HOP_TIMER, "address", address, null).record(millis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Records one outbound rest call.
+	 *
+	 * @param apiName
+	 *            the api that was called
+	 * @param nanos
+	 *            the elapsed time in nanoseconds
+	 * @param success
+	 *            false if the call threw
+	 */
+	public static void recordRestCall(ApiName apiName, long nanos, boolean success) {
+		timer(REST_CALL_TIMER, "api", apiName.name(), outcome(success)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Runs and times one database call.
+	 *
+	 * @param <T>
+	 *            the result type
+	 * @param operation
+	 *            the operation name, e.g. registration.findById
+	 * @param call
+	 *            the database call
+	 * @return the result of the call
+	 */
+	public static <T> T recordDbCall(String operation, Supplier<T> call) {
+		long startTime = System.nanoTime();
+		boolean success = false;
+		try {
+			T result = call.get();
+			success = true;
+			return result;
+		} finally {
+			timer(DB_CALL_TIMER, "operation", operation, outcome(success)).record(System.nanoTime() - startTime,
+					TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Renders all metrics in the Prometheus text exposition format.
+	 *
+	 * @return the scrape output
+	 */
+	public static String scrape() {
+		return REGISTRY.scrape();
+	}
+
+	private static String outcome(boolean success) {
+		return success ? SUCCESS : FAILURE;
+	}
+
+	private static Timer timer(String name, String tagKey, String tagValue, String outcome) {
+		String key = name + '|' + tagValue + '|' + outcome;
+		Timer timer = TIMERS.get(key);
+		if (timer != null)
+			return timer;
+		return TIMERS.computeIfAbsent(key, k -> {
+			Timer.Builder builder = Timer.builder(name).tag(tagKey, tagValue).publishPercentiles(0.5, 0.95, 0.99)
+					.publishPercentileHistogram().distributionStatisticExpiry(Duration.ofMinutes(2));
+			if (outcome != null)
+				builder.tag("outcome", outcome);
+			return builder.register(REGISTRY);
+		});
+	}
+
+}
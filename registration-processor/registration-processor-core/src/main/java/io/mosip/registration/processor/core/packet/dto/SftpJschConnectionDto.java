@@ -1,6 +1,7 @@
 package io.mosip.registration.processor.core.packet.dto;
 
 import java.io.Serializable;
+import java.util.Objects;
 
 /**
  * The Class SftpJschConnectionDto.
@@ -154,4 +155,24 @@ public class SftpJschConnectionDto implements Serializable{
 	public void setRegProcPPK(String regProcPPK) {
 		this.regProcPPK = regProcPPK;
 	}
+
+	/**
+	 * Two connections are equal when they reach the same account on the same
+	 * server, so that pooled connections are shared between callers.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof SftpJschConnectionDto))
+			return false;
+		SftpJschConnectionDto other = (SftpJschConnectionDto) obj;
+		return port == other.port && Objects.equals(host, other.host) && Objects.equals(user, other.user)
+				&& Objects.equals(protocal, other.protocal);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(host, port, user, protocal);
+	}
 }
\ No newline at end of file
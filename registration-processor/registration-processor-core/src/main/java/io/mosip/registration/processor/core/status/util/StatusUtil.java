@@ -145,6 +145,7 @@ public enum StatusUtil {
 	UIN_REACTIVATION_FAILED(StatusConstants.UIN_GENERATOR_MODULE_FAILED + "006", "UIN Reactivation  failed - "),
 	UIN_DEACTIVATION_FAILED(StatusConstants.UIN_GENERATOR_MODULE_FAILED + "007", "UIN Deactivation  failed - "),
 	LINK_RID_FOR_LOST_PACKET_FAILED(StatusConstants.UIN_GENERATOR_MODULE_FAILED + "008","UIn not found the the matched RID"),
+	DOCUMENT_MEMORY_BUDGET_EXCEEDED(StatusConstants.UIN_GENERATOR_MODULE_FAILED + "009", "Documents did not fit in the memory budget, packet will be reprocessed - "),
 	
 	//Request handler service
 	//1)Resident UIN update
@@ -208,7 +209,8 @@ public enum StatusUtil {
     MESSAGE_SENDER_SMS_SUCCESS(StatusConstants.MESSAGE_SENDER_NOTIF_SUCCESS_CODE + "004","SMS Notification was sent"),
     MESSAGE_SENDER_EMAIL_FAILED(StatusConstants.MESSAGE_SENDER__FAILED_CODE + "005","Notification was not sent as the required mode of channel was not available"),
     MESSAGE_SENDER_SMS_FAILED(StatusConstants.MESSAGE_SENDER__FAILED_CODE + "006","Notification was not sent as the required mode of channel was not available"),
-    MESSAGE_SENDER_NOTIFICATION_FAILED(StatusConstants.MESSAGE_SENDER__FAILED_CODE + "006","Notification was not sent as the required mode of channel was not available");
+    MESSAGE_SENDER_NOTIFICATION_FAILED(StatusConstants.MESSAGE_SENDER__FAILED_CODE + "006","Notification was not sent as the required mode of channel was not available"),
+    MESSAGE_SENDER_NOTIFICATION_QUEUED(StatusConstants.MESSAGE_SENDER_NOTIF_SUCCESS_CODE + "005","Notification was queued for sending");
 
 	private final String statusComment;
 	private final String statusCode;
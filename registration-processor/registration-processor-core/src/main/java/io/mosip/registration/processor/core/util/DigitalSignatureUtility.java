@@ -38,6 +38,9 @@ public class DigitalSignatureUtility {
 	@Autowired
 	ObjectMapper mapper;
 
+	@Autowired(required = false)
+	private LocalDigitalSignatureProvider localDigitalSignatureProvider;
+
 	private static final String DIGITAL_SIGNATURE_ID = "mosip.registration.processor.digital.signature.id";
 	private static final String DATETIME_PATTERN = "mosip.registration.processor.datetime.pattern";
 	private static final String REG_PROC_APPLICATION_VERSION = "mosip.registration.processor.application.version";
@@ -46,6 +49,16 @@ public class DigitalSignatureUtility {
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
 				"DigitalSignatureUtility::getDigitalSignature()::entry");
 
+		if (localDigitalSignatureProvider != null && localDigitalSignatureProvider.isAvailable()) {
+			try {
+				return localDigitalSignatureProvider.sign(data);
+			} catch (DigitalSignatureException e) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.UIN.toString(), "",
+						"DigitalSignatureUtility::getDigitalSignature():: local signing failed, falling back to remote "
+								+ e.getMessage());
+			}
+		}
+
 		SignRequestDto dto=new SignRequestDto();
 		dto.setData(data);
 		RequestWrapper<SignRequestDto> request=new RequestWrapper<>();
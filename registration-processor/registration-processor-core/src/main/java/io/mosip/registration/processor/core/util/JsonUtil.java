@@ -17,6 +17,7 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -41,6 +42,9 @@ public class JsonUtil {
 	/** The Constant VALUE. */
 	private static final String VALUE = "value";
 
+	/** Shared serializer for signed responses, Gson instances are thread safe. */
+	private static final Gson NULL_SERIALIZING_GSON = new GsonBuilder().serializeNulls().create();
+
 	/**
 	 * Instantiates a new json util.
 	 */
@@ -263,4 +267,17 @@ public class JsonUtil {
 		return objectMapper.writeValueAsString(obj);
 	} 
 
+
+	/**
+	 * Serializes the object to json including null fields. This is the format
+	 * used for responses carrying a Response-Signature header.
+	 *
+	 * @param obj
+	 *            the object to serialize
+	 * @return the json string
+	 */
+	public static String objectToJsonWithNulls(Object obj) {
+		return NULL_SERIALIZING_GSON.toJson(obj);
+	}
+
 }
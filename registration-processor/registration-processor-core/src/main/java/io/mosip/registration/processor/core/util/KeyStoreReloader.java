@@ -0,0 +1,140 @@
+package io.mosip.registration.processor.core.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.processor.core.constant.LoggerFileConstant;
+import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+
+/**
+ * Loads a local keystore and loads it again on a fixed schedule whenever the
+ * keystore file changes, so that rotated keys are used without a restart. The
+ * loaded keystore is handed to a {@link KeyStoreHandler}, which takes the keys
+ * it needs from it. A load that fails, or that the handler rejects, keeps the
+ * previously loaded keys in use and is retried when the file changes again.
+ */
+public class KeyStoreReloader {
+
+	/** The reg proc logger. */
+	private static Logger regProcLogger = RegProcessorLogger.getLogger(KeyStoreReloader.class);
+
+	/**
+	 * Takes the keys from a loaded keystore.
+	 */
+	@FunctionalInterface
+	public interface KeyStoreHandler {
+
+		/**
+		 * @param keyStore
+		 *            the loaded keystore
+		 * @param password
+		 *            the keystore password, also used for its entries
+		 * @return false if the keystore has none of the expected keys
+		 * @throws GeneralSecurityException
+		 *             if a key could not be read
+		 */
+		boolean load(KeyStore keyStore, char[] password) throws GeneralSecurityException;
+	}
+
+	private final String name;
+
+	private final String keystorePath;
+
+	private final String keystoreType;
+
+	private final String keystorePassword;
+
+	private final KeyStoreHandler handler;
+
+	/** Last modified time of the keystore file when it was last loaded. */
+	private volatile long loadedKeystoreTimestamp = -1;
+
+	private ScheduledExecutorService keyRefreshExecutor;
+
+	/**
+	 * @param name
+	 *            the name of the keys, used for the refresh thread and the logs
+	 * @param keystorePath
+	 *            the path of the keystore file
+	 * @param keystoreType
+	 *            the keystore type, e.g. PKCS12
+	 * @param keystorePassword
+	 *            the keystore password
+	 * @param handler
+	 *            takes the keys from the loaded keystore
+	 */
+	public KeyStoreReloader(String name, String keystorePath, String keystoreType, String keystorePassword,
+			KeyStoreHandler handler) {
+		this.name = name;
+		this.keystorePath = keystorePath;
+		this.keystoreType = keystoreType;
+		this.keystorePassword = keystorePassword;
+		this.handler = handler;
+	}
+
+	/**
+	 * Loads the keystore and checks it for changes every refresh interval.
+	 *
+	 * @param refreshIntervalSeconds
+	 *            the refresh interval, 0 to load the keystore only once
+	 */
+	public synchronized void start(long refreshIntervalSeconds) {
+		reloadIfModified();
+		if (refreshIntervalSeconds > 0 && keyRefreshExecutor == null) {
+			keyRefreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, name + "-key-refresh");
+				thread.setDaemon(true);
+				return thread;
+			});
+			keyRefreshExecutor.scheduleWithFixedDelay(this::reloadIfModified, refreshIntervalSeconds,
+					refreshIntervalSeconds, TimeUnit.SECONDS);
+		}
+	}
+
+	public synchronized void shutdown() {
+		if (keyRefreshExecutor != null)
+			keyRefreshExecutor.shutdownNow();
+	}
+
+	/**
+	 * Loads the keystore if the keystore file changed since the last successful
+	 * load.
+	 */
+	public void reloadIfModified() {
+		File keystoreFile = new File(keystorePath);
+		if (!keystoreFile.isFile()) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"KeyStoreReloader::reloadIfModified():: " + name + " keystore not found at " + keystorePath);
+			return;
+		}
+		long lastModified = keystoreFile.lastModified();
+		if (lastModified == loadedKeystoreTimestamp)
+			return;
+		try (InputStream inputStream = new FileInputStream(keystoreFile)) {
+			char[] password = keystorePassword.toCharArray();
+			KeyStore keyStore = KeyStore.getInstance(keystoreType);
+			keyStore.load(inputStream, password);
+			if (!handler.load(keyStore, password)) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+						"KeyStoreReloader::reloadIfModified():: no " + name + " keys in " + keystorePath);
+				return;
+			}
+			loadedKeystoreTimestamp = lastModified;
+			regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"KeyStoreReloader::reloadIfModified():: " + name + " keys loaded from " + keystorePath);
+		} catch (IOException | GeneralSecurityException e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"KeyStoreReloader::reloadIfModified():: " + name + " " + ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+}
@@ -0,0 +1,122 @@
+package io.mosip.registration.processor.core.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.Signature;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.registration.processor.core.constant.LoggerFileConstant;
+import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
+import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+import io.mosip.registration.processor.core.util.exception.DigitalSignatureException;
+
+/**
+ * Signs response payloads in-process with a private key loaded from a local
+ * keystore by a {@link KeyStoreReloader}, so key rotation does not need a
+ * restart. When disabled or when no key could be loaded, {@link #isAvailable()}
+ * returns false and callers fall back to the remote signature API. Signatures
+ * use the algorithm and base64 encoding of the remote DIGITALSIGNATURE API, so
+ * verifiers can not tell the two apart.
+ */
+public class LocalDigitalSignatureProvider {
+
+	/** The signature algorithm of the remote DIGITALSIGNATURE API. */
+	static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+	/** The reg proc logger. */
+	private static Logger regProcLogger = RegProcessorLogger.getLogger(LocalDigitalSignatureProvider.class);
+
+	@Value("${registration.processor.signature.local.enabled:false}")
+	private boolean enabled;
+
+	@Value("${registration.processor.signature.local.keystore.path:}")
+	private String keystorePath;
+
+	@Value("${registration.processor.signature.local.keystore.type:PKCS12}")
+	private String keystoreType;
+
+	@Value("${registration.processor.signature.local.keystore.password:}")
+	private String keystorePassword;
+
+	@Value("${registration.processor.signature.local.key.alias:}")
+	private String keyAlias;
+
+	@Value("${registration.processor.signature.local.algorithm:" + SIGNATURE_ALGORITHM + "}")
+	private String algorithm = SIGNATURE_ALGORITHM;
+
+	@Value("${registration.processor.signature.local.refresh.interval.seconds:3600}")
+	private long refreshIntervalSeconds;
+
+	/** The currently active private key, swapped atomically on rotation. */
+	private volatile PrivateKey privateKey;
+
+	private KeyStoreReloader keyStoreReloader;
+
+	@PostConstruct
+	public void init() {
+		if (!enabled)
+			return;
+		keyStoreReloader = new KeyStoreReloader("local-signature", keystorePath, keystoreType, keystorePassword,
+				this::loadKey);
+		keyStoreReloader.start(refreshIntervalSeconds);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (keyStoreReloader != null)
+			keyStoreReloader.shutdown();
+	}
+
+	/**
+	 * Returns true when local signing is enabled and key material is loaded.
+	 *
+	 * @return true if {@link #sign(String)} can be used
+	 */
+	public boolean isAvailable() {
+		return enabled && privateKey != null;
+	}
+
+	/**
+	 * Signs the data with the cached private key.
+	 *
+	 * @param data
+	 *            the data to sign
+	 * @return the base64 encoded signature
+	 */
+	public String sign(String data) {
+		PrivateKey key = privateKey;
+		if (key == null)
+			throw new DigitalSignatureException(PlatformErrorMessages.RPR_UTL_SIGN_KEY_NOT_AVAILABLE.getMessage());
+		try {
+			Signature signature = Signature.getInstance(algorithm);
+			signature.initSign(key);
+			signature.update(data.getBytes(StandardCharsets.UTF_8));
+			return CryptoUtil.encodeBase64(signature.sign());
+		} catch (GeneralSecurityException e) {
+			throw new DigitalSignatureException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Takes the signing key of the configured alias from the keystore.
+	 */
+	private boolean loadKey(KeyStore keyStore, char[] password) throws GeneralSecurityException {
+		KeyStore.Entry entry = keyStore.getEntry(keyAlias, new KeyStore.PasswordProtection(password));
+		if (!(entry instanceof KeyStore.PrivateKeyEntry)) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"LocalDigitalSignatureProvider::loadKey():: no private key for alias " + keyAlias);
+			return false;
+		}
+		privateKey = ((KeyStore.PrivateKeyEntry) entry).getPrivateKey();
+		return true;
+	}
+
+}
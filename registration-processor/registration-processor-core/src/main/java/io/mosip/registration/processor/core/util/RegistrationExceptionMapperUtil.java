@@ -156,6 +156,8 @@ public class RegistrationExceptionMapperUtil {
                 RegistrationTransactionStatusCode.REPROCESS);
         statusMap.put(RegistrationExceptionTypeCode.AUTH_SYSTEM_EXCEPTION,
                 RegistrationTransactionStatusCode.REPROCESS);
+        statusMap.put(RegistrationExceptionTypeCode.DOCUMENT_MEMORY_BUDGET_EXCEEDED,
+                RegistrationTransactionStatusCode.REPROCESS);
 
         statusMap.put(RegistrationExceptionTypeCode.PACKET_REJECTED, RegistrationTransactionStatusCode.REJECTED);
 
@@ -0,0 +1,106 @@
+package io.mosip.registration.processor.abstractverticle;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.core.env.Environment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.registration.processor.core.abstractverticle.StageHealthCheckHandler;
+import io.mosip.registration.processor.core.constant.HealthConstant;
+import io.vertx.core.Vertx;
+import io.vertx.ext.healthchecks.HealthChecks;
+import io.vertx.ext.healthchecks.Status;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+
+@RunWith(VertxUnitRunner.class)
+public class StageHealthCheckHandlerTest {
+
+	private Vertx vertx;
+
+	private StageHealthCheckHandler healthCheckHandler;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		Environment environment = mock(Environment.class);
+		when(environment.getProperty(HealthConstant.CLAMAV_PORT)).thenReturn("3310");
+		when(environment.getProperty(HealthConstant.REFRESH_INTERVAL)).thenReturn("60000");
+		when(environment.getProperty(HealthConstant.CHECK_TIMEOUT)).thenReturn("200");
+		healthCheckHandler = new StageHealthCheckHandler(vertx, null, new ObjectMapper(), environment);
+	}
+
+	@After
+	public void tearDown(TestContext testContext) {
+		vertx.close(testContext.asyncAssertSuccess());
+	}
+
+	@Test
+	public void testProbesAreAnsweredFromCachedResult(TestContext testContext) {
+		AtomicInteger invocations = new AtomicInteger();
+		healthCheckHandler.register("counting", promise -> {
+			invocations.incrementAndGet();
+			promise.complete(Status.OK());
+		});
+		HealthChecks healthChecks = (HealthChecks) ReflectionTestUtils.getField(healthCheckHandler, "healthChecks");
+
+		Async async = testContext.async();
+		healthChecks.invoke("counting", first -> {
+			testContext.assertTrue(first.succeeded());
+			healthChecks.invoke("counting", second -> {
+				testContext.assertTrue(second.succeeded());
+				testContext.assertEquals(1, invocations.get());
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void testChecksRunOnHealthCheckPoolOnceStarted(TestContext testContext) {
+		AtomicInteger invocations = new AtomicInteger();
+		AtomicReference<String> threadName = new AtomicReference<>();
+		healthCheckHandler.register("counting", promise -> {
+			invocations.incrementAndGet();
+			threadName.set(Thread.currentThread().getName());
+			promise.complete(Status.OK());
+		});
+
+		Async async = testContext.async();
+		vertx.setTimer(200, id -> {
+			testContext.assertEquals(0, invocations.get());
+			healthCheckHandler.start();
+			vertx.setTimer(200, id2 -> {
+				testContext.assertEquals(1, invocations.get());
+				testContext.assertTrue(threadName.get().startsWith("stage-health-check"));
+				async.complete();
+			});
+		});
+	}
+
+	@Test
+	public void testHangingCheckIsReportedDownAfterTimeout(TestContext testContext) {
+		healthCheckHandler.register("hanging", promise -> {
+			// never completes
+		});
+		HealthChecks healthChecks = (HealthChecks) ReflectionTestUtils.getField(healthCheckHandler, "healthChecks");
+
+		Async async = testContext.async();
+		vertx.setTimer(500, id -> healthChecks.invoke("hanging", result -> {
+			testContext.assertTrue(result.succeeded());
+			testContext.assertEquals("DOWN", result.result().getString(HealthConstant.OUTCOME));
+			async.complete();
+		}));
+	}
+
+}
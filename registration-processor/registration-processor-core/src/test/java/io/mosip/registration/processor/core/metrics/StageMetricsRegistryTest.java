@@ -0,0 +1,65 @@
+package io.mosip.registration.processor.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.mosip.registration.processor.core.code.ApiName;
+
+public class StageMetricsRegistryTest {
+
+	@Test
+	public void testProcessTimerIsTaggedByStageAndOutcome() {
+		StageMetricsRegistry.recordProcess("TestStage", TimeUnit.MILLISECONDS.toNanos(20), true);
+		StageMetricsRegistry.recordProcess("TestStage", TimeUnit.MILLISECONDS.toNanos(30), true);
+		StageMetricsRegistry.recordProcess("TestStage", TimeUnit.MILLISECONDS.toNanos(40), false);
+
+		Timer success = StageMetricsRegistry.getRegistry().get("regproc.stage.process").tag("stage", "TestStage")
+				.tag("outcome", "success").timer();
+		Timer failure = StageMetricsRegistry.getRegistry().get("regproc.stage.process").tag("stage", "TestStage")
+				.tag("outcome", "failure").timer();
+		assertEquals(2, success.count());
+		assertEquals(1, failure.count());
+		assertEquals(50, success.totalTime(TimeUnit.MILLISECONDS), 0.001);
+	}
+
+	@Test
+	public void testInFlightGaugeFollowsCounter() {
+		StageMetricsRegistry.inFlight("InFlightStage").incrementAndGet();
+
+		assertEquals(1.0, StageMetricsRegistry.getRegistry().get("regproc.stage.in.flight")
+				.tag("stage", "InFlightStage").gauge().value(), 0.0);
+		StageMetricsRegistry.inFlight("InFlightStage").decrementAndGet();
+		assertEquals(0.0, StageMetricsRegistry.getRegistry().get("regproc.stage.in.flight")
+				.tag("stage", "InFlightStage").gauge().value(), 0.0);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testDbCallIsRecordedAsFailureWhenCallThrows() {
+		try {
+			StageMetricsRegistry.recordDbCall("test.failing", () -> {
+				throw new IllegalStateException("db down");
+			});
+		} finally {
+			assertEquals(1, StageMetricsRegistry.getRegistry().get("regproc.db.call").tag("operation", "test.failing")
+					.tag("outcome", "failure").timer().count());
+		}
+	}
+
+	@Test
+	public void testScrapeContainsHistogramBuckets() {
+		StageMetricsRegistry.recordRestCall(ApiName.UINGENERATOR, TimeUnit.MILLISECONDS.toNanos(5), true);
+		StageMetricsRegistry.recordEventBusHop("test-address", -10);
+
+		String scrape = StageMetricsRegistry.scrape();
+		assertTrue(scrape.contains("regproc_rest_call_seconds_bucket{api=\"UINGENERATOR\",outcome=\"success\""));
+		assertTrue(scrape.contains("regproc_rest_call_seconds{api=\"UINGENERATOR\",outcome=\"success\",quantile=\"0.99\""));
+		assertFalse(scrape.contains("test-address"));
+	}
+
+}
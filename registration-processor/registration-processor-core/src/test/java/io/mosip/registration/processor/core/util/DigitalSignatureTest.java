@@ -39,6 +39,9 @@ public class DigitalSignatureTest {
 	
 	@Mock
 	private ObjectMapper mapper;
+
+	@Mock
+	private LocalDigitalSignatureProvider localDigitalSignatureProvider;
 	
 	private static String signature="signature";
 	@Before
@@ -69,5 +72,32 @@ public class DigitalSignatureTest {
 				Matchers.any(), Matchers.any())).thenThrow(ApisResourceAccessException.class);
 		utility.getDigitalSignature("qwerty");
 	}
+
+	@Test
+	public void testGetSignatureFromLocalProvider() throws ApisResourceAccessException {
+		Mockito.when(localDigitalSignatureProvider.isAvailable()).thenReturn(true);
+		Mockito.when(localDigitalSignatureProvider.sign("qwerty")).thenReturn(signature);
+
+		Assert.assertSame(signature, utility.getDigitalSignature("qwerty"));
+		Mockito.verify(registrationProcessorRestService, Mockito.never()).postApi(Matchers.any(), Matchers.any(),
+				Matchers.any(), Matchers.any(), Matchers.any());
+	}
+
+	@Test
+	public void testLocalProviderFailureFallsBackToRemote() throws ApisResourceAccessException, IOException {
+		SignResponseDto dto = new SignResponseDto();
+		dto.setSignature(signature);
+		ResponseWrapper<SignResponseDto> response = new ResponseWrapper<SignResponseDto>();
+		response.setResponse(dto);
+		Mockito.when(localDigitalSignatureProvider.isAvailable()).thenReturn(true);
+		Mockito.when(localDigitalSignatureProvider.sign(Matchers.anyString()))
+				.thenThrow(new DigitalSignatureException("key not available"));
+		Mockito.when(registrationProcessorRestService.postApi(Matchers.any(), Matchers.any(), Matchers.any(),
+				Matchers.any(), Matchers.any())).thenReturn(response);
+		Mockito.when(mapper.writeValueAsString(Matchers.any())).thenReturn("value");
+		Mockito.when(mapper.readValue(Matchers.anyString(), Matchers.any(Class.class))).thenReturn(dto);
+
+		Assert.assertSame(signature, utility.getDigitalSignature("qwerty"));
+	}
 	
 }
@@ -0,0 +1,54 @@
+package io.mosip.registration.processor.core.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.registration.processor.core.util.exception.DigitalSignatureException;
+
+public class LocalDigitalSignatureProviderTest {
+
+	private LocalDigitalSignatureProvider localDigitalSignatureProvider = new LocalDigitalSignatureProvider();
+
+	private KeyPair keyPair;
+
+	@Before
+	public void setUp() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		keyPair = keyPairGenerator.generateKeyPair();
+	}
+
+	@Test
+	public void testSignatureMatchesRemoteFormat() throws Exception {
+		ReflectionTestUtils.setField(localDigitalSignatureProvider, "enabled", true);
+		ReflectionTestUtils.setField(localDigitalSignatureProvider, "privateKey", keyPair.getPrivate());
+		String data = "{\"id\":\"mosip.registration.status\",\"response\":null}";
+
+		String signature = localDigitalSignatureProvider.sign(data);
+
+		// verified the way the receivers of a DIGITALSIGNATURE response verify it
+		Signature verifier = Signature.getInstance("SHA256withRSA");
+		verifier.initVerify(keyPair.getPublic());
+		verifier.update(data.getBytes(StandardCharsets.UTF_8));
+		Assert.assertTrue(localDigitalSignatureProvider.isAvailable());
+		Assert.assertTrue(verifier.verify(CryptoUtil.decodeBase64(signature)));
+		Assert.assertEquals(signature, CryptoUtil.encodeBase64(CryptoUtil.decodeBase64(signature)));
+	}
+
+	@Test(expected = DigitalSignatureException.class)
+	public void testSignWithoutKey() {
+		ReflectionTestUtils.setField(localDigitalSignatureProvider, "enabled", true);
+
+		Assert.assertFalse(localDigitalSignatureProvider.isAvailable());
+		localDigitalSignatureProvider.sign("data");
+	}
+
+}
@@ -0,0 +1,22 @@
+package io.mosip.registration.processor.packet.storage.dto;
+
+import java.util.List;
+
+import io.mosip.kernel.biometrics.entities.BIR;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One individual to authenticate in a batch authentication call.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndividualAuthRequestDto {
+
+	private String individualId;
+	private String individualType;
+	private List<BIR> biometrics;
+
+}
@@ -0,0 +1,21 @@
+package io.mosip.registration.processor.packet.storage.dto;
+
+import io.mosip.registration.processor.core.auth.dto.AuthResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The outcome of one individual of a batch authentication call, either the auth
+ * response or the failure of that individual's authentication.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndividualAuthResultDto {
+
+	private String individualId;
+	private AuthResponseDTO authResponse;
+	private Exception exception;
+
+}
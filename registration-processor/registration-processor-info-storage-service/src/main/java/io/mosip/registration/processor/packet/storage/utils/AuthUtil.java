@@ -8,13 +8,22 @@ import java.security.PublicKey;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
+import javax.annotation.PreDestroy;
 import javax.crypto.SecretKey;
 
 import org.apache.commons.codec.binary.Base64;
@@ -59,6 +68,8 @@ import io.mosip.registration.processor.core.util.CbeffToBiometricUtil;
 import io.mosip.registration.processor.core.util.JsonUtil;
 import io.mosip.registration.processor.packet.manager.dto.CryptomanagerResponseDto;
 import io.mosip.registration.processor.packet.storage.dto.CryptoManagerEncryptDto;
+import io.mosip.registration.processor.packet.storage.dto.IndividualAuthRequestDto;
+import io.mosip.registration.processor.packet.storage.dto.IndividualAuthResultDto;
 import io.mosip.registration.processor.rest.client.utils.RestApiClient;
 
 /**
@@ -107,6 +118,18 @@ public class AuthUtil {
 	@Value("${auth.PrependThumbprint.enable:false}")
 	private boolean isPrependThumbprintEnabled;
 
+	/** Maximum time an IDA certificate is used before it is fetched again. */
+	@Value("${registration.processor.ida.certificate.cache.ttl.seconds:3600}")
+	private long certificateCacheTtlSeconds;
+
+	/** How long before the certificate expiry it is fetched again. */
+	@Value("${registration.processor.ida.certificate.refresh.before.expiry.seconds:300}")
+	private long certificateRefreshBeforeExpirySeconds;
+
+	/** Threads used to authenticate the individuals of a batch. */
+	@Value("${registration.processor.auth.batch.threads:4}")
+	private int authBatchThreads;
+
 	@Autowired
 	private Environment env;
 
@@ -116,6 +139,19 @@ public class AuthUtil {
 	private static final String FACE = "FACE";
 	private static final String KERNEL_KEY_SPLITTER = "mosip.kernel.data-key-splitter";
 
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private final RestTemplate restTemplate = new RestTemplate();
+
+	/** Parsed IDA public keys by reference id. */
+	private final Map<String, CachedPublicKey> idaPublicKeys = new ConcurrentHashMap<>();
+
+	/** Reference ids whose certificate is being fetched again. */
+	private final Set<String> refreshingIdaPublicKeys = ConcurrentHashMap.newKeySet();
+
+	/** The batch authentication executor, created on first use. */
+	private ExecutorService authExecutor;
+
 	public AuthResponseDTO authByIdAuthentication(String individualId, String individualType, List<io.mosip.kernel.biometrics.entities.BIR> list)
 			throws ApisResourceAccessException, IOException, BioTypeException, CertificateException, NoSuchAlgorithmException {
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), individualId,
@@ -144,7 +180,6 @@ public class AuthUtil {
 		RequestDTO request = new RequestDTO();
 		request.setBiometrics(biometrics);
 		request.setTimestamp(DateUtils.formatToISOString(localdatetime));
-		ObjectMapper mapper = new ObjectMapper();
 		String identityBlock = mapper.writeValueAsString(request);
 
 		final SecretKey secretKey = keyGenerator.getSymmetricKey();
@@ -153,7 +188,7 @@ public class AuthUtil {
 		// rbase64 encoded for request
 		authRequestDTO.setRequest(Base64.encodeBase64URLSafeString(encryptedIdentityBlock));
 		// encrypted with MOSIP public key and encoded session key
-		byte[] encryptedSessionKeyByte = encryptRSA(secretKey.getEncoded(), PARTNER_ID, mapper);
+		byte[] encryptedSessionKeyByte = encryptRSA(secretKey.getEncoded(), PARTNER_ID);
 		authRequestDTO.setRequestSessionKey(Base64.encodeBase64URLSafeString(encryptedSessionKeyByte));
 
 		// sha256 of the request block before encryption and the hash is encrypted
@@ -170,7 +205,7 @@ public class AuthUtil {
 		headers.add("Authorization", token);
 		HttpEntity<AuthRequestDTO> httpEntity = new HttpEntity<>(authRequestDTO, headers);
 
-		ResponseEntity<AuthResponseDTO> responseEntity = new RestTemplate().exchange(env.getProperty(ApiName.INTERNALAUTH.name()), HttpMethod.POST, httpEntity, AuthResponseDTO.class);
+		ResponseEntity<AuthResponseDTO> responseEntity = restTemplate.exchange(env.getProperty(ApiName.INTERNALAUTH.name()), HttpMethod.POST, httpEntity, AuthResponseDTO.class);
 		AuthResponseDTO response = responseEntity.getBody();
 
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), null,
@@ -181,10 +216,150 @@ public class AuthUtil {
 
 	}
 
-	private byte[] encryptRSA(final byte[] sessionKey, String refId, ObjectMapper mapper)
+	/**
+	 * Authenticates several individuals of a packet concurrently, e.g. its
+	 * operator, supervisor and introducer. A failure is reported in the result of
+	 * the individual it belongs to and does not affect the others.
+	 *
+	 * @param authRequests
+	 *            the individuals to authenticate
+	 * @return the auth results, in the order of the requests
+	 */
+	public List<IndividualAuthResultDto> authByIdAuthentication(List<IndividualAuthRequestDto> authRequests) {
+		List<IndividualAuthResultDto> results = new ArrayList<>(authRequests.size());
+		if (authRequests.size() <= 1) {
+			for (IndividualAuthRequestDto authRequest : authRequests)
+				results.add(authenticate(authRequest));
+			return results;
+		}
+		List<Future<IndividualAuthResultDto>> futures = new ArrayList<>(authRequests.size());
+		for (IndividualAuthRequestDto authRequest : authRequests)
+			futures.add(getAuthExecutor().submit(() -> authenticate(authRequest)));
+		for (int index = 0; index < futures.size(); index++) {
+			IndividualAuthRequestDto authRequest = authRequests.get(index);
+			try {
+				results.add(futures.get(index).get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				for (int remaining = index; remaining < futures.size(); remaining++) {
+					futures.get(remaining).cancel(true);
+					results.add(new IndividualAuthResultDto(authRequests.get(remaining).getIndividualId(), null, e));
+				}
+				break;
+			} catch (ExecutionException e) {
+				results.add(new IndividualAuthResultDto(authRequest.getIndividualId(), null,
+						e.getCause() instanceof Exception ? (Exception) e.getCause() : e));
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Returns the auth response of a batch authentication result, or rethrows the
+	 * failure of that individual's authentication.
+	 *
+	 * @param authResult
+	 *            the result of one individual
+	 * @return the auth response
+	 */
+	public static AuthResponseDTO getAuthResponse(IndividualAuthResultDto authResult)
+			throws ApisResourceAccessException, IOException, BioTypeException, CertificateException, NoSuchAlgorithmException {
+		Exception e = authResult.getException();
+		if (e == null)
+			return authResult.getAuthResponse();
+		if (e instanceof ApisResourceAccessException)
+			throw (ApisResourceAccessException) e;
+		if (e instanceof IOException)
+			throw (IOException) e;
+		if (e instanceof BioTypeException)
+			throw (BioTypeException) e;
+		if (e instanceof CertificateException)
+			throw (CertificateException) e;
+		if (e instanceof NoSuchAlgorithmException)
+			throw (NoSuchAlgorithmException) e;
+		if (e instanceof RuntimeException)
+			throw (RuntimeException) e;
+		throw new IOException(e);
+	}
+
+	private IndividualAuthResultDto authenticate(IndividualAuthRequestDto authRequest) {
+		try {
+			return new IndividualAuthResultDto(authRequest.getIndividualId(), authByIdAuthentication(
+					authRequest.getIndividualId(), authRequest.getIndividualType(), authRequest.getBiometrics()), null);
+		} catch (Exception e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+					authRequest.getIndividualId(), "AuthUtil::authByIdAuthentication():: authentication failed "
+							+ e.getMessage());
+			return new IndividualAuthResultDto(authRequest.getIndividualId(), null, e);
+		}
+	}
+
+	private synchronized ExecutorService getAuthExecutor() {
+		if (authExecutor == null) {
+			authExecutor = Executors.newFixedThreadPool(Math.max(1, authBatchThreads), runnable -> {
+				Thread thread = new Thread(runnable, "ida-batch-auth");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return authExecutor;
+	}
+
+	@PreDestroy
+	public synchronized void shutdownAuthExecutor() {
+		if (authExecutor != null)
+			authExecutor.shutdownNow();
+	}
+
+	private byte[] encryptRSA(final byte[] sessionKey, String refId)
 			throws ApisResourceAccessException, IOException, CertificateException {
 
 		// encrypt AES Session Key using RSA public key
+		return encryptor.asymmetricEncrypt(getIdaPublicKey(refId), sessionKey);
+
+	}
+
+	/**
+	 * Returns the cached IDA public key for the reference id. The certificate is
+	 * fetched again once the cache ttl elapses or the certificate is close to its
+	 * expiry. No lock is held while it is fetched: one caller fetches it and the
+	 * others keep using the cached key meanwhile. If that fetch fails the cached
+	 * key is used until the certificate actually expires.
+	 */
+	private PublicKey getIdaPublicKey(String refId)
+			throws ApisResourceAccessException, IOException, CertificateException {
+		CachedPublicKey cached = idaPublicKeys.get(refId);
+		Instant now = Instant.now();
+		if (cached != null && now.isBefore(cached.getRefreshAt()))
+			return cached.getPublicKey();
+		boolean usable = cached != null && now.isBefore(cached.getNotAfter());
+		if (usable && !refreshingIdaPublicKeys.add(refId))
+			return cached.getPublicKey();
+		try {
+			X509Certificate x509cert = getIdaCertificate(refId);
+			Instant notAfter = x509cert.getNotAfter().toInstant();
+			Instant refreshAt = now.plusSeconds(certificateCacheTtlSeconds);
+			Instant refreshBeforeExpiry = notAfter.minusSeconds(certificateRefreshBeforeExpirySeconds);
+			if (refreshBeforeExpiry.isBefore(refreshAt))
+				refreshAt = refreshBeforeExpiry;
+			idaPublicKeys.put(refId, new CachedPublicKey(x509cert.getPublicKey(), refreshAt, notAfter));
+			return x509cert.getPublicKey();
+		} catch (ApisResourceAccessException | IOException | CertificateException e) {
+			if (usable) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+						refId, "AuthUtil::getIdaPublicKey():: certificate refresh failed, using cached key "
+								+ e.getMessage());
+				return cached.getPublicKey();
+			}
+			throw e;
+		} finally {
+			if (usable)
+				refreshingIdaPublicKeys.remove(refId);
+		}
+	}
+
+	private X509Certificate getIdaCertificate(String refId)
+			throws ApisResourceAccessException, IOException, CertificateException {
 		ResponseWrapper<?> responseWrapper;
 		CertificateResponseDto certificateResponseDto;
 
@@ -202,12 +377,32 @@ public class AuthUtil {
 		String certificate = trimBeginEnd(certificateResponseDto.getCertificate());
 
 		CertificateFactory cf = CertificateFactory.getInstance("X.509");
-		X509Certificate x509cert = (X509Certificate) cf.generateCertificate(new ByteArrayInputStream(java.util.Base64.getDecoder().decode(certificate)));
+		return (X509Certificate) cf.generateCertificate(new ByteArrayInputStream(java.util.Base64.getDecoder().decode(certificate)));
 
-		PublicKey publicKey = x509cert.getPublicKey();
+	}
+
+	private static class CachedPublicKey {
+		private final PublicKey publicKey;
+		private final Instant refreshAt;
+		private final Instant notAfter;
 
-		return encryptor.asymmetricEncrypt(publicKey, sessionKey);
+		CachedPublicKey(PublicKey publicKey, Instant refreshAt, Instant notAfter) {
+			this.publicKey = publicKey;
+			this.refreshAt = refreshAt;
+			this.notAfter = notAfter;
+		}
 
+		PublicKey getPublicKey() {
+			return publicKey;
+		}
+
+		Instant getRefreshAt() {
+			return refreshAt;
+		}
+
+		Instant getNotAfter() {
+			return notAfter;
+		}
 	}
 
 	private List<BioInfo> getBiometricsList(List<io.mosip.kernel.biometrics.entities.BIR> list) throws BioTypeException, NoSuchAlgorithmException {
@@ -0,0 +1,158 @@
+package io.mosip.registration.processor.packet.storage.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.registration.processor.core.auth.dto.AuthResponseDTO;
+import io.mosip.registration.processor.core.exception.ApisResourceAccessException;
+import io.mosip.registration.processor.core.http.ResponseWrapper;
+import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
+import io.mosip.registration.processor.packet.storage.dto.IndividualAuthRequestDto;
+import io.mosip.registration.processor.packet.storage.dto.IndividualAuthResultDto;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AuthUtilTest {
+
+	/** Self signed IDA certificate, valid until 2126. */
+	private static final String CERTIFICATE = "-----BEGIN CERTIFICATE-----\n"
+			+ "MIIBczCCARmgAwIBAgIUXqlh0GL2FXJr0yPcen+E3klOcAMwCgYIKoZIzj0EAwIw\n"
+			+ "DjEMMAoGA1UEAwwDSURBMCAXDTI2MTAxOTAyMTcyMVoYDzIxMjYwOTI1MDIxNzIx\n"
+			+ "WjAOMQwwCgYDVQQDDANJREEwWTATBgcqhkjOPQIBBggqhkjOPQMBBwNCAARfWqPF\n"
+			+ "Q7sShYWHO7xnONoXOVINWAMmWpkR7JJ0GGATCU8gbBHAKKYWtqYkTg0XUYOmSVtA\n"
+			+ "vRaIemfG5Ti2UZ1xo1MwUTAdBgNVHQ4EFgQUIXoHylXXIlQqjyA4SszY+rQwoD4w\n"
+			+ "HwYDVR0jBBgwFoAUIXoHylXXIlQqjyA4SszY+rQwoD4wDwYDVR0TAQH/BAUwAwEB\n"
+			+ "/zAKBggqhkjOPQQDAgNIADBFAiEAgnD88l+D/eAAAE3oq/ETdgxkX8mI+Pvz5wrJ\n"
+			+ "RZtIjc8CIB7oJ8j7qk3D18d/tWJsL/11Ul/nk0atgNpqlKvZk8+P\n"
+			+ "-----END CERTIFICATE-----\n";
+
+	@InjectMocks
+	private AuthUtil authUtil;
+
+	@Mock
+	private RegistrationProcessorRestClientService<Object> registrationProcessorRestClientService;
+
+	private ResponseWrapper<Map<String, String>> certificateResponse = new ResponseWrapper<>();
+
+	@Before
+	public void setup() {
+		Map<String, String> certificate = new HashMap<>();
+		certificate.put("certificate", CERTIFICATE);
+		certificateResponse.setResponse(certificate);
+		ReflectionTestUtils.setField(authUtil, "certificateCacheTtlSeconds", 3600L);
+		ReflectionTestUtils.setField(authUtil, "certificateRefreshBeforeExpirySeconds", 300L);
+	}
+
+	@Test
+	public void testCertificateCachedWithinTtl() throws Exception {
+		when(registrationProcessorRestClientService.getApi(any(), any(), any(), any(), any()))
+				.thenReturn(certificateResponse);
+
+		PublicKey publicKey = getIdaPublicKey();
+
+		assertEquals(publicKey, getIdaPublicKey());
+		verify(registrationProcessorRestClientService, times(1)).getApi(any(), any(), any(), any(), any());
+	}
+
+	@Test
+	public void testCertificateFetchedAgainAfterTtl() throws Exception {
+		ReflectionTestUtils.setField(authUtil, "certificateCacheTtlSeconds", 0L);
+		when(registrationProcessorRestClientService.getApi(any(), any(), any(), any(), any()))
+				.thenReturn(certificateResponse);
+
+		getIdaPublicKey();
+		getIdaPublicKey();
+
+		verify(registrationProcessorRestClientService, times(2)).getApi(any(), any(), any(), any(), any());
+	}
+
+	@Test
+	public void testCachedKeyUsedWhenRefreshFails() throws Exception {
+		ReflectionTestUtils.setField(authUtil, "certificateCacheTtlSeconds", 0L);
+		when(registrationProcessorRestClientService.getApi(any(), any(), any(), any(), any()))
+				.thenReturn(certificateResponse).thenThrow(new ApisResourceAccessException("unavailable"));
+
+		PublicKey publicKey = getIdaPublicKey();
+
+		assertEquals(publicKey, getIdaPublicKey());
+		verify(registrationProcessorRestClientService, times(2)).getApi(any(), any(), any(), any(), any());
+	}
+
+	@Test(expected = ApisResourceAccessException.class)
+	public void testFetchFailureWithoutCachedKey() throws Exception {
+		when(registrationProcessorRestClientService.getApi(any(), any(), any(), any(), any()))
+				.thenThrow(new ApisResourceAccessException("unavailable"));
+
+		getIdaPublicKey();
+	}
+
+	@Test
+	public void testBatchFailureReportedForItsIndividualOnly() throws Exception {
+		ReflectionTestUtils.setField(authUtil, "authBatchThreads", 3);
+		AuthUtil batchAuthUtil = spy(authUtil);
+		AuthResponseDTO operatorResponse = new AuthResponseDTO();
+		AuthResponseDTO introducerResponse = new AuthResponseDTO();
+		ApisResourceAccessException supervisorFailure = new ApisResourceAccessException("unavailable");
+		doReturn(operatorResponse).when(batchAuthUtil).authByIdAuthentication(eq("operator"), any(), any());
+		doThrow(supervisorFailure).when(batchAuthUtil).authByIdAuthentication(eq("supervisor"), any(), any());
+		doReturn(introducerResponse).when(batchAuthUtil).authByIdAuthentication(eq("introducer"), any(), any());
+
+		try {
+			List<IndividualAuthResultDto> results = batchAuthUtil.authByIdAuthentication(Arrays.asList(
+					new IndividualAuthRequestDto("operator", "USERID", null),
+					new IndividualAuthRequestDto("supervisor", "USERID", null),
+					new IndividualAuthRequestDto("introducer", "UIN", null)));
+
+			assertEquals(3, results.size());
+			assertEquals("operator", results.get(0).getIndividualId());
+			assertEquals(operatorResponse, AuthUtil.getAuthResponse(results.get(0)));
+			assertEquals("supervisor", results.get(1).getIndividualId());
+			assertNull(results.get(1).getAuthResponse());
+			assertEquals(supervisorFailure, results.get(1).getException());
+			assertEquals("introducer", results.get(2).getIndividualId());
+			assertEquals(introducerResponse, AuthUtil.getAuthResponse(results.get(2)));
+		} finally {
+			batchAuthUtil.shutdownAuthExecutor();
+		}
+	}
+
+	@Test(expected = ApisResourceAccessException.class)
+	public void testBatchFailureRethrownForItsIndividual() throws Exception {
+		AuthUtil.getAuthResponse(
+				new IndividualAuthResultDto("supervisor", null, new ApisResourceAccessException("unavailable")));
+	}
+
+	private PublicKey getIdaPublicKey() throws Exception {
+		Method getIdaPublicKey = AuthUtil.class.getDeclaredMethod("getIdaPublicKey", String.class);
+		getIdaPublicKey.setAccessible(true);
+		try {
+			return (PublicKey) getIdaPublicKey.invoke(authUtil, AuthUtil.PARTNER_ID);
+		} catch (InvocationTargetException e) {
+			throw (Exception) e.getCause();
+		}
+	}
+
+}
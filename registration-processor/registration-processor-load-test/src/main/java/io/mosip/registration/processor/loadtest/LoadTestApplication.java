@@ -0,0 +1,110 @@
+package io.mosip.registration.processor.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import io.mosip.registration.processor.core.abstractverticle.MosipEventBus;
+import io.mosip.registration.processor.core.eventbus.EmbeddedVertx;
+import io.mosip.registration.processor.core.eventbus.VertxMosipEventBus;
+import io.mosip.registration.processor.loadtest.config.LoadTestProperties;
+import io.mosip.registration.processor.loadtest.packet.PacketInjector;
+import io.mosip.registration.processor.loadtest.packet.SyntheticPacketGenerator;
+import io.mosip.registration.processor.loadtest.report.LoadReport;
+import io.mosip.registration.processor.loadtest.report.PipelineTracker;
+import io.mosip.registration.processor.loadtest.stage.PipelineBridge;
+import io.mosip.registration.processor.loadtest.stage.PipelineStage;
+import io.mosip.registration.processor.loadtest.stage.StageLauncher;
+import io.mosip.registration.processor.loadtest.stub.StubApiServer;
+import io.mosip.registration.processor.status.dao.SyncRegistrationDao;
+
+/**
+ * Runs a chain of stages in one JVM against stubbed services and an in memory
+ * database, sends synthetic packets through it and prints the throughput and
+ * latency of every stage.
+ *
+ * The only argument is the location of the run settings, see
+ * {@link LoadTestProperties}; it defaults to classpath:load-test.properties.
+ */
+public class LoadTestApplication {
+
+	private static final String DEFAULT_CONFIG = "classpath:load-test.properties";
+
+	private static final String VIRUS_SCANNER_HOST = "mosip.kernel.virus-scanner.host";
+
+	private static final String VIRUS_SCANNER_PORT = "mosip.kernel.virus-scanner.port";
+
+	private static final int VIRUS_SCANNER_CONNECT_TIMEOUT_MILLIS = 2000;
+
+	public static void main(String[] args) throws Exception {
+		LoadTestProperties properties = LoadTestProperties.load(args.length > 0 ? args[0] : DEFAULT_CONFIG);
+		List<PipelineStage> stages = properties.getStages();
+		if (!isVirusScannerReachable(properties, stages))
+			System.exit(1);
+
+		StubApiServer stubApiServer = new StubApiServer(properties.getStubPort(), properties.getStubLatencyMillis(),
+				properties.getStubEchoApis());
+		StageLauncher stageLauncher = new StageLauncher(properties, stubApiServer.getServiceProperties());
+		boolean finished = false;
+		try {
+			stubApiServer.start();
+			AnnotationConfigApplicationContext firstContext = null;
+			for (int i = 0; i < stages.size(); i++) {
+				AnnotationConfigApplicationContext ctx = stageLauncher.launch(stages.get(i), i);
+				if (i == 0)
+					firstContext = ctx;
+			}
+
+			PipelineTracker tracker = new PipelineTracker(properties.getPacketCount(),
+					properties.getMaxPacketsInFlight());
+			MosipEventBus mosipEventBus = new VertxMosipEventBus(EmbeddedVertx.get());
+			new PipelineBridge(mosipEventBus, tracker).connect(stages);
+
+			SyntheticPacketGenerator generator = new SyntheticPacketGenerator(properties.getPacketTemplate());
+			Map<String, byte[]> packets = generator.generate(properties.getPacketCount());
+			firstContext.getBean(SyncRegistrationDao.class).saveAll(generator.toSyncEntities(packets),
+					Collections.emptyList());
+
+			String receiverUrl = "http://localhost:" + properties.getStageBasePort()
+					+ firstContext.getEnvironment().getProperty("server.servlet.path", "") + "/registrationpackets";
+			new PacketInjector(tracker, mosipEventBus).inject(stages.get(0), receiverUrl, packets);
+
+			finished = tracker.await(properties.getTimeoutSeconds(), TimeUnit.SECONDS);
+			if (!finished)
+				System.out.println("Timed out after " + properties.getTimeoutSeconds() + " s");
+			new LoadReport(tracker).print(System.out);
+		} finally {
+			stageLauncher.close();
+			stubApiServer.stop();
+		}
+		System.exit(finished ? 0 : 1);
+	}
+
+	/**
+	 * Checks that the ClamAV daemon is reachable when a stage of the run scans
+	 * the packets, so a run without it stops before starting the stages instead
+	 * of failing every packet.
+	 */
+	private static boolean isVirusScannerReachable(LoadTestProperties properties, List<PipelineStage> stages) {
+		if (stages.stream().noneMatch(PipelineStage::isVirusScanned))
+			return true;
+		String host = properties.getStageProperty(VIRUS_SCANNER_HOST);
+		String port = properties.getStageProperty(VIRUS_SCANNER_PORT);
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, Integer.parseInt(port)), VIRUS_SCANNER_CONNECT_TIMEOUT_MILLIS);
+			return true;
+		} catch (IOException | IllegalArgumentException e) {
+			System.out.println("The packet receiver and uploader scan every packet, but no ClamAV daemon answers at "
+					+ host + ":" + port + ". Start one, set " + VIRUS_SCANNER_HOST + " and " + VIRUS_SCANNER_PORT
+					+ ", or leave these stages out of loadtest.stages.");
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,161 @@
+package io.mosip.registration.processor.loadtest.config;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import io.mosip.registration.processor.loadtest.stage.PipelineStage;
+
+/**
+ * Settings of a load test run.
+ *
+ * Keys starting with loadtest. configure the harness. Every other key is passed
+ * to the stages as configuration, in place of the config server. System
+ * properties override the file, so a run can be tuned with -D flags; stages
+ * also see the system properties that are not in the file.
+ */
+public class LoadTestProperties {
+
+	private static final String PREFIX = "loadtest.";
+
+	private static final String CLASSPATH_PREFIX = "classpath:";
+
+	private final Properties properties;
+
+	public LoadTestProperties(Properties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Loads the settings from a classpath resource or a file, then applies the
+	 * system properties.
+	 *
+	 * @param location
+	 *            classpath:name or a file path
+	 * @return the settings
+	 * @throws IOException
+	 *             if the settings could not be read
+	 */
+	public static LoadTestProperties load(String location) throws IOException {
+		Properties properties = new Properties();
+		try (InputStream inputStream = open(location)) {
+			properties.load(inputStream);
+		}
+		for (String key : System.getProperties().stringPropertyNames()) {
+			if (key.startsWith(PREFIX) || properties.containsKey(key))
+				properties.setProperty(key, System.getProperty(key));
+		}
+		return new LoadTestProperties(properties);
+	}
+
+	private static InputStream open(String location) throws IOException {
+		if (!location.startsWith(CLASSPATH_PREFIX))
+			return new FileInputStream(location);
+		String resource = location.substring(CLASSPATH_PREFIX.length());
+		InputStream inputStream = LoadTestProperties.class.getClassLoader().getResourceAsStream(resource);
+		if (inputStream == null)
+			throw new FileNotFoundException(location);
+		return inputStream;
+	}
+
+	/**
+	 * Gets the stages to run, in pipeline order.
+	 *
+	 * @return the stages
+	 */
+	public List<PipelineStage> getStages() {
+		List<PipelineStage> stages = new ArrayList<>();
+		for (String name : getString("stages", "packet-receiver,packet-uploader,packet-validator").split(",")) {
+			stages.add(PipelineStage.fromName(name));
+		}
+		stages.sort(null);
+		return stages;
+	}
+
+	/** Number of synthetic packets to generate. */
+	public int getPacketCount() {
+		return getInt("packet.count", 100);
+	}
+
+	/** Packets sent into the pipeline before waiting for one to finish. */
+	public int getMaxPacketsInFlight() {
+		return getInt("packet.max.in.flight", 20);
+	}
+
+	/** Optional unencrypted sample packet whose entries are copied. */
+	public String getPacketTemplate() {
+		return getString("packet.template", null);
+	}
+
+	public long getTimeoutSeconds() {
+		return getInt("timeout.seconds", 600);
+	}
+
+	public int getStubPort() {
+		return getInt("stub.port", 18080);
+	}
+
+	/** Latency added to every stubbed service call. */
+	public long getStubLatencyMillis() {
+		return getInt("stub.latency.millis", 0);
+	}
+
+	/** Services whose stub answers with the data of the request. */
+	public List<String> getStubEchoApis() {
+		List<String> apis = new ArrayList<>();
+		for (String api : getString("stub.echo.apis", "").split(",")) {
+			if (!api.trim().isEmpty())
+				apis.add(api.trim());
+		}
+		return apis;
+	}
+
+	/** First http port, each stage gets the next one. */
+	public int getStageBasePort() {
+		return getInt("stage.base.port", 18100);
+	}
+
+	/** First event bus port, each stage gets the next one. */
+	public int getEventBusBasePort() {
+		return getInt("eventbus.base.port", 18200);
+	}
+
+	public int getWorkerPoolSize(PipelineStage stage) {
+		return getInt("stage." + stage.name().toLowerCase().replace('_', '-') + ".worker.pool.size",
+				getInt("stage.worker.pool.size", 10));
+	}
+
+	/**
+	 * Gets the configuration passed to every stage.
+	 *
+	 * @return the stage configuration
+	 */
+	public Map<String, Object> getStageProperties() {
+		Map<String, Object> stageProperties = new HashMap<>();
+		for (String key : properties.stringPropertyNames()) {
+			if (!key.startsWith(PREFIX))
+				stageProperties.put(key, properties.getProperty(key));
+		}
+		return stageProperties;
+	}
+
+	public String getStageProperty(String key) {
+		return properties.getProperty(key);
+	}
+
+	private String getString(String key, String defaultValue) {
+		return properties.getProperty(PREFIX + key, defaultValue);
+	}
+
+	private int getInt(String key, int defaultValue) {
+		String value = properties.getProperty(PREFIX + key);
+		return value == null || value.trim().isEmpty() ? defaultValue : Integer.parseInt(value.trim());
+	}
+
+}
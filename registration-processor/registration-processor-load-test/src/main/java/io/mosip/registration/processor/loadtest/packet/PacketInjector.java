@@ -0,0 +1,93 @@
+package io.mosip.registration.processor.loadtest.packet;
+
+import java.util.Map;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
+import io.mosip.registration.processor.core.abstractverticle.MosipEventBus;
+import io.mosip.registration.processor.core.constant.RegistrationType;
+import io.mosip.registration.processor.loadtest.report.PipelineTracker;
+import io.mosip.registration.processor.loadtest.stage.PipelineStage;
+
+/**
+ * Sends the packets of a run into the first stage.
+ *
+ * The packet receiver gets every packet uploaded over http, as from the
+ * registration client. Any other first stage gets the message the stage before
+ * it would have sent.
+ */
+public class PacketInjector {
+
+	private static final String FILE_PART = "file";
+
+	private final PipelineTracker tracker;
+
+	private final MosipEventBus mosipEventBus;
+
+	private final RestTemplate restTemplate = new RestTemplate();
+
+	public PacketInjector(PipelineTracker tracker, MosipEventBus mosipEventBus) {
+		this.tracker = tracker;
+		this.mosipEventBus = mosipEventBus;
+	}
+
+	/**
+	 * Sends the packets, keeping at most the configured number in flight.
+	 *
+	 * @param firstStage
+	 *            the first stage of the run
+	 * @param receiverUrl
+	 *            the upload url of the packet receiver, used when it is the first
+	 *            stage
+	 * @param packets
+	 *            the packets by registration id
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for a packet to finish
+	 */
+	public void inject(PipelineStage firstStage, String receiverUrl, Map<String, byte[]> packets)
+			throws InterruptedException {
+		for (Map.Entry<String, byte[]> packet : packets.entrySet()) {
+			tracker.started(packet.getKey());
+			if (firstStage == PipelineStage.PACKET_RECEIVER)
+				upload(receiverUrl, packet.getKey(), packet.getValue());
+			else
+				send(firstStage, packet.getKey());
+		}
+	}
+
+	private void upload(String receiverUrl, String registrationId, byte[] packet) {
+		MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+		body.add(FILE_PART, new ByteArrayResource(packet) {
+			@Override
+			public String getFilename() {
+				return registrationId + ".zip";
+			}
+		});
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+		try {
+			restTemplate.postForEntity(receiverUrl, new HttpEntity<>(body, headers), String.class);
+		} catch (RestClientException e) {
+			tracker.stopped(registrationId, PipelineStage.PACKET_RECEIVER.name());
+		}
+	}
+
+	private void send(PipelineStage firstStage, String registrationId) {
+		MessageDTO message = new MessageDTO();
+		message.setRid(registrationId);
+		message.setReg_type(RegistrationType.NEW);
+		message.setIsValid(Boolean.TRUE);
+		message.setInternalError(Boolean.FALSE);
+		message.setMessageBusAddress(firstStage.getInAddress());
+		mosipEventBus.send(firstStage.getInAddress(), message);
+	}
+
+}
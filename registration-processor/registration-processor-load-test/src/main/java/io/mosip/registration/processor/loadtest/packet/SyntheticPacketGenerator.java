@@ -0,0 +1,169 @@
+package io.mosip.registration.processor.loadtest.packet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import io.mosip.kernel.core.util.HMACUtils2;
+import io.mosip.registration.processor.status.entity.SyncRegistrationEntity;
+import io.mosip.registration.processor.status.utilities.RegistrationUtility;
+
+/**
+ * Generates packets for a load test run, along with the registration list
+ * entries the packet receiver expects to find for them.
+ *
+ * Without a template a packet holds a minimal ID.json and packet meta info.
+ * With a template every packet holds the entries of the template, so a run can
+ * use a realistic packet size and content.
+ */
+public class SyntheticPacketGenerator {
+
+	private static final String CENTER_ID = "10001";
+
+	private static final String MACHINE_ID = "10002";
+
+	private static final String CREATED_BY = "MOSIP_SYSTEM";
+
+	private static final DateTimeFormatter RID_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+	private final Map<String, byte[]> templateEntries;
+
+	/**
+	 * Instantiates a new generator.
+	 *
+	 * @param templatePath
+	 *            path of an unencrypted sample packet, or null
+	 * @throws IOException
+	 *             if the template could not be read
+	 */
+	public SyntheticPacketGenerator(String templatePath) throws IOException {
+		this.templateEntries = templatePath == null ? null : readEntries(templatePath);
+	}
+
+	/**
+	 * Builds a registration id from the center, the machine, the sequence and the
+	 * time, the way the registration client does.
+	 *
+	 * @param sequence
+	 *            the sequence of the packet in the run
+	 * @param time
+	 *            the time of the run
+	 * @return the registration id
+	 */
+	public static String registrationId(int sequence, LocalDateTime time) {
+		return CENTER_ID + MACHINE_ID + String.format("%05d", sequence) + RID_TIMESTAMP.format(time);
+	}
+
+	/**
+	 * Generates the packets of a run.
+	 *
+	 * @param count
+	 *            the number of packets
+	 * @return the packets by registration id, in generation order
+	 * @throws IOException
+	 *             if a packet could not be written
+	 */
+	public Map<String, byte[]> generate(int count) throws IOException {
+		Map<String, byte[]> packets = new LinkedHashMap<>();
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 1; i <= count; i++) {
+			String registrationId = registrationId(i, now);
+			packets.put(registrationId, createPacket(registrationId));
+		}
+		return packets;
+	}
+
+	/**
+	 * Builds the registration list entries of the packets, as the sync api would
+	 * store them.
+	 *
+	 * @param packets
+	 *            the packets by registration id
+	 * @return the sync registration entities
+	 * @throws NoSuchAlgorithmException
+	 *             if the packet hash could not be computed
+	 */
+	public List<SyncRegistrationEntity> toSyncEntities(Map<String, byte[]> packets) throws NoSuchAlgorithmException {
+		List<SyncRegistrationEntity> entities = new ArrayList<>();
+		LocalDateTime now = LocalDateTime.now();
+		for (Map.Entry<String, byte[]> packet : packets.entrySet()) {
+			SyncRegistrationEntity entity = new SyncRegistrationEntity();
+			entity.setId(RegistrationUtility.generateId());
+			entity.setRegistrationId(packet.getKey());
+			entity.setRegistrationType("NEW");
+			entity.setPacketHashValue(HMACUtils2.digestAsPlainText(packet.getValue()));
+			entity.setPacketSize(BigInteger.valueOf(packet.getValue().length));
+			entity.setSupervisorStatus("APPROVED");
+			entity.setLangCode("eng");
+			entity.setCreatedBy(CREATED_BY);
+			entity.setCreateDateTime(now);
+			entity.setIsDeleted(Boolean.FALSE);
+			entities.add(entity);
+		}
+		return entities;
+	}
+
+	private byte[] createPacket(String registrationId) throws IOException {
+		ByteArrayOutputStream packet = new ByteArrayOutputStream();
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(packet)) {
+			if (templateEntries != null) {
+				for (Map.Entry<String, byte[]> entry : templateEntries.entrySet()) {
+					addEntry(zipOutputStream, entry.getKey(), entry.getValue());
+				}
+			} else {
+				addEntry(zipOutputStream, "ID.json",
+						("{\"identity\":{\"IDSchemaVersion\":1.0,\"registrationId\":\"" + registrationId + "\"}}")
+								.getBytes(StandardCharsets.UTF_8));
+				addEntry(zipOutputStream, "packet_meta_info.json",
+						("{\"identity\":{\"metaData\":[{\"label\":\"registrationType\",\"value\":\"New\"},"
+								+ "{\"label\":\"centerId\",\"value\":\"" + CENTER_ID + "\"},"
+								+ "{\"label\":\"machineId\",\"value\":\"" + MACHINE_ID + "\"}]}}")
+										.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		return packet.toByteArray();
+	}
+
+	private static void addEntry(ZipOutputStream zipOutputStream, String name, byte[] content) throws IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(name));
+		zipOutputStream.write(content);
+		zipOutputStream.closeEntry();
+	}
+
+	private static Map<String, byte[]> readEntries(String templatePath) throws IOException {
+		Map<String, byte[]> entries = new LinkedHashMap<>();
+		try (InputStream inputStream = new FileInputStream(templatePath);
+				ZipInputStream zipInputStream = new ZipInputStream(inputStream)) {
+			ZipEntry entry;
+			while ((entry = zipInputStream.getNextEntry()) != null) {
+				if (!entry.isDirectory())
+					entries.put(entry.getName(), readFully(zipInputStream));
+			}
+		}
+		return entries;
+	}
+
+	private static byte[] readFully(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			content.write(buffer, 0, read);
+		}
+		return content.toByteArray();
+	}
+
+}
@@ -0,0 +1,84 @@
+package io.mosip.registration.processor.loadtest.report;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.mosip.registration.processor.core.metrics.StageMetricsRegistry;
+
+/**
+ * Prints the result of a run: throughput and latency percentiles of every
+ * stage, of the service calls they made and of the pipeline end to end.
+ *
+ * Stage figures come from {@link StageMetricsRegistry}, whose percentiles cover
+ * the last two minutes of the run, counts and means cover all of it.
+ */
+public class LoadReport {
+
+	private static final String PROCESS_TIMER = "regproc.stage.process";
+
+	private static final String QUEUE_WAIT_TIMER = "regproc.stage.queue.wait";
+
+	private static final String REST_CALL_TIMER = "regproc.rest.call";
+
+	private static final String DB_CALL_TIMER = "regproc.db.call";
+
+	private static final String HEADER = "%-40s %8s %10s %10s %10s %10s %10s%n";
+
+	private static final String ROW = "%-40s %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n";
+
+	private final PipelineTracker tracker;
+
+	public LoadReport(PipelineTracker tracker) {
+		this.tracker = tracker;
+	}
+
+	/**
+	 * Prints the report.
+	 *
+	 * @param out
+	 *            the stream to print to
+	 */
+	public void print(PrintStream out) {
+		double elapsedSeconds = tracker.getElapsedNanos() / 1e9;
+		MeterRegistry registry = StageMetricsRegistry.getRegistry();
+
+		out.println();
+		out.printf("Elapsed %.1f s, completed %d, pending %d, stopped %s%n", elapsedSeconds,
+				tracker.getCompleted(), tracker.getPending(), tracker.getStoppedByStage());
+		out.println();
+		out.printf(HEADER, "timer", "count", "per sec", "mean ms", "p50 ms", "p95 ms", "p99 ms");
+		printRow(out, "end-to-end", tracker.getEndToEnd(), elapsedSeconds);
+		printTimers(out, registry, PROCESS_TIMER, "stage", elapsedSeconds);
+		printTimers(out, registry, QUEUE_WAIT_TIMER, "stage", elapsedSeconds);
+		printTimers(out, registry, REST_CALL_TIMER, "api", elapsedSeconds);
+		printTimers(out, registry, DB_CALL_TIMER, "operation", elapsedSeconds);
+	}
+
+	private void printTimers(PrintStream out, MeterRegistry registry, String name, String tagKey,
+			double elapsedSeconds) {
+		Map<String, Timer> timers = new TreeMap<>();
+		for (Timer timer : registry.find(name).timers()) {
+			String outcome = timer.getId().getTag("outcome");
+			String label = name.substring(name.lastIndexOf('.') + 1) + " " + timer.getId().getTag(tagKey)
+					+ (outcome != null ? " " + outcome : "");
+			timers.put(label, timer);
+		}
+		timers.forEach((label, timer) -> printRow(out, label, timer, elapsedSeconds));
+	}
+
+	private void printRow(PrintStream out, String label, Timer timer, double elapsedSeconds) {
+		double[] percentiles = new double[3];
+		for (ValueAtPercentile valueAtPercentile : timer.takeSnapshot().percentileValues()) {
+			int index = valueAtPercentile.percentile() == 0.5 ? 0 : valueAtPercentile.percentile() == 0.95 ? 1 : 2;
+			percentiles[index] = valueAtPercentile.value(TimeUnit.MILLISECONDS);
+		}
+		out.printf(ROW, label, timer.count(), elapsedSeconds > 0 ? timer.count() / elapsedSeconds : 0,
+				timer.mean(TimeUnit.MILLISECONDS), percentiles[0], percentiles[1], percentiles[2]);
+	}
+
+}
@@ -0,0 +1,137 @@
+package io.mosip.registration.processor.loadtest.report;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Follows every packet of a run from the moment it is sent into the pipeline
+ * until it leaves the last stage or stops at one, and limits the number of
+ * packets in flight.
+ */
+public class PipelineTracker {
+
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+
+	private final Map<String, AtomicInteger> stoppedByStage = new ConcurrentHashMap<>();
+
+	private final AtomicInteger completed = new AtomicInteger();
+
+	private final Timer endToEnd;
+
+	private final Semaphore inFlight;
+
+	private final CountDownLatch finished;
+
+	private volatile long firstStartNanos;
+
+	private volatile long lastFinishNanos;
+
+	public PipelineTracker(int packetCount, int maxInFlight) {
+		this.inFlight = new Semaphore(maxInFlight);
+		this.finished = new CountDownLatch(packetCount);
+		this.endToEnd = Timer.builder("loadtest.end.to.end").publishPercentiles(0.5, 0.95, 0.99)
+				.register(new SimpleMeterRegistry());
+	}
+
+	/**
+	 * Marks a packet as sent, waiting while the maximum number of packets is in
+	 * flight.
+	 *
+	 * @param registrationId
+	 *            the registration id
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public void started(String registrationId) throws InterruptedException {
+		inFlight.acquire();
+		long now = System.nanoTime();
+		if (firstStartNanos == 0)
+			firstStartNanos = now;
+		startTimes.put(registrationId, now);
+	}
+
+	/**
+	 * Marks a packet as having left the last stage.
+	 *
+	 * @param registrationId
+	 *            the registration id
+	 */
+	public void completed(String registrationId) {
+		Long startTime = startTimes.remove(registrationId);
+		if (startTime == null)
+			return;
+		endToEnd.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+		completed.incrementAndGet();
+		finish();
+	}
+
+	/**
+	 * Marks a packet as stopped at a stage, because the stage rejected it or
+	 * failed.
+	 *
+	 * @param registrationId
+	 *            the registration id
+	 * @param stage
+	 *            the stage the packet stopped at
+	 */
+	public void stopped(String registrationId, String stage) {
+		if (startTimes.remove(registrationId) == null)
+			return;
+		stoppedByStage.computeIfAbsent(stage, key -> new AtomicInteger()).incrementAndGet();
+		finish();
+	}
+
+	private void finish() {
+		lastFinishNanos = System.nanoTime();
+		inFlight.release();
+		finished.countDown();
+	}
+
+	/**
+	 * Waits until every packet completed or stopped.
+	 *
+	 * @param timeout
+	 *            the maximum time to wait
+	 * @param unit
+	 *            the unit of the timeout
+	 * @return false if the timeout elapsed first
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+		return finished.await(timeout, unit);
+	}
+
+	public int getCompleted() {
+		return completed.get();
+	}
+
+	/** Packets still in the pipeline. */
+	public int getPending() {
+		return startTimes.size();
+	}
+
+	public Map<String, Integer> getStoppedByStage() {
+		Map<String, Integer> stopped = new TreeMap<>();
+		stoppedByStage.forEach((stage, count) -> stopped.put(stage, count.get()));
+		return stopped;
+	}
+
+	public Timer getEndToEnd() {
+		return endToEnd;
+	}
+
+	/** Time between the first packet being sent and the last one finishing. */
+	public long getElapsedNanos() {
+		return firstStartNanos == 0 ? 0 : Math.max(0, lastFinishNanos - firstStartNanos);
+	}
+
+}
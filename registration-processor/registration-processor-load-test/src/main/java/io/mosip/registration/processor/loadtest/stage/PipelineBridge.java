@@ -0,0 +1,62 @@
+package io.mosip.registration.processor.loadtest.stage;
+
+import java.util.List;
+
+import io.mosip.registration.processor.core.abstractverticle.MessageBusAddress;
+import io.mosip.registration.processor.core.abstractverticle.MessageDTO;
+import io.mosip.registration.processor.core.abstractverticle.MosipEventBus;
+import io.mosip.registration.processor.core.constant.RegistrationType;
+import io.mosip.registration.processor.loadtest.report.PipelineTracker;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Routes packets between the stages of a run, in place of the camel bridge.
+ *
+ * A packet that a stage marks valid goes to the next stage of the run, or is
+ * completed after the last one. A packet that is invalid or had an internal
+ * error stops at the stage, since the routes it would take in a deployment
+ * (retry, manual verification, ...) are not part of the run.
+ */
+public class PipelineBridge {
+
+	private final MosipEventBus mosipEventBus;
+
+	private final PipelineTracker tracker;
+
+	public PipelineBridge(MosipEventBus mosipEventBus, PipelineTracker tracker) {
+		this.mosipEventBus = mosipEventBus;
+		this.tracker = tracker;
+	}
+
+	/**
+	 * Connects the out address of every stage to the in address of the next one.
+	 *
+	 * @param stages
+	 *            the stages of the run, in pipeline order
+	 */
+	public void connect(List<PipelineStage> stages) {
+		for (int i = 0; i < stages.size(); i++) {
+			PipelineStage stage = stages.get(i);
+			PipelineStage next = i + 1 < stages.size() ? stages.get(i + 1) : null;
+			for (RegistrationType regType : RegistrationType.values()) {
+				MessageBusAddress outAddress = new MessageBusAddress(stage.getOutAddress(), regType);
+				mosipEventBus.consume(outAddress, (event, handler) -> {
+					MessageDTO message = ((JsonObject) event.getBody()).mapTo(MessageDTO.class);
+					route(stage, next, message);
+				});
+			}
+		}
+	}
+
+	private void route(PipelineStage stage, PipelineStage next, MessageDTO message) {
+		if (!Boolean.TRUE.equals(message.getIsValid()) || Boolean.TRUE.equals(message.getInternalError())) {
+			tracker.stopped(message.getRid(), stage.name());
+		} else if (next == null) {
+			tracker.completed(message.getRid());
+		} else {
+			message.setMessageBusAddress(next.getInAddress());
+			mosipEventBus.send(next.getInAddress(), message);
+		}
+	}
+
+}
@@ -0,0 +1,163 @@
+package io.mosip.registration.processor.loadtest.stage;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.mosip.registration.processor.core.abstractverticle.MessageBusAddress;
+
+/**
+ * The stages the harness can run, in pipeline order.
+ *
+ * Each stage is booted the way its application class boots it, except that the
+ * stage specific configuration is registered by class instead of scanning its
+ * package, because several stages share the stages.config package and all of
+ * them are on the harness classpath.
+ */
+public enum PipelineStage {
+
+	PACKET_RECEIVER("registration-processor-packet-receiver-stage",
+			"io.mosip.registration.processor.packet.receiver.stage.PacketReceiverStage",
+			new String[] { "io.mosip.registration.processor.packet.receiver.config.PacketReceiverConfig" },
+			new String[] { "io.mosip.registration.processor.core.config",
+					"io.mosip.registration.processor.status.config",
+					"io.mosip.registration.processor.rest.client.config" },
+			null, MessageBusAddress.PACKET_RECEIVER_OUT),
+
+	PACKET_UPLOADER("registration-processor-packet-uploader-stage",
+			"io.mosip.registration.processor.packet.uploader.stage.PacketUploaderStage",
+			new String[] { "io.mosip.registration.processor.packet.uploader.config.PacketUploaderConfig" },
+			new String[] { "io.mosip.registration.processor.core.config",
+					"io.mosip.registration.processor.packet.manager.config", "io.mosip.kernel.packetmanager.config",
+					"io.mosip.registration.processor.packet.storage.config",
+					"io.mosip.registration.processor.status.config",
+					"io.mosip.registration.processor.rest.client.config",
+					"io.mosip.registration.processor.core.kernel.beans" },
+			MessageBusAddress.PACKET_UPLOADER_IN, MessageBusAddress.PACKET_UPLOADER_OUT),
+
+	PACKET_VALIDATOR("registration-processor-packet-validator-stage",
+			"io.mosip.registration.processor.stages.packet.validator.PacketValidatorStage",
+			new String[] { "io.mosip.registration.processor.stages.config.ValidatorConfig" },
+			new String[] { "io.mosip.registration.processor.core.config",
+					"io.mosip.registration.processor.status.config",
+					"io.mosip.registration.processor.rest.client.config",
+					"io.mosip.registration.processor.packet.storage.config",
+					"io.mosip.registration.processor.packet.manager.config", "io.mosip.kernel.idobjectvalidator.config",
+					"io.mosip.registration.processor.core.kernel.beans" },
+			MessageBusAddress.PACKET_VALIDATOR_BUS_IN, MessageBusAddress.PACKET_VALIDATOR_BUS_OUT),
+
+	OSI_VALIDATOR("registration-processor-osi-validator-stage",
+			"io.mosip.registration.processor.stages.osivalidator.OSIValidatorStage",
+			new String[] { "io.mosip.registration.processor.stages.config.OSIConfigBean" },
+			new String[] { "io.mosip.registration.processor.core.config",
+					"io.mosip.registration.processor.status.config",
+					"io.mosip.registration.processor.rest.client.config",
+					"io.mosip.registration.processor.packet.storage.config",
+					"io.mosip.registration.processor.packet.manager.config",
+					"io.mosip.registration.processor.core.kernel.beans" },
+			MessageBusAddress.OSI_BUS_IN, MessageBusAddress.OSI_BUS_OUT),
+
+	DEMO_DEDUPE("registration-processor-demo-dedupe-stage",
+			"io.mosip.registration.processor.stages.demodedupe.DemoDedupeStage",
+			new String[] { "io.mosip.registration.processor.stages.config.DemoDedupeConfig" },
+			new String[] { "io.mosip.registration.processor.core.config",
+					"io.mosip.registration.processor.status.config",
+					"io.mosip.registration.processor.packet.storage.config",
+					"io.mosip.registration.processor.core.kernel.beans",
+					"io.mosip.registration.processor.packet.manager.config", "io.mosip.kernel.packetmanager.config" },
+			MessageBusAddress.DEMO_DEDUPE_BUS_IN, MessageBusAddress.DEMO_DEDUPE_BUS_OUT),
+
+	BIO_DEDUPE("registration-processor-bio-dedupe-stage",
+			"io.mosip.registration.processor.biodedupe.stage.BioDedupeStage",
+			new String[] { "io.mosip.registration.processor.biodedupe.config.BioDedupeBeanConfig" },
+			new String[] { "io.mosip.registration.processor.core.config",
+					"io.mosip.registration.processor.status.config",
+					"io.mosip.registration.processor.rest.client.config",
+					"io.mosip.registration.processor.packet.storage.config",
+					"io.mosip.registration.processor.core.kernel.beans",
+					"io.mosip.registration.processor.packet.manager.config", "io.mosip.kernel.packetmanager.config" },
+			MessageBusAddress.BIO_DEDUPE_BUS_IN, MessageBusAddress.BIO_DEDUPE_BUS_OUT),
+
+	UIN_GENERATOR("registration-processor-uin-generator-stage",
+			"io.mosip.registration.processor.stages.uingenerator.stage.UinGeneratorStage",
+			new String[] { "io.mosip.registration.processor.stages.uingenerator.config.UINBeanConfig" },
+			new String[] { "io.mosip.registration.processor.core.config",
+					"io.mosip.registration.processor.status.config",
+					"io.mosip.registration.processor.rest.client.config",
+					"io.mosip.registration.processor.packet.storage.config", "io.mosip.kernel.packetmanager.config",
+					"io.mosip.registration.processor.packet.manager.config",
+					"io.mosip.registration.processor.core.kernel.beans" },
+			MessageBusAddress.UIN_GENERATION_BUS_IN, MessageBusAddress.UIN_GENERATION_BUS_OUT);
+
+	/** The maven module of the stage, used to find its bootstrap.properties. */
+	private final String moduleName;
+
+	private final String stageClassName;
+
+	private final String[] configClassNames;
+
+	private final String[] scanPackages;
+
+	/** The address the stage consumes from, null if it receives over http. */
+	private final MessageBusAddress inAddress;
+
+	/** The address the stage sends processed packets to. */
+	private final MessageBusAddress outAddress;
+
+	private PipelineStage(String moduleName, String stageClassName, String[] configClassNames,
+			String[] scanPackages, MessageBusAddress inAddress, MessageBusAddress outAddress) {
+		this.moduleName = moduleName;
+		this.stageClassName = stageClassName;
+		this.configClassNames = configClassNames;
+		this.scanPackages = scanPackages;
+		this.inAddress = inAddress;
+		this.outAddress = outAddress;
+	}
+
+	public String getModuleName() {
+		return moduleName;
+	}
+
+	public String getStageClassName() {
+		return stageClassName;
+	}
+
+	public List<String> getConfigClassNames() {
+		return Arrays.asList(configClassNames);
+	}
+
+	public String[] getScanPackages() {
+		return scanPackages.clone();
+	}
+
+	public MessageBusAddress getInAddress() {
+		return inAddress;
+	}
+
+	public MessageBusAddress getOutAddress() {
+		return outAddress;
+	}
+
+	/**
+	 * Checks if the stage scans every packet with the virus scanner, which
+	 * needs a ClamAV daemon.
+	 *
+	 * @return true for the packet receiver and uploader
+	 */
+	public boolean isVirusScanned() {
+		return this == PACKET_RECEIVER || this == PACKET_UPLOADER;
+	}
+
+	/**
+	 * Gets the stage for a name like packet-validator or PACKET_VALIDATOR.
+	 *
+	 * @param name
+	 *            the stage name
+	 * @return the stage
+	 * @throws IllegalArgumentException
+	 *             if there is no such stage
+	 */
+	public static PipelineStage fromName(String name) {
+		return valueOf(name.trim().toUpperCase().replace('-', '_'));
+	}
+
+}
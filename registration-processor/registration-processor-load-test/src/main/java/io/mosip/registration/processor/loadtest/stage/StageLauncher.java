@@ -0,0 +1,122 @@
+package io.mosip.registration.processor.loadtest.stage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertiesPropertySource;
+
+import io.mosip.registration.processor.core.eventbus.EmbeddedVertx;
+import io.mosip.registration.processor.loadtest.config.LoadTestProperties;
+
+/**
+ * Boots stages in this JVM, each in its own Spring context, and deploys them on
+ * the embedded event bus.
+ *
+ * A stage sees, in order of precedence, the ports and service urls assigned by
+ * the harness, the stage configuration of the run, the bootstrap.properties of
+ * its own module and the system properties.
+ */
+public class StageLauncher {
+
+	private static final String BOOTSTRAP_PROPERTIES = "bootstrap.properties";
+
+	private final LoadTestProperties properties;
+
+	private final Map<String, Object> serviceProperties;
+
+	private final List<AnnotationConfigApplicationContext> contexts = new ArrayList<>();
+
+	public StageLauncher(LoadTestProperties properties, Map<String, Object> serviceProperties) {
+		this.properties = properties;
+		this.serviceProperties = serviceProperties;
+	}
+
+	/**
+	 * Boots a stage and deploys it.
+	 *
+	 * @param stage
+	 *            the stage
+	 * @param index
+	 *            the position of the stage in the run, used to assign ports
+	 * @return the context of the stage
+	 * @throws ReflectiveOperationException
+	 *             if the stage or its configuration is not on the classpath
+	 * @throws IOException
+	 *             if the bootstrap.properties of the stage could not be read
+	 */
+	public AnnotationConfigApplicationContext launch(PipelineStage stage, int index)
+			throws ReflectiveOperationException, IOException {
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		MutablePropertySources propertySources = ctx.getEnvironment().getPropertySources();
+		Properties bootstrap = loadModuleBootstrap(stage);
+		if (bootstrap != null)
+			propertySources.addFirst(new PropertiesPropertySource(stage.getModuleName() + "-bootstrap", bootstrap));
+		propertySources.addFirst(new MapPropertySource("loadtest-" + stage.getModuleName(),
+				getStageOverrides(stage, index)));
+
+		ctx.scan(stage.getScanPackages());
+		for (String configClassName : stage.getConfigClassNames()) {
+			ctx.register(Class.forName(configClassName));
+		}
+		ctx.refresh();
+		contexts.add(ctx);
+
+		Object stageBean = ctx.getBean(Class.forName(stage.getStageClassName()));
+		stageBean.getClass().getMethod("deployVerticle").invoke(stageBean);
+		return ctx;
+	}
+
+	private Map<String, Object> getStageOverrides(PipelineStage stage, int index) {
+		Map<String, Object> overrides = new HashMap<>(properties.getStageProperties());
+		overrides.putAll(serviceProperties);
+		overrides.put("mosip.regproc.eventbus.embedded", "true");
+		overrides.put("mosip.regproc.eventbus.type", "vertx");
+		overrides.put("server.port", String.valueOf(properties.getStageBasePort() + index));
+		overrides.put("eventbus.port", String.valueOf(properties.getEventBusBasePort() + index));
+		overrides.put("worker.pool.size", String.valueOf(properties.getWorkerPoolSize(stage)));
+		return overrides;
+	}
+
+	/**
+	 * Every stage module has a bootstrap.properties at the root of its classpath,
+	 * so the one of the stage is picked by the module name in its url.
+	 */
+	private Properties loadModuleBootstrap(PipelineStage stage) throws IOException {
+		Enumeration<URL> urls = getClass().getClassLoader().getResources(BOOTSTRAP_PROPERTIES);
+		for (URL url : Collections.list(urls)) {
+			String location = url.toString();
+			if (location.contains("/" + stage.getModuleName() + "/")
+					|| location.contains("/" + stage.getModuleName() + "-")) {
+				Properties bootstrap = new Properties();
+				try (InputStream inputStream = url.openStream()) {
+					bootstrap.load(inputStream);
+				}
+				return bootstrap;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Closes the stage contexts and the embedded event bus.
+	 */
+	public void close() {
+		EmbeddedVertx.close();
+		for (int i = contexts.size() - 1; i >= 0; i--) {
+			contexts.get(i).close();
+		}
+		contexts.clear();
+	}
+
+}
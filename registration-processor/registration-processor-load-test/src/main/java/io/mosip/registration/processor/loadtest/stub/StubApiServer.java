@@ -0,0 +1,170 @@
+package io.mosip.registration.processor.loadtest.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.commons.io.IOUtils;
+
+import io.mosip.registration.processor.core.code.ApiName;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+
+/**
+ * Stand-in for the services the stages call, served from one local port.
+ *
+ * Every {@link ApiName} is mapped to /api/&lt;name&gt;. A call is answered with
+ * the classpath resource stubs/&lt;name&gt;.json if there is one, otherwise
+ * with an empty successful response. Services listed as echo services answer
+ * with the data of the request, which makes the stubbed crypto manager an
+ * identity cipher. The server also answers the token call and serves an empty
+ * configuration to the config server client of the stages.
+ */
+public class StubApiServer {
+
+	private static final String API_PATH = "/api/";
+
+	private static final String TOKEN_PATH = "/token";
+
+	private static final String CONFIG_PATH = "/config";
+
+	private static final String EMPTY_RESPONSE = "{\"id\":null,\"version\":null,\"responsetime\":null,\"metadata\":null,\"response\":{},\"errors\":null}";
+
+	private final Vertx vertx = Vertx.vertx();
+
+	private final int port;
+
+	private final long latencyMillis;
+
+	private final Set<String> echoApis;
+
+	/** The stubbed responses by api name, empty buffer if there is no stub. */
+	private final Map<String, Buffer> responses = new ConcurrentHashMap<>();
+
+	private HttpServer server;
+
+	public StubApiServer(int port, long latencyMillis, List<String> echoApis) {
+		this.port = port;
+		this.latencyMillis = latencyMillis;
+		this.echoApis = new HashSet<>(echoApis);
+	}
+
+	/**
+	 * Starts the server and waits until it listens.
+	 *
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 * @throws ExecutionException
+	 *             if the server could not listen
+	 */
+	public void start() throws InterruptedException, ExecutionException {
+		Router router = Router.router(vertx);
+		router.route().handler(BodyHandler.create());
+		router.route(CONFIG_PATH + "/*").handler(this::handleConfig);
+		router.route(TOKEN_PATH).handler(this::handleToken);
+		router.route(API_PATH + ":apiName").handler(this::handleApi);
+		router.route(API_PATH + ":apiName/*").handler(this::handleApi);
+
+		CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+		vertx.createHttpServer().requestHandler(router).listen(port, result -> {
+			if (result.succeeded())
+				listening.complete(result.result());
+			else
+				listening.completeExceptionally(result.cause());
+		});
+		server = listening.get();
+	}
+
+	public void stop() {
+		if (server != null)
+			server.close();
+		vertx.close();
+	}
+
+	/**
+	 * Gets the configuration that points the stages at this server.
+	 *
+	 * @return the service urls by property name
+	 */
+	public Map<String, Object> getServiceProperties() {
+		String baseUrl = "http://localhost:" + port;
+		Map<String, Object> properties = new HashMap<>();
+		for (ApiName apiName : ApiName.values()) {
+			properties.put(apiName.name(), baseUrl + API_PATH + apiName.name());
+		}
+		properties.put("KEYBASEDTOKENAPI", baseUrl + TOKEN_PATH);
+		properties.put("spring.cloud.config.uri", baseUrl + CONFIG_PATH);
+		return properties;
+	}
+
+	private void handleConfig(RoutingContext ctx) {
+		JsonObject config = new JsonObject().put("name", "registration-processor").put("propertySources",
+				new JsonArray());
+		respond(ctx, Buffer.buffer(config.encode()));
+	}
+
+	/**
+	 * Answers with an unsigned token that does not expire during the run, in the
+	 * cookie the rest client reads it from.
+	 */
+	private void handleToken(RoutingContext ctx) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+		long expiry = System.currentTimeMillis() / 1000 + 24 * 60 * 60;
+		String payload = encoder
+				.encodeToString(("{\"exp\":" + expiry + ",\"sub\":\"loadtest\"}").getBytes(StandardCharsets.UTF_8));
+		ctx.response().putHeader("Set-Cookie", "Authorization=" + header + "." + payload + ".stub; Path=/");
+		respond(ctx, Buffer.buffer(EMPTY_RESPONSE));
+	}
+
+	private void handleApi(RoutingContext ctx) {
+		String apiName = ctx.pathParam("apiName");
+		if (echoApis.contains(apiName)) {
+			respond(ctx, echo(ctx.getBodyAsJson()));
+			return;
+		}
+		Buffer response = responses.computeIfAbsent(apiName, this::loadResponse);
+		respond(ctx, response.length() > 0 ? response : Buffer.buffer(EMPTY_RESPONSE));
+	}
+
+	private Buffer echo(JsonObject request) {
+		JsonObject requestData = request != null ? request.getJsonObject("request") : null;
+		JsonObject response = new JsonObject().put("response",
+				new JsonObject().put("data", requestData != null ? requestData.getValue("data") : null));
+		response.putNull("errors");
+		return Buffer.buffer(response.encode());
+	}
+
+	private Buffer loadResponse(String apiName) {
+		try (InputStream inputStream = getClass().getClassLoader()
+				.getResourceAsStream("stubs/" + apiName + ".json")) {
+			return inputStream == null ? Buffer.buffer() : Buffer.buffer(IOUtils.toByteArray(inputStream));
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not read the stub of " + apiName, e);
+		}
+	}
+
+	private void respond(RoutingContext ctx, Buffer body) {
+		Runnable send = () -> ctx.response().putHeader("Content-Type", "application/json").end(body);
+		if (latencyMillis > 0)
+			vertx.setTimer(latencyMillis, id -> send.run());
+		else
+			send.run();
+	}
+
+}
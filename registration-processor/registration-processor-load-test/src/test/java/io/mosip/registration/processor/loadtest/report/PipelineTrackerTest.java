@@ -0,0 +1,54 @@
+package io.mosip.registration.processor.loadtest.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class PipelineTrackerTest {
+
+	@Test
+	public void testCompletedAndStoppedPacketsFinishTheRun() throws InterruptedException {
+		PipelineTracker tracker = new PipelineTracker(3, 3);
+		tracker.started("1");
+		tracker.started("2");
+		tracker.started("3");
+
+		tracker.completed("1");
+		tracker.stopped("2", "PACKET_VALIDATOR");
+		tracker.stopped("2", "PACKET_VALIDATOR");
+		assertFalse(tracker.await(10, TimeUnit.MILLISECONDS));
+
+		tracker.completed("3");
+		assertTrue(tracker.await(1, TimeUnit.SECONDS));
+		assertEquals(2, tracker.getCompleted());
+		assertEquals(0, tracker.getPending());
+		assertEquals(Integer.valueOf(1), tracker.getStoppedByStage().get("PACKET_VALIDATOR"));
+		assertEquals(2, tracker.getEndToEnd().count());
+	}
+
+	@Test
+	public void testStartedWaitsForPacketsInFlight() throws InterruptedException {
+		PipelineTracker tracker = new PipelineTracker(2, 1);
+		tracker.started("1");
+		Thread second = new Thread(() -> {
+			try {
+				tracker.started("2");
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		second.start();
+		second.join(100);
+		assertTrue(second.isAlive());
+
+		tracker.completed("1");
+		second.join(1000);
+		assertFalse(second.isAlive());
+		assertEquals(1, tracker.getPending());
+	}
+
+}
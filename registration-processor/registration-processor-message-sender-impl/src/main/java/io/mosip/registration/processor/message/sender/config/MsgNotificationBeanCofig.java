@@ -8,6 +8,7 @@ import io.mosip.registration.processor.core.notification.template.generator.dto.
 import io.mosip.registration.processor.core.notification.template.generator.dto.SmsResponseDto;
 import io.mosip.registration.processor.core.spi.message.sender.MessageNotificationService;
 import io.mosip.registration.processor.message.sender.service.impl.MessageNotificationServiceImpl;
+import io.mosip.registration.processor.message.sender.template.NotificationTemplateCatalog;
 import io.mosip.registration.processor.message.sender.template.TemplateGenerator;
 
 @Configuration
@@ -22,5 +23,10 @@ public class MsgNotificationBeanCofig {
 	public TemplateGenerator getTemplateGenerator() {
 		return new TemplateGenerator();
 	}
+
+	@Bean
+	public NotificationTemplateCatalog getNotificationTemplateCatalog() {
+		return new NotificationTemplateCatalog();
+	}
 	
 }
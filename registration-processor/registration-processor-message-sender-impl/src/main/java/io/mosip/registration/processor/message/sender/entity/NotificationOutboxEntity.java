@@ -0,0 +1,239 @@
+package io.mosip.registration.processor.message.sender.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+/**
+ * A notification queued by the message sender stage until it is sent.
+ */
+@Entity
+@Table(name = "reg_notification_outbox", schema = "regprc")
+public class NotificationOutboxEntity implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** The id. */
+	@Id
+	@Column(name = "id")
+	private String id;
+
+	/** The registration id. */
+	@Column(name = "reg_id")
+	private String registrationId;
+
+	/** The process. */
+	@Column(name = "process")
+	private String process;
+
+	/** The registration type. */
+	@Column(name = "reg_type")
+	private String regType;
+
+	/** The id type. */
+	@Column(name = "id_type")
+	private String idType;
+
+	/** The notification type, SMS or EMAIL. */
+	@Column(name = "notification_type")
+	private String notificationType;
+
+	/** The template type code. */
+	@Column(name = "template_type_code")
+	private String templateTypeCode;
+
+	/** The email subject. */
+	@Column(name = "subject")
+	private String subject;
+
+	/** The pipe separated email cc list. */
+	@Column(name = "mail_cc")
+	private String mailCc;
+
+	/** The status code. */
+	@Column(name = "status_code")
+	private String statusCode;
+
+	/** The number of failed attempts. */
+	@Column(name = "retry_count")
+	private int retryCount;
+
+	/** The time after which the notification is sent or retried. */
+	@Column(name = "next_attempt_dtimes")
+	private LocalDateTime nextAttemptDateTime;
+
+	/** The status comment. */
+	@Column(name = "status_comment")
+	private String statusComment;
+
+	/** The version, so only one instance claims a notification. */
+	@Version
+	@Column(name = "version")
+	private int version;
+
+	/** The created by. */
+	@Column(name = "cr_by")
+	private String createdBy = "MOSIP_SYSTEM";
+
+	/** The create date time. */
+	@Column(name = "cr_dtimes", updatable = false)
+	private LocalDateTime createDateTime;
+
+	/** The updated by. */
+	@Column(name = "upd_by")
+	private String updatedBy = "MOSIP_SYSTEM";
+
+	/** The update date time. */
+	@Column(name = "upd_dtimes")
+	private LocalDateTime updateDateTime;
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getRegistrationId() {
+		return registrationId;
+	}
+
+	public void setRegistrationId(String registrationId) {
+		this.registrationId = registrationId;
+	}
+
+	public String getProcess() {
+		return process;
+	}
+
+	public void setProcess(String process) {
+		this.process = process;
+	}
+
+	public String getRegType() {
+		return regType;
+	}
+
+	public void setRegType(String regType) {
+		this.regType = regType;
+	}
+
+	public String getIdType() {
+		return idType;
+	}
+
+	public void setIdType(String idType) {
+		this.idType = idType;
+	}
+
+	public String getNotificationType() {
+		return notificationType;
+	}
+
+	public void setNotificationType(String notificationType) {
+		this.notificationType = notificationType;
+	}
+
+	public String getTemplateTypeCode() {
+		return templateTypeCode;
+	}
+
+	public void setTemplateTypeCode(String templateTypeCode) {
+		this.templateTypeCode = templateTypeCode;
+	}
+
+	public String getSubject() {
+		return subject;
+	}
+
+	public void setSubject(String subject) {
+		this.subject = subject;
+	}
+
+	public String getMailCc() {
+		return mailCc;
+	}
+
+	public void setMailCc(String mailCc) {
+		this.mailCc = mailCc;
+	}
+
+	public String getStatusCode() {
+		return statusCode;
+	}
+
+	public void setStatusCode(String statusCode) {
+		this.statusCode = statusCode;
+	}
+
+	public int getRetryCount() {
+		return retryCount;
+	}
+
+	public void setRetryCount(int retryCount) {
+		this.retryCount = retryCount;
+	}
+
+	public LocalDateTime getNextAttemptDateTime() {
+		return nextAttemptDateTime;
+	}
+
+	public void setNextAttemptDateTime(LocalDateTime nextAttemptDateTime) {
+		this.nextAttemptDateTime = nextAttemptDateTime;
+	}
+
+	public String getStatusComment() {
+		return statusComment;
+	}
+
+	public void setStatusComment(String statusComment) {
+		this.statusComment = statusComment;
+	}
+
+	public int getVersion() {
+		return version;
+	}
+
+	public void setVersion(int version) {
+		this.version = version;
+	}
+
+	public String getCreatedBy() {
+		return createdBy;
+	}
+
+	public void setCreatedBy(String createdBy) {
+		this.createdBy = createdBy;
+	}
+
+	public LocalDateTime getCreateDateTime() {
+		return createDateTime;
+	}
+
+	public void setCreateDateTime(LocalDateTime createDateTime) {
+		this.createDateTime = createDateTime;
+	}
+
+	public String getUpdatedBy() {
+		return updatedBy;
+	}
+
+	public void setUpdatedBy(String updatedBy) {
+		this.updatedBy = updatedBy;
+	}
+
+	public LocalDateTime getUpdateDateTime() {
+		return updateDateTime;
+	}
+
+	public void setUpdateDateTime(LocalDateTime updateDateTime) {
+		this.updateDateTime = updateDateTime;
+	}
+
+}
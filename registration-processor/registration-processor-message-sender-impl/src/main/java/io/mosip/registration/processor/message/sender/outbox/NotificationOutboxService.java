@@ -0,0 +1,189 @@
+package io.mosip.registration.processor.message.sender.outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.registration.processor.core.constant.IdType;
+import io.mosip.registration.processor.core.constant.LoggerFileConstant;
+import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+import io.mosip.registration.processor.core.notification.template.generator.dto.ResponseDto;
+import io.mosip.registration.processor.core.notification.template.generator.dto.SmsResponseDto;
+import io.mosip.registration.processor.core.spi.message.sender.MessageNotificationService;
+import io.mosip.registration.processor.message.sender.entity.NotificationOutboxEntity;
+import io.mosip.registration.processor.message.sender.repository.NotificationOutboxRepository;
+import io.mosip.registration.processor.message.sender.utility.NotificationOutboxStatus;
+
+/**
+ * Outbox for sms and email notifications.
+ *
+ * The message sender stage only queues the notifications of a packet, so
+ * sending them is not on the packet's processing path. {@link #drain()} sends
+ * the due notifications in batches, sharing the resolved attributes between the
+ * notifications of one packet, and retries failed ones with exponential
+ * backoff until the maximum number of attempts is reached. Notifications are
+ * claimed with an optimistic lock, so several stage instances can drain the
+ * same outbox.
+ */
+public class NotificationOutboxService {
+
+	/** The reg proc logger. */
+	private static Logger regProcLogger = RegProcessorLogger.getLogger(NotificationOutboxService.class);
+
+	private static final String SMS = "SMS";
+
+	private static final String SUCCESS = "success";
+
+	private static final int STATUS_COMMENT_LENGTH = 256;
+
+	/** Number of notifications sent per drain. */
+	@Value("${registration.processor.notification.outbox.batch.size:50}")
+	private int batchSize;
+
+	/** Attempts after which a notification is marked failed. */
+	@Value("${registration.processor.notification.outbox.max.attempts:5}")
+	private int maxAttempts;
+
+	/** Delay before the first retry, doubled for every further retry. */
+	@Value("${registration.processor.notification.outbox.retry.backoff.seconds:60}")
+	private long retryBackoffSeconds;
+
+	/** Time after which a notification claimed by another instance is retried. */
+	@Value("${registration.processor.notification.outbox.claim.timeout.seconds:600}")
+	private long claimTimeoutSeconds;
+
+	@Autowired
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Autowired
+	private MessageNotificationService<SmsResponseDto, ResponseDto, MultipartFile[]> service;
+
+	/**
+	 * Queues a notification.
+	 *
+	 * @param id
+	 *            the registration id
+	 * @param process
+	 *            the process
+	 * @param regType
+	 *            the registration type
+	 * @param idType
+	 *            the id type
+	 * @param notificationType
+	 *            SMS or EMAIL
+	 * @param templateTypeCode
+	 *            the template type code
+	 * @param subject
+	 *            the email subject
+	 * @param mailCc
+	 *            the email cc list
+	 */
+	public void enqueue(String id, String process, String regType, IdType idType, String notificationType,
+			String templateTypeCode, String subject, String[] mailCc) {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		NotificationOutboxEntity entity = new NotificationOutboxEntity();
+		entity.setId(UUID.randomUUID().toString());
+		entity.setRegistrationId(id);
+		entity.setProcess(process);
+		entity.setRegType(regType);
+		entity.setIdType(idType.name());
+		entity.setNotificationType(notificationType.toUpperCase());
+		entity.setTemplateTypeCode(templateTypeCode);
+		entity.setSubject(subject);
+		entity.setMailCc(mailCc != null ? String.join("|", mailCc) : null);
+		entity.setStatusCode(NotificationOutboxStatus.PENDING.name());
+		entity.setNextAttemptDateTime(now);
+		entity.setCreateDateTime(now);
+		entity.setUpdateDateTime(now);
+		notificationOutboxRepository.save(entity);
+	}
+
+	/**
+	 * Sends one batch of due notifications.
+	 *
+	 * @return the number of notifications attempted
+	 */
+	public int drain() {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		List<NotificationOutboxEntity> dueNotifications = notificationOutboxRepository.getDueNotifications(
+				NotificationOutboxStatus.PENDING.name(), NotificationOutboxStatus.PROCESSING.name(), now,
+				now.minusSeconds(claimTimeoutSeconds), PageRequest.of(0, batchSize));
+
+		List<NotificationOutboxEntity> claimedNotifications = new ArrayList<>();
+		for (NotificationOutboxEntity notification : dueNotifications) {
+			notification.setStatusCode(NotificationOutboxStatus.PROCESSING.name());
+			notification.setUpdateDateTime(now);
+			try {
+				claimedNotifications.add(notificationOutboxRepository.save(notification));
+			} catch (ObjectOptimisticLockingFailureException e) {
+				// claimed by another instance
+			}
+		}
+
+		Map<String, Map<String, Object>> attributesById = new HashMap<>();
+		for (NotificationOutboxEntity notification : claimedNotifications) {
+			Map<String, Object> attributes = attributesById.computeIfAbsent(notification.getRegistrationId(),
+					id -> new HashMap<>());
+			String failure;
+			try {
+				failure = send(notification, attributes) ? null : "notification service returned failure";
+			} catch (Exception e) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
+						LoggerFileConstant.REGISTRATIONID.toString(), notification.getRegistrationId(),
+						"NotificationOutboxService::drain():: " + e.getMessage() + ExceptionUtils.getStackTrace(e));
+				failure = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+			}
+			updateStatus(notification, failure);
+		}
+		return claimedNotifications.size();
+	}
+
+	private boolean send(NotificationOutboxEntity notification, Map<String, Object> attributes) throws Exception {
+		IdType idType = IdType.valueOf(notification.getIdType());
+		if (SMS.equalsIgnoreCase(notification.getNotificationType())) {
+			SmsResponseDto response = service.sendSmsNotification(notification.getTemplateTypeCode(),
+					notification.getRegistrationId(), notification.getProcess(), idType, attributes,
+					notification.getRegType());
+			return response != null && SUCCESS.equals(response.getStatus());
+		}
+		String[] mailCc = notification.getMailCc() != null ? notification.getMailCc().split("\\|") : null;
+		ResponseDto response = service.sendEmailNotification(notification.getTemplateTypeCode(),
+				notification.getRegistrationId(), notification.getProcess(), idType, attributes, mailCc,
+				notification.getSubject(), null, notification.getRegType());
+		return response != null && SUCCESS.equals(response.getStatus());
+	}
+
+	private void updateStatus(NotificationOutboxEntity notification, String failure) {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		if (failure == null) {
+			notification.setStatusCode(NotificationOutboxStatus.SENT.name());
+			notification.setStatusComment(null);
+		} else {
+			int attempts = notification.getRetryCount() + 1;
+			notification.setRetryCount(attempts);
+			notification.setStatusComment(
+					failure.length() > STATUS_COMMENT_LENGTH ? failure.substring(0, STATUS_COMMENT_LENGTH) : failure);
+			if (attempts >= maxAttempts) {
+				notification.setStatusCode(NotificationOutboxStatus.FAILED.name());
+			} else {
+				notification.setStatusCode(NotificationOutboxStatus.PENDING.name());
+				notification.setNextAttemptDateTime(now.plusSeconds(retryBackoffSeconds << (attempts - 1)));
+			}
+		}
+		notification.setUpdateDateTime(now);
+		notificationOutboxRepository.save(notification);
+	}
+
+}
@@ -0,0 +1,41 @@
+package io.mosip.registration.processor.message.sender.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
+import io.mosip.registration.processor.message.sender.entity.NotificationOutboxEntity;
+
+/**
+ * The Interface NotificationOutboxRepository.
+ */
+@Repository
+public interface NotificationOutboxRepository extends BaseRepository<NotificationOutboxEntity, String> {
+
+	/**
+	 * Gets the pending notifications that are due, and the ones claimed by an
+	 * instance that did not finish them before the stale time.
+	 *
+	 * @param pendingStatus
+	 *            the pending status code
+	 * @param processingStatus
+	 *            the processing status code
+	 * @param now
+	 *            the current time
+	 * @param staleBefore
+	 *            the claim time before which a processing notification is stale
+	 * @param pageable
+	 *            the batch size
+	 * @return the due notifications, oldest first
+	 */
+	@Query("SELECT outbox FROM NotificationOutboxEntity outbox WHERE (outbox.statusCode =:pendingStatus and outbox.nextAttemptDateTime <=:now) or (outbox.statusCode =:processingStatus and outbox.updateDateTime <=:staleBefore) ORDER BY outbox.nextAttemptDateTime")
+	public List<NotificationOutboxEntity> getDueNotifications(@Param("pendingStatus") String pendingStatus,
+			@Param("processingStatus") String processingStatus, @Param("now") LocalDateTime now,
+			@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+}
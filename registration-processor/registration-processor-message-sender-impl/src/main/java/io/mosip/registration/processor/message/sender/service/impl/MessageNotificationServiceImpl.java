@@ -88,6 +88,14 @@ public class MessageNotificationServiceImpl
 	/** The Constant UIN. */
 	private static final String UIN = "UIN";
 
+	/**
+	 * Attribute keys under which the resolved id and contacts are kept, so the
+	 * sms and email of one packet fetch the identity only once.
+	 */
+	private static final String RESOLVED_ID_ATTRIBUTE = "_resolvedId";
+	private static final String PHONE_ATTRIBUTE = "_phoneNumber";
+	private static final String EMAIL_ATTRIBUTE = "_emailId";
+
 	/** The Constant FILE_SEPARATOR. */
 	public static final String FILE_SEPARATOR = File.separator;
 
@@ -162,10 +170,11 @@ public class MessageNotificationServiceImpl
 				"MessageNotificationServiceImpl::sendSmsNotification()::entry");
 		try {
 			setAttributes(id, process, idType, attributes, regType, phoneNumber, emailId);
-			InputStream in = templateGenerator.getTemplate(templateTypeCode, attributes, primaryLang);
+			Map<String, Object> templateAttributes = getTemplateAttributes(attributes);
+			InputStream in = templateGenerator.getTemplate(templateTypeCode, templateAttributes, primaryLang);
 			String artifact = IOUtils.toString(in, ENCODING);
 			if(languageType.equalsIgnoreCase(BOTH)){
-				InputStream secondaryStream = templateGenerator.getTemplate(templateTypeCode, attributes, secondaryLang);
+				InputStream secondaryStream = templateGenerator.getTemplate(templateTypeCode, templateAttributes, secondaryLang);
 				String secondaryArtifact = IOUtils.toString(secondaryStream, ENCODING);
 				artifact = artifact + LINE_SEPARATOR + secondaryArtifact;
 			}
@@ -229,11 +238,12 @@ public class MessageNotificationServiceImpl
 				"MessageNotificationServiceImpl::sendEmailNotification()::entry");
 		try {
 			setAttributes(id, process, idType, attributes, regType, phoneNumber, emailId);
+			Map<String, Object> templateAttributes = getTemplateAttributes(attributes);
 
-			InputStream in = templateGenerator.getTemplate(templateTypeCode, attributes, primaryLang);
+			InputStream in = templateGenerator.getTemplate(templateTypeCode, templateAttributes, primaryLang);
 			String artifact = IOUtils.toString(in, ENCODING);
 			if(languageType.equalsIgnoreCase(BOTH)){
-				InputStream secondaryStream = templateGenerator.getTemplate(templateTypeCode, attributes, secondaryLang);
+				InputStream secondaryStream = templateGenerator.getTemplate(templateTypeCode, templateAttributes, secondaryLang);
 				String secondaryArtifact = IOUtils.toString(secondaryStream, ENCODING);
 				artifact = artifact + LINE_SEPARATOR + secondaryArtifact;
 			}
@@ -317,7 +327,9 @@ public class MessageNotificationServiceImpl
 	}
 
 	/**
-	 * Gets the template json.
+	 * Gets the template json. The identity is fetched only once per attributes
+	 * map, a second call for the same id reuses the resolved attributes and
+	 * contacts.
 	 *
 	 * @param id         the id
 	 * @param idType     the id type
@@ -335,6 +347,13 @@ public class MessageNotificationServiceImpl
 			StringBuilder phoneNumber, StringBuilder emailId) throws IOException, ApisResourceAccessException,
 			JsonProcessingException, PacketManagerException, JSONException {
 
+		String resolvedId = id + "_" + idType;
+		if (resolvedId.equals(attributes.get(RESOLVED_ID_ATTRIBUTE))) {
+			phoneNumber.append((String) attributes.get(PHONE_ATTRIBUTE));
+			emailId.append((String) attributes.get(EMAIL_ATTRIBUTE));
+			return attributes;
+		}
+
 		String uin = "";
 		if (idType.toString().equalsIgnoreCase(UIN)) {
 			JSONObject jsonObject = utility.retrieveUIN(id);
@@ -356,10 +375,28 @@ public class MessageNotificationServiceImpl
 		} else {
 			setAttributesFromIdJson(id, process, attributes, regType, phoneNumber, emailId);
 		}
+		attributes.put(PHONE_ATTRIBUTE, phoneNumber.toString());
+		attributes.put(EMAIL_ATTRIBUTE, emailId.toString());
+		attributes.put(RESOLVED_ID_ATTRIBUTE, resolvedId);
 
 		return attributes;
 	}
 
+	/**
+	 * Gets the attributes passed to the template, without the resolved id and
+	 * contacts kept for reuse.
+	 *
+	 * @param attributes the attributes
+	 * @return the template attributes
+	 */
+	private Map<String, Object> getTemplateAttributes(Map<String, Object> attributes) {
+		Map<String, Object> templateAttributes = new HashMap<>(attributes);
+		templateAttributes.remove(RESOLVED_ID_ATTRIBUTE);
+		templateAttributes.remove(PHONE_ATTRIBUTE);
+		templateAttributes.remove(EMAIL_ATTRIBUTE);
+		return templateAttributes;
+	}
+
 	/**
 	 * Sets the attributes from id repo.
 	 *
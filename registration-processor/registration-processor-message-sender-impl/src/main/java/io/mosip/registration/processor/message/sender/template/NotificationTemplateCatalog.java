@@ -0,0 +1,148 @@
+package io.mosip.registration.processor.message.sender.template;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.processor.core.code.ApiName;
+import io.mosip.registration.processor.core.constant.LoggerFileConstant;
+import io.mosip.registration.processor.core.exception.ApisResourceAccessException;
+import io.mosip.registration.processor.core.http.ResponseWrapper;
+import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+import io.mosip.registration.processor.core.notification.template.generator.dto.TemplateDto;
+import io.mosip.registration.processor.core.notification.template.generator.dto.TemplateResponseDto;
+import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
+
+/**
+ * Cached copy of the notification templates configured in master data.
+ *
+ * The full template list is downloaded once and kept for the configured time
+ * to live, so checking whether a template exists and reading its file text do
+ * not call master data for every packet. If a refresh fails the expired
+ * catalog stays in use, and an error response is never cached. Template type
+ * codes are matched ignoring case, like the availability check always did.
+ */
+public class NotificationTemplateCatalog {
+
+	/** The reg proc logger. */
+	private static Logger regProcLogger = RegProcessorLogger.getLogger(NotificationTemplateCatalog.class);
+
+	/** Time to live of the cached templates. */
+	@Value("${registration.processor.notification.template.cache.ttl.seconds:600}")
+	private long templateCacheTtlSeconds;
+
+	/** The rest client service. */
+	@Autowired
+	private RegistrationProcessorRestClientService<Object> restClientService;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	/**
+	 * The file text of every template, by template type code ignoring case and
+	 * language.
+	 */
+	private volatile Map<String, Map<String, String>> cachedTemplates;
+
+	/** The time in millis after which the cached templates are refreshed. */
+	private volatile long templatesExpiry;
+
+	/**
+	 * Checks if a template exists for the template type code.
+	 *
+	 * @param templateTypeCode
+	 *            the template type code
+	 * @return true, if the template is available
+	 * @throws ApisResourceAccessException
+	 *             if the templates could not be downloaded and none are cached
+	 * @throws IOException
+	 *             if the template response could not be read
+	 */
+	public boolean isTemplateAvailable(String templateTypeCode) throws ApisResourceAccessException, IOException {
+		return getTemplates().containsKey(templateTypeCode);
+	}
+
+	/**
+	 * Gets the file text of the template.
+	 *
+	 * @param templateTypeCode
+	 *            the template type code
+	 * @param langCode
+	 *            the lang code
+	 * @return the file text, or null if the catalog has no such template
+	 * @throws ApisResourceAccessException
+	 *             if the templates could not be downloaded and none are cached
+	 * @throws IOException
+	 *             if the template response could not be read
+	 */
+	public String getFileText(String templateTypeCode, String langCode)
+			throws ApisResourceAccessException, IOException {
+		Map<String, String> fileTextByLang = getTemplates().get(templateTypeCode);
+		return fileTextByLang == null ? null : fileTextByLang.get(langCode);
+	}
+
+	private Map<String, Map<String, String>> getTemplates() throws ApisResourceAccessException, IOException {
+		Map<String, Map<String, String>> templates = cachedTemplates;
+		if (templates != null && System.currentTimeMillis() < templatesExpiry)
+			return templates;
+		synchronized (this) {
+			if (cachedTemplates != null && System.currentTimeMillis() < templatesExpiry)
+				return cachedTemplates;
+			try {
+				Map<String, Map<String, String>> downloadedTemplates = downloadTemplates();
+				if (downloadedTemplates == null)
+					return cachedTemplates != null ? cachedTemplates : Collections.emptyMap();
+				cachedTemplates = Collections.unmodifiableMap(downloadedTemplates);
+				templatesExpiry = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(templateCacheTtlSeconds);
+			} catch (ApisResourceAccessException | IOException e) {
+				if (cachedTemplates == null)
+					throw e;
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+						"NotificationTemplateCatalog::getTemplates():: template refresh failed, using cached templates "
+								+ e.getMessage());
+			}
+			return cachedTemplates;
+		}
+	}
+
+	/**
+	 * Downloads all templates, returns null if master data answered with errors.
+	 */
+	private Map<String, Map<String, String>> downloadTemplates() throws ApisResourceAccessException, IOException {
+		ResponseWrapper<?> responseWrapper = (ResponseWrapper<?>) restClientService.getApi(ApiName.TEMPLATES,
+				new ArrayList<>(), "", "", ResponseWrapper.class);
+		if (responseWrapper.getErrors() != null && !responseWrapper.getErrors().isEmpty()) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+					"NotificationTemplateCatalog::downloadTemplates():: template download failed "
+							+ responseWrapper.getErrors());
+			return null;
+		}
+		Map<String, Map<String, String>> templates = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		TemplateResponseDto templateResponseDto = mapper.readValue(
+				mapper.writeValueAsString(responseWrapper.getResponse()), TemplateResponseDto.class);
+		if (templateResponseDto != null && templateResponseDto.getTemplates() != null) {
+			for (TemplateDto template : templateResponseDto.getTemplates()) {
+				if (template.getTemplateTypeCode() == null)
+					continue;
+				Map<String, String> fileTextByLang = templates.computeIfAbsent(template.getTemplateTypeCode(),
+						code -> new HashMap<>());
+				if (template.getLangCode() != null && template.getFileText() != null)
+					fileTextByLang.put(template.getLangCode(), template.getFileText());
+			}
+		}
+		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+				"NotificationTemplateCatalog::downloadTemplates():: loaded " + templates.size() + " template types");
+		return templates;
+	}
+
+}
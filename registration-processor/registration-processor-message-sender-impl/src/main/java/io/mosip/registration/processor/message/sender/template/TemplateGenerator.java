@@ -66,6 +66,13 @@ public class TemplateGenerator {
 	@Autowired
 	private ObjectMapper mapper;
 
+	/** The cached template catalog, used before fetching a single template. */
+	@Autowired(required = false)
+	private NotificationTemplateCatalog templateCatalog;
+
+	/** The template manager, created once since its velocity engine is reusable. */
+	private volatile TemplateManager templateManager;
+
 	/**
 	 * Gets the template.
 	 *
@@ -90,19 +97,24 @@ public class TemplateGenerator {
 				"TemplateGenerator::getTemplate()::entry");
 
 		try {
-			List<String> pathSegments = new ArrayList<>();
-			pathSegments.add(langCode);
-			pathSegments.add(templateTypeCode);
-
-			responseWrapper = (ResponseWrapper<?>) restClientService.getApi(ApiName.TEMPLATES, pathSegments, "", "",
-					ResponseWrapper.class);
-			template = mapper.readValue(mapper.writeValueAsString(responseWrapper.getResponse()),
-					TemplateResponseDto.class);
+			String fileText = templateCatalog != null ? templateCatalog.getFileText(templateTypeCode, langCode)
+					: null;
+			if (fileText == null) {
+				List<String> pathSegments = new ArrayList<>();
+				pathSegments.add(langCode);
+				pathSegments.add(templateTypeCode);
+
+				responseWrapper = (ResponseWrapper<?>) restClientService.getApi(ApiName.TEMPLATES, pathSegments, "",
+						"", ResponseWrapper.class);
+				template = mapper.readValue(mapper.writeValueAsString(responseWrapper.getResponse()),
+						TemplateResponseDto.class);
+				if (template != null)
+					fileText = template.getTemplates().iterator().next().getFileText();
+			}
 
 			InputStream fileTextStream = null;
-			if (template != null) {
-				InputStream stream = new ByteArrayInputStream(
-						template.getTemplates().iterator().next().getFileText().getBytes());
+			if (fileText != null) {
+				InputStream stream = new ByteArrayInputStream(fileText.getBytes());
 				fileTextStream = getTemplateManager().merge(stream, attributes);
 			}
 			regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
@@ -123,6 +135,15 @@ public class TemplateGenerator {
 	 * @return the template manager
 	 */
 	public TemplateManager getTemplateManager() {
+		TemplateManager manager = templateManager;
+		if (manager == null) {
+			manager = createTemplateManager();
+			templateManager = manager;
+		}
+		return manager;
+	}
+
+	private TemplateManager createTemplateManager() {
 		final Properties properties = new Properties();
 		properties.put(RuntimeConstants.INPUT_ENCODING, defaultEncoding);
 		properties.put(RuntimeConstants.OUTPUT_ENCODING, defaultEncoding);
@@ -0,0 +1,13 @@
+package io.mosip.registration.processor.message.sender.utility;
+
+public enum NotificationOutboxStatus {
+
+	PENDING,
+
+	PROCESSING,
+
+	SENT,
+
+	FAILED
+
+}
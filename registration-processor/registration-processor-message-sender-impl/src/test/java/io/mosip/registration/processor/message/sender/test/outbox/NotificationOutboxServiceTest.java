@@ -0,0 +1,121 @@
+package io.mosip.registration.processor.message.sender.test.outbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.mosip.registration.processor.core.constant.IdType;
+import io.mosip.registration.processor.core.notification.template.generator.dto.ResponseDto;
+import io.mosip.registration.processor.core.notification.template.generator.dto.SmsResponseDto;
+import io.mosip.registration.processor.core.spi.message.sender.MessageNotificationService;
+import io.mosip.registration.processor.message.sender.entity.NotificationOutboxEntity;
+import io.mosip.registration.processor.message.sender.outbox.NotificationOutboxService;
+import io.mosip.registration.processor.message.sender.repository.NotificationOutboxRepository;
+import io.mosip.registration.processor.message.sender.utility.NotificationOutboxStatus;
+
+@RunWith(SpringRunner.class)
+public class NotificationOutboxServiceTest {
+
+	@InjectMocks
+	private NotificationOutboxService notificationOutboxService;
+
+	@Mock
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Mock
+	private MessageNotificationService<SmsResponseDto, ResponseDto, MultipartFile[]> service;
+
+	private NotificationOutboxEntity sms;
+
+	private NotificationOutboxEntity email;
+
+	@Before
+	public void setup() {
+		ReflectionTestUtils.setField(notificationOutboxService, "batchSize", 10);
+		ReflectionTestUtils.setField(notificationOutboxService, "maxAttempts", 3);
+		ReflectionTestUtils.setField(notificationOutboxService, "retryBackoffSeconds", 60L);
+		sms = notification("1", "SMS");
+		email = notification("2", "EMAIL");
+		List<NotificationOutboxEntity> due = new ArrayList<>();
+		due.add(sms);
+		due.add(email);
+		Mockito.when(notificationOutboxRepository.getDueNotifications(any(), any(), any(), any(), any()))
+				.thenReturn(due);
+		Mockito.when(notificationOutboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testDrainSharesAttributesAndRetriesFailures() throws Exception {
+		SmsResponseDto smsResponse = new SmsResponseDto();
+		smsResponse.setStatus("success");
+		Mockito.when(service.sendSmsNotification(any(), any(), any(), any(), anyMap(), any())).thenReturn(smsResponse);
+		ResponseDto emailResponse = new ResponseDto();
+		emailResponse.setStatus("failure");
+		Mockito.when(service.sendEmailNotification(any(), any(), any(), any(), anyMap(), any(), any(), any(), any()))
+				.thenReturn(emailResponse);
+
+		LocalDateTime before = LocalDateTime.now().minusHours(1);
+		assertEquals(2, notificationOutboxService.drain());
+
+		assertEquals(NotificationOutboxStatus.SENT.name(), sms.getStatusCode());
+		assertEquals(NotificationOutboxStatus.PENDING.name(), email.getStatusCode());
+		assertEquals(1, email.getRetryCount());
+		assertEquals(true, email.getNextAttemptDateTime().isAfter(before));
+
+		ArgumentCaptor<Map<String, Object>> smsAttributes = ArgumentCaptor.forClass(Map.class);
+		ArgumentCaptor<Map<String, Object>> emailAttributes = ArgumentCaptor.forClass(Map.class);
+		Mockito.verify(service).sendSmsNotification(eq("RPR_UIN_GEN_SMS"), eq("10001"), eq("NEW"), eq(IdType.UIN),
+				smsAttributes.capture(), eq("NEW"));
+		Mockito.verify(service).sendEmailNotification(eq("RPR_UIN_GEN_EMAIL"), eq("10001"), eq("NEW"),
+				eq(IdType.UIN), emailAttributes.capture(), any(), any(), any(), eq("NEW"));
+		assertSame(smsAttributes.getValue(), emailAttributes.getValue());
+	}
+
+	@Test
+	public void testDrainMarksFailedAfterMaxAttempts() throws Exception {
+		email.setRetryCount(2);
+		Mockito.when(service.sendSmsNotification(any(), any(), any(), any(), anyMap(), any()))
+				.thenThrow(new RuntimeException("sms down"));
+		Mockito.when(service.sendEmailNotification(any(), any(), any(), any(), anyMap(), any(), any(), any(), any()))
+				.thenThrow(new RuntimeException("email down"));
+
+		notificationOutboxService.drain();
+
+		assertEquals(NotificationOutboxStatus.PENDING.name(), sms.getStatusCode());
+		assertEquals(NotificationOutboxStatus.FAILED.name(), email.getStatusCode());
+		assertEquals("email down", email.getStatusComment());
+	}
+
+	private NotificationOutboxEntity notification(String id, String notificationType) {
+		NotificationOutboxEntity entity = new NotificationOutboxEntity();
+		entity.setId(id);
+		entity.setRegistrationId("10001");
+		entity.setProcess("NEW");
+		entity.setRegType("NEW");
+		entity.setIdType(IdType.UIN.name());
+		entity.setNotificationType(notificationType);
+		entity.setTemplateTypeCode("RPR_UIN_GEN_" + notificationType);
+		entity.setStatusCode(NotificationOutboxStatus.PENDING.name());
+		return entity;
+	}
+
+}
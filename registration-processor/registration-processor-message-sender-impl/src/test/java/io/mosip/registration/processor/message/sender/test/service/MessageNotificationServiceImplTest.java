@@ -1,7 +1,10 @@
 package io.mosip.registration.processor.message.sender.test.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.when;
@@ -264,6 +267,30 @@ public class MessageNotificationServiceImplTest {
 		assertEquals("Test for SMS Notification Success", "Success", resultResponse.getMessage());
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testResolvedContactsNotPassedToTemplate() throws Exception {
+		ResponseWrapper<SmsResponseDto> wrapper = new ResponseWrapper<>();
+		smsResponseDto = new SmsResponseDto();
+		smsResponseDto.setMessage("Success");
+		wrapper.setResponse(smsResponseDto);
+		wrapper.setErrors(null);
+
+		Mockito.when(restClientService.postApi(any(), any(), anyString(), any(), any()))
+				.thenReturn(wrapper);
+		Mockito.when(mapper.writeValueAsString(any())).thenReturn(smsResponseDto.toString());
+		Mockito.when(mapper.readValue(anyString(), any(Class.class))).thenReturn(smsResponseDto);
+
+		messageNotificationServiceImpl.sendSmsNotification("RPR_UIN_GEN_SMS", "12345", "NEW", IdType.RID, attributes,
+				RegistrationType.NEW.name());
+
+		// the shared attributes keep the resolved contacts for the email of the
+		// same packet, the template only gets the identity attributes
+		assertTrue(attributes.containsKey("_resolvedId"));
+		Mockito.verify(templateGenerator).getTemplate(eq("RPR_UIN_GEN_SMS"), argThat(this::isTemplateAttributes),
+				eq("eng"));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testUINTypeMessage() throws ApisResourceAccessException, IOException, PacketDecryptionFailureException,
@@ -373,7 +400,7 @@ public class MessageNotificationServiceImplTest {
 	@Test(expected = TemplateGenerationFailedException.class)
 	public void testTemplateGenerationFailedException() throws IOException, ApisResourceAccessException,
 			PacketDecryptionFailureException, io.mosip.kernel.core.exception.IOException, JSONException {
-		Mockito.when(templateGenerator.getTemplate("RPR_UIN_GEN_SMS", attributes, "eng"))
+		Mockito.when(templateGenerator.getTemplate(eq("RPR_UIN_GEN_SMS"), argThat(this::isTemplateAttributes), eq("eng")))
 				.thenThrow(new TemplateNotFoundException());
 
 		messageNotificationServiceImpl.sendSmsNotification("RPR_UIN_GEN_SMS", "12345", "NEW", IdType.RID, attributes,
@@ -387,7 +414,7 @@ public class MessageNotificationServiceImplTest {
 	 */
 	@Test(expected = TemplateGenerationFailedException.class)
 	public void testTemplateProcessingFailureException() throws Exception {
-		Mockito.when(templateGenerator.getTemplate("RPR_UIN_GEN_EMAIL", attributes, "eng"))
+		Mockito.when(templateGenerator.getTemplate(eq("RPR_UIN_GEN_EMAIL"), argThat(this::isTemplateAttributes), eq("eng")))
 				.thenThrow(new TemplateNotFoundException());
 
 		messageNotificationServiceImpl.sendEmailNotification("RPR_UIN_GEN_EMAIL", "12345", "NEW", IdType.RID, attributes,
@@ -435,4 +462,10 @@ public class MessageNotificationServiceImplTest {
 
 	}
 
+	private boolean isTemplateAttributes(Map<String, Object> templateAttributes) {
+		return templateAttributes != null && templateAttributes.containsKey("RID")
+				&& !templateAttributes.containsKey("_resolvedId") && !templateAttributes.containsKey("_phoneNumber")
+				&& !templateAttributes.containsKey("_emailId");
+	}
+
 }
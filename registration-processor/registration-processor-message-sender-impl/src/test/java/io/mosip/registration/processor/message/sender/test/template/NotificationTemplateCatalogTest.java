@@ -0,0 +1,131 @@
+package io.mosip.registration.processor.message.sender.test.template;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.registration.processor.core.code.ApiName;
+import io.mosip.registration.processor.core.common.rest.dto.ErrorDTO;
+import io.mosip.registration.processor.core.exception.ApisResourceAccessException;
+import io.mosip.registration.processor.core.http.ResponseWrapper;
+import io.mosip.registration.processor.core.notification.template.generator.dto.TemplateDto;
+import io.mosip.registration.processor.core.notification.template.generator.dto.TemplateResponseDto;
+import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
+import io.mosip.registration.processor.message.sender.template.NotificationTemplateCatalog;
+
+public class NotificationTemplateCatalogTest {
+
+	private NotificationTemplateCatalog templateCatalog = new NotificationTemplateCatalog();
+
+	@SuppressWarnings("unchecked")
+	private RegistrationProcessorRestClientService<Object> restClientService = Mockito
+			.mock(RegistrationProcessorRestClientService.class);
+
+	@Before
+	public void setup() {
+		ReflectionTestUtils.setField(templateCatalog, "restClientService", restClientService);
+		ReflectionTestUtils.setField(templateCatalog, "mapper", new ObjectMapper());
+		ReflectionTestUtils.setField(templateCatalog, "templateCacheTtlSeconds", 600L);
+	}
+
+	@Test
+	public void testTemplatesDownloadedOncePerTtl() throws Exception {
+		mockTemplates(template("RPR_UIN_GEN_SMS", "eng", "Your UIN is $UIN"));
+
+		assertTrue(templateCatalog.isTemplateAvailable("RPR_UIN_GEN_SMS"));
+		assertEquals("Your UIN is $UIN", templateCatalog.getFileText("RPR_UIN_GEN_SMS", "eng"));
+		assertFalse(templateCatalog.isTemplateAvailable("RPR_UIN_GEN_EMAIL"));
+		assertNull(templateCatalog.getFileText("RPR_UIN_GEN_SMS", "fra"));
+
+		Mockito.verify(restClientService, times(1)).getApi(any(), any(), anyString(), anyString(), any());
+	}
+
+	@Test
+	public void testTemplateTypeCodeMatchedIgnoringCase() throws Exception {
+		mockTemplates(template("RPR_UIN_GEN_SMS", "eng", "Your UIN is $UIN"));
+
+		assertTrue(templateCatalog.isTemplateAvailable("rpr_uin_gen_sms"));
+		assertEquals("Your UIN is $UIN", templateCatalog.getFileText("rpr_uin_gen_sms", "eng"));
+	}
+
+	@Test
+	public void testTemplatesRefreshedAfterTtl() throws Exception {
+		ReflectionTestUtils.setField(templateCatalog, "templateCacheTtlSeconds", 0L);
+		mockTemplates(template("RPR_UIN_GEN_SMS", "eng", "Your UIN is $UIN"));
+		templateCatalog.isTemplateAvailable("RPR_UIN_GEN_SMS");
+
+		mockTemplates(template("RPR_UIN_GEN_SMS", "eng", "Your new UIN is $UIN"));
+
+		assertEquals("Your new UIN is $UIN", templateCatalog.getFileText("RPR_UIN_GEN_SMS", "eng"));
+	}
+
+	@Test
+	public void testCachedTemplatesUsedWhenRefreshFails() throws Exception {
+		ReflectionTestUtils.setField(templateCatalog, "templateCacheTtlSeconds", 0L);
+		mockTemplates(template("RPR_UIN_GEN_SMS", "eng", "Your UIN is $UIN"));
+		templateCatalog.isTemplateAvailable("RPR_UIN_GEN_SMS");
+
+		Mockito.when(restClientService.getApi(any(), any(), anyString(), anyString(), any()))
+				.thenThrow(new ApisResourceAccessException("masterdata not reachable"));
+
+		assertEquals("Your UIN is $UIN", templateCatalog.getFileText("RPR_UIN_GEN_SMS", "eng"));
+	}
+
+	@Test
+	public void testErrorResponseNotCached() throws Exception {
+		ResponseWrapper<TemplateResponseDto> errorResponse = new ResponseWrapper<>();
+		List<ErrorDTO> errors = new ArrayList<>();
+		errors.add(new ErrorDTO("KER-MSD-145", "Template not found"));
+		errorResponse.setErrors(errors);
+		Mockito.when(restClientService.getApi(any(), any(), anyString(), anyString(), any())).thenReturn(errorResponse);
+
+		assertFalse(templateCatalog.isTemplateAvailable("RPR_UIN_GEN_SMS"));
+
+		mockTemplates(template("RPR_UIN_GEN_SMS", "eng", "Your UIN is $UIN"));
+		assertTrue(templateCatalog.isTemplateAvailable("RPR_UIN_GEN_SMS"));
+	}
+
+	@Test(expected = ApisResourceAccessException.class)
+	public void testDownloadFailureWithoutCachedTemplates() throws Exception {
+		Mockito.when(restClientService.getApi(any(), any(), anyString(), anyString(), any()))
+				.thenThrow(new ApisResourceAccessException("masterdata not reachable"));
+
+		templateCatalog.isTemplateAvailable("RPR_UIN_GEN_SMS");
+	}
+
+	private void mockTemplates(TemplateDto... templates) throws ApisResourceAccessException {
+		TemplateResponseDto templateResponseDto = new TemplateResponseDto();
+		List<TemplateDto> templateList = new ArrayList<>();
+		for (TemplateDto template : templates)
+			templateList.add(template);
+		templateResponseDto.setTemplates(templateList);
+		ResponseWrapper<TemplateResponseDto> responseWrapper = new ResponseWrapper<>();
+		responseWrapper.setResponse(templateResponseDto);
+		responseWrapper.setErrors(null);
+		Mockito.when(restClientService.getApi(Mockito.eq(ApiName.TEMPLATES), any(), anyString(), anyString(), any()))
+				.thenReturn(responseWrapper);
+	}
+
+	private static TemplateDto template(String templateTypeCode, String langCode, String fileText) {
+		TemplateDto template = new TemplateDto();
+		template.setTemplateTypeCode(templateTypeCode);
+		template.setLangCode(langCode);
+		template.setFileText(fileText);
+		return template;
+	}
+
+}
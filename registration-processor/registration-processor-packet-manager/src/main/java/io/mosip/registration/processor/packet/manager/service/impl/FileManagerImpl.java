@@ -1,11 +1,12 @@
 package io.mosip.registration.processor.packet.manager.service.impl;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import javax.annotation.PreDestroy;
+
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,9 +16,8 @@ import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-import com.jcraft.jsch.Channel;
 import com.jcraft.jsch.ChannelSftp;
-import com.jcraft.jsch.Session;
+import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.SftpException;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
@@ -33,7 +33,7 @@ import io.mosip.registration.processor.packet.manager.dto.DirectoryPathDto;
 import io.mosip.registration.processor.packet.manager.exception.FileNotFoundInDestinationException;
 import io.mosip.registration.processor.packet.manager.exception.FileNotFoundInSourceException;
 import io.mosip.registration.processor.packet.manager.exception.FilePathNotAccessibleException;
-import io.mosip.registration.processor.packet.manager.utils.SftpSessionPool;
+import io.mosip.registration.processor.packet.manager.utils.SftpChannelPool;
 
 /**
  * The implementation Class for FileManager.
@@ -66,6 +66,24 @@ public class FileManagerImpl implements FileManager<DirectoryPathDto, InputStrea
 
 	private String SFTP_CONNECTION_POOL_MAX_SESSION = "registration.processor.sftp.connection.pool.max.session";
 
+	private String SFTP_CONNECTION_POOL_MAX_WAIT = "registration.processor.sftp.connection.pool.max.wait.millis";
+
+	private String SFTP_CONNECTION_POOL_MIN_EVICTABLE_IDLE = "registration.processor.sftp.connection.pool.min.evictable.idle.millis";
+
+	private String SFTP_CONNECTION_TIMEOUT = "registration.processor.sftp.connection.timeout.millis";
+
+	private String SFTP_CONNECTION_RETRY_COUNT = "registration.processor.sftp.connection.retry.count";
+
+	private static final long RETRY_BACKOFF_MILLIS = 1000L;
+
+	private static final int DEFAULT_MAX_SESSION = 8;
+
+	/** The channel pool of this bean, created on first use with the current settings. */
+	private SftpChannelPool channelPool;
+
+	/** The ppk path, downloaded once from the config server. */
+	private volatile String ppkPath;
+
 	private String REGPROC_PPK = "registration.processor.vm.ppk";
 
 	private final String CREATING_NEW_CONNECTION = "creating new channelSftp connection";
@@ -336,17 +354,17 @@ public class FileManagerImpl implements FileManager<DirectoryPathDto, InputStrea
 				"FileManagerImpl::getFile(DirectoryPathDto workingDirectory, String fileName,SftpJschConnectionDto sftpConnectionDto)::entry");
 
 		byte[] bytedata = null;
+		ChannelSftp channelSftp = borrowChannel(sftpConnectionDto);
+		boolean reusable = false;
 		try {
-			Session session = getSession(sftpConnectionDto);
-			ChannelSftp channelSftp = getSftpConnection(sftpConnectionDto, session);
 			try (InputStream is = channelSftp
 					.get(env.getProperty(workingDirectory.toString()) + "/" + getFileName(fileName))) {
 				bytedata = IOUtils.toByteArray(is);
 			}
-
-			disconnectConnection(channelSftp, session, sftpConnectionDto);
+			reusable = true;
 
 		} catch (SftpException e) {
+			reusable = true;
 			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
 					fileName, e.getMessage() + ExceptionUtils.getStackTrace(e));
 
@@ -356,6 +374,8 @@ public class FileManagerImpl implements FileManager<DirectoryPathDto, InputStrea
 			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
 					fileName, e.getMessage() + ExceptionUtils.getStackTrace(e));
 
+		} finally {
+			returnChannel(sftpConnectionDto, channelSftp, reusable);
 		}
 
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
@@ -366,37 +386,123 @@ public class FileManagerImpl implements FileManager<DirectoryPathDto, InputStrea
 
 	}
 
-	public Session getSession(SftpJschConnectionDto sftpConnectionDto) throws IOException {
-		Session session = null;
+	/**
+	 * Borrows a connected sftp channel from the pool. A failed borrow is retried
+	 * with an exponential backoff, waiting at most the configured max wait for a
+	 * free channel on each attempt.
+	 *
+	 * @param sftpConnectionDto
+	 *            the sftp connection dto
+	 * @return the channel, to be handed back with returnChannel
+	 * @throws JschConnectionException
+	 *             if no channel could be obtained
+	 */
+	public ChannelSftp borrowChannel(SftpJschConnectionDto sftpConnectionDto) throws JschConnectionException {
 		sftpConnectionDto.setDmzServerPwd(env.getProperty(DMZ_SERVER_PASSWORD));
 		if (sftpConnectionDto.getDmzServerPwd() == null) {
-			sftpConnectionDto.setRegProcPPK(getPPKPath());
+			try {
+				sftpConnectionDto.setRegProcPPK(getCachedPPKPath());
+			} catch (IOException e) {
+				throw new JschConnectionException(PlatformErrorMessages.RPR_PKM_PWD_PPK_NOT_PRESENT.getMessage(), e);
+			}
+		}
+
+		int retryCount = env.getProperty(SFTP_CONNECTION_RETRY_COUNT, Integer.class, 3);
+		for (int attempt = 1;; attempt++) {
+			try {
+				return getChannelPool().getPool().borrowObject(sftpConnectionDto);
+			} catch (Exception e) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+						"Failed to get channel from sftp connection pool, attempt " + attempt,
+						e.getMessage() + ExceptionUtils.getStackTrace(e));
+				if (attempt >= retryCount)
+					throw new JschConnectionException(PlatformErrorMessages.RPR_PKM_JSCH_NOT_CONNECTED.getMessage(), e);
+			}
+			try {
+				Thread.sleep(RETRY_BACKOFF_MILLIS << (attempt - 1));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new JschConnectionException(PlatformErrorMessages.RPR_PKM_JSCH_NOT_CONNECTED.getMessage(), e);
+			}
 		}
+	}
 
-		String maxSession = env.getProperty(SFTP_CONNECTION_POOL_MAX_SESSION);
+	/**
+	 * Hands a borrowed channel back to the pool. Channels that failed below the
+	 * sftp protocol are destroyed instead of being reused.
+	 *
+	 * @param sftpConnectionDto
+	 *            the sftp connection dto the channel was borrowed for
+	 * @param channelSftp
+	 *            the channel
+	 * @param reusable
+	 *            false if the channel may be broken
+	 */
+	public void returnChannel(SftpJschConnectionDto sftpConnectionDto, ChannelSftp channelSftp, boolean reusable) {
+		if (channelSftp == null)
+			return;
 		try {
-			session = SftpSessionPool.getInstance(Integer.valueOf(maxSession)).getPool()
-					.borrowObject(sftpConnectionDto);
+			if (reusable)
+				getChannelPool().getPool().returnObject(sftpConnectionDto, channelSftp);
+			else
+				getChannelPool().getPool().invalidateObject(sftpConnectionDto, channelSftp);
 		} catch (Exception e) {
 			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
-					"Failed to get session from sftp connection pool. Will retry.", e.getMessage() + ExceptionUtils.getStackTrace(e));
-			getSession(sftpConnectionDto);
+					"Failed to return sftp channel", e.getMessage() + ExceptionUtils.getStackTrace(e));
 		}
-		return session;
 	}
 
-	public ChannelSftp getSftpConnection(SftpJschConnectionDto sftpConnectionDto, Session session) throws JschConnectionException {
-		ChannelSftp channelSftp = null;
+	private synchronized SftpChannelPool getChannelPool() {
+		if (channelPool == null) {
+			channelPool = new SftpChannelPool(
+					env.getProperty(SFTP_CONNECTION_POOL_MAX_SESSION, Integer.class, DEFAULT_MAX_SESSION),
+					env.getProperty(SFTP_CONNECTION_POOL_MAX_WAIT, Long.class, 30000L),
+					env.getProperty(SFTP_CONNECTION_POOL_MIN_EVICTABLE_IDLE, Long.class, 300000L),
+					getConnectTimeout());
+		}
+		return channelPool;
+	}
+
+	/**
+	 * Closes the channel pool when the bean is discarded, e.g. on a refresh of
+	 * its settings.
+	 */
+	@PreDestroy
+	public synchronized void closeChannelPool() {
+		if (channelPool != null) {
+			try {
+				channelPool.close();
+			} catch (Exception e) {
+				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
+						"", "Failed to close sftp channel pool " + ExceptionUtils.getStackTrace(e));
+			}
+			channelPool = null;
+		}
+	}
+
+	private int getConnectTimeout() {
+		return env.getProperty(SFTP_CONNECTION_TIMEOUT, Integer.class, 30000);
+	}
+
+	/**
+	 * Streams the source file into the destination file. The download runs on the
+	 * pooled channel and the upload on a second channel of the same ssh session,
+	 * so the packet is never held in memory.
+	 */
+	private void streamCopy(ChannelSftp channelSftp, String sourceFilePath, String destinationFilePath,
+			SftpJschConnectionDto sftpConnectionDto) throws SftpException, IOException, JschConnectionException {
+		ChannelSftp putChannel;
 		try {
-			Channel channel = session.openChannel(sftpConnectionDto.getProtocal());
-			channel.connect();
-			channelSftp = (ChannelSftp) channel;
-		} catch (Exception e) {
-			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
-					"Failed in getSftpConnection method", e.getMessage() + ExceptionUtils.getStackTrace(e));
-			throw new JschConnectionException(e.getMessage());
+			putChannel = (ChannelSftp) channelSftp.getSession().openChannel(sftpConnectionDto.getProtocal());
+			putChannel.connect(getConnectTimeout());
+		} catch (JSchException e) {
+			throw new JschConnectionException(e.getMessage(), e);
+		}
+		try (InputStream is = channelSftp.get(sourceFilePath)) {
+			putChannel.put(is, destinationFilePath);
+		} finally {
+			putChannel.disconnect();
 		}
-		return channelSftp;
 	}
 
 	@Override
@@ -408,27 +514,21 @@ public class FileManagerImpl implements FileManager<DirectoryPathDto, InputStrea
 				"FileManagerImpl::copy(String fileName, DirectoryPathDto sourceWorkingDirectory,DirectoryPathDto destinationWorkingDirectory, SftpJschConnectionDto sftpConnectionDto)::entry");
 
 		boolean status = false;
-		byte[] bytedata = null;
 		String sourceFilePath = env.getProperty(sourceWorkingDirectory.toString()) + "/" + getFileName(fileName);
 		String destinationFilePath = env.getProperty(destinationWorkingDirectory.toString()) + "/"
 				+ getFileName(fileName);
+		ChannelSftp channelSftp = borrowChannel(sftpConnectionDto);
+		boolean reusable = false;
 		try {
-			Session session = getSession(sftpConnectionDto);
-			ChannelSftp channelSftp = getSftpConnection(sftpConnectionDto, session);
-
-			try (InputStream is = channelSftp.get(sourceFilePath)) {
-				bytedata = IOUtils.toByteArray(is);
-			}
-
-			channelSftp.put(new ByteArrayInputStream(bytedata), destinationFilePath);
+			streamCopy(channelSftp, sourceFilePath, destinationFilePath, sftpConnectionDto);
 
-			if (channelSftp.get(destinationFilePath) != null) {
+			if (channelSftp.stat(destinationFilePath) != null) {
 				status = true;
 			}
-
-			disconnectConnection(channelSftp, session, sftpConnectionDto);
+			reusable = true;
 
 		} catch (SftpException e) {
+			reusable = true;
 
 			if (e.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
 				status = false;
@@ -445,6 +545,8 @@ public class FileManagerImpl implements FileManager<DirectoryPathDto, InputStrea
 
 			}
 
+		} finally {
+			returnChannel(sftpConnectionDto, channelSftp, reusable);
 		}
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
 				fileName,
@@ -466,21 +568,21 @@ public class FileManagerImpl implements FileManager<DirectoryPathDto, InputStrea
 		String sourceFilePath = env.getProperty(sourceWorkingDirectory.toString()) + "/" + getFileName(fileName);
 		String destinationFilePath = env.getProperty(destinationWorkingDirectory.toString()) + "/"
 				+ getFileName(fileName);
+		ChannelSftp channelSftp = borrowChannel(sftpConnectionDto);
+		boolean reusable = false;
 		try {
-			Session session = getSession(sftpConnectionDto);
-			ChannelSftp channelSftp = getSftpConnection(sftpConnectionDto, session);
-			if (channelSftp.get(destinationFilePath) != null) {
+			if (channelSftp.stat(destinationFilePath) != null) {
 
-				if (channelSftp.get(sourceFilePath) != null) {
+				if (channelSftp.stat(sourceFilePath) != null) {
 					channelSftp.rm(sourceFilePath);
 					status = true;
 				}
 
 			}
-
-			disconnectConnection(channelSftp, session, sftpConnectionDto);
+			reusable = true;
 
 		} catch (SftpException e) {
+			reusable = true;
 
 			if (e.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
 				status = false;
@@ -498,6 +600,8 @@ public class FileManagerImpl implements FileManager<DirectoryPathDto, InputStrea
 
 			}
 
+		} finally {
+			returnChannel(sftpConnectionDto, channelSftp, reusable);
 		}
 
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
@@ -507,26 +611,31 @@ public class FileManagerImpl implements FileManager<DirectoryPathDto, InputStrea
 		return status;
 	}
 
-	public void disconnectConnection(ChannelSftp channel, Session session, SftpJschConnectionDto sftpConnectionDto) {
-		String maxSession = env.getProperty(SFTP_CONNECTION_POOL_MAX_SESSION);
-		if (null != channel && channel.isConnected()) {
-			channel.disconnect();
-		}
-		if (null != session) {
-			try {
-				SftpSessionPool.getInstance(Integer.valueOf(maxSession)).getPool()
-						.returnObject(sftpConnectionDto, session);
-			} catch (Exception e) {
-				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
-						"Failed to disconnect sftp channel", e.getMessage() + ExceptionUtils.getStackTrace(e));
-			}
-		}
-	}
-
 	public String getExtension() {
 		return extension;
 	}
 
+	/**
+	 * Gets the ppk path, downloading the ppk from the config server only once.
+	 *
+	 * @return the ppk path
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private String getCachedPPKPath() throws IOException {
+		String path = ppkPath;
+		if (path == null) {
+			synchronized (this) {
+				path = ppkPath;
+				if (path == null) {
+					path = getPPKPath();
+					ppkPath = path;
+				}
+			}
+		}
+		return path;
+	}
+
 	public String getPPKPath() throws IOException {
 		RestTemplate restTemplate = new RestTemplate();
 		String data = restTemplate.getForObject(configServerFileStorageURL + env.getProperty(REGPROC_PPK),
@@ -0,0 +1,97 @@
+package io.mosip.registration.processor.packet.manager.utils;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.processor.core.constant.LoggerFileConstant;
+import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+import io.mosip.registration.processor.core.packet.dto.SftpJschConnectionDto;
+import org.apache.commons.pool.BaseKeyedPoolableObjectFactory;
+
+import java.util.Properties;
+
+/**
+ * This class is used to create the pooled sftp channels. Every channel runs on
+ * its own ssh session, so a channel can be validated, reused and destroyed
+ * independently of the others.
+ */
+public class SftpChannelFactory extends BaseKeyedPoolableObjectFactory<SftpJschConnectionDto, ChannelSftp> {
+
+    /** The reg proc logger. */
+    private static Logger regProcLogger = RegProcessorLogger.getLogger(SftpChannelFactory.class);
+
+    /** The timeout for connecting the session and the channel. */
+    private final int connectTimeoutMillis;
+
+    public SftpChannelFactory(int connectTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+    }
+
+    /**
+     * Method to create a new connected channel. Failures are thrown to the pool,
+     * the caller decides whether to retry.
+     */
+    @Override
+    public ChannelSftp makeObject(SftpJschConnectionDto sftpConnectionDto) throws JSchException {
+        Session session = null;
+        try {
+            JSch jsch = new JSch();
+            session = jsch.getSession(sftpConnectionDto.getUser(), sftpConnectionDto.getHost(),
+                    sftpConnectionDto.getPort());
+            if (sftpConnectionDto.getDmzServerPwd() != null && !sftpConnectionDto.getDmzServerPwd().isEmpty()) {
+                session.setPassword(sftpConnectionDto.getDmzServerPwd());
+            } else {
+                jsch.addIdentity(sftpConnectionDto.getRegProcPPK());
+            }
+            Properties config = new Properties();
+            config.put("StrictHostKeyChecking", "no");
+            session.setConfig(config);
+            session.connect(connectTimeoutMillis);
+            ChannelSftp channel = (ChannelSftp) session.openChannel(sftpConnectionDto.getProtocal());
+            channel.connect(connectTimeoutMillis);
+            return channel;
+        } catch (JSchException e) {
+            regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+                    "Failed to open sftp channel", e.getMessage() + ExceptionUtils.getStackTrace(e));
+            if (session != null)
+                session.disconnect();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks that the channel and its session are still connected and that the
+     * server still answers, so broken idle channels are never handed out.
+     */
+    @Override
+    public boolean validateObject(SftpJschConnectionDto sftpConnectionDto, ChannelSftp channel) {
+        try {
+            if (!channel.isConnected() || channel.isClosed() || !channel.getSession().isConnected())
+                return false;
+            channel.stat(".");
+            return true;
+        } catch (Exception e) {
+            regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+                    "Discarding stale sftp channel", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * This is called when the channel is evicted, invalidated or the pool is
+     * closed.
+     */
+    @Override
+    public void destroyObject(SftpJschConnectionDto sftpConnectionDto, ChannelSftp channel) {
+        try {
+            Session session = channel.getSession();
+            channel.disconnect();
+            session.disconnect();
+        } catch (JSchException e) {
+            channel.disconnect();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.mosip.registration.processor.packet.manager.utils;
+
+import com.jcraft.jsch.ChannelSftp;
+import io.mosip.registration.processor.core.packet.dto.SftpJschConnectionDto;
+import org.apache.commons.pool.KeyedObjectPool;
+import org.apache.commons.pool.impl.GenericKeyedObjectPool;
+
+/**
+ * This class is used to create the sftp channel pool. The pool is thread safe,
+ * bounds the number of channels per server, makes borrowers wait at most
+ * maxWaitMillis for a free channel and validates channels on borrow and while
+ * idle, evicting the ones that stayed idle for too long. The owner of the pool
+ * closes it when it is discarded.
+ */
+public class SftpChannelPool {
+
+    private final GenericKeyedObjectPool<SftpJschConnectionDto, ChannelSftp> pool;
+
+    /**
+     * @param maxChannels
+     *            the maximum number of channels per server
+     * @param maxWaitMillis
+     *            the maximum time to wait for a free channel
+     * @param minEvictableIdleMillis
+     *            the idle time after which a channel is closed
+     * @param connectTimeoutMillis
+     *            the timeout for opening a new channel
+     */
+    public SftpChannelPool(int maxChannels, long maxWaitMillis, long minEvictableIdleMillis,
+            int connectTimeoutMillis) {
+        pool = new GenericKeyedObjectPool<>(new SftpChannelFactory(connectTimeoutMillis));
+        pool.setMaxActive(maxChannels);
+        pool.setMaxIdle(maxChannels);
+        pool.setWhenExhaustedAction(GenericKeyedObjectPool.WHEN_EXHAUSTED_BLOCK);
+        pool.setMaxWait(maxWaitMillis);
+        pool.setTestOnBorrow(true);
+        pool.setTestWhileIdle(true);
+        pool.setMinEvictableIdleTimeMillis(minEvictableIdleMillis);
+        pool.setTimeBetweenEvictionRunsMillis(Math.max(minEvictableIdleMillis / 2, 1000L));
+    }
+
+    /**
+     *
+     * @return the org.apache.commons.pool.KeyedObjectPool class
+     */
+    public KeyedObjectPool<SftpJschConnectionDto, ChannelSftp> getPool() {
+        return pool;
+    }
+
+    /**
+     * Closes the idle channels and the channels returned afterwards.
+     *
+     * @throws Exception
+     *             if the pool could not be closed
+     */
+    public void close() throws Exception {
+        pool.close();
+    }
+}
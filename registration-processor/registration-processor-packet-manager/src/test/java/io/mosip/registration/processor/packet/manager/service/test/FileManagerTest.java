@@ -9,6 +9,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.io.FilenameUtils;
 import org.junit.Before;
@@ -28,6 +30,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.jcraft.jsch.ChannelSftp;
 import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.Session;
+import com.jcraft.jsch.SftpATTRS;
 import com.jcraft.jsch.SftpException;
 
 import io.mosip.registration.processor.core.exception.JschConnectionException;
@@ -81,16 +84,19 @@ public class FileManagerTest {
 	@InjectMocks
 	private FileManager<DirectoryPathDto, InputStream> impl = new FileManagerImpl() {
 		@Override
-		public ChannelSftp getSftpConnection(SftpJschConnectionDto sftpConnectionDto, Session session) {
+		public ChannelSftp borrowChannel(SftpJschConnectionDto sftpConnectionDto) {
 			return sftp;
 
 		}
 		@Override
-		public Session getSession(SftpJschConnectionDto sftpConnectionDto) throws IOException {
-			return session;
+		public void returnChannel(SftpJschConnectionDto sftpConnectionDto, ChannelSftp channelSftp,
+				boolean reusable) {
+			returnedChannels.add(reusable);
 		}
 	};
 
+	private List<Boolean> returnedChannels = new ArrayList<>();
+
 	@Mock
 	private InputStream is;
 
@@ -188,11 +194,17 @@ public class FileManagerTest {
 		Mockito.doNothing().when(session).connect();
 		Mockito.when(session.openChannel(Mockito.any())).thenReturn(sftp);
 		Mockito.doNothing().when(sftp).connect();
+		Mockito.when(sftp.getSession()).thenReturn(session);
 		Mockito.when(sftp.get(Mockito.any())).thenReturn(is);
+		Mockito.when(sftp.stat(Mockito.any())).thenReturn(Mockito.mock(SftpATTRS.class));
 		boolean status = impl.copy(fileNameWithoutExtn,
 				DirectoryPathDto.ARCHIVE_LOCATION, DirectoryPathDto.LANDING_ZONE, sftpDto);
 
 		assertTrue("Expected copy status as true", status);
+		// the source stream is handed to the upload instead of being buffered
+		Mockito.verify(sftp).put(is, LANDING_ZONE + "/" + fileNameWithoutExtn + ".zip");
+		assertEquals(1, returnedChannels.size());
+		assertTrue(returnedChannels.get(0));
 	}
 
 	@Test
@@ -203,7 +215,7 @@ public class FileManagerTest {
 		Mockito.doNothing().when(session).connect();
 		Mockito.when(session.openChannel(Mockito.any())).thenReturn(sftp);
 		Mockito.doNothing().when(sftp).connect();
-		Mockito.when(sftp.get(Mockito.any())).thenReturn(is);
+		Mockito.when(sftp.stat(Mockito.any())).thenReturn(Mockito.mock(SftpATTRS.class));
 		boolean result = impl.cleanUp(fileNameWithoutExtn, DirectoryPathDto.ARCHIVE_LOCATION, DirectoryPathDto.LANDING_ZONE, sftpDto);
 
 		assertTrue(result);
@@ -219,6 +231,7 @@ public class FileManagerTest {
 		Mockito.doNothing().when(session).connect();
 		Mockito.when(session.openChannel(Mockito.any())).thenReturn(sftp);
 		Mockito.doNothing().when(sftp).connect();
+		Mockito.when(sftp.getSession()).thenReturn(session);
 		Mockito.when(sftp.get(Mockito.any())).thenThrow(new SftpException(0, fileNameWithoutExtn));
 		impl.copy(fileNameWithoutExtn, DirectoryPathDto.ARCHIVE_LOCATION, DirectoryPathDto.LANDING_ZONE, sftpDto);
 	}
@@ -231,7 +244,7 @@ public class FileManagerTest {
 		Mockito.doNothing().when(session).connect();
 		Mockito.when(session.openChannel(Mockito.any())).thenReturn(sftp);
 		Mockito.doNothing().when(sftp).connect();
-		Mockito.when(sftp.get(Mockito.any())).thenThrow(new SftpException(0, fileNameWithoutExtn));
+		Mockito.when(sftp.stat(Mockito.any())).thenThrow(new SftpException(0, fileNameWithoutExtn));
 		impl.cleanUp(fileNameWithoutExtn, DirectoryPathDto.ARCHIVE_LOCATION, DirectoryPathDto.LANDING_ZONE, sftpDto);
 	}
 
@@ -0,0 +1,48 @@
+package io.mosip.registration.processor.status.config;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+/**
+ * Enables JDBC batching of the inserts and updates of the registration
+ * tables, so that a sync of many registration ids is written in a few
+ * statements. HibernateDaoConfig passes a fixed set of hibernate properties
+ * to the entity manager factory, so the batching properties are added to it
+ * here before it is built. Properties already set on the factory are kept.
+ */
+@Configuration
+public class JdbcBatchingConfig {
+
+	public static final String JDBC_BATCH_SIZE = "hibernate.jdbc.batch_size";
+
+	public static final String ORDER_INSERTS = "hibernate.order_inserts";
+
+	public static final String ORDER_UPDATES = "hibernate.order_updates";
+
+	private static final String DEFAULT_JDBC_BATCH_SIZE = "50";
+
+	@Bean
+	public static BeanPostProcessor jdbcBatchingPostProcessor(Environment environment) {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof LocalContainerEntityManagerFactoryBean) {
+					Map<String, Object> jpaProperties = ((LocalContainerEntityManagerFactoryBean) bean)
+							.getJpaPropertyMap();
+					jpaProperties.putIfAbsent(JDBC_BATCH_SIZE,
+							environment.getProperty(JDBC_BATCH_SIZE, DEFAULT_JDBC_BATCH_SIZE));
+					jpaProperties.putIfAbsent(ORDER_INSERTS, environment.getProperty(ORDER_INSERTS, "true"));
+					jpaProperties.putIfAbsent(ORDER_UPDATES, environment.getProperty(ORDER_UPDATES, "true"));
+				}
+				return bean;
+			}
+		};
+	}
+
+}
@@ -15,6 +15,7 @@ import io.mosip.registration.processor.rest.client.utils.RestApiClient;
 import io.mosip.registration.processor.status.dao.RegistrationStatusDao;
 import io.mosip.registration.processor.status.dao.SyncRegistrationDao;
 import io.mosip.registration.processor.status.decryptor.Decryptor;
+import io.mosip.registration.processor.status.decryptor.LocalSyncDecryptionProvider;
 import io.mosip.registration.processor.status.dto.InternalRegistrationStatusDto;
 import io.mosip.registration.processor.status.dto.RegistrationStatusDto;
 import io.mosip.registration.processor.status.dto.SyncRegistrationDto;
@@ -34,7 +35,7 @@ import io.mosip.registration.processor.status.utilities.RegistrationExternalStat
 
 @Configuration
 @PropertySource("classpath:bootstrap.properties")
-@Import({ HibernateDaoConfig.class })
+@Import({ HibernateDaoConfig.class, JdbcBatchingConfig.class })
 @EnableJpaRepositories(basePackages = "io.mosip.registration.processor", repositoryBaseClass = HibernateRepositoryImpl.class)
 public class RegistrationStatusBeanConfig {
 
@@ -115,6 +116,11 @@ public class RegistrationStatusBeanConfig {
 	public Decryptor decryptor() {
 		return new Decryptor();
 	}
+
+	@Bean
+	public LocalSyncDecryptionProvider localSyncDecryptionProvider() {
+		return new LocalSyncDecryptionProvider();
+	}
 	
 	@Bean
 	public Encryptor encryptor() {
@@ -8,6 +8,7 @@ import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import io.mosip.registration.processor.core.metrics.StageMetricsRegistry;
 import io.mosip.registration.processor.status.entity.RegistrationStatusEntity;
 import io.mosip.registration.processor.status.repositary.RegistrationRepositary;
 
@@ -69,7 +70,8 @@ public class RegistrationStatusDao {
 	 */
 	public RegistrationStatusEntity save(RegistrationStatusEntity registrationStatusEntity) {
 
-		return registrationStatusRepositary.save(registrationStatusEntity);
+		return StageMetricsRegistry.recordDbCall("registration.save",
+				() -> registrationStatusRepositary.save(registrationStatusEntity));
 	}
 
 	/**
@@ -81,7 +83,8 @@ public class RegistrationStatusDao {
 	 */
 	public RegistrationStatusEntity update(RegistrationStatusEntity registrationStatusEntity) {
 
-		return registrationStatusRepositary.save(registrationStatusEntity);
+		return StageMetricsRegistry.recordDbCall("registration.update",
+				() -> registrationStatusRepositary.save(registrationStatusEntity));
 	}
 
 	/**
@@ -105,8 +108,8 @@ public class RegistrationStatusDao {
 		params.put(ISACTIVE, Boolean.TRUE);
 		params.put(ISDELETED, Boolean.FALSE);
 
-		List<RegistrationStatusEntity> registrationStatusEntityList = registrationStatusRepositary
-				.createQuerySelect(queryStr, params);
+		List<RegistrationStatusEntity> registrationStatusEntityList = StageMetricsRegistry.recordDbCall(
+				"registration.findById", () -> registrationStatusRepositary.createQuerySelect(queryStr, params));
 
 		return !registrationStatusEntityList.isEmpty() ? registrationStatusEntityList.get(0) : null;
 	}
@@ -188,7 +191,8 @@ public class RegistrationStatusDao {
 		params.put("reprocessCount", reprocessCount);
 		params.put("timeDifference", timeDifference);
 
-		return registrationStatusRepositary.createQuerySelect(queryStr, params, fetchSize);
+		return StageMetricsRegistry.recordDbCall("registration.getUnProcessedPackets",
+				() -> registrationStatusRepositary.createQuerySelect(queryStr, params, fetchSize));
 	}
 
 	public Integer getUnProcessedPacketsCount(long elapseTime, Integer reprocessCount, List<String> status) {
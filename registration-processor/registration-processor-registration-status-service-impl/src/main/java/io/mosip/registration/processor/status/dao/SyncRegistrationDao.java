@@ -4,8 +4,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import io.mosip.registration.processor.status.entity.SyncRegistrationEntity;
@@ -23,6 +28,10 @@ public class SyncRegistrationDao {
 	@Autowired
 	RegistrationRepositary<SyncRegistrationEntity, String> syncRegistrationRepository;
 
+	/** The entity manager. */
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	/** The Constant AND. */
 	public static final String AND = "AND";
 
@@ -62,6 +71,30 @@ public class SyncRegistrationDao {
 		return syncRegistrationRepository.save(syncRegistrationEntity);
 	}
 
+	/**
+	 * Saves the entities of a sync in one transaction. The new entities are
+	 * inserted and the existing ones are updated by id without being read first,
+	 * so that the inserts and updates are flushed as JDBC batches when
+	 * hibernate.jdbc.batch_size is set.
+	 *
+	 * @param newEntities
+	 *            the sync registration entities to insert
+	 * @param existingEntities
+	 *            the sync registration entities to update, with the id of the
+	 *            saved row
+	 */
+	@Transactional
+	public void saveAll(List<SyncRegistrationEntity> newEntities, List<SyncRegistrationEntity> existingEntities) {
+		for (SyncRegistrationEntity newEntity : newEntities) {
+			entityManager.persist(newEntity);
+		}
+		Session session = entityManager.unwrap(Session.class);
+		for (SyncRegistrationEntity existingEntity : existingEntities) {
+			session.update(existingEntity);
+		}
+		entityManager.flush();
+	}
+
 	/**
 	 * Update.
 	 *
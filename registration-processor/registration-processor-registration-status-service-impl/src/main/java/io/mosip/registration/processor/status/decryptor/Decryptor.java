@@ -1,6 +1,7 @@
 package io.mosip.registration.processor.status.decryptor;
 
 import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.text.ParseException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -69,6 +70,9 @@ public class Decryptor {
 	@Autowired
 	private ObjectMapper mapper;
 
+	@Autowired(required = false)
+	private LocalSyncDecryptionProvider localSyncDecryptionProvider;
+
 	private static final String DECRYPT_SERVICE_ID = "mosip.registration.processor.crypto.decrypt.id";
 	private static final String REG_PROC_APPLICATION_VERSION = "mosip.registration.processor.application.version";
 	private static final String DATETIME_PATTERN = "mosip.registration.processor.datetime.pattern";
@@ -104,46 +108,9 @@ public class Decryptor {
 				"Decryptor::decrypt()::entry");
 		try {
 			byte[] packet = CryptoUtil.decodeBase64(encryptedSyncMetaInfo.toString());
-			CryptomanagerRequestDto cryptomanagerRequestDto = new CryptomanagerRequestDto();
-			cryptomanagerRequestDto.setPrependThumbprint(isPrependThumbprintEnabled);
-			io.mosip.kernel.core.http.RequestWrapper<CryptomanagerRequestDto> request = new RequestWrapper<>();
-			cryptomanagerRequestDto.setApplicationId(applicationId);
-			cryptomanagerRequestDto.setReferenceId(referenceId);
-			byte[] nonce = Arrays.copyOfRange(packet, 0, CryptomanagerConstant.GCM_NONCE_LENGTH);
-			byte[] aad = Arrays.copyOfRange(packet, CryptomanagerConstant.GCM_NONCE_LENGTH,
-					CryptomanagerConstant.GCM_NONCE_LENGTH + CryptomanagerConstant.GCM_AAD_LENGTH);
-			byte[] encryptedData = Arrays.copyOfRange(packet, CryptomanagerConstant.GCM_NONCE_LENGTH + CryptomanagerConstant.GCM_AAD_LENGTH,
-					packet.length);
-			cryptomanagerRequestDto.setAad(CryptoUtil.encodeBase64String(aad));
-			cryptomanagerRequestDto.setSalt(CryptoUtil.encodeBase64String(nonce));
-			cryptomanagerRequestDto.setData(CryptoUtil.encodeBase64String(encryptedData));
-			DateTimeFormatter format = DateTimeFormatter.ofPattern(env.getProperty(DATETIME_PATTERN));
-			LocalDateTime time = LocalDateTime.parse(timeStamp, format);
-			cryptomanagerRequestDto.setTimeStamp(time);
-			// setLocal Date Time
-			request.setId(env.getProperty(DECRYPT_SERVICE_ID));
-			request.setMetadata(null);
-			request.setRequest(cryptomanagerRequestDto);
-			LocalDateTime localdatetime = LocalDateTime
-					.parse(DateUtils.getUTCCurrentDateTimeString(env.getProperty(DATETIME_PATTERN)), format);
-			request.setRequesttime(localdatetime);
-			request.setVersion(env.getProperty(REG_PROC_APPLICATION_VERSION));
-
-			ResponseWrapper<CryptomanagerResponseDto> response = (ResponseWrapper<CryptomanagerResponseDto>) restClientService
-					.postApi(ApiName.CRYPTOMANAGERDECRYPT, "", "", request, ResponseWrapper.class);
-			if (response.getResponse() != null) {
-				LinkedHashMap responseMap = mapper.readValue(mapper.writeValueAsString(response.getResponse()),
-						LinkedHashMap.class);
-				byte[] decryptedPacket = CryptoUtil.decodeBase64(responseMap.get(KEY).toString());
-				decryptedData = new String(decryptedPacket);
-			} else {
-				description.setMessage(PlatformErrorMessages.RPR_PDS_PACKET_DECRYPTION_FAILURE.getMessage());
-				description.setCode(PlatformErrorMessages.RPR_PDS_PACKET_DECRYPTION_FAILURE.getCode());
-				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
-						LoggerFileConstant.REGISTRATIONID.toString(), "", IO_EXCEPTION);
-				throw new PacketDecryptionFailureException(response.getErrors().get(0).getErrorCode(),
-						response.getErrors().get(0).getMessage());
-			}
+			decryptedData = decryptLocally(packet, referenceId);
+			if (decryptedData == null)
+				decryptedData = decryptRemotely(packet, referenceId, timeStamp, description);
 
 			isTransactionSuccessful = true;
 			description.setMessage(PlatformSuccessMessages.RPR_DECRYPTION_SUCCESS.getMessage());
@@ -213,4 +180,87 @@ public class Decryptor {
 		return decryptedData;
 	}
 
+	/**
+	 * Decrypts the sync meta data in-process when local key material for the
+	 * reference id is available.
+	 *
+	 * @param packet
+	 *            the encrypted sync meta data
+	 * @param referenceId
+	 *            the reference id
+	 * @return the decrypted data, or null if it has to be decrypted remotely
+	 */
+	private String decryptLocally(byte[] packet, String referenceId) {
+		if (localSyncDecryptionProvider == null || !localSyncDecryptionProvider.isAvailable())
+			return null;
+		try {
+			byte[] decryptedPacket = localSyncDecryptionProvider.decrypt(packet, referenceId,
+					isPrependThumbprintEnabled);
+			return decryptedPacket != null ? new String(decryptedPacket) : null;
+		} catch (GeneralSecurityException e) {
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(),
+					"", "Decryptor::decryptLocally():: local decryption failed, falling back to remote "
+							+ e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Decrypts the sync meta data with the kernel crypto manager.
+	 *
+	 * @param packet
+	 *            the encrypted sync meta data
+	 * @param referenceId
+	 *            the reference id
+	 * @param timeStamp
+	 *            the time stamp of the sync request
+	 * @param description
+	 *            the audit description
+	 * @return the decrypted data
+	 */
+	@SuppressWarnings("unchecked")
+	private String decryptRemotely(byte[] packet, String referenceId, String timeStamp, LogDescription description)
+			throws ApisResourceAccessException, IOException, PacketDecryptionFailureException {
+		CryptomanagerRequestDto cryptomanagerRequestDto = new CryptomanagerRequestDto();
+		cryptomanagerRequestDto.setPrependThumbprint(isPrependThumbprintEnabled);
+		io.mosip.kernel.core.http.RequestWrapper<CryptomanagerRequestDto> request = new RequestWrapper<>();
+		cryptomanagerRequestDto.setApplicationId(applicationId);
+		cryptomanagerRequestDto.setReferenceId(referenceId);
+		byte[] nonce = Arrays.copyOfRange(packet, 0, CryptomanagerConstant.GCM_NONCE_LENGTH);
+		byte[] aad = Arrays.copyOfRange(packet, CryptomanagerConstant.GCM_NONCE_LENGTH,
+				CryptomanagerConstant.GCM_NONCE_LENGTH + CryptomanagerConstant.GCM_AAD_LENGTH);
+		byte[] encryptedData = Arrays.copyOfRange(packet, CryptomanagerConstant.GCM_NONCE_LENGTH + CryptomanagerConstant.GCM_AAD_LENGTH,
+				packet.length);
+		cryptomanagerRequestDto.setAad(CryptoUtil.encodeBase64String(aad));
+		cryptomanagerRequestDto.setSalt(CryptoUtil.encodeBase64String(nonce));
+		cryptomanagerRequestDto.setData(CryptoUtil.encodeBase64String(encryptedData));
+		DateTimeFormatter format = DateTimeFormatter.ofPattern(env.getProperty(DATETIME_PATTERN));
+		LocalDateTime time = LocalDateTime.parse(timeStamp, format);
+		cryptomanagerRequestDto.setTimeStamp(time);
+		// setLocal Date Time
+		request.setId(env.getProperty(DECRYPT_SERVICE_ID));
+		request.setMetadata(null);
+		request.setRequest(cryptomanagerRequestDto);
+		LocalDateTime localdatetime = LocalDateTime
+				.parse(DateUtils.getUTCCurrentDateTimeString(env.getProperty(DATETIME_PATTERN)), format);
+		request.setRequesttime(localdatetime);
+		request.setVersion(env.getProperty(REG_PROC_APPLICATION_VERSION));
+
+		ResponseWrapper<CryptomanagerResponseDto> response = (ResponseWrapper<CryptomanagerResponseDto>) restClientService
+				.postApi(ApiName.CRYPTOMANAGERDECRYPT, "", "", request, ResponseWrapper.class);
+		if (response.getResponse() != null) {
+			LinkedHashMap responseMap = mapper.readValue(mapper.writeValueAsString(response.getResponse()),
+					LinkedHashMap.class);
+			byte[] decryptedPacket = CryptoUtil.decodeBase64(responseMap.get(KEY).toString());
+			return new String(decryptedPacket);
+		} else {
+			description.setMessage(PlatformErrorMessages.RPR_PDS_PACKET_DECRYPTION_FAILURE.getMessage());
+			description.setCode(PlatformErrorMessages.RPR_PDS_PACKET_DECRYPTION_FAILURE.getCode());
+			regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
+					LoggerFileConstant.REGISTRATIONID.toString(), "", IO_EXCEPTION);
+			throw new PacketDecryptionFailureException(response.getErrors().get(0).getErrorCode(),
+					response.getErrors().get(0).getMessage());
+		}
+	}
+
 }
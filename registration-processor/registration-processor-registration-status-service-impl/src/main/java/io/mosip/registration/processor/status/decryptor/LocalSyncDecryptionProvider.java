@@ -0,0 +1,214 @@
+package io.mosip.registration.processor.status.decryptor;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.registration.processor.core.constant.LoggerFileConstant;
+import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+import io.mosip.registration.processor.core.util.KeyStoreReloader;
+import io.mosip.registration.processor.packet.manager.constant.CryptomanagerConstant;
+
+/**
+ * Decrypts sync meta data in-process with the reference id private keys held
+ * in a local keystore, using the same scheme as the kernel crypto manager: an
+ * RSA-OAEP (SHA-256) wrapped AES-GCM session key, separated from the cipher
+ * text by the kernel key splitter.
+ *
+ * The keys are loaded by a {@link KeyStoreReloader}, so key rotation does not
+ * need a restart.
+ * Keys are looked up by certificate thumbprint when the thumbprint is prepended
+ * to the encrypted session key, otherwise by keystore alias, which must be the
+ * reference id. When no key matches, {@link #decrypt(byte[], String, boolean)}
+ * returns null and the caller falls back to the remote crypto manager.
+ */
+@Component
+public class LocalSyncDecryptionProvider {
+
+	/** The reg proc logger. */
+	private static Logger regProcLogger = RegProcessorLogger.getLogger(LocalSyncDecryptionProvider.class);
+
+	private static final String ASYMMETRIC_ALGORITHM = "RSA/ECB/OAEPWithSHA-256AndMGF1Padding";
+
+	private static final String SYMMETRIC_ALGORITHM = "AES/GCM/NoPadding";
+
+	private static final String THUMBPRINT_ALGORITHM = "SHA-256";
+
+	private static final int THUMBPRINT_LENGTH = 32;
+
+	private static final int GCM_TAG_LENGTH = 128;
+
+	@Value("${registration.processor.sync.decryption.local.enabled:false}")
+	private boolean enabled;
+
+	@Value("${registration.processor.sync.decryption.local.keystore.path:}")
+	private String keystorePath;
+
+	@Value("${registration.processor.sync.decryption.local.keystore.type:PKCS12}")
+	private String keystoreType;
+
+	@Value("${registration.processor.sync.decryption.local.keystore.password:}")
+	private String keystorePassword;
+
+	@Value("${registration.processor.sync.decryption.local.refresh.interval.seconds:3600}")
+	private long refreshIntervalSeconds;
+
+	@Value("${mosip.kernel.data-key-splitter:#KEY_SPLITTER#}")
+	private String keySplitter;
+
+	/** The currently loaded keys, swapped atomically on rotation. */
+	private volatile KeyMaterial keyMaterial = new KeyMaterial(Collections.emptyMap(), Collections.emptyMap());
+
+	private KeyStoreReloader keyStoreReloader;
+
+	@PostConstruct
+	public void init() {
+		if (!enabled)
+			return;
+		keyStoreReloader = new KeyStoreReloader("local-sync-decryption", keystorePath, keystoreType,
+				keystorePassword, this::loadKeys);
+		keyStoreReloader.start(refreshIntervalSeconds);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (keyStoreReloader != null)
+			keyStoreReloader.shutdown();
+	}
+
+	/**
+	 * Returns true when local decryption is enabled and key material is loaded.
+	 *
+	 * @return true if {@link #decrypt(byte[], String, boolean)} can be used
+	 */
+	public boolean isAvailable() {
+		return enabled && !keyMaterial.keysByAlias.isEmpty();
+	}
+
+	/**
+	 * Decrypts the sync meta data.
+	 *
+	 * @param packet
+	 *            the encrypted data, prefixed with the GCM nonce and aad
+	 * @param referenceId
+	 *            the reference id the data was encrypted for
+	 * @param prependThumbprint
+	 *            true if the certificate thumbprint is prepended to the encrypted
+	 *            session key
+	 * @return the decrypted data, or null if no local key matches
+	 * @throws GeneralSecurityException
+	 *             if the data could not be decrypted
+	 */
+	public byte[] decrypt(byte[] packet, String referenceId, boolean prependThumbprint)
+			throws GeneralSecurityException {
+		int headerLength = CryptomanagerConstant.GCM_NONCE_LENGTH + CryptomanagerConstant.GCM_AAD_LENGTH;
+		if (packet.length <= headerLength)
+			throw new GeneralSecurityException("encrypted data is too short");
+		byte[] nonce = Arrays.copyOfRange(packet, 0, CryptomanagerConstant.GCM_NONCE_LENGTH);
+		byte[] aad = Arrays.copyOfRange(packet, CryptomanagerConstant.GCM_NONCE_LENGTH, headerLength);
+
+		int splitterIndex = indexOf(packet, keySplitter.getBytes(), headerLength);
+		if (splitterIndex < 0)
+			throw new GeneralSecurityException("key splitter not found in encrypted data");
+		byte[] encryptedKey = Arrays.copyOfRange(packet, headerLength, splitterIndex);
+		byte[] encryptedData = Arrays.copyOfRange(packet, splitterIndex + keySplitter.getBytes().length,
+				packet.length);
+
+		KeyMaterial keys = keyMaterial;
+		PrivateKey privateKey;
+		if (prependThumbprint) {
+			if (encryptedKey.length <= THUMBPRINT_LENGTH)
+				throw new GeneralSecurityException("encrypted session key is too short");
+			privateKey = keys.keysByThumbprint
+					.get(CryptoUtil.encodeBase64(Arrays.copyOfRange(encryptedKey, 0, THUMBPRINT_LENGTH)));
+			encryptedKey = Arrays.copyOfRange(encryptedKey, THUMBPRINT_LENGTH, encryptedKey.length);
+		} else {
+			privateKey = keys.keysByAlias.get(referenceId);
+		}
+		if (privateKey == null)
+			return null;
+
+		Cipher asymmetricCipher = Cipher.getInstance(ASYMMETRIC_ALGORITHM);
+		asymmetricCipher.init(Cipher.DECRYPT_MODE, privateKey, new OAEPParameterSpec(THUMBPRINT_ALGORITHM, "MGF1",
+				MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT));
+		byte[] sessionKey = asymmetricCipher.doFinal(encryptedKey);
+
+		Cipher symmetricCipher = Cipher.getInstance(SYMMETRIC_ALGORITHM);
+		symmetricCipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(sessionKey, "AES"),
+				new GCMParameterSpec(GCM_TAG_LENGTH, nonce));
+		symmetricCipher.updateAAD(aad);
+		return symmetricCipher.doFinal(encryptedData);
+	}
+
+	/**
+	 * Takes all private keys from the keystore, by alias and by certificate
+	 * thumbprint.
+	 */
+	private boolean loadKeys(KeyStore keyStore, char[] password) throws GeneralSecurityException {
+		Map<String, PrivateKey> keysByAlias = new HashMap<>();
+		Map<String, PrivateKey> keysByThumbprint = new HashMap<>();
+		Enumeration<String> aliases = keyStore.aliases();
+		while (aliases.hasMoreElements()) {
+			String alias = aliases.nextElement();
+			KeyStore.Entry entry = keyStore.getEntry(alias, new KeyStore.PasswordProtection(password));
+			if (entry instanceof KeyStore.PrivateKeyEntry) {
+				KeyStore.PrivateKeyEntry privateKeyEntry = (KeyStore.PrivateKeyEntry) entry;
+				keysByAlias.put(alias, privateKeyEntry.getPrivateKey());
+				byte[] thumbprint = MessageDigest.getInstance(THUMBPRINT_ALGORITHM)
+						.digest(privateKeyEntry.getCertificate().getEncoded());
+				keysByThumbprint.put(CryptoUtil.encodeBase64(thumbprint), privateKeyEntry.getPrivateKey());
+			}
+		}
+		if (keysByAlias.isEmpty())
+			return false;
+		keyMaterial = new KeyMaterial(keysByAlias, keysByThumbprint);
+		regProcLogger.info(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), "",
+				"LocalSyncDecryptionProvider::loadKeys():: decryption keys loaded for " + keysByAlias.keySet());
+		return true;
+	}
+
+	private static int indexOf(byte[] data, byte[] pattern, int fromIndex) {
+		outer: for (int i = fromIndex; i <= data.length - pattern.length; i++) {
+			for (int j = 0; j < pattern.length; j++) {
+				if (data[i + j] != pattern[j])
+					continue outer;
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	/** The private keys of one keystore load. */
+	private static class KeyMaterial {
+
+		private final Map<String, PrivateKey> keysByAlias;
+
+		private final Map<String, PrivateKey> keysByThumbprint;
+
+		KeyMaterial(Map<String, PrivateKey> keysByAlias, Map<String, PrivateKey> keysByThumbprint) {
+			this.keysByAlias = keysByAlias;
+			this.keysByThumbprint = keysByThumbprint;
+		}
+	}
+
+}
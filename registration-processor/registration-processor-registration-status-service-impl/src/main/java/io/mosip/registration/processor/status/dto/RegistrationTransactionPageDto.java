@@ -0,0 +1,19 @@
+package io.mosip.registration.processor.status.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * One page of the transactions of a registration id.
+ */
+@Data
+public class RegistrationTransactionPageDto {
+
+	/** The transactions, oldest first. */
+	private List<RegistrationTransactionDto> transactions;
+
+	/** The cursor of the next page, null on the last page. */
+	private String nextCursor;
+
+}
@@ -0,0 +1,50 @@
+package io.mosip.registration.processor.status.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+/**
+ * Projection of the transaction columns needed by the transaction search, so
+ * the search does not load full transaction entities.
+ */
+@Data
+public class TransactionSearchDto {
+
+	/** The transaction id. */
+	private String id;
+
+	/** The registration id. */
+	private String registrationId;
+
+	/** The trntypecode. */
+	private String trntypecode;
+
+	/** The parentid. */
+	private String parentid;
+
+	/** The status code. */
+	private String statusCode;
+
+	/** The sub status code. */
+	private String subStatusCode;
+
+	/** The status comment. */
+	private String statusComment;
+
+	/** The create date time. */
+	private LocalDateTime createDateTime;
+
+	public TransactionSearchDto(String id, String registrationId, String trntypecode, String parentid,
+			String statusCode, String subStatusCode, String statusComment, LocalDateTime createDateTime) {
+		this.id = id;
+		this.registrationId = registrationId;
+		this.trntypecode = trntypecode;
+		this.parentid = parentid;
+		this.statusCode = statusCode;
+		this.subStatusCode = subStatusCode;
+		this.statusComment = statusComment;
+		this.createDateTime = createDateTime;
+	}
+
+}
@@ -9,10 +9,14 @@ import java.util.Arrays;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 /**
  * The Class SyncRegistrationEntity.
@@ -21,7 +25,7 @@ import org.hibernate.annotations.UpdateTimestamp;
  */
 @Entity
 @Table(name = "registration_list", schema = "regprc")
-public class SyncRegistrationEntity extends BaseRegistrationEntity {
+public class SyncRegistrationEntity extends BaseRegistrationEntity implements Persistable<String> {
 
 	/** The registration id. */
 	@Column(name = "reg_id", nullable = false)
@@ -87,6 +91,13 @@ public class SyncRegistrationEntity extends BaseRegistrationEntity {
 	@Column(name = "del_dtimes")
 	private LocalDateTime deletedDateTime;
 
+	/**
+	 * Whether the record is not stored yet. The id is assigned, so a new record
+	 * is only persisted without a select when it is marked new.
+	 */
+	@Transient
+	private boolean isNew;
+
 	/**
 	 * Instantiates a new sync registration entity.
 	 */
@@ -398,4 +409,34 @@ public class SyncRegistrationEntity extends BaseRegistrationEntity {
 		this.deletedDateTime = deletedDateTime;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.springframework.data.domain.Persistable#isNew()
+	 */
+	@Override
+	public boolean isNew() {
+		return isNew;
+	}
+
+	/**
+	 * Marks the record as not stored yet, so that it is inserted without
+	 * looking it up first.
+	 *
+	 * @param isNew
+	 *            true, if the record is not stored yet
+	 */
+	public void setNew(boolean isNew) {
+		this.isNew = isNew;
+	}
+
+	/**
+	 * Marks the record as stored once it is loaded or inserted.
+	 */
+	@PostLoad
+	@PostPersist
+	void markNotNew() {
+		this.isNew = false;
+	}
+
 }
@@ -3,13 +3,16 @@
  */
 package io.mosip.registration.processor.status.repositary;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
+import io.mosip.registration.processor.status.dto.TransactionSearchDto;
 import io.mosip.registration.processor.status.entity.BaseRegistrationEntity;
 import io.mosip.registration.processor.status.entity.SyncRegistrationEntity;
 
@@ -27,6 +30,37 @@ public interface RegistrationRepositary<T extends BaseRegistrationEntity, E> ext
 	@Query("SELECT trn FROM TransactionEntity trn WHERE trn.registrationId=:regId")
 	public List<T> getTransactionByRegId(@Param("regId") String regId);
 
+	/**
+	 * Gets the first page of the transactions of a registration id, oldest
+	 * first. Served by the (reg_id, cr_dtimes) index.
+	 *
+	 * @param regId
+	 *            the reg id
+	 * @param pageable
+	 *            the page size
+	 * @return the transactions
+	 */
+	@Query("SELECT new io.mosip.registration.processor.status.dto.TransactionSearchDto(trn.id, trn.registrationId, trn.trntypecode, trn.parentid, trn.statusCode, trn.subStatusCode, trn.statusComment, trn.createDateTime) FROM TransactionEntity trn WHERE trn.registrationId=:regId ORDER BY trn.createDateTime, trn.id")
+	public List<TransactionSearchDto> getTransactionPageByRegId(@Param("regId") String regId, Pageable pageable);
+
+	/**
+	 * Gets the page of the transactions of a registration id that follows the
+	 * given transaction, oldest first.
+	 *
+	 * @param regId
+	 *            the reg id
+	 * @param afterDateTime
+	 *            the create time of the last transaction of the previous page
+	 * @param afterId
+	 *            the id of the last transaction of the previous page
+	 * @param pageable
+	 *            the page size
+	 * @return the transactions
+	 */
+	@Query("SELECT new io.mosip.registration.processor.status.dto.TransactionSearchDto(trn.id, trn.registrationId, trn.trntypecode, trn.parentid, trn.statusCode, trn.subStatusCode, trn.statusComment, trn.createDateTime) FROM TransactionEntity trn WHERE trn.registrationId=:regId and (trn.createDateTime >:afterDateTime or (trn.createDateTime =:afterDateTime and trn.id >:afterId)) ORDER BY trn.createDateTime, trn.id")
+	public List<TransactionSearchDto> getTransactionPageByRegIdAfter(@Param("regId") String regId,
+			@Param("afterDateTime") LocalDateTime afterDateTime, @Param("afterId") String afterId, Pageable pageable);
+
 	@Query("SELECT trn FROM TransactionEntity trn WHERE trn.registrationId=:regId and trn.statusCode=:statusCode")
 	public List<T> getTransactionByRegIdAndStatusCode(@Param("regId") String regId,
 			@Param("statusCode") String statusCode);
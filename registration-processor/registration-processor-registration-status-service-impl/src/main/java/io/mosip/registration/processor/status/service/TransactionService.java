@@ -3,6 +3,7 @@ package io.mosip.registration.processor.status.service;
 import java.util.List;
 
 import io.mosip.registration.processor.status.dto.RegistrationTransactionDto;
+import io.mosip.registration.processor.status.dto.RegistrationTransactionPageDto;
 import io.mosip.registration.processor.status.dto.TransactionDto;
 import io.mosip.registration.processor.status.entity.TransactionEntity;
 import io.mosip.registration.processor.status.exception.RegTransactionAppException;
@@ -40,4 +41,24 @@ public interface TransactionService<U> {
 	
 	public List<RegistrationTransactionDto> getTransactionByRegId(String regId,String langCode) throws TransactionsUnavailableException, RegTransactionAppException;
 
+	/**
+	 * Gets one page of the transactions of a registration id, oldest first.
+	 *
+	 * @param regId
+	 *            the reg id
+	 * @param langCode
+	 *            the lang code
+	 * @param cursor
+	 *            the next cursor of the previous page, null for the first page
+	 * @param limit
+	 *            the page size, capped by the configured maximum
+	 * @return the page of transactions
+	 * @throws TransactionsUnavailableException
+	 *             if the registration id has no transactions
+	 * @throws RegTransactionAppException
+	 *             if the lang code or cursor is invalid
+	 */
+	public RegistrationTransactionPageDto getTransactionPageByRegId(String regId, String langCode, String cursor,
+			Integer limit) throws TransactionsUnavailableException, RegTransactionAppException;
+
 }
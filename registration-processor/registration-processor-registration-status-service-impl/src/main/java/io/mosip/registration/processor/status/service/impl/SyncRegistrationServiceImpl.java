@@ -6,7 +6,10 @@ package io.mosip.registration.processor.status.service.impl;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -70,6 +73,9 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 	/** The Constant CREATED_BY. */
 	private static final String CREATED_BY = "MOSIP";
 
+	/** The maximum number of registration ids looked up in one IN query. */
+	private static final int LOOKUP_BATCH_SIZE = 1000;
+
 	/** The event id. */
 	private String eventId = "";
 
@@ -127,8 +133,27 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 		LogDescription description = new LogDescription();
 		boolean isTransactionSuccessful = false;
 		try {
+			// validate the whole batch in memory first, keyed by the trimmed
+			// registration id so that a repeated id is stored once (last one wins)
+			Map<String, SyncRegistrationDto> validRegistrations = new LinkedHashMap<>();
+			// the response keeps one entry per request item in request order, the
+			// valid items are filled in by position once the batch is saved
+			Map<Integer, SyncRegistrationDto> pendingResponses = new LinkedHashMap<>();
 			for (SyncRegistrationDto registrationDto : resgistrationDtos) {
-				synchResponseList = validateSync(registrationDto, synchResponseList, referenceId, timeStamp);
+				if (validateSync(registrationDto, synchResponseList)) {
+					validRegistrations.put(registrationDto.getRegistrationId().trim(), registrationDto);
+					pendingResponses.put(synchResponseList.size(), registrationDto);
+					synchResponseList.add(null);
+				}
+			}
+			if (!validRegistrations.isEmpty()) {
+				saveSyncRegistrations(validRegistrations, referenceId, timeStamp);
+			}
+			for (Map.Entry<Integer, SyncRegistrationDto> pendingResponse : pendingResponses.entrySet()) {
+				SyncResponseSuccessDto syncResponseDto = new SyncResponseSuccessDto();
+				syncResponseDto.setRegistrationId(pendingResponse.getValue().getRegistrationId());
+				syncResponseDto.setStatus(ResponseStatusCode.SUCCESS.toString());
+				synchResponseList.set(pendingResponse.getKey(), syncResponseDto);
 			}
 			isTransactionSuccessful = true;
 			description.setMessage("Registartion Id's are successfully synched in Sync Registration table");
@@ -171,6 +196,53 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 
 	}
 
+	/**
+	 * Looks up the already synced registration ids of the batch and saves all
+	 * records in one call, updating the existing rows by id and inserting the new
+	 * ones, so that no record is read back before it is written.
+	 *
+	 * @param registrations
+	 *            the validated registrations by registration id
+	 * @param referenceId
+	 *            the reference id
+	 * @param timeStamp
+	 *            the time stamp
+	 */
+	private void saveSyncRegistrations(Map<String, SyncRegistrationDto> registrations, String referenceId,
+			String timeStamp) {
+		List<String> registrationIds = new ArrayList<>(registrations.keySet());
+		Map<String, SyncRegistrationEntity> existingSyncRegistrations = new HashMap<>();
+		for (int i = 0; i < registrationIds.size(); i += LOOKUP_BATCH_SIZE) {
+			List<SyncRegistrationEntity> existingEntities = syncRegistrationDao
+					.getByIds(registrationIds.subList(i, Math.min(i + LOOKUP_BATCH_SIZE, registrationIds.size())));
+			for (SyncRegistrationEntity existingEntity : existingEntities) {
+				existingSyncRegistrations.putIfAbsent(existingEntity.getRegistrationId(), existingEntity);
+			}
+		}
+
+		List<SyncRegistrationEntity> newSyncRegistrations = new ArrayList<>();
+		List<SyncRegistrationEntity> updatedSyncRegistrations = new ArrayList<>();
+		for (Map.Entry<String, SyncRegistrationDto> registration : registrations.entrySet()) {
+			SyncRegistrationEntity syncRegistration = convertDtoToEntity(registration.getValue(), referenceId,
+					timeStamp);
+			SyncRegistrationEntity existingSyncRegistration = existingSyncRegistrations.get(registration.getKey());
+			if (existingSyncRegistration != null) {
+				// update sync registration record
+				syncRegistration.setId(existingSyncRegistration.getId());
+				syncRegistration.setCreateDateTime(existingSyncRegistration.getCreateDateTime());
+				updatedSyncRegistrations.add(syncRegistration);
+			} else {
+				// first time sync registration
+				syncRegistration.setCreateDateTime(LocalDateTime.now(ZoneId.of("UTC")));
+				syncRegistration.setId(RegistrationUtility.generateId());
+				newSyncRegistrations.add(syncRegistration);
+			}
+		}
+		syncRegistrationDao.saveAll(newSyncRegistrations, updatedSyncRegistrations);
+
+		eventId = !updatedSyncRegistrations.isEmpty() ? EventId.RPR_402.toString() : EventId.RPR_407.toString();
+	}
+
 	/**
 	 * Validate RegiId with Kernel RidValiator.
 	 *
@@ -178,11 +250,9 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 	 *            the registration dto
 	 * @param syncResponseList
 	 *            the sync response list
-	 * @return the list
+	 * @return true, if the registration passed all validations
 	 */
-	private List<SyncResponseDto> validateSync(SyncRegistrationDto registrationDto,
-			List<SyncResponseDto> syncResponseList, String referenceId,
-			String timeStamp) {
+	private boolean validateSync(SyncRegistrationDto registrationDto, List<SyncResponseDto> syncResponseList) {
 		if (validateLanguageCode(registrationDto, syncResponseList)
 				&& validateRegistrationType(registrationDto, syncResponseList)
 				&& validateHashValue(registrationDto, syncResponseList)
@@ -191,9 +261,7 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 				SyncResponseFailureDto syncResponseFailureDto = new SyncResponseFailureDto();
 				try {
 					if (ridValidator.validateId(registrationDto.getRegistrationId())) {
-
-						syncResponseList = validateRegId(registrationDto, syncResponseList, referenceId, timeStamp);
-
+						return true;
 					}
 				} catch (InvalidIDException e) {
 					syncResponseFailureDto.setRegistrationId(registrationDto.getRegistrationId());
@@ -219,7 +287,7 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 				}
 			}
 		}
-		return syncResponseList;
+		return false;
 	}
 
 	/**
@@ -364,51 +432,6 @@ public class SyncRegistrationServiceImpl implements SyncRegistrationService<Sync
 		}
 	}
 
-	/**
-	 * Validate reg id.
-	 *
-	 * @param registrationDto
-	 *            the registration dto
-	 * @param syncResponseList
-	 *            the sync response list
-	 * @return the list
-	 */
-	public List<SyncResponseDto> validateRegId(SyncRegistrationDto registrationDto,
-			List<SyncResponseDto> syncResponseList, String referenceId,
-			String timeStamp) {
-		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
-				registrationDto.getRegistrationId(), "SyncRegistrationServiceImpl::validateRegId()::entry");
-		SyncResponseSuccessDto syncResponseDto = new SyncResponseSuccessDto();
-		SyncRegistrationEntity existingSyncRegistration = findByRegistrationId(
-				registrationDto.getRegistrationId().trim());
-		SyncRegistrationEntity syncRegistration;
-		if (existingSyncRegistration != null) {
-			// update sync registration record
-			syncRegistration = convertDtoToEntity(registrationDto, referenceId, timeStamp);
-			syncRegistration.setId(existingSyncRegistration.getId());
-			syncRegistration.setCreateDateTime(existingSyncRegistration.getCreateDateTime());
-			syncRegistrationDao.update(syncRegistration);
-			syncResponseDto.setRegistrationId(registrationDto.getRegistrationId());
-
-			eventId = EventId.RPR_402.toString();
-		} else {
-			// first time sync registration
-
-			syncRegistration = convertDtoToEntity(registrationDto, referenceId, timeStamp);
-			syncRegistration.setCreateDateTime(LocalDateTime.now(ZoneId.of("UTC")));
-			syncRegistration.setId(RegistrationUtility.generateId());
-			syncRegistrationDao.save(syncRegistration);
-			syncResponseDto.setRegistrationId(registrationDto.getRegistrationId());
-
-			eventId = EventId.RPR_407.toString();
-		}
-		syncResponseDto.setStatus(ResponseStatusCode.SUCCESS.toString());
-		syncResponseList.add(syncResponseDto);
-		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
-				registrationDto.getRegistrationId(), "SyncRegistrationServiceImpl::validateRegId()::exit");
-		return syncResponseList;
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -3,14 +3,21 @@ package io.mosip.registration.processor.status.service.impl;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -20,8 +27,11 @@ import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.registration.processor.core.constant.LoggerFileConstant;
 import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
 import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+import io.mosip.registration.processor.core.metrics.StageMetricsRegistry;
 import io.mosip.registration.processor.status.dto.RegistrationTransactionDto;
+import io.mosip.registration.processor.status.dto.RegistrationTransactionPageDto;
 import io.mosip.registration.processor.status.dto.TransactionDto;
+import io.mosip.registration.processor.status.dto.TransactionSearchDto;
 import io.mosip.registration.processor.status.entity.TransactionEntity;
 import io.mosip.registration.processor.status.exception.RegTransactionAppException;
 import io.mosip.registration.processor.status.exception.TransactionTableNotAccessibleException;
@@ -44,9 +54,18 @@ public class TransactionServiceImpl implements TransactionService<TransactionDto
 
 	private static final String supportedLanguageKey = "mosip.supported-languages";
 
+	private static final String CURSOR_SEPARATOR = "|";
+
 	@Autowired
 	Environment environment;
 
+	/** The maximum number of transactions returned in one page. */
+	@Value("${registration.processor.transaction.search.max.page.size:100}")
+	private int maxPageSize;
+
+	/** The localized messages, loaded once per language. */
+	private final Map<String, Properties> messagesByLangCode = new ConcurrentHashMap<>();
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -63,7 +82,7 @@ public class TransactionServiceImpl implements TransactionService<TransactionDto
 			regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(),
 					transactionStatusDto.getRegistrationId(),
 					"TransactionServiceImpl::addRegistrationTransaction()::exit");
-			return transactionRepositary.save(entity);
+			return StageMetricsRegistry.recordDbCall("transaction.save", () -> transactionRepositary.save(entity));
 		} catch (DataAccessLayerException e) {
 			throw new TransactionTableNotAccessibleException(
 					PlatformErrorMessages.RPR_RGS_TRANSACTION_TABLE_NOT_ACCESSIBLE.getMessage(), e);
@@ -119,13 +138,7 @@ public class TransactionServiceImpl implements TransactionService<TransactionDto
 	public List<RegistrationTransactionDto> getTransactionByRegId(String regId, String langCode)
 			throws TransactionsUnavailableException, RegTransactionAppException {
 
-		String supportedLanguage = environment.getProperty(supportedLanguageKey);
-		List<String> supportedLanguages = supportedLanguage != null ? Arrays.asList(supportedLanguage.split(","))
-				: new ArrayList<>();
-		if (!supportedLanguages.contains(langCode)) {
-			throw new RegTransactionAppException(PlatformErrorMessages.RPR_RTS_INVALID_REQUEST.getCode(),
-					PlatformErrorMessages.RPR_RTS_INVALID_REQUEST.getMessage() + " - langCode");
-		}
+		validateLangCode(langCode);
 		List<RegistrationTransactionDto> dtoList = new ArrayList<RegistrationTransactionDto>();
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), regId,
 				"TransactionServiceImpl::getTransactionByRegId()::entry");
@@ -135,15 +148,7 @@ public class TransactionServiceImpl implements TransactionService<TransactionDto
 				throw new TransactionsUnavailableException(PlatformErrorMessages.TRANSACTIONS_NOT_AVAILABLE.getCode(),
 						PlatformErrorMessages.TRANSACTIONS_NOT_AVAILABLE.getMessage());
 			}
-			ClassLoader classLoader = getClass().getClassLoader();
-			String messagesPropertiesFileName = "globalMessages_" + langCode + ".properties";
-			InputStream inputStream = classLoader.getResourceAsStream(messagesPropertiesFileName);
-			Properties prop = new Properties();
-			InputStreamReader streamReader = new InputStreamReader(inputStream, "UTF-8");
-			prop.load(streamReader);
-			setStatusComment(transactionEntityList, dtoList, prop);
-			streamReader.close();
-			inputStream.close();
+			setStatusComment(transactionEntityList, dtoList, getMessages(langCode));
 		} catch (DataAccessLayerException e) {
 			throw new TransactionTableNotAccessibleException(
 					PlatformErrorMessages.RPR_RGS_TRANSACTION_TABLE_NOT_ACCESSIBLE.getMessage(), e);
@@ -156,6 +161,107 @@ public class TransactionServiceImpl implements TransactionService<TransactionDto
 		return dtoList;
 	}
 
+	@Override
+	public RegistrationTransactionPageDto getTransactionPageByRegId(String regId, String langCode, String cursor,
+			Integer limit) throws TransactionsUnavailableException, RegTransactionAppException {
+		validateLangCode(langCode);
+		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), regId,
+				"TransactionServiceImpl::getTransactionPageByRegId()::entry");
+		int pageSize = limit == null || limit <= 0 ? maxPageSize : Math.min(limit, maxPageSize);
+		RegistrationTransactionPageDto page = new RegistrationTransactionPageDto();
+		try {
+			// one extra row tells whether there is a next page
+			PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+			List<TransactionSearchDto> transactions;
+			if (cursor == null || cursor.isEmpty()) {
+				transactions = transactionRepositary.getTransactionPageByRegId(regId, pageRequest);
+				if (transactions == null || transactions.isEmpty()) {
+					throw new TransactionsUnavailableException(PlatformErrorMessages.TRANSACTIONS_NOT_AVAILABLE.getCode(),
+							PlatformErrorMessages.TRANSACTIONS_NOT_AVAILABLE.getMessage());
+				}
+			} else {
+				String[] position = decodeCursor(cursor);
+				transactions = transactionRepositary.getTransactionPageByRegIdAfter(regId,
+						LocalDateTime.parse(position[0]), position[1], pageRequest);
+			}
+			boolean hasNextPage = transactions.size() > pageSize;
+			if (hasNextPage)
+				transactions = transactions.subList(0, pageSize);
+
+			Properties prop = getMessages(langCode);
+			List<RegistrationTransactionDto> dtoList = new ArrayList<>(transactions.size());
+			for (TransactionSearchDto transaction : transactions) {
+				dtoList.add(convertSearchDtoToRegistrationTransactionDto(transaction, prop));
+			}
+			page.setTransactions(dtoList);
+			if (hasNextPage)
+				page.setNextCursor(encodeCursor(transactions.get(transactions.size() - 1)));
+		} catch (DataAccessLayerException e) {
+			throw new TransactionTableNotAccessibleException(
+					PlatformErrorMessages.RPR_RGS_TRANSACTION_TABLE_NOT_ACCESSIBLE.getMessage(), e);
+		} catch (IOException e) {
+			throw new RegTransactionAppException(PlatformErrorMessages.RPR_RTS_UNKNOWN_EXCEPTION.getCode(),
+					PlatformErrorMessages.RPR_RTS_UNKNOWN_EXCEPTION.getMessage() + " -->" + e.getMessage());
+		}
+		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.USERID.toString(), regId,
+				"TransactionServiceImpl::getTransactionPageByRegId()::exit");
+		return page;
+	}
+
+	private void validateLangCode(String langCode) throws RegTransactionAppException {
+		String supportedLanguage = environment.getProperty(supportedLanguageKey);
+		List<String> supportedLanguages = supportedLanguage != null ? Arrays.asList(supportedLanguage.split(","))
+				: new ArrayList<>();
+		if (!supportedLanguages.contains(langCode)) {
+			throw new RegTransactionAppException(PlatformErrorMessages.RPR_RTS_INVALID_REQUEST.getCode(),
+					PlatformErrorMessages.RPR_RTS_INVALID_REQUEST.getMessage() + " - langCode");
+		}
+	}
+
+	/**
+	 * Gets the localized messages of the language, reading the messages file
+	 * only on first use.
+	 */
+	private Properties getMessages(String langCode) throws IOException {
+		Properties prop = messagesByLangCode.get(langCode);
+		if (prop != null)
+			return prop;
+		String messagesPropertiesFileName = "globalMessages_" + langCode + ".properties";
+		try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(messagesPropertiesFileName)) {
+			if (inputStream == null)
+				throw new IOException(messagesPropertiesFileName + " not found");
+			prop = new Properties();
+			prop.load(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		}
+		Properties existing = messagesByLangCode.putIfAbsent(langCode, prop);
+		return existing != null ? existing : prop;
+	}
+
+	/**
+	 * The cursor is the create time and id of the last transaction of the page,
+	 * which is the position the next page continues from.
+	 */
+	private String encodeCursor(TransactionSearchDto transaction) {
+		String position = transaction.getCreateDateTime() + CURSOR_SEPARATOR + transaction.getId();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String[] decodeCursor(String cursor) throws RegTransactionAppException {
+		try {
+			String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = position.indexOf(CURSOR_SEPARATOR);
+			if (separator > 0) {
+				String createDateTime = position.substring(0, separator);
+				LocalDateTime.parse(createDateTime);
+				return new String[] { createDateTime, position.substring(separator + 1) };
+			}
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			// reported below as an invalid cursor
+		}
+		throw new RegTransactionAppException(PlatformErrorMessages.RPR_RTS_INVALID_REQUEST.getCode(),
+				PlatformErrorMessages.RPR_RTS_INVALID_REQUEST.getMessage() + " - cursor");
+	}
+
 	/**
 	 * Convert entity to dto.
 	 *
@@ -176,6 +282,24 @@ public class TransactionServiceImpl implements TransactionService<TransactionDto
 
 	}
 
+	private RegistrationTransactionDto convertSearchDtoToRegistrationTransactionDto(TransactionSearchDto transaction,
+			Properties prop) {
+		String statusComment = transaction.getStatusComment();
+		if (transaction.getSubStatusCode() != null && !transaction.getSubStatusCode().isEmpty()) {
+			statusComment = prop.getProperty(transaction.getSubStatusCode());
+		}
+		String statusCode = transaction.getStatusCode();
+		if (statusCode != null && !statusCode.isEmpty()) {
+			statusCode = prop.getProperty(statusCode);
+		}
+		String trntypecode = transaction.getTrntypecode();
+		if (trntypecode != null && !trntypecode.isEmpty()) {
+			trntypecode = prop.getProperty(trntypecode);
+		}
+		return new RegistrationTransactionDto(transaction.getId(), transaction.getRegistrationId(), trntypecode,
+				transaction.getParentid(), statusCode, statusComment, transaction.getCreateDateTime());
+	}
+
 	private void setStatusComment(List<TransactionEntity> transactionEntityList,
 			List<RegistrationTransactionDto> dtoList, Properties prop) {
 		for (TransactionEntity transactionEntity : transactionEntityList) {
@@ -0,0 +1,19 @@
+package io.mosip.registration.processor.status.sync.response.dto;
+
+import java.util.List;
+
+import io.mosip.registration.processor.core.common.rest.dto.BaseRestResponseDTO;
+import io.mosip.registration.processor.core.common.rest.dto.ErrorDTO;
+import io.mosip.registration.processor.status.dto.RegistrationTransactionPageDto;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class RegTransactionPageResponseDTO extends BaseRestResponseDTO {
+	/** The response. */
+	private RegistrationTransactionPageDto response;
+
+	/** The error. */
+	private List<ErrorDTO> errors;
+}
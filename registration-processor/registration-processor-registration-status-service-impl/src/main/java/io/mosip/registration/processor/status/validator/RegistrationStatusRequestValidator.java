@@ -1,6 +1,7 @@
 package io.mosip.registration.processor.status.validator;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TimeZone;
@@ -18,6 +19,7 @@ import io.mosip.registration.processor.core.constant.LoggerFileConstant;
 import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
 import io.mosip.registration.processor.core.logger.RegProcessorLogger;
 import io.mosip.registration.processor.status.dto.RegistrationStatusRequestDTO;
+import io.mosip.registration.processor.status.dto.RegistrationStatusSubRequestDto;
 import io.mosip.registration.processor.status.exception.RegStatusAppException;
 import io.mosip.registration.processor.status.exception.RegStatusValidationException;
 
@@ -53,6 +55,10 @@ public class RegistrationStatusRequestValidator {
 	@Value("${mosip.registration.processor.grace.period}")
 	private int gracePeriod;
 
+	/** The maximum number of registration ids in one search request. */
+	@Value("${mosip.registration.processor.registration.status.search.max.ids:100}")
+	private int maxSearchIds;
+
 	/** The id. */
 	private Map<String, String> id = new HashMap<>();
 
@@ -75,6 +81,7 @@ public class RegistrationStatusRequestValidator {
 		validateId(registrationStatusRequestDTO.getId());
 		validateVersion(registrationStatusRequestDTO.getVersion());
 		validateReqTime(registrationStatusRequestDTO.getRequesttime());
+		validateRequestSize(registrationStatusRequestDTO.getRequest());
 
 		regProcLogger.debug(LoggerFileConstant.SESSIONID.toString(), LoggerFileConstant.REGISTRATIONID.toString(), "",
 				"RegistrationStatusRequestValidator::validate()::exit");
@@ -122,6 +129,22 @@ public class RegistrationStatusRequestValidator {
 		}
 	}
 
+	/**
+	 * Validate the number of registration ids, so one request cannot load an
+	 * unbounded number of registrations.
+	 *
+	 * @param request
+	 *            the requested registration ids
+	 * @throws RegStatusAppException
+	 *             the reg status app exception
+	 */
+	private void validateRequestSize(List<RegistrationStatusSubRequestDto> request) throws RegStatusAppException {
+		if (request != null && request.size() > maxSearchIds) {
+			throw new RegStatusAppException(PlatformErrorMessages.RPR_RGS_REQUEST_SIZE_EXCEEDED,
+					new RegStatusValidationException());
+		}
+	}
+
 	/**
 	 * Validate req time.
 	 *
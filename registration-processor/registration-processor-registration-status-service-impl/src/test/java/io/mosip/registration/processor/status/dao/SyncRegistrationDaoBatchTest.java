@@ -0,0 +1,162 @@
+package io.mosip.registration.processor.status.dao;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.mosip.kernel.dataaccess.hibernate.repository.impl.HibernateRepositoryImpl;
+import io.mosip.registration.processor.status.config.JdbcBatchingConfig;
+import io.mosip.registration.processor.status.dto.SyncTypeDto;
+import io.mosip.registration.processor.status.entity.SyncRegistrationEntity;
+import io.mosip.registration.processor.status.repositary.RegistrationRepositary;
+import io.mosip.registration.processor.status.utilities.RegistrationUtility;
+
+/**
+ * Checks against an in-memory database that sync registrations are inserted
+ * and updated in JDBC batches, without a select per registration.
+ */
+public class SyncRegistrationDaoBatchTest {
+
+	private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+
+	private EntityManagerFactory entityManagerFactory;
+
+	private TransactionTemplate transactionTemplate;
+
+	private SyncRegistrationDao syncRegistrationDao = new SyncRegistrationDao();
+
+	@Before
+	public void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:syncbatch;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS regprc", "sa", "");
+		entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+		entityManagerFactoryBean.setDataSource(dataSource);
+		entityManagerFactoryBean.setPackagesToScan("io.mosip.registration.processor.status.entity");
+		entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		entityManagerFactoryBean.getJpaPropertyMap().put("hibernate.hbm2ddl.auto", "create-drop");
+		entityManagerFactoryBean.getJpaPropertyMap().put("hibernate.generate_statistics", "true");
+		JdbcBatchingConfig.jdbcBatchingPostProcessor(new MockEnvironment())
+				.postProcessBeforeInitialization(entityManagerFactoryBean, "entityManagerFactory");
+		entityManagerFactoryBean.afterPropertiesSet();
+		entityManagerFactory = entityManagerFactoryBean.getObject();
+
+		EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+		JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+		repositoryFactory.setRepositoryBaseClass(HibernateRepositoryImpl.class);
+		ReflectionTestUtils.setField(syncRegistrationDao, "syncRegistrationRepository",
+				repositoryFactory.getRepository(RegistrationRepositary.class));
+		ReflectionTestUtils.setField(syncRegistrationDao, "entityManager", entityManager);
+		transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+	}
+
+	@After
+	public void tearDown() {
+		entityManagerFactoryBean.destroy();
+	}
+
+	@Test
+	public void testNewRegistrationsInsertedInOneBatch() {
+		List<SyncRegistrationEntity> syncRegistrations = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			SyncRegistrationEntity syncRegistration = createSyncRegistration("2784765736000252018120818306" + i);
+			syncRegistration.setNew(true);
+			syncRegistrations.add(syncRegistration);
+		}
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		transactionTemplate.execute(status -> {
+			syncRegistrationDao.saveAll(syncRegistrations, Collections.emptyList());
+			return null;
+		});
+
+		// one insert statement executed as a batch, no select per registration
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(10, statistics.getEntityInsertCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			assertEquals(10L, entityManager.createQuery("SELECT count(s) FROM SyncRegistrationEntity s")
+					.getSingleResult());
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	@Test
+	public void testExistingRegistrationsUpdatedInOneBatch() {
+		List<SyncRegistrationEntity> syncRegistrations = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			syncRegistrations.add(createSyncRegistration("2784765736000252018120818306" + i));
+		}
+		transactionTemplate.execute(status -> {
+			syncRegistrationDao.saveAll(syncRegistrations, Collections.emptyList());
+			return null;
+		});
+		List<SyncRegistrationEntity> resyncedRegistrations = new ArrayList<>();
+		for (SyncRegistrationEntity syncRegistration : syncRegistrations) {
+			SyncRegistrationEntity resyncedRegistration = createSyncRegistration(syncRegistration.getRegistrationId());
+			resyncedRegistration.setId(syncRegistration.getId());
+			resyncedRegistration.setPacketHashValue("cd456");
+			resyncedRegistrations.add(resyncedRegistration);
+		}
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		transactionTemplate.execute(status -> {
+			syncRegistrationDao.saveAll(Collections.emptyList(), resyncedRegistrations);
+			return null;
+		});
+
+		// one update statement executed as a batch, no select per registration
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(10, statistics.getEntityUpdateCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			assertEquals(10L, entityManager.createQuery(
+					"SELECT count(s) FROM SyncRegistrationEntity s WHERE s.packetHashValue = 'cd456'")
+					.getSingleResult());
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	private SyncRegistrationEntity createSyncRegistration(String registrationId) {
+		SyncRegistrationEntity syncRegistration = new SyncRegistrationEntity();
+		syncRegistration.setId(RegistrationUtility.generateId());
+		syncRegistration.setRegistrationId(registrationId);
+		syncRegistration.setRegistrationType(SyncTypeDto.NEW.getValue());
+		syncRegistration.setPacketHashValue("ab123");
+		syncRegistration.setPacketSize(new BigInteger("1024"));
+		syncRegistration.setLangCode("eng");
+		syncRegistration.setIsDeleted(false);
+		syncRegistration.setCreatedBy("MOSIP");
+		syncRegistration.setCreateDateTime(LocalDateTime.now());
+		syncRegistration.setUpdateDateTime(LocalDateTime.now());
+		return syncRegistration;
+	}
+
+}
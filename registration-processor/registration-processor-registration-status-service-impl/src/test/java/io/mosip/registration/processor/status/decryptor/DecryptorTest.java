@@ -9,6 +9,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.GeneralSecurityException;
 import java.util.LinkedHashMap;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -58,6 +59,9 @@ public class DecryptorTest {
 	@Mock
 	private ObjectMapper mapper;
 
+	@Mock
+	private LocalSyncDecryptionProvider localSyncDecryptionProvider;
+
 	@Before
 	public void setup() throws IOException {
 		data = "bW9zaXAsdvjsnvkjsfnvkjfsnvkjfsvkjfdbvkjfdbfdkjvfdkjvkjfdsvskjvskjavkdsvkjdsvksvsdvsvsdv";
@@ -89,6 +93,33 @@ public class DecryptorTest {
 
 	}
 
+	@Test
+	public void localDecryptionSkipsCryptoManagerTest() throws Exception {
+		Mockito.when(localSyncDecryptionProvider.isAvailable()).thenReturn(true);
+		Mockito.when(localSyncDecryptionProvider.decrypt(any(), anyString(), Mockito.anyBoolean()))
+				.thenReturn("mosip".getBytes());
+
+		String decryptedString = decryptor.decrypt(data, "10011", "2019-05-07T05:13:55.704Z");
+
+		assertEquals("mosip", decryptedString);
+		Mockito.verify(restClientService, Mockito.never()).postApi(any(), any(), any(), any(), any());
+	}
+
+	@Test
+	public void localDecryptionFailureFallsBackToCryptoManagerTest() throws Exception {
+		Mockito.when(localSyncDecryptionProvider.isAvailable()).thenReturn(true);
+		Mockito.when(localSyncDecryptionProvider.decrypt(any(), anyString(), Mockito.anyBoolean()))
+				.thenThrow(new GeneralSecurityException("tag mismatch"));
+		ResponseWrapper<DecryptResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(cryptomanagerResponseDto);
+		Mockito.when(restClientService.postApi(any(), any(), any(), any(), any())).thenReturn(response);
+
+		String decryptedString = decryptor.decrypt(data, "10011", "2019-05-07T05:13:55.704Z");
+
+		assertEquals("mosip", decryptedString);
+		Mockito.verify(restClientService, Mockito.times(1)).postApi(any(), any(), any(), any(), any());
+	}
+
 	@Test(expected = PacketDecryptionFailureException.class)
 	public void HttpClientErrorExceptionTest()
 			throws FileNotFoundException, ApisResourceAccessException, PacketDecryptionFailureException {
@@ -0,0 +1,128 @@
+package io.mosip.registration.processor.status.decryptor;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.spec.MGF1ParameterSpec;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.registration.processor.packet.manager.constant.CryptomanagerConstant;
+
+public class LocalSyncDecryptionProviderTest {
+
+	private static final String REFERENCE_ID = "10011_10002";
+
+	private static final String KEYSTORE_PASSWORD = "password";
+
+	private static final String KEY_SPLITTER = "#KEY_SPLITTER#";
+
+	private static final byte[] SYNC_DATA = "{\"registrationId\":\"10011100110002520190422074511\"}"
+			.getBytes(StandardCharsets.UTF_8);
+
+	private LocalSyncDecryptionProvider localSyncDecryptionProvider = new LocalSyncDecryptionProvider();
+
+	private Certificate certificate;
+
+	@Before
+	public void setup() throws Exception {
+		File keystoreFile = new File(getClass().getClassLoader().getResource("sync-decryption-keystore.p12").getFile());
+		KeyStore keyStore = KeyStore.getInstance("PKCS12");
+		try (InputStream inputStream = new FileInputStream(keystoreFile)) {
+			keyStore.load(inputStream, KEYSTORE_PASSWORD.toCharArray());
+		}
+		certificate = keyStore.getCertificate(REFERENCE_ID);
+
+		ReflectionTestUtils.setField(localSyncDecryptionProvider, "enabled", true);
+		ReflectionTestUtils.setField(localSyncDecryptionProvider, "keystorePath", keystoreFile.getAbsolutePath());
+		ReflectionTestUtils.setField(localSyncDecryptionProvider, "keystoreType", "PKCS12");
+		ReflectionTestUtils.setField(localSyncDecryptionProvider, "keystorePassword", KEYSTORE_PASSWORD);
+		ReflectionTestUtils.setField(localSyncDecryptionProvider, "refreshIntervalSeconds", 0L);
+		ReflectionTestUtils.setField(localSyncDecryptionProvider, "keySplitter", KEY_SPLITTER);
+		localSyncDecryptionProvider.init();
+	}
+
+	@After
+	public void tearDown() {
+		localSyncDecryptionProvider.shutdown();
+	}
+
+	@Test
+	public void testDecryptByReferenceId() throws Exception {
+		byte[] decrypted = localSyncDecryptionProvider.decrypt(encrypt(SYNC_DATA, false), REFERENCE_ID, false);
+
+		assertTrue(localSyncDecryptionProvider.isAvailable());
+		assertArrayEquals(SYNC_DATA, decrypted);
+	}
+
+	@Test
+	public void testDecryptByThumbprint() throws Exception {
+		byte[] decrypted = localSyncDecryptionProvider.decrypt(encrypt(SYNC_DATA, true), "unknown", true);
+
+		assertArrayEquals(SYNC_DATA, decrypted);
+	}
+
+	@Test
+	public void testUnknownReferenceIdIsLeftToCryptoManager() throws Exception {
+		assertNull(localSyncDecryptionProvider.decrypt(encrypt(SYNC_DATA, false), "unknown", false));
+	}
+
+	/**
+	 * Encrypts the data the way the registration client encrypts the sync
+	 * request: the offline packet crypto service prepends the nonce and aad to
+	 * the output of the crypto manager, which is the (thumbprint prefixed) RSA
+	 * wrapped session key, the key splitter and the AES-GCM cipher text.
+	 */
+	private byte[] encrypt(byte[] data, boolean prependThumbprint) throws Exception {
+		SecureRandom random = new SecureRandom();
+		byte[] nonce = new byte[CryptomanagerConstant.GCM_NONCE_LENGTH];
+		byte[] aad = new byte[CryptomanagerConstant.GCM_AAD_LENGTH];
+		random.nextBytes(nonce);
+		random.nextBytes(aad);
+
+		KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+		keyGenerator.init(256);
+		SecretKey sessionKey = keyGenerator.generateKey();
+
+		Cipher symmetricCipher = Cipher.getInstance("AES/GCM/NoPadding");
+		symmetricCipher.init(Cipher.ENCRYPT_MODE, sessionKey, new GCMParameterSpec(128, nonce));
+		symmetricCipher.updateAAD(aad);
+		byte[] encryptedData = symmetricCipher.doFinal(data);
+
+		Cipher asymmetricCipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-256AndMGF1Padding");
+		asymmetricCipher.init(Cipher.ENCRYPT_MODE, certificate.getPublicKey(),
+				new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT));
+		byte[] encryptedKey = asymmetricCipher.doFinal(sessionKey.getEncoded());
+
+		ByteArrayOutputStream packet = new ByteArrayOutputStream();
+		packet.write(nonce);
+		packet.write(aad);
+		if (prependThumbprint)
+			packet.write(MessageDigest.getInstance("SHA-256").digest(certificate.getEncoded()));
+		packet.write(encryptedKey);
+		packet.write(KEY_SPLITTER.getBytes());
+		packet.write(encryptedData);
+		return packet.toByteArray();
+	}
+
+}
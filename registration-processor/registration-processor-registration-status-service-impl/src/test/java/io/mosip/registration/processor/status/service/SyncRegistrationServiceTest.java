@@ -364,11 +364,103 @@ public class SyncRegistrationServiceTest {
 
 		byte[] encryptedInfo = "encryptedInfo".getBytes();
 		Mockito.when(encryptor.encrypt(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString())).thenReturn(encryptedInfo);
-		Mockito.when(syncRegistrationDao.save(any())).thenThrow(exp);
+		Mockito.doThrow(exp).when(syncRegistrationDao).saveAll(any(), any());
 		syncRegistrationService.sync(entities, "", "");
 
 	}
 
+	/**
+	 * Checks that the batch is looked up with one query and saved with one call,
+	 * updating the existing registration by id and inserting the new one.
+	 *
+	 * @throws ApisResourceAccessException
+	 * @throws EncryptionFailureException
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSyncLooksUpAndSavesBatchOnce() throws EncryptionFailureException, ApisResourceAccessException {
+		byte[] encryptedInfo = "encryptedInfo".getBytes();
+		Mockito.when(encryptor.encrypt(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString())).thenReturn(encryptedInfo);
+		Mockito.when(syncRegistrationDao.getByIds(any())).thenReturn(syncRegistrationEntities);
+		List<SyncRegistrationDto> batch = new ArrayList<>();
+		batch.add(syncRegistrationDto1);
+		batch.add(syncRegistrationDto2);
+		SyncRegistrationDto newRegistration = new SyncRegistrationDto();
+		newRegistration.setRegistrationId("27847657360002520181208183060");
+		newRegistration.setLangCode("eng");
+		newRegistration.setIsDeleted(false);
+		newRegistration.setSyncType(SyncTypeDto.NEW.getValue());
+		newRegistration.setPacketHashValue("ab123");
+		newRegistration.setSupervisorStatus("APPROVED");
+		batch.add(newRegistration);
+		// a repeated registration id is saved once and reported for each request item
+		batch.add(newRegistration);
+
+		List<SyncResponseDto> syncResponse = syncRegistrationService.sync(batch, "", "");
+
+		assertEquals(4, syncResponse.size());
+		ArgumentCaptor<List<SyncRegistrationEntity>> newEntities = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<List<SyncRegistrationEntity>> existingEntities = ArgumentCaptor.forClass(List.class);
+		Mockito.verify(syncRegistrationDao, Mockito.times(1)).getByIds(any());
+		Mockito.verify(syncRegistrationDao, Mockito.times(1)).saveAll(newEntities.capture(),
+				existingEntities.capture());
+		Mockito.verify(syncRegistrationDao, Mockito.never()).findById(any());
+		assertEquals(1, existingEntities.getValue().size());
+		assertEquals(syncRegistrationEntity.getId(), existingEntities.getValue().get(0).getId());
+		assertEquals(1, newEntities.getValue().size());
+		assertEquals(newRegistration.getRegistrationId(), newEntities.getValue().get(0).getRegistrationId());
+	}
+
+	/**
+	 * Checks that a mixed batch of valid, invalid and repeated registration ids is
+	 * answered with one response per request item, in request order.
+	 *
+	 * @throws ApisResourceAccessException
+	 * @throws EncryptionFailureException
+	 */
+	@Test
+	public void testSyncResponseFollowsRequestOrder() throws EncryptionFailureException, ApisResourceAccessException {
+		byte[] encryptedInfo = "encryptedInfo".getBytes();
+		Mockito.when(encryptor.encrypt(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.anyString())).thenReturn(encryptedInfo);
+		Mockito.when(syncRegistrationDao.getByIds(any())).thenReturn(syncRegistrationEntities);
+		InvalidIDException exp = new InvalidIDException(RidExceptionProperty.INVALID_RID_LENGTH.getErrorCode(),
+				RidExceptionProperty.INVALID_RID_LENGTH.getErrorMessage());
+		SyncRegistrationDto invalidRegistration = new SyncRegistrationDto();
+		invalidRegistration.setRegistrationId("123456789012345678");
+		invalidRegistration.setLangCode("eng");
+		invalidRegistration.setIsDeleted(false);
+		invalidRegistration.setSyncType(SyncTypeDto.NEW.getValue());
+		invalidRegistration.setPacketHashValue("ab123");
+		invalidRegistration.setSupervisorStatus("APPROVED");
+		Mockito.when(ridValidator.validateId("123456789012345678")).thenThrow(exp);
+		SyncRegistrationDto newRegistration = new SyncRegistrationDto();
+		newRegistration.setRegistrationId("27847657360002520181208183060");
+		newRegistration.setLangCode("eng");
+		newRegistration.setIsDeleted(false);
+		newRegistration.setSyncType(SyncTypeDto.NEW.getValue());
+		newRegistration.setPacketHashValue("ab123");
+		newRegistration.setSupervisorStatus("APPROVED");
+		List<SyncRegistrationDto> batch = new ArrayList<>();
+		batch.add(newRegistration);
+		batch.add(syncRegistrationDto1);
+		batch.add(syncRegistrationDto2);
+		batch.add(newRegistration);
+		batch.add(invalidRegistration);
+
+		List<SyncResponseDto> syncResponse = syncRegistrationService.sync(batch, "", "");
+
+		assertEquals(batch.size(), syncResponse.size());
+		for (int i = 0; i < batch.size(); i++) {
+			assertEquals(batch.get(i).getRegistrationId(), syncResponse.get(i).getRegistrationId());
+		}
+		assertEquals(SyncResponseSuccessDto.class, syncResponse.get(0).getClass());
+		assertEquals(SyncResponseFailureDto.class, syncResponse.get(1).getClass());
+		assertEquals(SyncResponseSuccessDto.class, syncResponse.get(2).getClass());
+		assertEquals(SyncResponseSuccessDto.class, syncResponse.get(3).getClass());
+		assertEquals(SyncResponseFailureDto.class, syncResponse.get(4).getClass());
+		Mockito.verify(syncRegistrationDao, Mockito.times(1)).saveAll(any(), any());
+	}
+
 	/**
 	 * Checks if is present success test.
 	 */
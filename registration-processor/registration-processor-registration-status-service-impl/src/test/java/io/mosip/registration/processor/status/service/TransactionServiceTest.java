@@ -2,8 +2,11 @@ package io.mosip.registration.processor.status.service;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,11 +18,15 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
 import io.mosip.registration.processor.status.code.TransactionTypeCode;
 import io.mosip.registration.processor.status.dto.RegistrationTransactionDto;
+import io.mosip.registration.processor.status.dto.RegistrationTransactionPageDto;
 import io.mosip.registration.processor.status.dto.TransactionDto;
+import io.mosip.registration.processor.status.dto.TransactionSearchDto;
 import io.mosip.registration.processor.status.entity.TransactionEntity;
 import io.mosip.registration.processor.status.exception.RegTransactionAppException;
 import io.mosip.registration.processor.status.exception.TransactionTableNotAccessibleException;
@@ -158,6 +165,43 @@ public class TransactionServiceTest {
 
 		assertEquals(dtolist.get(0).getStatusComment(), "Packet has reached Packet Receiver");
 	}
+
+	@Test
+	public void testgetTransactionPageByRegId() throws TransactionsUnavailableException, RegTransactionAppException {
+		ReflectionTestUtils.setField(transactionService, "maxPageSize", 2);
+		LocalDateTime createDateTime = LocalDateTime.of(2020, 1, 1, 10, 0);
+		List<TransactionSearchDto> firstPage = new ArrayList<>();
+		firstPage.add(new TransactionSearchDto("1", "1221", "PACKET_RECEIVER", null, "SUCCESS", "RPR-PKR-SUCCESS-001",
+				"Packet received", createDateTime));
+		firstPage.add(new TransactionSearchDto("2", "1221", "PACKET_RECEIVER", "1", "SUCCESS", null,
+				"Packet received", createDateTime));
+		firstPage.add(new TransactionSearchDto("3", "1221", "PACKET_RECEIVER", "2", "SUCCESS", null,
+				"Packet received", createDateTime.plusMinutes(1)));
+		List<TransactionSearchDto> lastPage = new ArrayList<>();
+		lastPage.add(firstPage.get(2));
+		Mockito.when(environment.getProperty(any())).thenReturn("eng");
+		Mockito.when(transactionRepositary.getTransactionPageByRegId("1221", PageRequest.of(0, 3)))
+				.thenReturn(firstPage);
+		Mockito.when(transactionRepositary.getTransactionPageByRegIdAfter(eq("1221"), eq(createDateTime), eq("2"),
+				eq(PageRequest.of(0, 3)))).thenReturn(lastPage);
+
+		RegistrationTransactionPageDto page = transactionService.getTransactionPageByRegId("1221", "eng", null, 50);
+		assertEquals(2, page.getTransactions().size());
+		assertEquals("Packet has reached Packet Receiver", page.getTransactions().get(0).getStatusComment());
+		assertNotEquals(null, page.getNextCursor());
+
+		page = transactionService.getTransactionPageByRegId("1221", "eng", page.getNextCursor(), null);
+		assertEquals(1, page.getTransactions().size());
+		assertEquals("3", page.getTransactions().get(0).getId());
+		assertNull(page.getNextCursor());
+	}
+
+	@Test(expected = RegTransactionAppException.class)
+	public void testgetTransactionPageByRegIdInvalidCursor()
+			throws TransactionsUnavailableException, RegTransactionAppException {
+		Mockito.when(environment.getProperty(any())).thenReturn("eng");
+		transactionService.getTransactionPageByRegId("1221", "eng", "not-a-cursor", 10);
+	}
 	
 	
 }
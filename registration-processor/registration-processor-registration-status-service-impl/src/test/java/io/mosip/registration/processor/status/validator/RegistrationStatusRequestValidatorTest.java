@@ -0,0 +1,71 @@
+package io.mosip.registration.processor.status.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
+import io.mosip.registration.processor.status.dto.RegistrationStatusRequestDTO;
+import io.mosip.registration.processor.status.dto.RegistrationStatusSubRequestDto;
+import io.mosip.registration.processor.status.exception.RegStatusAppException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RegistrationStatusRequestValidatorTest {
+
+	private static final String SERVICE_ID = "mosip.registration.status";
+
+	@InjectMocks
+	private RegistrationStatusRequestValidator registrationStatusRequestValidator;
+
+	@Mock
+	private Environment env;
+
+	@Before
+	public void setup() {
+		ReflectionTestUtils.setField(registrationStatusRequestValidator, "maxSearchIds", 2);
+		Mockito.when(env.getProperty("mosip.registration.processor.registration.status.version")).thenReturn("1.0");
+	}
+
+	@Test
+	public void testRequestWithinLimit() throws RegStatusAppException {
+		registrationStatusRequestValidator.validate(request(2), SERVICE_ID);
+	}
+
+	@Test
+	public void testRequestExceedingLimitRejected() {
+		try {
+			registrationStatusRequestValidator.validate(request(3), SERVICE_ID);
+			fail("request with more ids than the limit was accepted");
+		} catch (RegStatusAppException e) {
+			assertEquals(PlatformErrorMessages.RPR_RGS_REQUEST_SIZE_EXCEEDED.getCode(), e.getErrorCode());
+		}
+	}
+
+	private static RegistrationStatusRequestDTO request(int numberOfIds) {
+		List<RegistrationStatusSubRequestDto> request = new ArrayList<>();
+		for (int i = 0; i < numberOfIds; i++) {
+			RegistrationStatusSubRequestDto subRequest = new RegistrationStatusSubRequestDto();
+			subRequest.setRegistrationId("2784765736000252018120818306" + i);
+			request.add(subRequest);
+		}
+		RegistrationStatusRequestDTO registrationStatusRequestDTO = new RegistrationStatusRequestDTO();
+		registrationStatusRequestDTO.setId(SERVICE_ID);
+		registrationStatusRequestDTO.setVersion("1.0");
+		registrationStatusRequestDTO.setRequesttime("2019-02-14T12:40:59.768Z");
+		registrationStatusRequestDTO.setRequest(request);
+		return registrationStatusRequestDTO;
+	}
+
+}
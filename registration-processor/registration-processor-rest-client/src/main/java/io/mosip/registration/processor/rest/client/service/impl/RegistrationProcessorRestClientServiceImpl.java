@@ -17,6 +17,7 @@ import io.mosip.registration.processor.core.constant.LoggerFileConstant;
 import io.mosip.registration.processor.core.exception.ApisResourceAccessException;
 import io.mosip.registration.processor.core.exception.util.PlatformErrorMessages;
 import io.mosip.registration.processor.core.logger.RegProcessorLogger;
+import io.mosip.registration.processor.core.metrics.StageMetricsRegistry;
 import io.mosip.registration.processor.core.spi.restclient.RegistrationProcessorRestClientService;
 import io.mosip.registration.processor.rest.client.utils.RestApiClient;
 
@@ -81,13 +82,16 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 
 			}
 
+			long startTime = System.nanoTime();
 			try {
 
 				uriComponents = builder.build(false).encode();
 				regProcLogger.debug(uriComponents.toUri().toString(), "URI", "", "");
 				obj = restApiClient.getApi(uriComponents.toUri(), responseType);
+				recordRestCall(apiName, startTime, true);
 
 			} catch (Exception e) {
+				recordRestCall(apiName, startTime, false);
 				e.printStackTrace();
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
 						LoggerFileConstant.REGISTRATIONID.toString(), "",
@@ -132,13 +136,16 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 
 			}
 
+			long startTime = System.nanoTime();
 			try {
 
 				uriComponents = builder.build(false).encode();
 				regProcLogger.debug(uriComponents.toUri().toString(), "URI", "", "");
 				obj = restApiClient.getApi(uriComponents.toUri(), responseType);
+				recordRestCall(apiName, startTime, true);
 
 			} catch (Exception e) {
+				recordRestCall(apiName, startTime, false);
 				e.printStackTrace();
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
 						LoggerFileConstant.REGISTRATIONID.toString(), "",
@@ -175,10 +182,13 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 				}
 			}
 
+			long startTime = System.nanoTime();
 			try {
 				obj = restApiClient.postApi(builder.toUriString(), mediaType, requestedData, responseType);
+				recordRestCall(apiName, startTime, true);
 
 			} catch (Exception e) {
+				recordRestCall(apiName, startTime, false);
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
 						LoggerFileConstant.REGISTRATIONID.toString(), "",
 						e.getMessage() + ExceptionUtils.getStackTrace(e));
@@ -246,10 +256,13 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 				}
 			}
 
+			long startTime = System.nanoTime();
 			try {
 				obj = restApiClient.postApi(builder.toUriString(), null, requestedData, responseType);
+				recordRestCall(apiName, startTime, true);
 
 			} catch (Exception e) {
+				recordRestCall(apiName, startTime, false);
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
 						LoggerFileConstant.REGISTRATIONID.toString(), "",
 						e.getMessage() + ExceptionUtils.getStackTrace(e));
@@ -292,10 +305,13 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 				}
 			}
 
+			long startTime = System.nanoTime();
 			try {
 				obj = restApiClient.postApi(builder.toUriString(), mediaType, requestedData, responseType);
+				recordRestCall(apiName, startTime, true);
 
 			} catch (Exception e) {
+				recordRestCall(apiName, startTime, false);
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
 						LoggerFileConstant.REGISTRATIONID.toString(), "",
 						e.getMessage() + ExceptionUtils.getStackTrace(e));
@@ -347,10 +363,13 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 				}
 			}
 
+			long startTime = System.nanoTime();
 			try {
 				obj = restApiClient.patchApi(builder.toUriString(), requestedData, responseType);
+				recordRestCall(apiName, startTime, true);
 
 			} catch (Exception e) {
+				recordRestCall(apiName, startTime, false);
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
 						LoggerFileConstant.REGISTRATIONID.toString(), "",
 						e.getMessage() + ExceptionUtils.getStackTrace(e));
@@ -402,10 +421,13 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 				}
 			}
 
+			long startTime = System.nanoTime();
 			try {
 				obj = restApiClient.putApi(builder.toUriString(), requestedData, responseType, mediaType);
+				recordRestCall(apiName, startTime, true);
 
 			} catch (Exception e) {
+				recordRestCall(apiName, startTime, false);
 				regProcLogger.error(LoggerFileConstant.SESSIONID.toString(),
 						LoggerFileConstant.REGISTRATIONID.toString(), "",
 						e.getMessage() + ExceptionUtils.getStackTrace(e));
@@ -431,4 +453,8 @@ public class RegistrationProcessorRestClientServiceImpl implements RegistrationP
 		return ((queryParamName == null) || (("").equals(queryParamName)));
 	}
 
+	private void recordRestCall(ApiName apiName, long startTime, boolean success) {
+		StageMetricsRegistry.recordRestCall(apiName, System.nanoTime() - startTime, success);
+	}
+
 }
\ No newline at end of file
@@ -1078,7 +1078,17 @@ public class BiometricsController extends BaseController /* implements Initializ
 						InputStream urlStream = bioService.getStream(mdmBioDevice,
 								isFace(currentModality) ? RegistrationConstants.FACE_FULLFACE : currentModality);
 
-						boolean isStreamStarted = urlStream != null && urlStream.read() != -1;
+						boolean isStreamStarted = false;
+						if (urlStream != null) {
+							try {
+								isStreamStarted = urlStream.read() != -1;
+							} finally {
+								if (!isStreamStarted) {
+									// releases the MDM connection of the stream
+									urlStream.close();
+								}
+							}
+						}
 						if (!isStreamStarted) {
 
 							LOGGER.info(LOG_REG_BIOMETRIC_CONTROLLER, APPLICATION_NAME, APPLICATION_ID,
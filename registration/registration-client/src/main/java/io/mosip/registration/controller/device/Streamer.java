@@ -118,7 +118,8 @@ public class Streamer {
 						LOGGER.error(STREAMER, RegistrationConstants.APPLICATION_NAME,
 								RegistrationConstants.APPLICATION_ID,
 								exception.getMessage() + ExceptionUtils.getStackTrace(exception));
-						urlStream = null;
+						// closes the stream, releasing its MDM connection
+						setUrlStream(null);
 
 					}
 				}
@@ -168,8 +169,10 @@ public class Streamer {
 		}
 
 		// 255 indicates the start of the jpeg image
-		while (urlStream.read() != 255) {
-
+		while ((currByte = urlStream.read()) != 255) {
+			if (currByte == -1) {
+				throw new IOException("End of stream reached");
+			}
 		}
 
 		// && urlStream.read()!=-1
@@ -10,6 +10,14 @@ import java.net.URISyntaxException;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.TimerTask;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
@@ -43,6 +51,7 @@ import io.mosip.registration.service.login.LoginService;
 import io.mosip.registration.service.operator.UserDetailService;
 import io.mosip.registration.service.remap.CenterMachineReMapService;
 import io.mosip.registration.service.sync.MasterSyncService;
+import io.mosip.registration.service.sync.PreRegistrationDataSyncService;
 import io.mosip.registration.service.sync.SyncStatusValidatorService;
 import io.mosip.registration.update.SoftwareUpdateHandler;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
@@ -160,6 +169,11 @@ public class HeaderController extends BaseController {
 	@Autowired
 	private UserDetailService userDetailService;
 
+	@Autowired
+	private PreRegistrationDataSyncService preRegistrationDataSyncService;
+
+	private ExecutorService preRegDownloadExecutorService;
+
 	/**
 	 * Mapping Registration Officer details
 	 */
@@ -814,15 +828,32 @@ public class HeaderController extends BaseController {
 					 * @see javafx.concurrent.Task#call()
 					 */
 					@Override
-					protected ResponseDTO call() {
+					protected ResponseDTO call() throws InterruptedException {
 
 						LOGGER.info("REGISTRATION - HEADER_CONTROLLER - DOWNLOAD_PRE_REG_DATA_TASK", APPLICATION_NAME,
 								APPLICATION_ID, "Started pre reg download task");
 
 						progressIndicator.setVisible(true);
 						pane.setDisable(true);
-						return jobConfigurationService.executeJob(RegistrationConstants.OPT_TO_REG_PDS_J00003,
-								RegistrationConstants.JOB_TRIGGER_POINT_USER);
+						Future<ResponseDTO> downloadJob = getPreRegDownloadExecutorService()
+								.submit(() -> jobConfigurationService.executeJob(
+										RegistrationConstants.OPT_TO_REG_PDS_J00003,
+										RegistrationConstants.JOB_TRIGGER_POINT_USER));
+
+						/* show the packets downloaded so far */
+						while (true) {
+							try {
+								return downloadJob.get(500, TimeUnit.MILLISECONDS);
+							} catch (TimeoutException timeoutException) {
+								updateProgress(preRegistrationDataSyncService.getPreRegistrationDownloadProgress(), 1);
+							} catch (InterruptedException interruptedException) {
+								/* the task was cancelled, stop the download as well */
+								downloadJob.cancel(true);
+								throw interruptedException;
+							} catch (ExecutionException executionException) {
+								throw new IllegalStateException(executionException.getCause());
+							}
+						}
 
 					}
 				};
@@ -869,6 +900,24 @@ public class HeaderController extends BaseController {
 
 	}
 
+	private synchronized ExecutorService getPreRegDownloadExecutorService() {
+		if (preRegDownloadExecutorService == null) {
+			preRegDownloadExecutorService = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "pre-reg-download");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return preRegDownloadExecutorService;
+	}
+
+	@PreDestroy
+	public synchronized void shutdown() {
+		if (preRegDownloadExecutorService != null) {
+			preRegDownloadExecutorService.shutdownNow();
+		}
+	}
+
 	/**
 	 * Redirecting to PacketStatusSync Page
 	 *
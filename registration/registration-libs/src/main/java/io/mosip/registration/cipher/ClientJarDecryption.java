@@ -5,30 +5,18 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
 import java.lang.reflect.InvocationTargetException;
-import java.security.InvalidAlgorithmParameterException;
 import java.util.Arrays;
 import java.util.Base64;
-import java.util.Objects;
 import java.util.Properties;
 import java.util.UUID;
 
-import javax.crypto.BadPaddingException;
-import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.GCMParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 import javax.xml.parsers.ParserConfigurationException;
 
 import ch.qos.logback.core.util.SystemInfo;
 import org.apache.commons.io.FileUtils;
 import org.xml.sax.SAXException;
 
-import io.mosip.kernel.core.crypto.exception.InvalidDataException;
-import io.mosip.kernel.core.crypto.exception.InvalidKeyException;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.CryptoUtil;
@@ -62,12 +50,12 @@ import javafx.stage.StageStyle;
 public class ClientJarDecryption extends Application {
 
 	private static final String SLASH = "/";
-	private static final String AES_ALGORITHM = "AES";
 	private static final String MOSIP_CLIENT = "mosip-client.jar";
 	private static final String MOSIP_SERVICES = "mosip-services.jar";
 	private static final String MOSIP_PACKET_MANAGER = "mosip-packet-manager.jar";
 	private static String libFolder = "lib/";
 	private static String binFolder = "bin/";
+	private static String legacyCacheFolder = ".jar-cache/";
 	private static final String MOSIP_REGISTRATION_DB_KEY = "mosip.reg.db.key";
 	private static final String MOSIP_REGISTRATION_HC_URL = "mosip.reg.healthcheck.url";
 	private static final String MOSIP_REGISTRATION_APP_KEY = "mosip.reg.app.key";
@@ -106,25 +94,6 @@ public class ClientJarDecryption extends Application {
 	private String MIN_HEAP_SIZE = "-Xms2048m";
 	private String MAX_HEAP_SIZE = "-Xmx2048m";
 
-	/**
-	 * Decrypt the bytes
-	 * 
-	 * @param data
-	 * @param encodedString
-	 *
-	 * @throws UnsupportedEncodingException
-	 */
-	public byte[] decrypt(byte[] data, byte[] encodedString) {
-
-		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
-				LoggerConstants.APPLICATION_ID, "Decryption Started");
-
-		// Generate AES Session Key
-		SecretKey symmetricKey = new SecretKeySpec(encodedString, AES_ALGORITHM);
-
-		return symmetricDecrypt(symmetricKey, data, null);
-	}
-
 	/**
 	 * Decrypt and save the file in temp directory
 	 * 
@@ -298,29 +267,23 @@ public class ClientJarDecryption extends Application {
 	}
 
 	private void decryptMosipJars(Properties properties) throws IOException {
-		// ClientJarDecryption aesDecrypt = new ClientJarDecryption();
-		File encryptedClientJar = new File(binFolder + MOSIP_CLIENT);
-		File encryptedServicesJar = new File(binFolder + MOSIP_SERVICES);
 		tempPath = FileUtils.getTempDirectoryPath();
 		tempPath = tempPath + SLASH + UUID.randomUUID();
 
 		byte[] decryptedKey = getValue(MOSIP_REGISTRATION_APP_KEY, properties, isTPMAvailable(properties));
-		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
-				LoggerConstants.APPLICATION_ID, "Decrypting mosip-client");
-		byte[] decryptedRegFileBytes = decrypt(FileUtils.readFileToByteArray(encryptedClientJar), decryptedKey);
-		String clientJar = tempPath + SLASH + UUID.randomUUID();
-
-		// Decrypt Client Jar
-		FileUtils.writeByteArrayToFile(new File(clientJar + ".jar"), decryptedRegFileBytes);
-
-		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
-				LoggerConstants.APPLICATION_ID, "Decrypting mosip-services");
-
-		byte[] decryptedRegServiceBytes = decrypt(FileUtils.readFileToByteArray(encryptedServicesJar), decryptedKey);
-
-		// Decrypt Services Jar
-		FileUtils.writeByteArrayToFile(new File(tempPath + SLASH + UUID.randomUUID() + ".jar"),
-				decryptedRegServiceBytes);
+		// jars cached in the install folder by earlier launchers are readable by all
+		FileUtils.deleteQuietly(new File(legacyCacheFolder));
+		DecryptedJarCache decryptedJarCache = new DecryptedJarCache(DecryptedJarCache.getUserCacheDirectory(),
+				decryptedKey);
+
+		// Decrypt Client and Services Jar, unless unchanged since the last launch
+		for (String jarName : Arrays.asList(MOSIP_CLIENT, MOSIP_SERVICES)) {
+			LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
+					LoggerConstants.APPLICATION_ID, "Decrypting " + jarName);
+
+			File decryptedJar = decryptedJarCache.getDecryptedJar(new File(binFolder + jarName));
+			FileUtils.copyFile(decryptedJar, new File(tempPath + SLASH + UUID.randomUUID() + ".jar"));
+		}
 
 		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
 				LoggerConstants.APPLICATION_ID, "Decrypting mosip jars completed");
@@ -482,51 +445,4 @@ public class ClientJarDecryption extends Application {
 			exit();
 		});
 	}
-
-	private static byte[] symmetricDecrypt(SecretKey key, byte[] data, byte[] aad) {
-		//Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		//CryptoUtils.verifyData(data);
-		byte[] output = null;
-		try {
-			Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-
-			byte[] randomIV = Arrays.copyOfRange(data, data.length - cipher.getBlockSize(), data.length);
-			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES_ALGORITHM);
-			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(128, randomIV);
-			cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
-			if (aad != null && aad.length != 0) {
-				cipher.updateAAD(aad);
-			}
-			output = doFinal(Arrays.copyOf(data, data.length - cipher.getBlockSize()), cipher);
-		} catch (java.security.InvalidKeyException e) {
-			throw new InvalidKeyException("0000",
-					"MOSIP_INVALID_KEY_EXCEPTION", e);
-		} catch (InvalidAlgorithmParameterException e) {
-			throw new InvalidKeyException("0000",
-					"MOSIP_INVALID_PARAM_SPEC_EXCEPTION", e);
-		} catch (ArrayIndexOutOfBoundsException e) {
-			throw new InvalidDataException("0000",
-					"MOSIP_INVALID_DATA_LENGTH_EXCEPTION", e);
-		} catch (java.security.NoSuchAlgorithmException noSuchAlgorithmException) {
-			throw new InvalidKeyException("0000",
-					"MOSIP_NO_SUCH_ALGORITHM_EXCEPTION",
-					noSuchAlgorithmException);
-		} catch (NoSuchPaddingException noSuchPaddingException) {
-			throw new InvalidKeyException("No Such Padding Exception", "No Such Padding Exception",
-					noSuchPaddingException);
-
-		}
-		return output;
-	}
-
-	private static byte[] doFinal(byte[] data, Cipher cipher) {
-		try {
-			return cipher.doFinal(data);
-		} catch (IllegalBlockSizeException e) {
-			throw new InvalidDataException("MOSIP_INVALID_DATA_SIZE_EXCEPTION", e.getMessage(), e);
-		} catch (BadPaddingException e) {
-			throw new InvalidDataException("MOSIP_INVALID_ENCRYPTED_DATA_CORRUPT_EXCEPTION",
-					e.getMessage(), e);
-		}
-	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,264 @@
+package io.mosip.registration.cipher;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.AclEntry;
+import java.nio.file.attribute.AclEntryFlag;
+import java.nio.file.attribute.AclEntryPermission;
+import java.nio.file.attribute.AclEntryType;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.io.FileUtils;
+
+import io.mosip.kernel.core.crypto.exception.InvalidDataException;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.constants.LoggerConstants;
+import io.mosip.registration.util.LoggerFactory;
+
+/**
+ * Keeps the decrypted mosip jars between launches.
+ *
+ * A decrypted jar is stored under the SHA-256 checksum of its encrypted jar,
+ * so it is decrypted again only when the encrypted jar changes. Next to it the
+ * HMAC of the decrypted jar, keyed with the application key, is stored and
+ * checked before the jar is reused; a cached jar that was modified or
+ * truncated is decrypted again. The jars are decrypted as streams into the
+ * cache, and a jar is only added once the GCM tag of its encrypted jar is
+ * verified.
+ *
+ * The cached jars are plaintext, as the jars of the classpath folder of a
+ * launch are, but they outlive the launch. They are therefore kept in the
+ * home folder of the user running the client, in a folder only that user can
+ * access, rather than in the install folder. Encrypting them at rest would
+ * bring back a decryption on every launch, which is what the cache avoids, so
+ * the jars are protected by the access rights of the folder and their HMAC.
+ *
+ * @since 1.1.4
+ */
+class DecryptedJarCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DecryptedJarCache.class);
+
+	private static final String AES_ALGORITHM = "AES";
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final int GCM_TAG_LENGTH = 128;
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final String JAR_EXTENSION = ".jar";
+	private static final String MAC_EXTENSION = ".mac";
+	private static final String USER_CACHE_FOLDER = ".mosip" + File.separator + "jar-cache";
+
+	private final File cacheDirectory;
+
+	private final byte[] key;
+
+	DecryptedJarCache(File cacheDirectory, byte[] key) {
+		this.cacheDirectory = cacheDirectory;
+		this.key = key;
+	}
+
+	/**
+	 * Gets the cache folder in the home folder of the user running the client.
+	 *
+	 * @return the cache folder
+	 */
+	static File getUserCacheDirectory() {
+		return new File(System.getProperty("user.home"), USER_CACHE_FOLDER);
+	}
+
+	/**
+	 * Gets the decrypted jar, from the cache if it holds a verified copy for the
+	 * encrypted jar.
+	 *
+	 * @param encryptedJar the encrypted jar
+	 * @return the decrypted jar in the cache
+	 * @throws IOException if the jar could not be read or stored
+	 */
+	File getDecryptedJar(File encryptedJar) throws IOException {
+		createCacheDirectory();
+		String jarName = encryptedJar.getName().replace(JAR_EXTENSION, "");
+		File decryptedJar = new File(cacheDirectory, jarName + "-" + getChecksum(encryptedJar) + JAR_EXTENSION);
+		File macFile = new File(decryptedJar.getPath() + MAC_EXTENSION);
+
+		if (isVerified(decryptedJar, macFile)) {
+			LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
+					LoggerConstants.APPLICATION_ID, "Reusing decrypted " + encryptedJar.getName());
+			return decryptedJar;
+		}
+
+		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
+				LoggerConstants.APPLICATION_ID, "Decrypting " + encryptedJar.getName());
+
+		removeCachedJars(jarName);
+		File decryptingJar = new File(cacheDirectory, jarName + JAR_EXTENSION + ".tmp");
+		try {
+			byte[] mac = decrypt(encryptedJar, decryptingJar);
+			Files.write(macFile.toPath(), Base64.getEncoder().encode(mac));
+			Files.move(decryptingJar.toPath(), decryptedJar.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(decryptingJar.toPath());
+		}
+		return decryptedJar;
+	}
+
+	/**
+	 * Decrypts the jar, whose IV follows the encrypted bytes, into the target and
+	 * returns the HMAC of the decrypted bytes.
+	 */
+	private byte[] decrypt(File encryptedJar, File target) throws IOException {
+		try (RandomAccessFile encryptedFile = new RandomAccessFile(encryptedJar, "r");
+				OutputStream outputStream = new FileOutputStream(target)) {
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			long encryptedLength = encryptedFile.length() - cipher.getBlockSize();
+			if (encryptedLength < GCM_TAG_LENGTH / 8) {
+				throw new IOException(encryptedJar.getName() + " is too short");
+			}
+			byte[] iv = new byte[cipher.getBlockSize()];
+			encryptedFile.seek(encryptedLength);
+			encryptedFile.readFully(iv);
+			encryptedFile.seek(0);
+
+			cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, AES_ALGORITHM),
+					new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+			Mac mac = getMac();
+
+			byte[] buffer = new byte[BUFFER_SIZE];
+			long remaining = encryptedLength;
+			while (remaining > 0) {
+				int read = encryptedFile.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+				if (read < 0) {
+					throw new IOException(encryptedJar.getName() + " is truncated");
+				}
+				remaining -= read;
+				write(cipher.update(buffer, 0, read), outputStream, mac);
+			}
+			write(cipher.doFinal(), outputStream, mac);
+			return mac.doFinal();
+		} catch (GeneralSecurityException securityException) {
+			throw new InvalidDataException("MOSIP_INVALID_ENCRYPTED_DATA_CORRUPT_EXCEPTION",
+					securityException.getMessage(), securityException);
+		}
+	}
+
+	private void write(byte[] decrypted, OutputStream outputStream, Mac mac) throws IOException {
+		if (decrypted != null && decrypted.length > 0) {
+			outputStream.write(decrypted);
+			mac.update(decrypted);
+		}
+	}
+
+	private boolean isVerified(File decryptedJar, File macFile) throws IOException {
+		if (!decryptedJar.isFile() || !macFile.isFile()) {
+			return false;
+		}
+		byte[] expectedMac;
+		try {
+			expectedMac = Base64.getDecoder()
+					.decode(new String(Files.readAllBytes(macFile.toPath()), StandardCharsets.US_ASCII).trim());
+		} catch (IllegalArgumentException invalidMacException) {
+			return false;
+		}
+
+		Mac mac = getMac();
+		try (InputStream inputStream = new FileInputStream(decryptedJar)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				mac.update(buffer, 0, read);
+			}
+		}
+		boolean verified = MessageDigest.isEqual(expectedMac, mac.doFinal());
+		if (!verified) {
+			LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
+					LoggerConstants.APPLICATION_ID, "Integrity check failed for cached " + decryptedJar.getName());
+		}
+		return verified;
+	}
+
+	/**
+	 * Creates the cache folder and restricts its access to the owner, so the
+	 * cached jars can not be read by other users of the machine.
+	 */
+	private void createCacheDirectory() throws IOException {
+		FileUtils.forceMkdir(cacheDirectory);
+		Path cachePath = cacheDirectory.toPath();
+		AclFileAttributeView aclView = Files.getFileAttributeView(cachePath, AclFileAttributeView.class);
+		if (Files.getFileAttributeView(cachePath, PosixFileAttributeView.class) != null) {
+			Files.setPosixFilePermissions(cachePath, PosixFilePermissions.fromString("rwx------"));
+		} else if (aclView != null) {
+			// inherited by the files of the folder
+			aclView.setAcl(Collections.singletonList(AclEntry.newBuilder().setType(AclEntryType.ALLOW)
+					.setPrincipal(aclView.getOwner()).setPermissions(EnumSet.allOf(AclEntryPermission.class))
+					.setFlags(AclEntryFlag.FILE_INHERIT, AclEntryFlag.DIRECTORY_INHERIT).build()));
+		} else {
+			cacheDirectory.setReadable(false, false);
+			cacheDirectory.setWritable(false, false);
+			cacheDirectory.setExecutable(false, false);
+			cacheDirectory.setReadable(true, true);
+			cacheDirectory.setWritable(true, true);
+			cacheDirectory.setExecutable(true, true);
+		}
+	}
+
+	private void removeCachedJars(String jarName) throws IOException {
+		File[] cachedFiles = cacheDirectory.listFiles((directory, name) -> name.startsWith(jarName + "-"));
+		if (cachedFiles != null) {
+			for (File cachedFile : cachedFiles) {
+				Files.deleteIfExists(cachedFile.toPath());
+			}
+		}
+	}
+
+	private Mac getMac() {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+			return mac;
+		} catch (GeneralSecurityException securityException) {
+			throw new InvalidDataException("MOSIP_NO_SUCH_ALGORITHM_EXCEPTION", securityException.getMessage(),
+					securityException);
+		}
+	}
+
+	private static String getChecksum(File file) throws IOException {
+		try (InputStream inputStream = new FileInputStream(file)) {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				messageDigest.update(buffer, 0, read);
+			}
+			StringBuilder checksum = new StringBuilder();
+			for (byte digestByte : messageDigest.digest()) {
+				checksum.append(String.format("%02x", digestByte));
+			}
+			return checksum.toString();
+		} catch (GeneralSecurityException securityException) {
+			throw new InvalidDataException("MOSIP_NO_SUCH_ALGORITHM_EXCEPTION", securityException.getMessage(),
+					securityException);
+		}
+	}
+
+}
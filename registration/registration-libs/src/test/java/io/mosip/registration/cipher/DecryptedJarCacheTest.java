@@ -0,0 +1,106 @@
+package io.mosip.registration.cipher;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Base64;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.mosip.kernel.core.crypto.exception.InvalidDataException;
+
+public class DecryptedJarCacheTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private byte[] key = Base64.getDecoder().decode("fdHPgbFn5LZjPE8fX5S0UQ==");
+
+	private byte[] jar = new byte[200000];
+
+	private File encryptedJar;
+
+	private DecryptedJarCache decryptedJarCache;
+
+	@Before
+	public void initialize() throws IOException {
+		for (int index = 0; index < jar.length; index++) {
+			jar[index] = (byte) index;
+		}
+		encryptedJar = temporaryFolder.newFile("mosip-client.jar");
+		FileUtils.writeByteArrayToFile(encryptedJar, new ClientJarEncryption().encyrpt(jar, key));
+		decryptedJarCache = new DecryptedJarCache(new File(temporaryFolder.getRoot(), "cache"), key);
+	}
+
+	@Test
+	public void decryptAndReuseTest() throws IOException {
+		File decryptedJar = decryptedJarCache.getDecryptedJar(encryptedJar);
+		assertArrayEquals(jar, FileUtils.readFileToByteArray(decryptedJar));
+
+		decryptedJar.setLastModified(0);
+		assertEquals(decryptedJar, decryptedJarCache.getDecryptedJar(encryptedJar));
+		assertEquals(0, decryptedJar.lastModified());
+	}
+
+	@Test
+	public void tamperedJarDecryptedAgainTest() throws IOException {
+		File decryptedJar = decryptedJarCache.getDecryptedJar(encryptedJar);
+		FileUtils.writeByteArrayToFile(decryptedJar, new byte[] { 1, 2, 3 });
+
+		assertArrayEquals(jar, FileUtils.readFileToByteArray(decryptedJarCache.getDecryptedJar(encryptedJar)));
+	}
+
+	@Test
+	public void changedJarDecryptedAgainTest() throws IOException {
+		File decryptedJar = decryptedJarCache.getDecryptedJar(encryptedJar);
+
+		jar[0] = 42;
+		FileUtils.writeByteArrayToFile(encryptedJar, new ClientJarEncryption().encyrpt(jar, key));
+		File changedJar = decryptedJarCache.getDecryptedJar(encryptedJar);
+
+		assertNotEquals(decryptedJar, changedJar);
+		assertArrayEquals(jar, FileUtils.readFileToByteArray(changedJar));
+		assertEquals(2, changedJar.getParentFile().list().length);
+	}
+
+	@Test
+	public void cacheFolderOwnerOnlyTest() throws IOException {
+		File cacheDirectory = new File(temporaryFolder.getRoot(), "cache");
+		Assume.assumeNotNull(
+				Files.getFileAttributeView(temporaryFolder.getRoot().toPath(), PosixFileAttributeView.class));
+		FileUtils.forceMkdir(cacheDirectory);
+		Files.setPosixFilePermissions(cacheDirectory.toPath(), PosixFilePermissions.fromString("rwxr-xr-x"));
+
+		decryptedJarCache.getDecryptedJar(encryptedJar);
+
+		assertEquals("rwx------",
+				PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheDirectory.toPath())));
+	}
+
+	@Test
+	public void userCacheFolderTest() {
+		assertEquals(new File(System.getProperty("user.home")),
+				DecryptedJarCache.getUserCacheDirectory().getParentFile().getParentFile());
+	}
+
+	@Test(expected = InvalidDataException.class)
+	public void corruptedJarTest() throws IOException {
+		byte[] encrypted = FileUtils.readFileToByteArray(encryptedJar);
+		encrypted[10] ^= 1;
+		FileUtils.writeByteArrayToFile(encryptedJar, encrypted);
+
+		decryptedJarCache.getDecryptedJar(encryptedJar);
+	}
+
+}
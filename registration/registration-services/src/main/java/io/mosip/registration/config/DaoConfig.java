@@ -9,6 +9,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
 
+import javax.annotation.PreDestroy;
 import javax.sql.DataSource;
 
 import io.mosip.kernel.clientcrypto.constant.ClientCryptoManagerConstant;
@@ -17,6 +18,7 @@ import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegistrationExceptionConstants;
 import lombok.SneakyThrows;
+import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.PropertyPlaceholderConfigurer;
@@ -30,7 +32,6 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
@@ -64,8 +65,21 @@ public class DaoConfig extends HibernateDaoConfig {
 	private static final String SHUTDOWN_URL = "jdbc:derby:;shutdown=true;deregister=false;";
 	private static final String SCHEMA_NAME = "REG";
 
+	private static final String POOL_INITIAL_SIZE = "mosip.registration.db.pool.initial.size";
+	private static final String POOL_MAX_TOTAL = "mosip.registration.db.pool.max.total";
+	private static final String POOL_MIN_IDLE = "mosip.registration.db.pool.min.idle";
+	private static final String POOL_MAX_WAIT_MILLIS = "mosip.registration.db.pool.max.wait.millis";
+	private static final String POOL_MAX_OPEN_PREPARED_STATEMENTS = "mosip.registration.db.pool.max.open.prepared.statements";
+	private static final String CACHE_REGION_FACTORY = "hibernate.cache.region.factory_class";
+	private static final String SHARED_CACHE_MODE = "javax.persistence.sharedCache.mode";
+	private static final String EHCACHE_CONFIGURATION = "net.sf.ehcache.configurationResourceName";
+	private static final String JDBC_BATCH_SIZE = "hibernate.jdbc.batch_size";
+	private static final String ORDER_INSERTS = "hibernate.order_inserts";
+	private static final String ORDER_UPDATES = "hibernate.order_updates";
+
 	private static Properties keys;
 	private static JdbcTemplate jdbcTemplate;
+	private static BasicDataSource pooledDataSource;
 
 	private static final String GLOBAL_PARAM_PROPERTIES = "SELECT CODE, VAL FROM REG.GLOBAL_PARAM WHERE IS_ACTIVE=TRUE AND VAL IS NOT NULL";
 	private static final String KEY = "CODE";
@@ -106,11 +120,30 @@ public class DaoConfig extends HibernateDaoConfig {
 	 */
 	@SneakyThrows
 	@Override
-	@Bean(name = "dataSource")
+	@Bean(name = "dataSource", destroyMethod = "")
 	public DataSource dataSource() {
 		return setupDataSource();
 	}
 
+	/**
+	 * Closes the connection pool and forgets it, so a new context creates a new
+	 * pool instead of reusing the closed one.
+	 */
+	@PreDestroy
+	public void closeDataSource() {
+		synchronized (DaoConfig.class) {
+			if (pooledDataSource == null)
+				return;
+			try {
+				pooledDataSource.close();
+			} catch (SQLException exception) {
+				LOGGER.error(LOGGER_CLASS_NAME, APPLICATION_NAME, APPLICATION_ID, ExceptionUtils.getStackTrace(exception));
+			} finally {
+				pooledDataSource = null;
+			}
+		}
+	}
+
 	/**
 	 * setting datasource to jdbcTemplate
 	 *
@@ -180,6 +213,17 @@ public class DaoConfig extends HibernateDaoConfig {
 				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE, HibernatePersistenceConstant.FALSE));
 		jpaProperties.put(HibernatePersistenceConstant.HIBERNATE_CACHE_USE_QUERY_CACHE,
 				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_CACHE_USE_QUERY_CACHE, HibernatePersistenceConstant.FALSE));
+		if (keys.getProperty(CACHE_REGION_FACTORY) != null) {
+			jpaProperties.put(CACHE_REGION_FACTORY, keys.getProperty(CACHE_REGION_FACTORY));
+			jpaProperties.put(SHARED_CACHE_MODE, keys.getProperty(SHARED_CACHE_MODE, "ENABLE_SELECTIVE"));
+			if (keys.getProperty(EHCACHE_CONFIGURATION) != null)
+				jpaProperties.put(EHCACHE_CONFIGURATION, keys.getProperty(EHCACHE_CONFIGURATION));
+		}
+		if (keys.getProperty(JDBC_BATCH_SIZE) != null) {
+			jpaProperties.put(JDBC_BATCH_SIZE, keys.getProperty(JDBC_BATCH_SIZE));
+			jpaProperties.put(ORDER_INSERTS, keys.getProperty(ORDER_INSERTS, HibernatePersistenceConstant.TRUE));
+			jpaProperties.put(ORDER_UPDATES, keys.getProperty(ORDER_UPDATES, HibernatePersistenceConstant.TRUE));
+		}
 		jpaProperties.put(HibernatePersistenceConstant.HIBERNATE_CACHE_USE_STRUCTURED_ENTRIES,
 				keys.getProperty(HibernatePersistenceConstant.HIBERNATE_CACHE_USE_STRUCTURED_ENTRIES, HibernatePersistenceConstant.FALSE));
 		jpaProperties.put(HibernatePersistenceConstant.HIBERNATE_GENERATE_STATISTICS,
@@ -191,14 +235,33 @@ public class DaoConfig extends HibernateDaoConfig {
 		return jpaProperties;
 	}
 
-	private DriverManagerDataSource setupDataSource() throws Exception {
-		LOGGER.info(LOGGER_CLASS_NAME, APPLICATION_NAME, APPLICATION_ID, "****** SETTING UP DATASOURCE *******");
-		createDatabase(dbPath);
-		DriverManagerDataSource driverManagerDataSource = new DriverManagerDataSource();
-		driverManagerDataSource.setDriverClassName(DRIVER_CLASS_NAME);
-		driverManagerDataSource.setSchema(SCHEMA_NAME);
-		driverManagerDataSource.setUrl(String.format(URL, dbPath, getDBSecret()));
-		return driverManagerDataSource;
+	/**
+	 * Creates the connection pool on first call. DaoConfig is imported without
+	 * {@code @Configuration}, so the bean methods calling dataSource() are not
+	 * proxied and the pool has to be shared here.
+	 */
+	private BasicDataSource setupDataSource() throws Exception {
+		synchronized (DaoConfig.class) {
+			if (pooledDataSource != null)
+				return pooledDataSource;
+
+			LOGGER.info(LOGGER_CLASS_NAME, APPLICATION_NAME, APPLICATION_ID, "****** SETTING UP DATASOURCE *******");
+			createDatabase(dbPath);
+			BasicDataSource basicDataSource = new BasicDataSource();
+			basicDataSource.setDriverClassName(DRIVER_CLASS_NAME);
+			basicDataSource.setConnectionInitSqls(Collections.singletonList("SET SCHEMA " + SCHEMA_NAME));
+			basicDataSource.setUrl(String.format(URL, dbPath, getDBSecret()));
+			basicDataSource.setInitialSize(Integer.parseInt(keys.getProperty(POOL_INITIAL_SIZE, "2")));
+			basicDataSource.setMaxTotal(Integer.parseInt(keys.getProperty(POOL_MAX_TOTAL, "10")));
+			basicDataSource.setMaxIdle(basicDataSource.getMaxTotal());
+			basicDataSource.setMinIdle(Integer.parseInt(keys.getProperty(POOL_MIN_IDLE, "2")));
+			basicDataSource.setMaxWaitMillis(Long.parseLong(keys.getProperty(POOL_MAX_WAIT_MILLIS, "30000")));
+			basicDataSource.setPoolPreparedStatements(true);
+			basicDataSource.setMaxOpenPreparedStatements(
+					Integer.parseInt(keys.getProperty(POOL_MAX_OPEN_PREPARED_STATEMENTS, "100")));
+			pooledDataSource = basicDataSource;
+			return pooledDataSource;
+		}
 	}
 
 	private static void shutdownDatabase() {
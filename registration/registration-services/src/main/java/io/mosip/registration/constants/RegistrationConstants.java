@@ -1253,6 +1253,7 @@ public class RegistrationConstants {
 	// PACKET
 	public static final String PACKET_STATUS_SYNC_ERROR_RESPONSE = "PACKET_STATUS_SYNC_ERROR_RESPONSE";
 	public static final String PACKET_STATUS_SYNC_SUCCESS_MESSAGE = "PACKET_STATUS_SYNC_SUCCESS_MESSAGE";
+	public static final String PACKET_STATUS_SYNC_ALREADY_STARTED = "PACKET_STATUS_SYNC_ALREADY_STARTED";
 	public static final String PACKET_CREATION_DISK_SPACE_CHECK = "PACKET_CREATION_DISK_SPACE_CHECK";
 
 	// OTP
@@ -1308,6 +1309,19 @@ public class RegistrationConstants {
 	public static final String SYNC_TRANSACTION_NO_OF_DAYS_LIMIT = "mosip.registration.sync_transaction_no_of_days_limit";
 	public static final String REG_DELETION_CONFIGURED_DAYS = "mosip.registration.reg_deletion_configured_days";
 	public static final String PRE_REG_DELETION_CONFIGURED_DAYS = "mosip.registration.pre_reg_deletion_configured_days";
+	public static final String PACKET_UPLOAD_MAX_CONCURRENCY = "mosip.registration.packet.upload.max.concurrency";
+	public static final String PACKET_UPLOAD_MAX_RETRIES = "mosip.registration.packet.upload.max.retries";
+	public static final String PACKET_UPLOAD_RETRY_BACKOFF_MILLIS = "mosip.registration.packet.upload.retry.backoff.millis";
+	public static final String PACKET_SYNC_BATCH_SIZE = "mosip.registration.packet.sync.batch.size";
+	public static final String PACKET_SYNC_BATCH_MAX_BYTES = "mosip.registration.packet.sync.batch.max.bytes";
+	public static final String PACKET_STATUS_SYNC_BATCH_SIZE = "mosip.registration.packet.status.sync.batch.size";
+	public static final String PRE_REG_DOWNLOAD_MAX_CONCURRENCY = "mosip.registration.pre_reg.download.max.concurrency";
+	public static final String PRE_REG_DOWNLOAD_RATE_PER_SECOND = "mosip.registration.pre_reg.download.rate.per.second";
+	public static final String PRE_REG_DOWNLOAD_MAX_RETRIES = "mosip.registration.pre_reg.download.max.retries";
+	public static final String PRE_REG_DOWNLOAD_RETRY_BACKOFF_MILLIS = "mosip.registration.pre_reg.download.retry.backoff.millis";
+	public static final String SOFTWARE_UPDATE_MAX_CONCURRENCY = "mosip.registration.software.update.max.concurrency";
+	public static final String SOFTWARE_UPDATE_MAX_RETRIES = "mosip.registration.software.update.max.retries";
+	public static final String SOFTWARE_UPDATE_RETRY_BACKOFF_MILLIS = "mosip.registration.software.update.retry.backoff.millis";
 
 	// Audit Constants
 	public static final String AUDIT_LOGS_DELETION_SUCESS_MSG = "AUDIT_LOGS_DELETION_SUCESS_MSG";
@@ -1756,6 +1770,7 @@ public class RegistrationConstants {
 	// Timeout Configuartion
 	public static final String HTTP_API_READ_TIMEOUT = "mosip.registration.HTTP_API_READ_TIMEOUT";
 	public static final String HTTP_API_WRITE_TIMEOUT = "mosip.registration.HTTP_API_WRITE_TIMEOUT";
+	public static final String HTTP_API_CONNECT_TIMEOUT = "mosip.registration.HTTP_API_CONNECT_TIMEOUT";
 
 	// Biometric Device Already present in configs
 	// public static final String PROVIDER_NAME =
@@ -1778,6 +1793,9 @@ public class RegistrationConstants {
 	public static final String MDM_END_PORT_RANGE = "mosip.registration.mdm.portRangeTo";
 	public static final String MDM_CONTEXT_PATH = "mosip.registration.mdm.contextPath";
 	public static final String MDM_HOST_PROTOCOL = "mosip.registration.mdm.hostProtocol";
+	public static final String MDM_DISCOVERY_MAX_CONCURRENCY = "mosip.registration.mdm.discovery.max.concurrency";
+	public static final String MDM_DISCOVERY_TIMEOUT_MILLIS = "mosip.registration.mdm.discovery.timeout.millis";
+	public static final String MDM_CONNECTION_POOL_SIZE = "mosip.registration.mdm.connection.pool.size";
 
 	// #Proof Of Exception Documents
 	public static final String POE_DOCUMENT_VALUE = "mosip.registration.doc_value";
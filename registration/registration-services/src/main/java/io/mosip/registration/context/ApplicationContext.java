@@ -429,6 +429,30 @@ public class ApplicationContext {
 
 	}
 
+	/**
+	 * Gets the integer value, or the default value if it is not configured.
+	 *
+	 * @param code         the code
+	 * @param defaultValue the default value
+	 * @return the integer value
+	 */
+	public static int getIntValueFromApplicationMap(String code, int defaultValue) {
+		Object value = applicationMap.get(code);
+		return value != null ? Integer.parseInt(String.valueOf(value).trim()) : defaultValue;
+	}
+
+	/**
+	 * Gets the long value, or the default value if it is not configured.
+	 *
+	 * @param code         the code
+	 * @param defaultValue the default value
+	 * @return the long value
+	 */
+	public static long getLongValueFromApplicationMap(String code, long defaultValue) {
+		Object value = applicationMap.get(code);
+		return value != null ? Long.parseLong(String.valueOf(value).trim()) : defaultValue;
+	}
+
 	public static String getStringValueFromApplicationMap(String code) {
 
 		return String.valueOf(applicationMap.get(code));
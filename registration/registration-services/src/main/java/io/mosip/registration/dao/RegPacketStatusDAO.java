@@ -1,6 +1,7 @@
 package io.mosip.registration.dao;
 
 import java.util.List;
+import java.util.Map;
 
 import io.mosip.registration.entity.Registration;
 
@@ -21,26 +22,21 @@ public interface RegPacketStatusDAO {
 	 * 				returns the list of registrationIds which are uploaded successfully
 	 */
 	List<Registration> getPacketIdsByStatusUploaded();
-	
-	
-	/**
-	 * Fetch the registration based on the registration id.
-	 * @param registrationId - the id of required Registration Entity
-	 * @return registration	- the registration entity with given id
-	 */
-	Registration get(String registrationId);
-	
+
 	/**
-	 * Update the details in the {@link Registration} to the Registration as well as Registration Transaction table.
-	 * @param registration entity
-	 * @return registration	- the updated registration entity
+	 * Update the server status of the registrations with one statement per status
+	 * and add a Registration Transaction for each of them.
+	 * 
+	 * @param serverStatuses - the server status of each registration id
+	 * @param updatedBy      - the user updating the status
 	 */
-	Registration update(Registration registration);
-	
+	void updateServerStatus(Map<String, String> serverStatuses, String updatedBy);
+
 	/**
-	 * Delete the particular registration from the table
-	 * Delete Registration
-	 * @param registration	- the registration entity that has to be deleted
+	 * Delete the registrations along with their transactions and audit log
+	 * controls using set based deletes
+	 * 
+	 * @param registrations - the registration entities that have to be deleted
 	 */
-	void delete(Registration registration);
+	void delete(List<Registration> registrations);
 }
@@ -17,6 +17,7 @@ import io.mosip.registration.dao.GlobalParamName;
 import io.mosip.registration.entity.GlobalParam;
 import io.mosip.registration.entity.id.GlobalParamId;
 import io.mosip.registration.repositories.GlobalParamRepository;
+import io.mosip.registration.util.mastersync.MasterDataCacheEvictor;
 
 /**
  * The implementation class of {@link GlobalParamDAO}.
@@ -36,6 +37,9 @@ public class GlobalParamDAOImpl implements GlobalParamDAO {
 	@Autowired
 	private GlobalParamRepository globalParamRepository;
 
+	@Autowired
+	private MasterDataCacheEvictor masterDataCacheEvictor;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -70,6 +74,7 @@ public class GlobalParamDAOImpl implements GlobalParamDAO {
 
 		/** Save all Global Params */
 		globalParamRepository.saveAll(globalParamIterableList);
+		masterDataCacheEvictor.evictAll();
 
 		LOGGER.info("REGISTRATION - GLOBALPARAMS - GLOBAL_PARAM_DAO_IMPL", RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "Save Global Params ended");
@@ -3,19 +3,27 @@ package io.mosip.registration.dao.impl;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.config.AppConfig;
 import io.mosip.registration.constants.RegistrationClientStatusCode;
-import io.mosip.registration.dao.AuditLogControlDAO;
+import io.mosip.registration.constants.RegistrationTransactionType;
 import io.mosip.registration.dao.RegPacketStatusDAO;
-import io.mosip.registration.entity.AuditLogControl;
 import io.mosip.registration.entity.Registration;
 import io.mosip.registration.entity.RegistrationTransaction;
+import io.mosip.registration.repositories.AuditLogControlRepository;
 import io.mosip.registration.repositories.RegTransactionRepository;
 import io.mosip.registration.repositories.RegistrationRepository;
 
@@ -35,13 +43,18 @@ public class RegPacketStatusDAOImpl implements RegPacketStatusDAO {
 	private RegTransactionRepository regTransactionRepository;
 
 	@Autowired
-	private AuditLogControlDAO auditLogControlDAO;
+	private AuditLogControlRepository auditLogControlRepository;
 
 	/**
 	 * Object for Logger
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(RegPacketStatusDAOImpl.class);
 
+	/**
+	 * Maximum number of ids bound to a single IN clause
+	 */
+	private static final int MAX_IDS_PER_STATEMENT = 500;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -61,48 +74,70 @@ public class RegPacketStatusDAOImpl implements RegPacketStatusDAO {
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see io.mosip.registration.dao.RegPacketStatusDAO#get(java.lang.String)
+	 * @see io.mosip.registration.dao.RegPacketStatusDAO#updateServerStatus(java.
+	 * util.Map, java.lang.String)
 	 */
 	@Override
-	public Registration get(String registrationId) {
+	@Transactional
+	public void updateServerStatus(Map<String, String> serverStatuses, String updatedBy) {
 		LOGGER.info("REGISTRATION - PACKET_STATUS_SYNC - REG_PACKET_STATUS_DAO", APPLICATION_NAME, APPLICATION_ID,
-				"Get registration has been started");
-
-		return registrationRepository.findById(Registration.class, registrationId);
+				"Update server status of " + serverStatuses.size() + " registrations has been started");
+
+		/* the server status time is in local time, the update and transaction times in UTC */
+		Timestamp serverStatusTimestamp = new Timestamp(System.currentTimeMillis());
+		Timestamp timestamp = Timestamp.valueOf(DateUtils.getUTCCurrentDateTime());
+
+		/* Group the registrations by status, so each status is a single update */
+		Map<String, List<String>> registrationIdsByStatus = serverStatuses.entrySet().stream()
+				.collect(Collectors.groupingBy(Map.Entry::getValue, LinkedHashMap::new,
+						Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+		for (Map.Entry<String, List<String>> statusEntry : registrationIdsByStatus.entrySet()) {
+			for (List<String> registrationIds : partition(statusEntry.getValue())) {
+				registrationRepository.updateServerStatusCode(statusEntry.getKey(), serverStatusTimestamp, updatedBy,
+						timestamp, registrationIds);
+			}
+		}
+
+		/* Add Registration Transaction for each registration */
+		List<RegistrationTransaction> registrationTransactions = new ArrayList<>(serverStatuses.size());
+		for (Map.Entry<String, String> serverStatus : serverStatuses.entrySet()) {
+			RegistrationTransaction registrationTxn = new RegistrationTransaction();
+			registrationTxn.setRegId(serverStatus.getKey());
+			registrationTxn.setTrnTypeCode(RegistrationTransactionType.CREATED.getCode());
+			registrationTxn.setLangCode("ENG");
+			registrationTxn.setStatusCode(serverStatus.getValue());
+			registrationTxn.setCrBy(updatedBy);
+			registrationTxn.setCrDtime(timestamp);
+			registrationTransactions.add(registrationTxn);
+		}
+		regTransactionRepository.saveAll(registrationTransactions);
 	}
 
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see
-	 * io.mosip.registration.dao.RegPacketStatusDAO#update(io.mosip.registration.
-	 * entity.Registration)
+	 * @see io.mosip.registration.dao.RegPacketStatusDAO#delete(java.util.List)
 	 */
 	@Override
-	public Registration update(Registration registration) {
+	@Transactional
+	public void delete(List<Registration> registrations) {
 		LOGGER.info("REGISTRATION - PACKET_STATUS_SYNC - REG_PACKET_STATUS_DAO", APPLICATION_NAME, APPLICATION_ID,
-				"Update registration has been started");
-		return registrationRepository.update(registration);
-
+				"Delete " + registrations.size() + " registrations has been started");
+
+		List<String> ids = registrations.stream().map(Registration::getId).collect(Collectors.toList());
+		for (List<String> registrationIds : partition(ids)) {
+			auditLogControlRepository.deleteByRegistrationIdIn(registrationIds);
+			regTransactionRepository.deleteByRegIdIn(registrationIds);
+			registrationRepository.deleteByIdIn(registrationIds);
+		}
 	}
 
-	@Override
-	public void delete(Registration registration) {
-		LOGGER.info("REGISTRATION - PACKET_STATUS_SYNC - REG_PACKET_STATUS_DAO", APPLICATION_NAME, APPLICATION_ID,
-				"Delete registration has been started");
-
-		AuditLogControl auditLogControl = auditLogControlDAO.get(registration.getId());
-
-		/* Delete Audit Logs */
-		auditLogControlDAO.delete(auditLogControl);
-
-		/* Delete Registartion Transaction */
-		Iterable<RegistrationTransaction> iterableTransaction = registration.getRegistrationTransaction();
-		regTransactionRepository.deleteInBatch(iterableTransaction);
-
-		/* Delete Registartion */
-		registrationRepository.deleteById(registration.getId());
-
+	private static List<List<String>> partition(List<String> ids) {
+		List<List<String>> partitions = new ArrayList<>();
+		for (int index = 0; index < ids.size(); index += MAX_IDS_PER_STATEMENT) {
+			partitions.add(ids.subList(index, Math.min(index + MAX_IDS_PER_STATEMENT, ids.size())));
+		}
+		return partitions;
 	}
 
 }
@@ -1,10 +1,16 @@
 package io.mosip.registration.dto.packetmanager;
 
+import java.util.function.Supplier;
+
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 @Data
 public class DocumentDto {
-	
+
 	private byte[] document;
 	private String value;
 	private String type;
@@ -12,4 +18,29 @@ public class DocumentDto {
 	private String owner;
 	private String format;
 	private String refNumber;
+
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private Supplier<byte[]> documentLoader;
+
+	/**
+	 * Gets the document. A document attached from a pre-registration packet is
+	 * read from its copy when it is first requested and then kept. A document
+	 * that can not be read throws instead of returning null.
+	 *
+	 * @return the document
+	 */
+	public byte[] getDocument() {
+		if (document == null && documentLoader != null) {
+			document = documentLoader.get();
+			documentLoader = null;
+		}
+		return document;
+	}
+
+	public void setDocument(byte[] document) {
+		this.document = document;
+		this.documentLoader = null;
+	}
 }
@@ -2,6 +2,7 @@ package io.mosip.registration.entity;
 
 import java.io.Serializable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
@@ -11,6 +12,9 @@ import javax.persistence.JoinColumns;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import io.mosip.registration.entity.id.ApplicantValidDocumentID;
 
 /**
@@ -21,6 +25,8 @@ import io.mosip.registration.entity.id.ApplicantValidDocumentID;
  *
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "applicant_valid_document", schema = "reg")
 public class ApplicantValidDocument extends RegistrationCommonFields implements Serializable {
 
@@ -2,6 +2,7 @@ package io.mosip.registration.entity;
 
 import javax.persistence.AttributeOverride;
 import javax.persistence.AttributeOverrides;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -9,6 +10,9 @@ import javax.persistence.IdClass;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import io.mosip.registration.entity.id.CodeAndLanguageCodeID;
 
 /**
@@ -20,6 +24,8 @@ import io.mosip.registration.entity.id.CodeAndLanguageCodeID;
  * @version 1.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(schema = "reg", name = "doc_type")
 @IdClass(CodeAndLanguageCodeID.class)
 public class DocumentType extends RegistrationCommonFields {
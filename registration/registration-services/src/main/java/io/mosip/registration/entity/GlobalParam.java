@@ -2,11 +2,15 @@ package io.mosip.registration.entity;
 
 import java.sql.Timestamp;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import io.mosip.registration.entity.id.GlobalParamId;
 import lombok.Getter;
 import lombok.Setter;
@@ -18,6 +22,8 @@ import lombok.Setter;
  * @since 1.0.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(schema = "reg", name = "global_param")
 @Getter
 @Setter
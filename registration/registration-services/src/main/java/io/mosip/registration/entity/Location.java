@@ -2,12 +2,16 @@ package io.mosip.registration.entity;
 
 import java.io.Serializable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import io.mosip.registration.entity.id.CodeAndLanguageCodeID;
 
 /**
@@ -18,6 +22,8 @@ import io.mosip.registration.entity.id.CodeAndLanguageCodeID;
  * @since 1.0.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(schema = "reg", name = "location")
 @IdClass(CodeAndLanguageCodeID.class)
 public class Location extends RegistrationCommonFields implements Serializable {
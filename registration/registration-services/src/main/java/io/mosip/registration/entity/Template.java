@@ -4,12 +4,16 @@ import java.sql.Date;
 
 import javax.persistence.AttributeOverride;
 import javax.persistence.AttributeOverrides;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import io.mosip.registration.entity.id.TemplateId;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,6 +25,8 @@ import lombok.Setter;
  * @since 1.0.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @IdClass(TemplateId.class)
 @Table(schema = "reg", name = "TEMPLATE")
 @Getter
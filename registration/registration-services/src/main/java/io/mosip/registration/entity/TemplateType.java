@@ -2,11 +2,15 @@ package io.mosip.registration.entity;
 
 import java.sql.Date;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -17,6 +21,8 @@ import lombok.Setter;
  * @since 1.0.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(schema="reg", name = "TEMPLATE_TYPE")
 @Getter
 @Setter
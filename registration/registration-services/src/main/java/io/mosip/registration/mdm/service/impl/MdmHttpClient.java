@@ -0,0 +1,218 @@
+package io.mosip.registration.mdm.service.impl;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.http.Consts;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.ApplicationContext;
+
+/**
+ * Sends the requests of the registration client to the MDM services.
+ *
+ * All the spec providers share one pooled HTTP client, so the connections to
+ * the local MDM services are kept open between captures instead of a new client
+ * being set up for every stream and capture. Device info requests of the device
+ * discovery are bounded by the discovery timeout, while stream and capture
+ * requests wait as long as the device takes. The JSON readers and writer are
+ * created once and reused.
+ *
+ * @since 1.1.4
+ */
+@Component
+public class MdmHttpClient {
+
+	private static final Logger LOGGER = AppConfig.getLogger(MdmHttpClient.class);
+
+	private static final String loggerClassName = "MdmHttpClient";
+
+	private static final int DEFAULT_CONNECTION_POOL_SIZE = 10;
+	private static final int DEFAULT_DISCOVERY_TIMEOUT_MILLIS = 5000;
+	private static final int CONNECT_TIMEOUT_MILLIS = 5000;
+	private static final int CONNECTION_REQUEST_TIMEOUT_MILLIS = 30000;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private final ObjectWriter writer = mapper.writer();
+
+	private final Map<Object, ObjectReader> readers = new ConcurrentHashMap<>();
+
+	private volatile CloseableHttpClient httpClient;
+
+	/**
+	 * Sends a request and reads the response.
+	 *
+	 * @param method the MDM method, e.g. RCAPTURE
+	 * @param url    the url of the MDM service
+	 * @param body   the request body, or null
+	 * @return the response body, or null if the response has none
+	 * @throws IOException if the request failed
+	 */
+	public String execute(String method, String url, String body) throws IOException {
+		return execute(buildRequest(method, url, body, null));
+	}
+
+	/**
+	 * Sends a device info request of the device discovery.
+	 *
+	 * @param method the MDM method, e.g. MOSIPDINFO
+	 * @param url    the url of the MDM service
+	 * @return the response body, or null if no MDM service answered in time
+	 */
+	public String discover(String method, String url) {
+		int timeout = ApplicationContext.getIntValueFromApplicationMap(
+				RegistrationConstants.MDM_DISCOVERY_TIMEOUT_MILLIS, DEFAULT_DISCOVERY_TIMEOUT_MILLIS);
+		RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(timeout).setSocketTimeout(timeout)
+				.setConnectionRequestTimeout(timeout).build();
+		try {
+			return execute(buildRequest(method, url, null, requestConfig));
+		} catch (IOException exception) {
+			LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+					"No MDM service on url : " + url + " " + exception.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Opens a stream from the MDM service. Closing the stream closes its
+	 * connection, as a stream is not read until its end. A stream read to its
+	 * end closes its connection too, so the connection is not kept from the
+	 * pool by a caller that stops at the end without closing the stream.
+	 *
+	 * @param method the MDM method, e.g. STREAM
+	 * @param url    the url of the MDM service
+	 * @param body   the request body
+	 * @return the stream, or null if the response has none
+	 * @throws IOException if the request failed
+	 */
+	public InputStream stream(String method, String url, String body) throws IOException {
+		CloseableHttpResponse response = getHttpClient().execute(buildRequest(method, url, body, null));
+		InputStream content;
+		try {
+			content = response.getEntity() != null ? response.getEntity().getContent() : null;
+		} catch (IOException | RuntimeException exception) {
+			response.close();
+			throw exception;
+		}
+		if (content == null) {
+			response.close();
+			return null;
+		}
+		return new FilterInputStream(content) {
+
+			@Override
+			public int read() throws IOException {
+				return closeAtEnd(super.read());
+			}
+
+			@Override
+			public int read(byte[] buffer, int offset, int length) throws IOException {
+				return closeAtEnd(super.read(buffer, offset, length));
+			}
+
+			@Override
+			public void close() throws IOException {
+				response.close();
+			}
+
+			private int closeAtEnd(int read) throws IOException {
+				if (read == -1) {
+					close();
+				}
+				return read;
+			}
+		};
+	}
+
+	public String writeValueAsString(Object value) throws IOException {
+		return writer.writeValueAsString(value);
+	}
+
+	public <T> T readValue(String content, Class<T> valueType) throws IOException {
+		return readers.computeIfAbsent(valueType, type -> mapper.readerFor(valueType)).readValue(content);
+	}
+
+	public <T> T readValue(String content, TypeReference<T> valueTypeRef) throws IOException {
+		return readers.computeIfAbsent(valueTypeRef.getType(), type -> mapper.readerFor(valueTypeRef))
+				.readValue(content);
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		if (httpClient != null) {
+			httpClient.close();
+		}
+	}
+
+	private String execute(HttpUriRequest request) throws IOException {
+		try (CloseableHttpResponse response = getHttpClient().execute(request)) {
+			return response.getEntity() != null ? EntityUtils.toString(response.getEntity()) : null;
+		}
+	}
+
+	private HttpUriRequest buildRequest(String method, String url, String body, RequestConfig requestConfig) {
+		RequestBuilder requestBuilder = RequestBuilder.create(method).setUri(url);
+		if (body != null) {
+			requestBuilder.setEntity(new StringEntity(body, ContentType.create("Content-Type", Consts.UTF_8)));
+		}
+		if (requestConfig != null) {
+			requestBuilder.setConfig(requestConfig);
+		}
+		return requestBuilder.build();
+	}
+
+	private CloseableHttpClient getHttpClient() {
+		CloseableHttpClient client = httpClient;
+		if (client == null) {
+			synchronized (this) {
+				client = httpClient;
+				if (client == null) {
+					int poolSize = Math.max(ApplicationContext.getIntValueFromApplicationMap(
+							RegistrationConstants.MDM_CONNECTION_POOL_SIZE, DEFAULT_CONNECTION_POOL_SIZE), 1);
+					LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+							"Creating MDM http client with connection pool size : " + poolSize);
+
+					// The MDM services all run on the local host, one route each
+					PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+					connectionManager.setMaxTotal(poolSize);
+					connectionManager.setDefaultMaxPerRoute(poolSize);
+
+					client = HttpClients.custom().setConnectionManager(connectionManager)
+							.setDefaultRequestConfig(RequestConfig.custom().setConnectTimeout(CONNECT_TIMEOUT_MILLIS)
+									.setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT_MILLIS).build())
+							.build();
+					httpClient = client;
+				}
+			}
+		}
+		return client;
+	}
+
+}
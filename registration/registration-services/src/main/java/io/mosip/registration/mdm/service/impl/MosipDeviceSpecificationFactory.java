@@ -1,34 +1,29 @@
 
 package io.mosip.registration.mdm.service.impl;
 
-import static io.mosip.registration.constants.LoggerConstants.MOSIP_BIO_DEVICE_INTEGERATOR;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
-import java.io.IOException;
 import java.util.Arrays;
-import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpUriRequest;
-import org.apache.http.client.methods.RequestBuilder;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
+import javax.annotation.PreDestroy;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import io.mosip.kernel.core.cbeffutil.jaxbclasses.SingleType;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -70,23 +65,13 @@ public class MosipDeviceSpecificationFactory {
 	private int defaultMDSPortTo;
 	private static final Logger LOGGER = AppConfig.getLogger(MosipDeviceSpecificationFactory.class);
 
-	private ObjectMapper mapper = new ObjectMapper();
-
 	private static final String loggerClassName = "MosipDeviceSpecificationFactory";
 
-	public ObjectMapper getMapper() {
-		return mapper;
-	}
-
-	public void setMapper(ObjectMapper mapper) {
-		this.mapper = mapper;
-	}
-
 	@Autowired
 	private List<MosipDeviceSpecificationProvider> deviceSpecificationProviders;
 
 	/** Key is modality value is (specVersion, MdmBioDevice) */
-	private static Map<String, MdmBioDevice> deviceInfoMap = new LinkedHashMap<>();
+	private static Map<String, MdmBioDevice> deviceInfoMap = new ConcurrentHashMap<>();
 
 	public static Map<String, MdmBioDevice> getDeviceInfoMap() {
 		return deviceInfoMap;
@@ -95,6 +80,15 @@ public class MosipDeviceSpecificationFactory {
 	@Autowired
 	private MachineMappingDAO machineMappingDAO;
 
+	@Autowired
+	private MdmHttpClient mdmHttpClient;
+
+	private static final int DEFAULT_DISCOVERY_MAX_CONCURRENCY = 5;
+
+	private ExecutorService discoveryExecutorService;
+
+	private CompletableFuture<Void> discovery;
+
 	/**
 	 * This method will prepare the device registry, device registry contains all
 	 * the running biometric devices
@@ -113,31 +107,77 @@ public class MosipDeviceSpecificationFactory {
 		LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 				"Entering init method for preparing device registry");
 
+		/* An A-sync task to complete MDS initialization */
+		discover();
+
+		LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+				"Exit init method for preparing device registry");
+	}
+
+	/**
+	 * Starts a discovery of the devices on the configured ports, unless one is
+	 * already running. The ports are probed by a bounded number of threads, each
+	 * device info request bounded by the discovery timeout. Once all the ports
+	 * are probed the devices no longer found are removed from the registry, so
+	 * an unplugged device is dropped and a plugged one is added.
+	 */
+	private synchronized CompletableFuture<Void> discover() {
+		if (discovery != null && !discovery.isDone()) {
+			return discovery;
+		}
+
 		portFrom = getPortFrom();
 		portTo = getPortTo();
 
 		LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 				"Checking device info from port : " + portFrom + " to port : " + portTo);
-		if (portFrom != 0) {
-			for (int port = portFrom; port <= portTo; port++) {
-
-				final int currentPort = port;
-
-				/* An A-sync task to complete MDS initialization */
-				new Thread(() -> {
-					try {
-						initByPort(currentPort);
-					} catch (RuntimeException exception) {
-						LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-								"Exception while mapping the response : " + exception.getMessage()
-										+ ExceptionUtils.getStackTrace(exception));
-					}
-				}).start();
+		if (portFrom == 0) {
+			return CompletableFuture.completedFuture(null);
+		}
 
-			}
+		ExecutorService executorService = getDiscoveryExecutorService();
+		Set<String> discoveredDevices = ConcurrentHashMap.newKeySet();
+		List<CompletableFuture<Void>> probes = new LinkedList<>();
+		for (int port = portFrom; port <= portTo; port++) {
+
+			final int currentPort = port;
+			probes.add(CompletableFuture.runAsync(() -> {
+				try {
+					discoveredDevices.addAll(discoverByPort(currentPort));
+				} catch (RuntimeException exception) {
+					LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+							"Exception while mapping the response : " + exception.getMessage()
+									+ ExceptionUtils.getStackTrace(exception));
+				}
+			}, executorService));
+		}
+
+		discovery = CompletableFuture.allOf(probes.toArray(new CompletableFuture[0])).thenRun(() -> {
+			deviceInfoMap.keySet().retainAll(discoveredDevices);
+			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+					"Device discovery completed, devices found : " + deviceInfoMap.keySet());
+		});
+		return discovery;
+	}
+
+	private synchronized ExecutorService getDiscoveryExecutorService() {
+		if (discoveryExecutorService == null) {
+			int maxConcurrency = Math.max(ApplicationContext.getIntValueFromApplicationMap(
+					RegistrationConstants.MDM_DISCOVERY_MAX_CONCURRENCY, DEFAULT_DISCOVERY_MAX_CONCURRENCY), 1);
+			discoveryExecutorService = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+				Thread thread = new Thread(runnable, "mdm-discovery");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return discoveryExecutorService;
+	}
+
+	@PreDestroy
+	public synchronized void shutdown() {
+		if (discoveryExecutorService != null) {
+			discoveryExecutorService.shutdownNow();
 		}
-		LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-				"Exit init method for preparing device registry");
 	}
 
 	private int getPortTo() {
@@ -189,22 +229,6 @@ public class MosipDeviceSpecificationFactory {
 		}
 	}
 
-	/*
-	 * Testing the network with method
-	 */
-	public static boolean checkServiceAvailability(String serviceUrl, String method) {
-		HttpUriRequest request = RequestBuilder.create(method).setUri(serviceUrl).build();
-
-		CloseableHttpClient client = HttpClients.createDefault();
-		try {
-			client.execute(request);
-		} catch (Exception exception) {
-			return false;
-		}
-		return true;
-
-	}
-
 	public void initByPort(Integer availablePort) {
 
 		LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
@@ -212,93 +236,78 @@ public class MosipDeviceSpecificationFactory {
 
 		if (availablePort != null && availablePort != 0) {
 
-			LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Initializing device " + " on Port : " + availablePort);
-
-			String url;
+			discoverByPort(availablePort);
 
-			url = buildUrl(availablePort, MosipBioDeviceConstants.DEVICE_INFO_ENDPOINT);
-
-			LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Checking device info on url : " + url);
-
-			/* check if the service is available for the current port */
-			if (checkServiceAvailability(url, "MOSIPDINFO")) {
-
-				try {
-					String deviceInfoResponse = getDeviceInfoResponse(url);
-
-					for (MosipDeviceSpecificationProvider deviceSpecificationProvider : deviceSpecificationProviders) {
-
-						LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-								"Decoding deice info response with provider : " + deviceSpecificationProvider);
+		} else {
+			try {
+				discover().get();
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException exception) {
+				LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
 
-						List<MdmBioDevice> mdmBioDevices = deviceSpecificationProvider.getMdmDevices(deviceInfoResponse,
-								availablePort);
+			}
+		}
+	}
 
-						for (MdmBioDevice bioDevice : mdmBioDevices) {
-							if (bioDevice != null) {
-								LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-										"Checking for device registratrion : " + bioDevice.getDeviceCode());
+	private List<String> discoverByPort(int availablePort) {
 
-								// Add to Device Info Map
-								addToDeviceInfoMap(getDeviceType(bioDevice.getDeviceType()).toLowerCase(),
-										getDeviceSubType(bioDevice.getDeviceSubType()), bioDevice);
-							}
-						}
-					}
-				} catch (RuntimeException runtimeException) {
-					LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-							runtimeException.getMessage() + ExceptionUtils.getStackTrace(runtimeException));
+		List<String> discoveredDevices = new LinkedList<>();
 
-				}
+		LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+				"Initializing device " + " on Port : " + availablePort);
 
-			}
+		String url = buildUrl(availablePort, MosipBioDeviceConstants.DEVICE_INFO_ENDPOINT);
 
-			else {
-				LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-						"No device is running at port number " + availablePort);
-			}
+		LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Checking device info on url : " + url);
 
-		} else {
-			portFrom = getPortFrom();
+		/* check if the service is available for the current port */
+		String deviceInfoResponse = mdmHttpClient.discover("MOSIPDINFO", url);
 
-			portTo = getPortTo();
+		if (deviceInfoResponse != null) {
 
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Checking device info from port : " + portFrom + " to port : " + portTo);
-			ExecutorService executorService = Executors.newFixedThreadPool(5);
+			try {
+				for (MosipDeviceSpecificationProvider deviceSpecificationProvider : deviceSpecificationProviders) {
 
-			for (int port = portFrom; port <= portTo; port++) {
+					LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+							"Decoding deice info response with provider : " + deviceSpecificationProvider);
 
-				int currentPort = port;
-				executorService.execute(new Runnable() {
-					public void run() {
+					List<MdmBioDevice> mdmBioDevices = deviceSpecificationProvider.getMdmDevices(deviceInfoResponse,
+							availablePort);
 
-						initByPort(currentPort);
+					for (MdmBioDevice bioDevice : mdmBioDevices) {
+						if (bioDevice != null) {
+							LOGGER.debug(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+									"Checking for device registratrion : " + bioDevice.getDeviceCode());
 
+							// Add to Device Info Map
+							discoveredDevices.add(
+									addToDeviceInfoMap(getDeviceType(bioDevice.getDeviceType()).toLowerCase(),
+											getDeviceSubType(bioDevice.getDeviceSubType()), bioDevice));
+						}
 					}
-				});
-
-			}
-
-			try {
-				executorService.shutdown();
-				executorService.awaitTermination(500, TimeUnit.SECONDS);
-			} catch (Exception exception) {
-				executorService.shutdown();
+				}
+			} catch (RuntimeException runtimeException) {
 				LOGGER.error(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+						runtimeException.getMessage() + ExceptionUtils.getStackTrace(runtimeException));
 
 			}
+
+		} else {
+			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
+					"No device is running at port number " + availablePort);
 		}
+		return discoveredDevices;
 	}
 
-	private void addToDeviceInfoMap(String type, String subType, MdmBioDevice bioDevice) {
+	private String addToDeviceInfoMap(String type, String subType, MdmBioDevice bioDevice) {
 
 		String key = String.format("%s_%s", type.toLowerCase(), subType.toLowerCase());
 
 		deviceInfoMap.put(key, bioDevice);
 
+		return key;
 	}
 
 	private String getDeviceType(String type) {
@@ -364,29 +373,6 @@ public class MosipDeviceSpecificationFactory {
 		return "http" + "://" + "127.0.0.1";
 	}
 
-	private String getDeviceInfoResponse(String url) {
-
-		HttpUriRequest request = RequestBuilder.create("MOSIPDINFO").setUri(url).build();
-		CloseableHttpClient client = HttpClients.createDefault();
-		CloseableHttpResponse clientResponse = null;
-		String response = null;
-
-		try {
-			clientResponse = client.execute(request);
-			response = EntityUtils.toString(clientResponse.getEntity());
-		} catch (IOException exception) {
-			LOGGER.error(MOSIP_BIO_DEVICE_INTEGERATOR, APPLICATION_NAME, APPLICATION_ID,
-					String.format(
-							"%s -> Exception while initializing Fingerprint Capture page for user registration  %s",
-							RegistrationConstants.USER_REG_FINGERPRINT_PAGE_LOAD_EXP,
-							exception.getMessage() + ExceptionUtils.getStackTrace(exception)));
-
-		}
-
-		return response;
-
-	}
-
 	public static long generateID() {
 
 		Random rnd = new Random();
@@ -9,29 +9,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.apache.http.Consts;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpUriRequest;
-import org.apache.http.client.methods.RequestBuilder;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -47,6 +36,7 @@ import io.mosip.registration.mdm.dto.MDMRequestDto;
 import io.mosip.registration.mdm.dto.MdmBioDevice;
 import io.mosip.registration.mdm.dto.MdmDeviceInfo;
 import io.mosip.registration.mdm.integrator.MosipDeviceSpecificationProvider;
+import io.mosip.registration.mdm.service.impl.MdmHttpClient;
 import io.mosip.registration.mdm.service.impl.MosipDeviceSpecificationFactory;
 import io.mosip.registration.mdm.spec_0_9_2.dto.request.RCaptureRequestBioDTO;
 import io.mosip.registration.mdm.spec_0_9_2.dto.request.RCaptureRequestDTO;
@@ -69,6 +59,9 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 	@Autowired
 	private MosipDeviceSpecificationFactory deviceSpecificationFactory;
 
+	@Autowired
+	private MdmHttpClient mdmHttpClient;
+
 	@Override
 	public String getSpecVersion() {
 		return SPEC_VERSION;
@@ -88,7 +81,7 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "parsing device info response to 092 dto");
 
-			deviceInfoResponses = (deviceSpecificationFactory.getMapper().readValue(deviceInfoResponse,
+			deviceInfoResponses = (mdmHttpClient.readValue(deviceInfoResponse,
 					new TypeReference<List<MdmDeviceInfoResponse>>() {
 					}));
 
@@ -136,27 +129,16 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 			streamRequestDTO.setDeviceId(bioDevice.getDeviceId());
 			streamRequestDTO.setDeviceSubId(getDeviceSubId(modality));
 
-			String request = new ObjectMapper().writeValueAsString(streamRequestDTO);
+			String request = mdmHttpClient.writeValueAsString(streamRequestDTO);
 
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Request for Stream...." + request);
 
-			CloseableHttpClient client = HttpClients.createDefault();
-			StringEntity requestEntity = new StringEntity(request, ContentType.create("Content-Type", Consts.UTF_8));
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Building Stream url...." + System.currentTimeMillis());
-			HttpUriRequest httpUriRequest = RequestBuilder.create("STREAM").setUri(url).setEntity(requestEntity)
-					.build();
-
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Requesting Stream url...." + System.currentTimeMillis());
-			CloseableHttpResponse response = client.execute(httpUriRequest);
+			InputStream urlStream = mdmHttpClient.stream("STREAM", url, request);
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Request completed.... " + System.currentTimeMillis());
 
-			InputStream urlStream = null;
-			if (response.getEntity() != null) {
-				urlStream = response.getEntity().getContent();
-			}
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Stream Request Completed" + System.currentTimeMillis());
 			return urlStream;
@@ -188,28 +170,17 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Entering into Capture method....." + System.currentTimeMillis());
 
-			String requestBody = null;
-			ObjectMapper mapper = new ObjectMapper();
-			requestBody = mapper.writeValueAsString(rCaptureRequestDTO);
+			String requestBody = mdmHttpClient.writeValueAsString(rCaptureRequestDTO);
 
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Request for RCapture...." + requestBody);
 
-			CloseableHttpClient client = HttpClients.createDefault();
-			StringEntity requestEntity = new StringEntity(requestBody,
-					ContentType.create("Content-Type", Consts.UTF_8));
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Bulding capture url...." + System.currentTimeMillis());
-			HttpUriRequest request = RequestBuilder.create("RCAPTURE").setUri(url).setEntity(requestEntity).build();
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Requesting capture url...." + System.currentTimeMillis());
-			CloseableHttpResponse response = client.execute(request);
+			String val = mdmHttpClient.execute("RCAPTURE", url, requestBody);
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Request completed.... " + System.currentTimeMillis());
 
-			String val = EntityUtils.toString(response.getEntity());
-
-			RCaptureResponseDTO captureResponse = mapper.readValue(val.getBytes(StandardCharsets.UTF_8),
-					RCaptureResponseDTO.class);
+			RCaptureResponseDTO captureResponse = mdmHttpClient.readValue(val, RCaptureResponseDTO.class);
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Response Recived.... " + System.currentTimeMillis());
 
@@ -227,7 +198,7 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 
 				String payLoad = deviceSpecificationFactory.getPayLoad(rCaptureResponseBiometricsDTO.getData());
 
-				RCaptureResponseDataDTO dataDTO = (RCaptureResponseDataDTO) (mapper
+				RCaptureResponseDataDTO dataDTO = (RCaptureResponseDataDTO) (mdmHttpClient
 						.readValue(new String(Base64.getUrlDecoder().decode(payLoad)), RCaptureResponseDataDTO.class));
 
 				LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
@@ -303,7 +274,7 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 		try {
 			String result = new String(
 					Base64.getUrlDecoder().decode(deviceSpecificationFactory.getPayLoad(deviceInfo)));
-			return (MdmDeviceInfo) (deviceSpecificationFactory.getMapper().readValue(result, MdmDeviceInfo.class));
+			return (MdmDeviceInfo) (mdmHttpClient.readValue(result, MdmDeviceInfo.class));
 		} catch (Exception exception) {
 			LOGGER.error(LoggerConstants.LOG_SERVICE_DELEGATE_UTIL_GET, APPLICATION_NAME, APPLICATION_ID,
 					String.format("%s -> Exception while trying to extract the response through regex  %s",
@@ -350,7 +321,7 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 
 	private DigitalId getDigitalId(String digitalId)
 			throws JsonParseException, JsonMappingException, IOException, RegBaseCheckedException {
-		return (DigitalId) (deviceSpecificationFactory.getMapper().readValue(
+		return (DigitalId) (mdmHttpClient.readValue(
 				new String(Base64.getUrlDecoder().decode(deviceSpecificationFactory.getPayLoad(digitalId))),
 				DigitalId.class));
 
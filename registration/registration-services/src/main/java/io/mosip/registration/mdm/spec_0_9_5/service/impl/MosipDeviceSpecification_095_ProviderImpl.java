@@ -6,29 +6,18 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.apache.http.Consts;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpUriRequest;
-import org.apache.http.client.methods.RequestBuilder;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -44,6 +33,7 @@ import io.mosip.registration.mdm.dto.MDMRequestDto;
 import io.mosip.registration.mdm.dto.MdmBioDevice;
 import io.mosip.registration.mdm.dto.MdmDeviceInfo;
 import io.mosip.registration.mdm.integrator.MosipDeviceSpecificationProvider;
+import io.mosip.registration.mdm.service.impl.MdmHttpClient;
 import io.mosip.registration.mdm.service.impl.MosipDeviceSpecificationFactory;
 import io.mosip.registration.mdm.spec_0_9_5.dto.request.RCaptureRequestBioDTO;
 import io.mosip.registration.mdm.spec_0_9_5.dto.request.RCaptureRequestDTO;
@@ -66,6 +56,9 @@ public class MosipDeviceSpecification_095_ProviderImpl implements MosipDeviceSpe
 	@Autowired
 	private MosipDeviceSpecificationFactory deviceSpecificationFactory;
 
+	@Autowired
+	private MdmHttpClient mdmHttpClient;
+
 	@Override
 	public String getSpecVersion() {
 		return SPEC_VERSION;
@@ -86,7 +79,7 @@ public class MosipDeviceSpecification_095_ProviderImpl implements MosipDeviceSpe
 
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "parsing device info response to 095 dto");
 
-			deviceInfoResponses = (deviceSpecificationFactory.getMapper().readValue(deviceInfoResponse,
+			deviceInfoResponses = (mdmHttpClient.readValue(deviceInfoResponse,
 					new TypeReference<List<MdmDeviceInfoResponse>>() {
 					}));
 
@@ -128,25 +121,14 @@ public class MosipDeviceSpecification_095_ProviderImpl implements MosipDeviceSpe
 
 			StreamRequestDTO streamRequestDTO = new StreamRequestDTO(bioDevice.getDeviceId(), getDeviceSubId(modality));
 
-			String request = new ObjectMapper().writeValueAsString(streamRequestDTO);
+			String request = mdmHttpClient.writeValueAsString(streamRequestDTO);
 
-			CloseableHttpClient client = HttpClients.createDefault();
-			StringEntity requestEntity = new StringEntity(request, ContentType.create("Content-Type", Consts.UTF_8));
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Building Stream url...." + System.currentTimeMillis());
-			HttpUriRequest httpUriRequest = RequestBuilder.create("STREAM").setUri(url).setEntity(requestEntity)
-					.build();
-			
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Requesting Stream url...." + System.currentTimeMillis());
-			CloseableHttpResponse response = client.execute(httpUriRequest);
+			InputStream urlStream = mdmHttpClient.stream("STREAM", url, request);
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Request completed.... " + System.currentTimeMillis());
 
-			InputStream urlStream = null;
-			if (response.getEntity() != null) {
-				urlStream = response.getEntity().getContent();
-			}
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Stream Request Completed" + System.currentTimeMillis());
 			return urlStream;
@@ -179,30 +161,18 @@ public class MosipDeviceSpecification_095_ProviderImpl implements MosipDeviceSpe
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Entering into Capture method....." + System.currentTimeMillis());
 
-			String requestBody = null;
-			ObjectMapper mapper = new ObjectMapper();
-			requestBody = mapper.writeValueAsString(rCaptureRequestDTO);
+			String requestBody = mdmHttpClient.writeValueAsString(rCaptureRequestDTO);
 
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Request for RCapture...." + requestBody);
 
-			CloseableHttpClient client = HttpClients.createDefault();
-			StringEntity requestEntity = new StringEntity(requestBody,
-					ContentType.create("Content-Type", Consts.UTF_8));
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Bulding capture url...." + System.currentTimeMillis());
-			HttpUriRequest request = RequestBuilder.create("RCAPTURE")
-					.setUri(bioDevice.getCallbackId() + MosipBioDeviceConstants.CAPTURE_ENDPOINT)
-					.setEntity(requestEntity).build();
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Requesting capture url...." + System.currentTimeMillis());
-			CloseableHttpResponse response = client.execute(request);
+			String val = mdmHttpClient.execute("RCAPTURE",
+					bioDevice.getCallbackId() + MosipBioDeviceConstants.CAPTURE_ENDPOINT, requestBody);
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Request completed.... " + System.currentTimeMillis());
 
-			String val = EntityUtils.toString(response.getEntity());
-
-			RCaptureResponseDTO captureResponse = mapper.readValue(val.getBytes(StandardCharsets.UTF_8),
-					RCaptureResponseDTO.class);
+			RCaptureResponseDTO captureResponse = mdmHttpClient.readValue(val, RCaptureResponseDTO.class);
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Response Recived.... " + System.currentTimeMillis());
 
@@ -229,7 +199,7 @@ public class MosipDeviceSpecification_095_ProviderImpl implements MosipDeviceSpe
 						&& !rCaptureResponseBiometricsDTO.getData().isEmpty()) {
 					String payLoad = deviceSpecificationFactory.getPayLoad(rCaptureResponseBiometricsDTO.getData());
 
-					RCaptureResponseDataDTO dataDTO = (RCaptureResponseDataDTO) (mapper.readValue(
+					RCaptureResponseDataDTO dataDTO = (RCaptureResponseDataDTO) (mdmHttpClient.readValue(
 							new String(Base64.getUrlDecoder().decode(payLoad)), RCaptureResponseDataDTO.class));
 
 					LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
@@ -339,7 +309,7 @@ public class MosipDeviceSpecification_095_ProviderImpl implements MosipDeviceSpe
 		try {
 			String result = new String(
 					Base64.getUrlDecoder().decode(deviceSpecificationFactory.getPayLoad(deviceInfo)));
-			return (MdmDeviceInfo) (deviceSpecificationFactory.getMapper().readValue(result, MdmDeviceInfo.class));
+			return (MdmDeviceInfo) (mdmHttpClient.readValue(result, MdmDeviceInfo.class));
 		} catch (Exception exception) {
 			LOGGER.error(LoggerConstants.LOG_SERVICE_DELEGATE_UTIL_GET, APPLICATION_NAME, APPLICATION_ID,
 					"Exception while trying to extract the response through regex: " +
@@ -385,7 +355,7 @@ public class MosipDeviceSpecification_095_ProviderImpl implements MosipDeviceSpe
 
 	private DigitalId getDigitalId(String digitalId)
 			throws JsonParseException, JsonMappingException, IOException, RegBaseCheckedException {
-		return (DigitalId) (deviceSpecificationFactory.getMapper().readValue(
+		return (DigitalId) (mdmHttpClient.readValue(
 				new String(Base64.getUrlDecoder().decode(deviceSpecificationFactory.getPayLoad(digitalId))),
 				DigitalId.class));
 
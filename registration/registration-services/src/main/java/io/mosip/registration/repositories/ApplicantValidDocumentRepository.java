@@ -1,7 +1,13 @@
 package io.mosip.registration.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.QueryHints;
+
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.ApplicantValidDocument;
 import io.mosip.registration.entity.id.ApplicantValidDocumentID;
@@ -15,9 +21,11 @@ import io.mosip.registration.entity.id.ApplicantValidDocumentID;
 
 public interface ApplicantValidDocumentRepository extends BaseRepository<ApplicantValidDocument, ApplicantValidDocumentID> {
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<ApplicantValidDocument> findByIsActiveTrueAndDocumentCategoryCodeAndDocumentCategoryLangCode(String docCategoryCode,
 			String langCode);
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<ApplicantValidDocument> findByValidDocumentAppTypeCodeAndDocumentCategoryCode(
 			String applicantType, String docCategoryCode);
 	
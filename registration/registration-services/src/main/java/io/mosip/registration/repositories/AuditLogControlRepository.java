@@ -3,6 +3,10 @@ package io.mosip.registration.repositories;
 import java.sql.Timestamp;
 import java.util.List;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.AuditLogControl;
 import io.mosip.registration.entity.RegistrationAuditDates;
@@ -32,4 +36,16 @@ public interface AuditLogControlRepository extends BaseRepository<AuditLogContro
 	 */
 	List<AuditLogControl> findByCrDtimeBefore(Timestamp req);
 
+	/**
+	 * Deletes the audit log controls of the given registrations in a single
+	 * statement
+	 * 
+	 * @param registrationIds
+	 *            the registration ids
+	 * @return the number of audit log controls deleted
+	 */
+	@Modifying
+	@Query("delete from AuditLogControl alc where alc.registrationId in :registrationIds")
+	int deleteByRegistrationIdIn(@Param("registrationIds") List<String> registrationIds);
+
 }
@@ -1,7 +1,13 @@
 package io.mosip.registration.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.QueryHints;
+
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.DocumentCategory;
 
@@ -13,10 +19,13 @@ import io.mosip.registration.entity.DocumentCategory;
  */
 public interface DocumentCategoryRepository extends BaseRepository<DocumentCategory, String> {
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<DocumentCategory> findByIsActiveTrueAndLangCode(String langCode);
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<DocumentCategory> findAllByIsActiveTrue();
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	DocumentCategory findByIsActiveTrueAndCodeAndLangCode(String docCategeoryCode, String langCode);
 
 }
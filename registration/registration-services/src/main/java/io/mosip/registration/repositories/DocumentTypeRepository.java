@@ -1,7 +1,13 @@
 package io.mosip.registration.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.QueryHints;
+
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.DocumentType;
 
@@ -14,9 +20,12 @@ import io.mosip.registration.entity.DocumentType;
 
 public interface DocumentTypeRepository extends BaseRepository<DocumentType, String> {
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<DocumentType> findByIsActiveTrueAndLangCodeAndCodeIn(String langCode, List<String> docCode);
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<DocumentType> findByIsActiveTrueAndName(String docTypeName);
 	
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<DocumentType> findAllByIsActiveTrue();
 }
@@ -1,7 +1,13 @@
 package io.mosip.registration.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.QueryHints;
+
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.dao.GlobalParamName;
 import io.mosip.registration.entity.GlobalParam;
@@ -23,6 +29,7 @@ public interface GlobalParamRepository extends BaseRepository<GlobalParam, Globa
 	 */
 	List<GlobalParamName> findByIsActiveTrueAndValIsNotNull();
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	GlobalParam findByName(String name);
 
 	/**
@@ -32,5 +39,6 @@ public interface GlobalParamRepository extends BaseRepository<GlobalParam, Globa
 	 *            global param names
 	 * @return list of global param
 	 */
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<GlobalParam> findByNameIn(List<String> names);
 }
@@ -1,8 +1,13 @@
 package io.mosip.registration.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.Location;
@@ -22,6 +27,7 @@ public interface LocationRepository extends BaseRepository<Location, String> {
 	 * @param langCode      the lang code
 	 * @return the list
 	 */
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<Location> findByIsActiveTrueAndHierarchyNameAndLangCode(String hierarchyName, String langCode);
 
 	
@@ -32,6 +38,7 @@ public interface LocationRepository extends BaseRepository<Location, String> {
 	 * @param langCode      the lang code
 	 * @return the list
 	 */
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<Location> findByIsActiveTrueAndHierarchyLevelAndLangCode(int hierarchyLevel, String langCode);
 
 	
@@ -42,9 +49,11 @@ public interface LocationRepository extends BaseRepository<Location, String> {
 	 * @param langCode the lang code
 	 * @return the list
 	 */
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<Location> findByIsActiveTrueAndParentLocCodeAndLangCode(String parentLocCode, String langCode);
 	
 	
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<Location> findAllByIsActiveTrue();
 	
 	/**
@@ -53,6 +62,7 @@ public interface LocationRepository extends BaseRepository<Location, String> {
 	 * @param langCode      the lang code
 	 * @return the list
 	 */
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<Location> findByIsActiveTrueAndLangCode( String langCode);
 
 
@@ -1,5 +1,11 @@
 package io.mosip.registration.repositories;
 
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.RegistrationTransaction;
 
@@ -13,4 +19,15 @@ import io.mosip.registration.entity.RegistrationTransaction;
 public interface RegTransactionRepository extends BaseRepository<RegistrationTransaction, String> {
 
 	public void deleteByRegId(String regId);
+
+	/**
+	 * Deletes the transactions of the given registrations in a single statement.
+	 *
+	 * @param regIds
+	 *            the registration ids
+	 * @return the number of transactions deleted
+	 */
+	@Modifying
+	@Query("delete from RegistrationTransaction trn where trn.regId in :regIds")
+	int deleteByRegIdIn(@Param("regIds") List<String> regIds);
 }
@@ -3,6 +3,7 @@ package io.mosip.registration.repositories;
 import java.sql.Timestamp;
 import java.util.List;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -145,4 +146,36 @@ public interface RegistrationRepository extends BaseRepository<Registration, Str
 	 */
 	List<Registration> findByClientStatusCodeNotInAndServerStatusCodeIn(List<String> clientStutusCodes,
 			List<String> serverStatusCodes);
+
+	/**
+	 * Updates the server status of the given registrations in a single statement.
+	 *
+	 * @param serverStatusCode
+	 *            the server status code
+	 * @param serverStatusTimestamp
+	 *            the time the status was received
+	 * @param updatedBy
+	 *            the user updating the status
+	 * @param updatedTimestamp
+	 *            the time of the update
+	 * @param registrationIds
+	 *            the registration ids
+	 * @return the number of registrations updated
+	 */
+	@Modifying
+	@Query("update Registration reg set reg.serverStatusCode = :serverStatusCode, reg.serverStatusTimestamp = :serverStatusTimestamp, reg.updBy = :updatedBy, reg.updDtimes = :updatedTimestamp where reg.id in :registrationIds")
+	int updateServerStatusCode(@Param("serverStatusCode") String serverStatusCode,
+			@Param("serverStatusTimestamp") Timestamp serverStatusTimestamp, @Param("updatedBy") String updatedBy,
+			@Param("updatedTimestamp") Timestamp updatedTimestamp, @Param("registrationIds") List<String> registrationIds);
+
+	/**
+	 * Deletes the given registrations in a single statement.
+	 *
+	 * @param registrationIds
+	 *            the registration ids
+	 * @return the number of registrations deleted
+	 */
+	@Modifying
+	@Query("delete from Registration reg where reg.id in :registrationIds")
+	int deleteByIdIn(@Param("registrationIds") List<String> registrationIds);
 }
@@ -1,7 +1,13 @@
 package io.mosip.registration.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.QueryHints;
+
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.TemplateEmbeddedKeyCommonFields;
 import io.mosip.registration.entity.TemplateFileFormat;
@@ -18,5 +24,6 @@ public interface TemplateFileFormatRepository<P> extends BaseRepository<Template
 	 * 
 	 * @return the list of {@link TemplateFileFormat}
 	 */
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<TemplateFileFormat> findByIsActiveTrue();
 }
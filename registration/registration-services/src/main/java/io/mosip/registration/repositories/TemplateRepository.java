@@ -1,7 +1,13 @@
 package io.mosip.registration.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.QueryHints;
+
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.Template;
 
@@ -19,8 +25,10 @@ public interface TemplateRepository<P> extends BaseRepository<Template, String>{
 	 *            the required template type code
 	 * @return the list of {@link Template}
 	 */
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<Template> findByIsActiveTrueAndTemplateTypeCode(String templateTypeCode);
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<Template> findAllByIsActiveTrueAndTemplateTypeCodeLikeAndLangCodeOrderByIdAsc(String templateTypeCode, String langCode);
 	
 }
@@ -1,7 +1,13 @@
 package io.mosip.registration.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.QueryHints;
+
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.TemplateEmbeddedKeyCommonFields;
 import io.mosip.registration.entity.TemplateType;
@@ -23,5 +29,6 @@ public interface TemplateTypeRepository<P> extends BaseRepository<TemplateType,
 	 * 				the language code required to generate the template
 	 * @return the list of {@link TemplateType}
 	 */
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<TemplateType> findByIsActiveTrueAndPkTmpltCodeCodeAndPkTmpltCodeLangCode(String code, String langCode);
 }
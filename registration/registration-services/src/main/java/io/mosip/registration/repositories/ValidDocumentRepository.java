@@ -1,7 +1,13 @@
 package io.mosip.registration.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 import java.util.List;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.QueryHints;
+
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.ValidDocument;
 import io.mosip.registration.entity.id.ValidDocumentID;
@@ -20,8 +26,10 @@ public interface ValidDocumentRepository extends BaseRepository<ValidDocument, V
 	 * @param docCategoryCode the doc category code
 	 * @return the list
 	 */
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<ValidDocument> findByIsActiveTrueAndDocCategoryCode(String docCategoryCode);
 	
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<ValidDocument> findAllByIsActiveTrue();
 	
 }
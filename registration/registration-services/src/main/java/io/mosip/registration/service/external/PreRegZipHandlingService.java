@@ -36,12 +36,33 @@ public interface PreRegZipHandlingService {
 	 */
 	RegistrationDTO extractPreRegZipFile(byte[] preRegZipFile) throws RegBaseCheckedException;
 
+	/**
+	 * This method is used to extract the encrypted pre-registration packet stored
+	 * in the local system and converts to {@link RegistrationDTO}
+	 * 
+	 * <p>
+	 * The packet is decrypted while it is read from the disk. The documents are
+	 * not read into the {@link RegistrationDTO}, each document is read from the
+	 * packet when it is requested
+	 * </p>
+	 * 
+	 * @param symmetricKey
+	 *            - key to decrypt the Pre-Registration packet
+	 * @param packetPath
+	 *            - local system path of the encrypted Pre-Registration packet
+	 * @return RegistrationDTO - This holds the extracted demographic data and other
+	 *         values
+	 * @throws RegBaseCheckedException
+	 *             - holds the checked exception
+	 */
+	RegistrationDTO extractPreRegZipFile(String symmetricKey, String packetPath) throws RegBaseCheckedException;
+
 	/**
 	 * This method is used to encrypt the pre-registration packet and save it into
 	 * the disk
 	 * 
 	 * <p>
-	 * This method internally uses {@link MosipEncryptor} component for encryption
+	 * The packet is encrypted with AES while it is written to the disk
 	 * </p>
 	 * 
 	 * <p>
@@ -96,7 +117,7 @@ public interface PreRegZipHandlingService {
 	 * This method is used to decrypt the encrypted Pre-Registration packet using
 	 * the symmetric key
 	 * 
-	 * <p>This method internally uses {@link MosipEncryptor} component for decryption</p>
+	 * <p>Packets stored before they were encrypted as streams are decrypted with the {@link MosipEncryptor} format</p>
 	 * 
 	 * @param symmetricKey
 	 *            - key to decrypt the Pre-Registration packet
@@ -0,0 +1,103 @@
+package io.mosip.registration.service.external.impl;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.io.IOUtils;
+
+import io.mosip.kernel.core.security.constants.MosipSecurityMethod;
+import io.mosip.kernel.core.security.decryption.MosipDecryptor;
+import io.mosip.kernel.core.security.encryption.MosipEncryptor;
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.exception.RegBaseUncheckedException;
+
+/**
+ * Encrypts and decrypts the stored pre-registration packets as streams.
+ *
+ * A packet is encrypted with AES/CBC while it is written to the disk and
+ * decrypted while it is read back, so neither the encrypted nor the decrypted
+ * packet has to be held in memory as a whole. The stored packet starts with a
+ * header and the random IV of the cipher. Packets stored earlier through
+ * {@link MosipEncryptor} have no header and are still decrypted in memory.
+ *
+ * @since 1.1.4
+ */
+final class PreRegPacketCipher {
+
+	private static final byte[] HEADER = "MOSIP-PRE-REG-1".getBytes(StandardCharsets.US_ASCII);
+	private static final String TRANSFORMATION = "AES/CBC/PKCS5Padding";
+	private static final int IV_LENGTH = 16;
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+	private PreRegPacketCipher() {
+	}
+
+	/**
+	 * Gets the stream of the packet as it has to be stored.
+	 *
+	 * @param symmetricKey the key to encrypt the packet
+	 * @param packet       the packet
+	 * @return the encrypted packet, read as the packet is read
+	 */
+	static InputStream encrypt(byte[] symmetricKey, InputStream packet) {
+		byte[] iv = new byte[IV_LENGTH];
+		SECURE_RANDOM.nextBytes(iv);
+
+		byte[] prefix = Arrays.copyOf(HEADER, HEADER.length + IV_LENGTH);
+		System.arraycopy(iv, 0, prefix, HEADER.length, IV_LENGTH);
+
+		return new SequenceInputStream(new ByteArrayInputStream(prefix),
+				new CipherInputStream(packet, getCipher(Cipher.ENCRYPT_MODE, symmetricKey, iv)));
+	}
+
+	/**
+	 * Gets the stream of the decrypted packet.
+	 *
+	 * @param symmetricKey    the key the packet was encrypted with
+	 * @param encryptedPacket the stored packet
+	 * @return the packet, decrypted as it is read
+	 * @throws IOException if the stored packet could not be read
+	 */
+	static InputStream decrypt(byte[] symmetricKey, InputStream encryptedPacket) throws IOException {
+		BufferedInputStream bufferedInputStream = new BufferedInputStream(encryptedPacket);
+		bufferedInputStream.mark(HEADER.length);
+		if (Arrays.equals(HEADER, bufferedInputStream.readNBytes(HEADER.length))) {
+			byte[] iv = bufferedInputStream.readNBytes(IV_LENGTH);
+			if (iv.length != IV_LENGTH) {
+				throw new IOException("Pre-registration packet is truncated");
+			}
+			return new CipherInputStream(bufferedInputStream, getCipher(Cipher.DECRYPT_MODE, symmetricKey, iv));
+		}
+
+		// stored before the packets were streamed
+		bufferedInputStream.reset();
+		try (InputStream inputStream = bufferedInputStream) {
+			return new ByteArrayInputStream(MosipDecryptor.symmetricDecrypt(symmetricKey,
+					IOUtils.toByteArray(inputStream), MosipSecurityMethod.AES_WITH_CBC_AND_PKCS7PADDING));
+		}
+	}
+
+	private static Cipher getCipher(int mode, byte[] symmetricKey, byte[] iv) {
+		try {
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			cipher.init(mode, new SecretKeySpec(symmetricKey, "AES"), new IvParameterSpec(iv));
+			return cipher;
+		} catch (GeneralSecurityException securityException) {
+			throw new RegBaseUncheckedException(RegistrationConstants.ENCRYPTED_PACKET_STORAGE,
+					securityException.getMessage(), securityException);
+		}
+	}
+
+}
@@ -9,18 +9,25 @@ import static java.io.File.separator;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -30,6 +37,7 @@ import javax.crypto.SecretKey;
 import io.mosip.kernel.keygenerator.bouncycastle.util.KeyGeneratorUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CountingInputStream;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,9 +46,6 @@ import org.springframework.stereotype.Service;
 import io.mosip.commons.packet.dto.packet.SimpleDto;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
-import io.mosip.kernel.core.security.constants.MosipSecurityMethod;
-import io.mosip.kernel.core.security.decryption.MosipDecryptor;
-import io.mosip.kernel.core.security.encryption.MosipEncryptor;
 import io.mosip.kernel.core.util.FileUtils;
 import io.mosip.kernel.core.util.StringUtils;
 //import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
@@ -93,37 +98,55 @@ public class PreRegZipHandlingServiceImpl implements PreRegZipHandlingService {
 	 */
 	@Override
 	public RegistrationDTO extractPreRegZipFile(byte[] preRegZipFile) throws RegBaseCheckedException {
+		return extractPreRegPacket(() -> new ByteArrayInputStream(preRegZipFile));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.registration.service.external.PreRegZipHandlingService#
+	 * extractPreRegZipFile(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public RegistrationDTO extractPreRegZipFile(String symmetricKey, String packetPath)
+			throws RegBaseCheckedException {
+		return extractPreRegPacket(() -> PreRegPacketCipher.decrypt(Base64.getDecoder().decode(symmetricKey),
+				new FileInputStream(packetPath)));
+	}
+
+	private RegistrationDTO extractPreRegPacket(PreRegPacketSource packetSource) throws RegBaseCheckedException {
 		LOGGER.debug("PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
 				"extractPreRegZipFile invoked");
 		try{
-			BufferedReader bufferedReader = null;
-			try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(preRegZipFile))) {
+			try (ZipInputStream zipInputStream = new ZipInputStream(packetSource.open())) {
 				ZipEntry zipEntry;
 				while ((zipEntry = zipInputStream.getNextEntry()) != null) {
 					if (zipEntry.getName().equalsIgnoreCase("ID.json")) {
-						bufferedReader = new BufferedReader(new InputStreamReader(zipInputStream, StandardCharsets.UTF_8));
-						parseDemographicJson(bufferedReader, zipEntry);						
+						parseDemographicJson(new BufferedReader(new InputStreamReader(zipInputStream, StandardCharsets.UTF_8)), zipEntry);
+						break;
 					}	
 				}
-			}finally {
-				if(bufferedReader != null) {
-					bufferedReader.close();
-					bufferedReader = null;
-				}				
 			}
 			
-			try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(preRegZipFile))) {
+			Set<String> attachedDocuments = new HashSet<>();
+			// the documents are copied out of the packet under a key of this
+			// registration, the sync can replace the packet or the cleanup can
+			// delete it while the registration is open
+			byte[] copyKey = KeyGeneratorUtils.getKeyGenerator("AES", 256).generateKey().getEncoded();
+			try (ZipInputStream zipInputStream = new ZipInputStream(packetSource.open())) {
 				ZipEntry zipEntry;
 				while ((zipEntry = zipInputStream.getNextEntry()) != null) {
 					String fileName = zipEntry.getName();
-					//if (zipEntry.getName().contains("_")) {
 					LOGGER.debug("PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
 							"extractPreRegZipFile zipEntry >>>> " + fileName);				
 						Optional<Map.Entry<String, DocumentDto>> result = getRegistrationDtoContent().getDocuments().entrySet().stream()
 								.filter(e -> fileName.equals(e.getValue().getValue().concat(".").concat(e.getValue().getFormat()))).findFirst();
-						if(result.isPresent()) {
+						Path documentCopy = result.isPresent() ? copyDocument(zipInputStream, copyKey) : null;
+						// an empty document is not attached, it is removed with the missing ones
+						if(documentCopy != null) {
 							DocumentDto documentDto = result.get().getValue();
-							documentDto.setDocument(IOUtils.toByteArray(zipInputStream));
+							// the document is read from its copy only when it is used
+							documentDto.setDocumentLoader(() -> readDocument(documentCopy, copyKey, fileName));
 							
 							List<DocumentType> documentTypes = documentTypeDAO.getDocTypeByName(documentDto.getType());
 							if(Objects.nonNull(documentTypes) && !documentTypes.isEmpty()) {
@@ -133,24 +156,25 @@ public class PreRegZipHandlingServiceImpl implements PreRegZipHandlingService {
 								documentDto.setValue(documentDto.getCategory().concat("_").concat(documentDto.getType()));
 							}							
 							getRegistrationDtoContent().addDocument(result.get().getKey(), result.get().getValue());
+							attachedDocuments.add(result.get().getKey());
 							LOGGER.debug("PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
 									"Added zip entry as document for field >>>> " + result.get().getKey());	
 						}
-					//}	
 				}
 			}
 			
-			Set<Entry<String, DocumentDto>> entries = getRegistrationDtoContent().getDocuments().entrySet();
-			entries.stream()
+			List<String> missingDocuments = getRegistrationDtoContent().getDocuments().entrySet().stream()
+				.filter(e -> !attachedDocuments.contains(e.getKey()))
 				.filter(e -> e.getValue().getDocument() == null || e.getValue().getDocument().length == 0)
-				.forEach(e -> { getRegistrationDtoContent().removeDocument(e.getKey()); });
+				.map(Entry::getKey).collect(Collectors.toList());
+			missingDocuments.forEach(documentField -> getRegistrationDtoContent().removeDocument(documentField));
 		
 		} catch (IOException exception) {
 			exception.printStackTrace();
 			LOGGER.error("REGISTRATION - PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME,
 					RegistrationConstants.APPLICATION_ID,
 					exception.getMessage() + ExceptionUtils.getStackTrace(exception));
-			throw new RegBaseCheckedException(REG_IO_EXCEPTION.getErrorCode(), exception.getCause().getMessage());
+			throw new RegBaseCheckedException(REG_IO_EXCEPTION.getErrorCode(), exception.getMessage());
 		} catch (RuntimeException exception) {
 			exception.printStackTrace();
 			LOGGER.error("REGISTRATION - PRE_REG_ZIP_HANDLING_SERVICE_IMPL - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
@@ -160,6 +184,43 @@ public class PreRegZipHandlingServiceImpl implements PreRegZipHandlingService {
 		}
 		return getRegistrationDtoContent();
 	}
+
+	/**
+	 * Copies a document of the pre-registration packet to a temporary file,
+	 * encrypted with the given key.
+	 *
+	 * @return the copy, null if the document is empty
+	 */
+	private Path copyDocument(InputStream document, byte[] copyKey) throws IOException {
+		Path documentCopy = Files.createTempFile("pre-reg-document", ".tmp");
+		documentCopy.toFile().deleteOnExit();
+		CountingInputStream countingInputStream = new CountingInputStream(document);
+		Files.copy(PreRegPacketCipher.encrypt(copyKey, countingInputStream), documentCopy,
+				StandardCopyOption.REPLACE_EXISTING);
+		if (countingInputStream.getByteCount() > 0) {
+			return documentCopy;
+		}
+		Files.deleteIfExists(documentCopy);
+		return null;
+	}
+
+	/**
+	 * Reads a document back from its copy, which is removed once read. A document
+	 * that can not be read fails, so that it is never left out of the packet.
+	 */
+	private byte[] readDocument(Path documentCopy, byte[] copyKey, String fileName) {
+		try (InputStream document = PreRegPacketCipher.decrypt(copyKey, Files.newInputStream(documentCopy))) {
+			byte[] content = IOUtils.toByteArray(document);
+			Files.deleteIfExists(documentCopy);
+			return content;
+		} catch (IOException exception) {
+			LOGGER.error("REGISTRATION - PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME,
+					RegistrationConstants.APPLICATION_ID,
+					fileName + " could not be read " + exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+			throw new RegBaseUncheckedException(REG_IO_EXCEPTION.getErrorCode(),
+					fileName + " of the pre-registration could not be read", exception);
+		}
+	}
 	
 	
 	private void attachDocument(DocumentDto documentDetailsDTO, ZipInputStream zipInputStream, String fileName,
@@ -340,18 +401,15 @@ public class PreRegZipHandlingServiceImpl implements PreRegZipHandlingService {
 		// Generate AES Session Key
 		final SecretKey symmetricKey = keyGenerator.generateKey();
 
-		// Encrypt the Pre reg packet data using AES
-		final byte[] encryptedData = MosipEncryptor.symmetricEncrypt(symmetricKey.getEncoded(), preRegPacket,
-				MosipSecurityMethod.AES_WITH_CBC_AND_PKCS7PADDING);
+		// Encrypt the Pre reg packet data using AES while it is written to the disk
+		String filePath = storePreRegPacketToDisk(preRegistrationId,
+				PreRegPacketCipher.encrypt(symmetricKey.getEncoded(), new ByteArrayInputStream(preRegPacket)));
 
 		LOGGER.info(LOG_PKT_STORAGE, APPLICATION_NAME, APPLICATION_ID, "Pre Registration packet Encrypted");
 
-		String filePath = storePreRegPacketToDisk(preRegistrationId, encryptedData);
-
 		PreRegistrationDTO preRegistrationDTO = new PreRegistrationDTO();
 		preRegistrationDTO.setPacketPath(filePath);
 		preRegistrationDTO.setSymmetricKey(Base64.getEncoder().encodeToString(symmetricKey.getEncoded()));
-		preRegistrationDTO.setEncryptedPacket(encryptedData);
 		preRegistrationDTO.setPreRegId(preRegistrationId);
 		return preRegistrationDTO;
 
@@ -366,13 +424,18 @@ public class PreRegZipHandlingServiceImpl implements PreRegZipHandlingService {
 	@Override
 	public String storePreRegPacketToDisk(String preRegistrationId, byte[] encryptedPacket)
 			throws RegBaseCheckedException {
+		return storePreRegPacketToDisk(preRegistrationId, new ByteArrayInputStream(encryptedPacket));
+	}
+
+	private String storePreRegPacketToDisk(String preRegistrationId, InputStream encryptedPacket)
+			throws RegBaseCheckedException {
 		try {
 			// Generate the file path for storing the Encrypted Packet
 			String filePath = String
 					.valueOf(ApplicationContext.map().get(RegistrationConstants.PRE_REG_PACKET_LOCATION))
 					.concat(separator).concat(preRegistrationId).concat(ZIP_FILE_EXTENSION);
 			// Storing the Encrypted Registration Packet as zip
-			FileUtils.copyToFile(new ByteArrayInputStream(encryptedPacket),
+			FileUtils.copyToFile(encryptedPacket,
 					FileUtils.getFile(FilenameUtils.getFullPath(filePath) + FilenameUtils.getName(filePath)));
 
 			LOGGER.info(LOG_PKT_STORAGE, APPLICATION_NAME, APPLICATION_ID, "Pre Registration Encrypted packet saved");
@@ -401,9 +464,12 @@ public class PreRegZipHandlingServiceImpl implements PreRegZipHandlingService {
 	 */
 	@Override
 	public byte[] decryptPreRegPacket(String symmetricKey, byte[] encryptedPacket) {
-
-		return MosipDecryptor.symmetricDecrypt(Base64.getDecoder().decode(symmetricKey), encryptedPacket,
-				MosipSecurityMethod.AES_WITH_CBC_AND_PKCS7PADDING);
+		try (InputStream packet = PreRegPacketCipher.decrypt(Base64.getDecoder().decode(symmetricKey),
+				new ByteArrayInputStream(encryptedPacket))) {
+			return IOUtils.toByteArray(packet);
+		} catch (IOException exception) {
+			throw new RegBaseUncheckedException(REG_IO_EXCEPTION.getErrorCode(), exception.getMessage(), exception);
+		}
 	}
 
 	private RegistrationDTO getRegistrationDtoContent() {
@@ -413,4 +479,13 @@ public class PreRegZipHandlingServiceImpl implements PreRegZipHandlingService {
 	private boolean isListNotEmpty(List<?> values) {
 		return values != null && !values.isEmpty();
 	}
+
+	/**
+	 * Opens the decrypted pre-registration packet, once for every read.
+	 */
+	@FunctionalInterface
+	private interface PreRegPacketSource {
+
+		InputStream open() throws IOException;
+	}
 }
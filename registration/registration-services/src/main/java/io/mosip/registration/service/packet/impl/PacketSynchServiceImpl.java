@@ -83,6 +83,10 @@ public class PacketSynchServiceImpl extends BaseService implements PacketSynchSe
 
 	private static final Logger LOGGER = AppConfig.getLogger(PacketSynchServiceImpl.class);
 
+	private static final int DEFAULT_SYNC_BATCH_SIZE = 50;
+
+	private static final int DEFAULT_SYNC_BATCH_MAX_BYTES = 512 * 1024;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -100,8 +104,7 @@ public class PacketSynchServiceImpl extends BaseService implements PacketSynchSe
 					SessionContext.userContext().getUserId(), AuditReferenceIdTypes.USER_ID.getReferenceTypeId());
 
 			List<SyncRegistrationDTO> syncDtoList = new ArrayList<>();
-			List<PacketStatusDTO> synchedPackets = new ArrayList<>();
-			ResponseDTO responseDTO = new ResponseDTO();
+			List<PacketStatusDTO> syncDtoPackets = new ArrayList<>();
 			if (!packetsToBeSynched.isEmpty()) {
 				for (PacketStatusDTO packetToBeSynch : packetsToBeSynched) {
 					if (checkPacketDto(packetToBeSynch)) {
@@ -118,21 +121,51 @@ public class PacketSynchServiceImpl extends BaseService implements PacketSynchSe
 						syncDto.setSupervisorStatus(packetToBeSynch.getSupervisorStatus());
 						syncDto.setSupervisorComment(packetToBeSynch.getSupervisorComments());
 						syncDtoList.add(syncDto);
+						syncDtoPackets.add(packetToBeSynch);
 					}
 				}
-				RegistrationPacketSyncDTO registrationPacketSyncDTO = new RegistrationPacketSyncDTO();
-				registrationPacketSyncDTO
-						.setRequesttime(DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime()));
-				registrationPacketSyncDTO.setSyncRegistrationDTOs(syncDtoList);
-				registrationPacketSyncDTO.setId(RegistrationConstants.PACKET_SYNC_STATUS_ID);
-				registrationPacketSyncDTO.setVersion(RegistrationConstants.PACKET_SYNC_VERSION);
-				String regId = registrationPacketSyncDTO.getSyncRegistrationDTOs().get(0).getRegistrationId();
-				responseDTO = syncPacketsToServer(
-						CryptoUtil.encodeBase64(offlinePacketCryptoServiceImpl.encrypt(regId,
-								javaObjectToJsonString(registrationPacketSyncDTO).getBytes())),
-						RegistrationConstants.JOB_TRIGGER_POINT_USER);
 			}
-			syncErrorStatus = onSuccessPacketSync(packetsToBeSynched, syncErrorStatus, synchedPackets, responseDTO);
+			if (syncDtoList.isEmpty()) {
+				syncErrorStatus = onSuccessPacketSync(packetsToBeSynched, syncErrorStatus, new ArrayList<>(),
+						new ResponseDTO());
+			}
+
+			int batchSize = getSyncBatchConfig(RegistrationConstants.PACKET_SYNC_BATCH_SIZE, DEFAULT_SYNC_BATCH_SIZE);
+			int batchMaxBytes = getSyncBatchConfig(RegistrationConstants.PACKET_SYNC_BATCH_MAX_BYTES,
+					DEFAULT_SYNC_BATCH_MAX_BYTES);
+			List<String> batchErrors = new ArrayList<>();
+			int batchStart = 0;
+			while (batchStart < syncDtoList.size()) {
+				// a batch is closed at the configured count or once the request grows too large
+				int batchEnd = batchStart;
+				int batchBytes = 0;
+				while (batchEnd < syncDtoList.size() && batchEnd - batchStart < batchSize) {
+					int dtoBytes = javaObjectToJsonString(syncDtoList.get(batchEnd)).length();
+					if (batchEnd > batchStart && batchBytes + dtoBytes > batchMaxBytes) {
+						break;
+					}
+					batchBytes += dtoBytes;
+					batchEnd++;
+				}
+				// a failed batch does not stop the others, its packets are synced again by the next sync
+				try {
+					String batchErrorStatus = syncBatch(syncDtoList.subList(batchStart, batchEnd),
+							syncDtoPackets.subList(batchStart, batchEnd));
+					if (!batchErrorStatus.isEmpty()) {
+						batchErrors.add(batchErrorStatus);
+					}
+				} catch (RegBaseCheckedException | JsonProcessingException | URISyntaxException exception) {
+					LOGGER.error("REGISTRATION - SYNC_PACKETS_TO_SERVER - PACKET_UPLOAD_CONTROLLER", APPLICATION_NAME,
+							APPLICATION_ID, "Error while Syncing batch of packets to the server"
+									+ ExceptionUtils.getStackTrace(exception));
+					batchErrors.add(exception.getMessage() != null ? exception.getMessage()
+							: RegistrationConstants.SYNC_FAILURE);
+				}
+				batchStart = batchEnd;
+			}
+			if (!batchErrors.isEmpty()) {
+				syncErrorStatus = batchErrors.stream().distinct().collect(Collectors.joining(", "));
+			}
 		} catch (RegBaseCheckedException | JsonProcessingException | URISyntaxException exception) {
 			LOGGER.error("REGISTRATION - SYNC_PACKETS_TO_SERVER - PACKET_UPLOAD_CONTROLLER", APPLICATION_NAME,
 					APPLICATION_ID,
@@ -147,6 +180,36 @@ public class PacketSynchServiceImpl extends BaseService implements PacketSynchSe
 		return syncErrorStatus;
 	}
 
+	/**
+	 * Syncs one batch of packets to the server and updates the status of the
+	 * packets synced.
+	 *
+	 * @param syncDtoList the sync details of the packets of the batch
+	 * @param packets     the packets of the batch
+	 * @return empty on success, the sync error status otherwise
+	 */
+	private String syncBatch(List<SyncRegistrationDTO> syncDtoList, List<PacketStatusDTO> packets)
+			throws RegBaseCheckedException, JsonProcessingException, URISyntaxException {
+		LOGGER.info("REGISTRATION - SYNC_PACKETS_TO_SERVER - PACKET_UPLOAD_CONTROLLER", APPLICATION_NAME,
+				APPLICATION_ID, "Syncing batch of " + syncDtoList.size() + " packets to the server");
+		RegistrationPacketSyncDTO registrationPacketSyncDTO = new RegistrationPacketSyncDTO();
+		registrationPacketSyncDTO.setRequesttime(DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime()));
+		registrationPacketSyncDTO.setSyncRegistrationDTOs(new ArrayList<>(syncDtoList));
+		registrationPacketSyncDTO.setId(RegistrationConstants.PACKET_SYNC_STATUS_ID);
+		registrationPacketSyncDTO.setVersion(RegistrationConstants.PACKET_SYNC_VERSION);
+		String regId = syncDtoList.get(0).getRegistrationId();
+		ResponseDTO responseDTO = syncPacketsToServer(
+				CryptoUtil.encodeBase64(offlinePacketCryptoServiceImpl.encrypt(regId,
+						javaObjectToJsonString(registrationPacketSyncDTO).getBytes())),
+				RegistrationConstants.JOB_TRIGGER_POINT_USER);
+		return onSuccessPacketSync(new ArrayList<>(packets), "", new ArrayList<>(), responseDTO);
+	}
+
+	private static int getSyncBatchConfig(String key, int defaultValue) {
+		Object value = ApplicationContext.map().get(key);
+		return value != null ? Math.max(Integer.parseInt(String.valueOf(value).trim()), 1) : defaultValue;
+	}
+
 	private String onSuccessPacketSync(List<PacketStatusDTO> packetsToBeSynched, String syncErrorStatus,
 			List<PacketStatusDTO> synchedPackets, ResponseDTO responseDTO) {
 		if (responseDTO.getSuccessResponseDTO() != null) {
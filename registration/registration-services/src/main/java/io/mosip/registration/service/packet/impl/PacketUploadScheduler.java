@@ -0,0 +1,300 @@
+package io.mosip.registration.service.packet.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.util.common.RetryBackoff;
+
+/**
+ * Runs the packet uploads of one upload invocation in parallel.
+ *
+ * At most the configured number of packets are uploaded at the same time, and
+ * the number actually used is adapted to the measured upload throughput: it is
+ * raised while that improves the throughput, lowered when it does not, and
+ * halved when the connection drops. An upload that fails with an I/O error,
+ * such as a refused connection or a timeout, is retried with an exponential
+ * backoff, so a dropped link does not fail every packet that was waiting.
+ * Packets still failing stay in the upload error status and are picked up
+ * again by the next upload. The uploads of every run share one pool of threads.
+ *
+ * @since 1.1.4
+ */
+@Component
+public class PacketUploadScheduler {
+
+	private static final int DEFAULT_MAX_CONCURRENCY = 4;
+	private static final int DEFAULT_MAX_RETRIES = 3;
+	private static final long DEFAULT_RETRY_BACKOFF_MILLIS = 2000;
+
+	private ExecutorService uploadExecutorService;
+
+	/**
+	 * Uploads a single packet.
+	 *
+	 * @param <R> the type of the upload response
+	 */
+	@FunctionalInterface
+	public interface PacketUploadTask<R> {
+
+		R upload(File packet) throws Exception;
+	}
+
+	/**
+	 * The outcome of a packet upload, either the response or the failure.
+	 *
+	 * @param <R> the type of the upload response
+	 */
+	public static final class Result<R> {
+
+		private final R response;
+		private final Exception exception;
+
+		private Result(R response, Exception exception) {
+			this.response = response;
+			this.exception = exception;
+		}
+
+		public R getResponse() {
+			return response;
+		}
+
+		public Exception getException() {
+			return exception;
+		}
+	}
+
+	/**
+	 * Uploads the packets.
+	 *
+	 * @param <R>     the type of the upload response
+	 * @param packets the packets to be uploaded
+	 * @param task    the upload of a single packet
+	 * @return the outcome of every packet, in the order of the packets
+	 */
+	public <R> List<Result<R>> upload(List<File> packets, PacketUploadTask<R> task) {
+		int maxConcurrency = ApplicationContext.getIntValueFromApplicationMap(
+				RegistrationConstants.PACKET_UPLOAD_MAX_CONCURRENCY, DEFAULT_MAX_CONCURRENCY);
+		int maxRetries = ApplicationContext.getIntValueFromApplicationMap(
+				RegistrationConstants.PACKET_UPLOAD_MAX_RETRIES, DEFAULT_MAX_RETRIES);
+		long retryBackoffMillis = ApplicationContext.getLongValueFromApplicationMap(
+				RegistrationConstants.PACKET_UPLOAD_RETRY_BACKOFF_MILLIS, DEFAULT_RETRY_BACKOFF_MILLIS);
+
+		List<Result<R>> results = new ArrayList<>(packets.size());
+		if (maxConcurrency <= 1 || packets.size() <= 1) {
+			for (File packet : packets) {
+				results.add(uploadPacket(packet, task, null, maxRetries, retryBackoffMillis));
+			}
+			return results;
+		}
+
+		ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit(maxConcurrency);
+		ExecutorService executorService = getUploadExecutorService(maxConcurrency);
+		List<Future<Result<R>>> futures = new ArrayList<>(packets.size());
+		try {
+			for (File packet : packets) {
+				futures.add(executorService
+						.submit(() -> uploadPacket(packet, task, concurrencyLimit, maxRetries, retryBackoffMillis)));
+			}
+			for (Future<Result<R>> future : futures) {
+				results.add(getResult(future));
+			}
+		} finally {
+			// stops the uploads still waiting when the caller was interrupted
+			for (Future<Result<R>> future : futures) {
+				future.cancel(true);
+			}
+		}
+		return results;
+	}
+
+	private synchronized ExecutorService getUploadExecutorService(int maxConcurrency) {
+		if (uploadExecutorService == null) {
+			uploadExecutorService = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+				Thread thread = new Thread(runnable, "packet-upload");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return uploadExecutorService;
+	}
+
+	@PreDestroy
+	public synchronized void shutdown() {
+		if (uploadExecutorService != null) {
+			uploadExecutorService.shutdownNow();
+		}
+	}
+
+	private <R> Result<R> uploadPacket(File packet, PacketUploadTask<R> task, ConcurrencyLimit concurrencyLimit,
+			int maxRetries, long retryBackoffMillis) {
+		for (int attempt = 0;; attempt++) {
+			if (concurrencyLimit != null && !concurrencyLimit.acquire()) {
+				return new Result<>(null, new InterruptedException("Upload of packet " + packet.getName() + " cancelled"));
+			}
+			long start = System.nanoTime();
+			try {
+				R response = task.upload(packet);
+				if (concurrencyLimit != null) {
+					concurrencyLimit.onUploaded(packet.length(), System.nanoTime() - start);
+				}
+				return new Result<>(response, null);
+			} catch (Exception exception) {
+				if (!isConnectionFailure(exception)) {
+					return new Result<>(null, exception);
+				}
+				// the server could not be reached, retry once the link is back
+				if (concurrencyLimit != null) {
+					concurrencyLimit.onConnectionFailure();
+				}
+				if (attempt >= maxRetries) {
+					return new Result<>(null, exception);
+				}
+			} finally {
+				if (concurrencyLimit != null) {
+					concurrencyLimit.release();
+				}
+			}
+			try {
+				RetryBackoff.await("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SCHEDULER",
+						"upload of packet " + packet.getName(), attempt, retryBackoffMillis);
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+				return new Result<>(null, interruptedException);
+			}
+		}
+	}
+
+	/**
+	 * The upload service wraps the failures of the rest client, so the
+	 * connection failure is found in the causes of the exception.
+	 */
+	private static boolean isConnectionFailure(Throwable exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof IOException) {
+				return true;
+			}
+			if (cause.getCause() == cause) {
+				break;
+			}
+		}
+		return false;
+	}
+
+	private <R> Result<R> getResult(Future<Result<R>> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return new Result<>(null, interruptedException);
+		} catch (ExecutionException executionException) {
+			return new Result<>(null, executionException.getCause() instanceof Exception
+					? (Exception) executionException.getCause()
+					: executionException);
+		}
+	}
+
+	/**
+	 * Limits the number of parallel uploads and adapts it to the throughput
+	 * measured over every window of completed uploads.
+	 */
+	public static final class ConcurrencyLimit {
+
+		private final int maxConcurrency;
+		private int limit;
+		private int inFlight;
+		private int windowUploads;
+		private long windowBytes;
+		private long windowStart = System.nanoTime();
+		private double previousThroughput;
+
+		public ConcurrencyLimit(int maxConcurrency) {
+			this.maxConcurrency = maxConcurrency;
+			this.limit = Math.min(2, maxConcurrency);
+		}
+
+		/**
+		 * Gets the number of uploads currently allowed in parallel.
+		 *
+		 * @return the limit
+		 */
+		public synchronized int getLimit() {
+			return limit;
+		}
+
+		/**
+		 * Waits until an upload may start.
+		 *
+		 * @return false if the thread was interrupted while waiting
+		 */
+		public synchronized boolean acquire() {
+			try {
+				while (inFlight >= limit) {
+					wait();
+				}
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			inFlight++;
+			return true;
+		}
+
+		public synchronized void release() {
+			inFlight--;
+			notifyAll();
+		}
+
+		/**
+		 * Records a completed upload and adapts the limit once a window of
+		 * uploads is complete.
+		 *
+		 * @param bytes        the size of the packet uploaded
+		 * @param elapsedNanos the time the upload took
+		 */
+		public synchronized void onUploaded(long bytes, long elapsedNanos) {
+			windowUploads++;
+			windowBytes += bytes;
+			if (windowUploads < limit) {
+				return;
+			}
+			long windowNanos = Math.max(System.nanoTime() - windowStart, elapsedNanos);
+			double throughput = windowNanos > 0 ? (double) windowBytes / windowNanos : 0;
+			if (previousThroughput == 0 || throughput > previousThroughput * 1.1) {
+				limit = Math.min(limit + 1, maxConcurrency);
+			} else if (throughput < previousThroughput * 0.9) {
+				limit = Math.max(limit - 1, 1);
+			}
+			previousThroughput = throughput;
+			resetWindow();
+			notifyAll();
+		}
+
+		/**
+		 * Halves the limit after the connection dropped.
+		 */
+		public synchronized void onConnectionFailure() {
+			limit = Math.max(limit / 2, 1);
+			previousThroughput = 0;
+			resetWindow();
+		}
+
+		private void resetWindow() {
+			windowUploads = 0;
+			windowBytes = 0;
+			windowStart = System.nanoTime();
+		}
+	}
+
+}
@@ -68,6 +68,9 @@ public class PacketUploadServiceImpl extends BaseService implements PacketUpload
 	@Autowired
 	private AuditManagerService auditFactory;
 
+	@Autowired
+	private PacketUploadScheduler packetUploadScheduler;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -140,14 +143,14 @@ public class PacketUploadServiceImpl extends BaseService implements PacketUpload
 								+ ExceptionUtils.getStackTrace(runtimeException));
 				throw new RegBaseUncheckedException(
 						RegistrationExceptionConstants.REG_PACKET_UPLOAD_ERROR.getErrorCode(),
-						RegistrationExceptionConstants.REG_PACKET_UPLOAD_ERROR.getErrorMessage());
+						RegistrationExceptionConstants.REG_PACKET_UPLOAD_ERROR.getErrorMessage(), runtimeException);
 			} catch (SocketTimeoutException socketTimeoutException) {
 				LOGGER.error("REGISTRATION - PUSH_PACKETS_TO_SERVER_SOCKET_ERROR - PACKET_UPLOAD_SERVICE",
 						APPLICATION_NAME, APPLICATION_ID,
 						socketTimeoutException.getMessage() + "Error in sync packets to the server");
 				throw new RegBaseCheckedException(
 						(socketTimeoutException.getMessage() + ExceptionUtils.getStackTrace(socketTimeoutException)),
-						socketTimeoutException.getLocalizedMessage());
+						socketTimeoutException.getLocalizedMessage(), socketTimeoutException);
 			}
 		} else {
 			LOGGER.error("REGISTRATION - PUSH_PACKETS_TO_SERVER_SOCKET_ERROR - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
@@ -219,79 +222,80 @@ public class PacketUploadServiceImpl extends BaseService implements PacketUpload
 		ResponseDTO responseDTO = new ResponseDTO();
 
 		List<PacketStatusDTO> packetUploadList = new ArrayList<>();
+		List<PacketStatusDTO> packetsToUpload = new ArrayList<>();
+		List<File> packets = new ArrayList<>();
+
+		for (PacketStatusDTO syncedPacket : syncedPackets) {
+			if (syncedPacket != null) {
+				String ackFileName = syncedPacket.getPacketPath();
+				int lastIndex = ackFileName.indexOf(RegistrationConstants.ACKNOWLEDGEMENT_FILE);
+				String packetPath = ackFileName.substring(0, lastIndex);
+				File packet = FileUtils.getFile(packetPath + RegistrationConstants.ZIP_FILE_EXTENSION);
+				if (packet.exists()) {
+					packetsToUpload.add(syncedPacket);
+					packets.add(packet);
+				}
+			}
+		}
+
+		List<PacketUploadScheduler.Result<ResponseDTO>> results = packetUploadScheduler.upload(packets, packet -> {
+			LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME, APPLICATION_ID,
+					"Uploading Packet : " + packet.getName());
+			return pushPacket(packet);
+		});
+
+		for (int index = 0; index < packetsToUpload.size(); index++) {
+			PacketStatusDTO syncedPacket = packetsToUpload.get(index);
+			File packet = packets.get(index);
+			ResponseDTO response = results.get(index).getResponse();
+			Exception exception = results.get(index).getException();
+
+			if (exception instanceof RuntimeException) {
+				LOGGER.error("REGISTRATION - HANDLE_PACKET_UPLOAD_RUNTIME_ERROR - PACKET_UPLOAD_SERVICE",
+						APPLICATION_NAME, APPLICATION_ID, "Run time error while connecting to the server"
+								+ exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+				syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
+				packetUploadList.add(syncedPacket);
+				setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
+				responseDTO.setSuccessResponseDTO(null);
+			} else if (exception != null) {
+				LOGGER.error("REGISTRATION - HANDLE_PACKET_UPLOAD_ERROR - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
+						APPLICATION_ID, "Error while pushing packets to the server" + exception.getMessage()
+								+ ExceptionUtils.getStackTrace(exception));
+				syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
+				packetUploadList.add(syncedPacket);
+				setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
+				responseDTO.setSuccessResponseDTO(null);
+			} else if (response.getSuccessResponseDTO() != null) {
+				LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME, APPLICATION_ID,
+						"Uploaded Success : " + packet.getName());
+				syncedPacket.setPacketClientStatus(RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode());
+				syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_SUCCESS_STATUS.getCode());
+				syncedPacket.setPacketServerStatus(response.getSuccessResponseDTO().getMessage());
+				packetUploadList.add(syncedPacket);
+
+				setSuccessResponse(responseDTO, RegistrationConstants.SUCCESS, null);
+			} else if (response.getErrorResponseDTOs() != null) {
+
+				LOGGER.error("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME, APPLICATION_ID,
+						"Uploaded Failure : " + packet.getName());
+				setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
+				responseDTO.setSuccessResponseDTO(null);
+				String errMessage = response.getErrorResponseDTOs().get(0).getMessage();
+				if (errMessage.contains(RegistrationConstants.PACKET_DUPLICATE)) {
+
+					syncedPacket.setPacketClientStatus(RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode());
+					syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_SUCCESS_STATUS.getCode());
+					packetUploadList.add(syncedPacket);
 
-		if (!syncedPackets.isEmpty()) {
-			for (PacketStatusDTO syncedPacket : syncedPackets) {
-
-				if (syncedPacket != null) {
-					String ackFileName = syncedPacket.getPacketPath();
-					int lastIndex = ackFileName.indexOf(RegistrationConstants.ACKNOWLEDGEMENT_FILE);
-					String packetPath = ackFileName.substring(0, lastIndex);
-					File packet = FileUtils.getFile(packetPath + RegistrationConstants.ZIP_FILE_EXTENSION);
-					try {
-						if (packet.exists()) {
-							LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
-									APPLICATION_ID, "Uploading Packet : " + packet.getName());
-
-							ResponseDTO response = pushPacket(packet);
-
-							if (response.getSuccessResponseDTO() != null) {
-								LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
-										APPLICATION_ID, "Uploaded Success : " + packet.getName());
-								syncedPacket.setPacketClientStatus(
-										RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode());
-								syncedPacket
-										.setUploadStatus(RegistrationClientStatusCode.UPLOAD_SUCCESS_STATUS.getCode());
-								syncedPacket.setPacketServerStatus(response.getSuccessResponseDTO().getMessage());
-								packetUploadList.add(syncedPacket);
-
-								setSuccessResponse(responseDTO, RegistrationConstants.SUCCESS, null);
-							} else if (response.getErrorResponseDTOs() != null) {
-
-								LOGGER.error("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
-										APPLICATION_ID, "Uploaded Failure : " + packet.getName());
-								setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
-								responseDTO.setSuccessResponseDTO(null);
-								String errMessage = response.getErrorResponseDTOs().get(0).getMessage();
-								if (errMessage.contains(RegistrationConstants.PACKET_DUPLICATE)) {
-
-									syncedPacket.setPacketClientStatus(
-											RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode());
-									syncedPacket.setUploadStatus(
-											RegistrationClientStatusCode.UPLOAD_SUCCESS_STATUS.getCode());
-									packetUploadList.add(syncedPacket);
-
-								}
-							} else {
-								LOGGER.error("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME,
-										APPLICATION_ID, "Uploaded Failure : " + packet.getName());
-								syncedPacket
-										.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
-								packetUploadList.add(syncedPacket);
-								setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
-								responseDTO.setSuccessResponseDTO(null);
-							}
-						}
-					} catch (RegBaseCheckedException | URISyntaxException exception) {
-						LOGGER.error("REGISTRATION - HANDLE_PACKET_UPLOAD_ERROR - PACKET_UPLOAD_SERVICE",
-								APPLICATION_NAME, APPLICATION_ID, "Error while pushing packets to the server"
-										+ exception.getMessage() + ExceptionUtils.getStackTrace(exception));
-						syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
-						packetUploadList.add(syncedPacket);
-						setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
-						responseDTO.setSuccessResponseDTO(null);
-					} catch (RuntimeException runtimeException) {
-						LOGGER.error("REGISTRATION - HANDLE_PACKET_UPLOAD_RUNTIME_ERROR - PACKET_UPLOAD_SERVICE",
-								APPLICATION_NAME, APPLICATION_ID,
-								"Run time error while connecting to the server" + runtimeException.getMessage()
-										+ ExceptionUtils.getStackTrace(runtimeException));
-
-						syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
-						packetUploadList.add(syncedPacket);
-						setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
-						responseDTO.setSuccessResponseDTO(null);
-					}
 				}
+			} else {
+				LOGGER.error("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME, APPLICATION_ID,
+						"Uploaded Failure : " + packet.getName());
+				syncedPacket.setUploadStatus(RegistrationClientStatusCode.UPLOAD_ERROR_STATUS.getCode());
+				packetUploadList.add(syncedPacket);
+				setErrorResponse(responseDTO, RegistrationConstants.FAILURE, null);
+				responseDTO.setSuccessResponseDTO(null);
 			}
 		}
 		updateStatus(packetUploadList);
@@ -10,12 +10,13 @@ import java.net.URISyntaxException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.assertj.core.util.Files;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,7 +38,7 @@ import io.mosip.registration.config.AppConfig;
 import io.mosip.registration.constants.LoggerConstants;
 import io.mosip.registration.constants.RegistrationClientStatusCode;
 import io.mosip.registration.constants.RegistrationConstants;
-import io.mosip.registration.constants.RegistrationTransactionType;
+import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.dao.RegPacketStatusDAO;
 import io.mosip.registration.dao.RegistrationDAO;
@@ -50,7 +51,6 @@ import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.dto.SyncRegistrationDTO;
 import io.mosip.registration.entity.Registration;
-import io.mosip.registration.entity.RegistrationTransaction;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.exception.RegistrationExceptionConstants;
@@ -84,7 +84,14 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 
 	private static final Logger LOGGER = AppConfig.getLogger(RegPacketStatusServiceImpl.class);
 
-	private HashMap<String, Registration> registrationMap = new HashMap<>();
+	private static final int DEFAULT_STATUS_SYNC_BATCH_SIZE = 100;
+
+	/**
+	 * Ids of the registrations being synced, reconciled or deleted. A run skips
+	 * the registrations claimed by another run instead of waiting for it, so the
+	 * jobs and the user triggered syncs do not block each other.
+	 */
+	private final Set<String> claimedRegistrationIds = ConcurrentHashMap.newKeySet();
 
 	/*
 	 * (non-Javadoc)
@@ -93,7 +100,7 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 	 * deleteRegistrationPackets()
 	 */
 	@Override
-	public synchronized ResponseDTO deleteRegistrationPackets() {
+	public ResponseDTO deleteRegistrationPackets() {
 
 		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID, "Delete  Reg-packets started");
 
@@ -142,15 +149,22 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 				.findByServerStatusCodeIn(RegistrationConstants.PACKET_STATUS_CODES_FOR_REMAPDELETE);
 		if (registrations != null && !registrations.isEmpty()) {
 
-			for (Registration registration : registrations) {
-				if (RegistrationConstants.PACKET_STATUS_CODE_REREGISTER
-						.equalsIgnoreCase(registration.getServerStatusCode())) {
-					if (RegistrationClientStatusCode.RE_REGISTER.getCode()
-							.equalsIgnoreCase(registration.getClientStatusCode()))
-						delete(registration);
-				} else {
-					delete(registration);
+			List<Registration> claimedRegistrations = claim(registrations);
+			try {
+				List<Registration> registrationsToDelete = new ArrayList<>();
+				for (Registration registration : claimedRegistrations) {
+					if (RegistrationConstants.PACKET_STATUS_CODE_REREGISTER
+							.equalsIgnoreCase(registration.getServerStatusCode())) {
+						if (RegistrationClientStatusCode.RE_REGISTER.getCode()
+								.equalsIgnoreCase(registration.getClientStatusCode()))
+							registrationsToDelete.add(registration);
+					} else {
+						registrationsToDelete.add(registration);
+					}
 				}
+				delete(registrationsToDelete);
+			} finally {
+				release(claimedRegistrations);
 			}
 		}
 
@@ -171,49 +185,48 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 	/**
 	 * Get all registrationIDs for which the clientStatus is post-sync
 	 *
-	 * @return List<String> list of registrationId's required for packet status sync
-	 *         with server
+	 * @return List<Registration> list of registrations required for packet status
+	 *         sync with server
 	 */
-	private List<String> getPacketIds() {
+	private List<Registration> getPacketIds() {
 		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
 				"getting packets by status post-sync has been ended");
 
 		List<Registration> registrationList = regPacketStatusDAO.getPacketIdsByStatusUploaded();
 
-		List<String> packetIds = new ArrayList<>();
-		for (Registration registration : registrationList) {
-			String registrationId = registration.getId();
-
-			registrationMap.put(registrationId, registration);
-			packetIds.add(registrationId);
-		}
 		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
 				"getting packets by status post-sync has been ended");
-		return packetIds;
+		return registrationList;
 	}
 
 	/**
 	 * update status for all packets that are synced with server
 	 *
-	 * @param registrations list of registration entities which are represented as
-	 *                      LinkedHashMap which maps the attributes of registration
-	 *                      entity to their respective values that are obtained
-	 *                      after sync with server
+	 * @param packetIds            the registration ids of the synced batch
+	 * @param registrationStatuses list of registration entities which are
+	 *                             represented as LinkedHashMap which maps the
+	 *                             attributes of registration entity to their
+	 *                             respective values that are obtained after sync
+	 *                             with server
 	 */
-	private void updatePacketIdsByServerStatus(List<LinkedHashMap<String, String>> registrationStatuses) {
+	private void updatePacketIdsByServerStatus(List<String> packetIds,
+			List<LinkedHashMap<String, String>> registrationStatuses) {
 		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
 				"packets status sync from server has been started");
 
 		try {
+			/* the latest status of each registration of the batch */
+			Map<String, String> serverStatuses = new LinkedHashMap<>();
 			for (LinkedHashMap<String, String> registrationStatus : registrationStatuses) {
-				Registration registration = registrationMap
-						.get(registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_REGISTRATION_ID));
-				registration.setServerStatusCode(
-						registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_STATUS_CODE));
-				registration.setServerStatusTimestamp(new Timestamp(System.currentTimeMillis()));
-
-				updateRegistration(registration,
-						registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_STATUS_CODE));
+				String registrationId = registrationStatus
+						.get(RegistrationConstants.PACKET_STATUS_READER_REGISTRATION_ID);
+				if (packetIds.contains(registrationId)) {
+					serverStatuses.put(registrationId,
+							registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_STATUS_CODE));
+				}
+			}
+			if (!serverStatuses.isEmpty()) {
+				regPacketStatusDAO.updateServerStatus(serverStatuses, createdByUser());
 			}
 
 			LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
@@ -234,8 +247,7 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 	 * io.mosip.registration.service.packet.RegPacketStatusService#packetSyncStatus(
 	 * java.lang.String)
 	 */
-	@SuppressWarnings("unchecked")
-	public synchronized ResponseDTO packetSyncStatus(String triggerPoint) throws RegBaseCheckedException {
+	public ResponseDTO packetSyncStatus(String triggerPoint) throws RegBaseCheckedException {
 
 		LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID, "packet status sync called");
 
@@ -243,40 +255,38 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 		ResponseDTO response = new ResponseDTO();
 
 		if (validateTriggerPoint(triggerPoint)) {
-			List<String> packetIds = getPacketIds();
+			List<Registration> uploadedRegistrations = getPacketIds();
+			List<Registration> claimedRegistrations = claim(uploadedRegistrations);
 			LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
 					"PacketIds for sync with server have been retrieved");
 
-			SuccessResponseDTO successResponse;
-
-			/* Validator response service API creation */
-			final String SERVICE_NAME = RegistrationConstants.PACKET_STATUS_SYNC_SERVICE_NAME;
-
-			PacketStatusReaderDTO packetStatusReaderDTO = new PacketStatusReaderDTO();
-			packetStatusReaderDTO.setId(RegistrationConstants.PACKET_STATUS_READER_ID);
-			packetStatusReaderDTO.setVersion(RegistrationConstants.PACKET_SYNC_VERSION);
-			packetStatusReaderDTO.setRequesttime(DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime()));
-
-			List<RegistrationIdDTO> registrationIdDTOs = new ArrayList<>();
-			for (String packetId : packetIds) {
-				RegistrationIdDTO registrationIdDTO = new RegistrationIdDTO();
-				registrationIdDTO.setRegistrationId(packetId);
-				registrationIdDTOs.add(registrationIdDTO);
+			if (claimedRegistrations.isEmpty() && !uploadedRegistrations.isEmpty()) {
+				/* Every uploaded packet is being synced by another run, nothing was processed */
+				LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
+						"Packets are being synced by another run, none processed");
+				setErrorResponse(response, RegistrationConstants.PACKET_STATUS_SYNC_ALREADY_STARTED, null);
+				return response;
 			}
 
-			packetStatusReaderDTO.setRequest(registrationIdDTOs);
-
 			try {
+				List<String> packetIds = claimedRegistrations.stream().map(Registration::getId)
+						.collect(Collectors.toList());
 				if (!packetIds.isEmpty()) {
-					/* Obtain RegistrationStatusDTO from service delegate util */
-					LinkedHashMap<String, Object> packetStatusResponse = (LinkedHashMap<String, Object>) serviceDelegateUtil
-							.post(SERVICE_NAME, packetStatusReaderDTO, triggerPoint);
-					List<LinkedHashMap<String, String>> registrations = (List<LinkedHashMap<String, String>>) packetStatusResponse
-							.get(RegistrationConstants.RESPONSE);
-					if (registrations != null && !registrations.isEmpty()) {
+					List<LinkedHashMap<String, String>> registrations = new ArrayList<>();
+					int batchSize = getStatusSyncBatchSize();
+					for (int index = 0; index < packetIds.size(); index += batchSize) {
+						List<String> batchPacketIds = packetIds.subList(index,
+								Math.min(index + batchSize, packetIds.size()));
+						List<LinkedHashMap<String, String>> batchRegistrations = syncPacketStatus(batchPacketIds,
+								triggerPoint);
+						if (batchRegistrations == null || batchRegistrations.isEmpty()) {
+							/* Create Error response */
+							setErrorResponse(response, RegistrationConstants.PACKET_STATUS_SYNC_ERROR_RESPONSE, null);
+							return response;
+						}
 						/* update the status of packets after sync with server */
 						try {
-							updatePacketIdsByServerStatus(registrations);
+							updatePacketIdsByServerStatus(batchPacketIds, batchRegistrations);
 						} catch (RegBaseUncheckedException regBaseUncheckedException) {
 							LOGGER.error(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
 									regBaseUncheckedException.getMessage()
@@ -285,24 +295,21 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 							setErrorResponse(response, RegistrationConstants.PACKET_STATUS_SYNC_ERROR_RESPONSE, null);
 							return response;
 						}
-						/* Create Success response */
-						successResponse = new SuccessResponseDTO();
-						successResponse.setCode(RegistrationConstants.ALERT_INFORMATION);
-						successResponse.setMessage(RegistrationConstants.PACKET_STATUS_SYNC_SUCCESS_MESSAGE);
-						Map<String, Object> otherAttributes = new WeakHashMap<>();
-						otherAttributes.put(RegistrationConstants.PACKET_STATUS_SYNC_RESPONSE_ENTITY, registrations);
-						successResponse.setOtherAttributes(otherAttributes);
-						response.setSuccessResponseDTO(successResponse);
-						LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
-								"Success Response Created");
-					} else {
-						/* Create Error response */
-						setErrorResponse(response, RegistrationConstants.PACKET_STATUS_SYNC_ERROR_RESPONSE, null);
-						return response;
+						registrations.addAll(batchRegistrations);
 					}
+					/* Create Success response */
+					SuccessResponseDTO successResponse = new SuccessResponseDTO();
+					successResponse.setCode(RegistrationConstants.ALERT_INFORMATION);
+					successResponse.setMessage(RegistrationConstants.PACKET_STATUS_SYNC_SUCCESS_MESSAGE);
+					Map<String, Object> otherAttributes = new WeakHashMap<>();
+					otherAttributes.put(RegistrationConstants.PACKET_STATUS_SYNC_RESPONSE_ENTITY, registrations);
+					successResponse.setOtherAttributes(otherAttributes);
+					response.setSuccessResponseDTO(successResponse);
+					LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
+							"Success Response Created");
 				} else {
 					/* If there are no uploaded packets to check the status from the server */
-					successResponse = new SuccessResponseDTO();
+					SuccessResponseDTO successResponse = new SuccessResponseDTO();
 					successResponse.setCode(RegistrationConstants.ALERT_INFORMATION);
 					successResponse.setMessage(RegistrationConstants.PACKET_STATUS_SYNC_SUCCESS_MESSAGE);
 					Map<String, Object> otherAttributes = new WeakHashMap<>();
@@ -327,6 +334,8 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 
 				setErrorResponse(response, RegistrationConstants.PACKET_STATUS_SYNC_ERROR_RESPONSE, null);
 				return response;
+			} finally {
+				release(claimedRegistrations);
 			}
 			LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID, "Packet Status Sync ended");
 			return response;
@@ -338,45 +347,67 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 		}
 	}
 
-	private boolean validateTriggerPoint(String triggerPoint) {
-		if (StringUtils.isEmpty(triggerPoint)) {
-			LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
-					"Trigger point is empty or null");
-			return false;
-		}
-		return true;
-	}
-
-	private Registration updateRegistration(final Registration registration, final String serverStatus) {
-
-		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
-				"Delete Registration Packet started");
-
-		/* Get Registration Transaction List for each transaction */
-		List<RegistrationTransaction> transactionList = registration.getRegistrationTransaction();
-		if (isNull(transactionList)) {
-			transactionList = new LinkedList<>();
+	/**
+	 * Reads the server status of one batch of registrations
+	 *
+	 * @param packetIds    the registration ids of the batch
+	 * @param triggerPoint the trigger point
+	 * @return the status of each registration returned by the server
+	 */
+	@SuppressWarnings("unchecked")
+	private List<LinkedHashMap<String, String>> syncPacketStatus(List<String> packetIds, String triggerPoint)
+			throws RegBaseCheckedException, SocketTimeoutException {
+		/* Validator response service API creation */
+		final String SERVICE_NAME = RegistrationConstants.PACKET_STATUS_SYNC_SERVICE_NAME;
+
+		PacketStatusReaderDTO packetStatusReaderDTO = new PacketStatusReaderDTO();
+		packetStatusReaderDTO.setId(RegistrationConstants.PACKET_STATUS_READER_ID);
+		packetStatusReaderDTO.setVersion(RegistrationConstants.PACKET_SYNC_VERSION);
+		packetStatusReaderDTO.setRequesttime(DateUtils.formatToISOString(DateUtils.getUTCCurrentDateTime()));
+
+		List<RegistrationIdDTO> registrationIdDTOs = new ArrayList<>();
+		for (String packetId : packetIds) {
+			RegistrationIdDTO registrationIdDTO = new RegistrationIdDTO();
+			registrationIdDTO.setRegistrationId(packetId);
+			registrationIdDTOs.add(registrationIdDTO);
 		}
-		/* Prepare Registration Transaction */
-		RegistrationTransaction registrationTxn = new RegistrationTransaction();
 
-		registrationTxn.setRegId(registration.getId());
-		registrationTxn.setTrnTypeCode(RegistrationTransactionType.CREATED.getCode());
-		registrationTxn.setLangCode("ENG");
-		registrationTxn.setCrBy(createdByUser());
-		registrationTxn.setCrDtime(Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()));
+		packetStatusReaderDTO.setRequest(registrationIdDTOs);
 
-		registrationTxn.setStatusCode(serverStatus);
+		/* Obtain RegistrationStatusDTO from service delegate util */
+		LinkedHashMap<String, Object> packetStatusResponse = (LinkedHashMap<String, Object>) serviceDelegateUtil
+				.post(SERVICE_NAME, packetStatusReaderDTO, triggerPoint);
+		return (List<LinkedHashMap<String, String>>) packetStatusResponse.get(RegistrationConstants.RESPONSE);
+	}
 
-		transactionList.add(registrationTxn);
-		registration.setRegistrationTransaction(transactionList);
+	private int getStatusSyncBatchSize() {
+		Object batchSize = ApplicationContext.map().get(RegistrationConstants.PACKET_STATUS_SYNC_BATCH_SIZE);
+		return batchSize != null ? Math.max(Integer.parseInt(String.valueOf(batchSize).trim()), 1)
+				: DEFAULT_STATUS_SYNC_BATCH_SIZE;
+	}
 
-		Registration updatedRegistration = regPacketStatusDAO.update(registration);
-		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
-				"Delete Registration Packet ended");
+	/**
+	 * Claims the registrations which are not claimed by another run
+	 *
+	 * @param registrations the registrations
+	 * @return the registrations claimed by this run
+	 */
+	private List<Registration> claim(List<Registration> registrations) {
+		return registrations.stream().filter(registration -> claimedRegistrationIds.add(registration.getId()))
+				.collect(Collectors.toList());
+	}
 
-		return updatedRegistration;
+	private void release(List<Registration> registrations) {
+		registrations.forEach(registration -> claimedRegistrationIds.remove(registration.getId()));
+	}
 
+	private boolean validateTriggerPoint(String triggerPoint) {
+		if (StringUtils.isEmpty(triggerPoint)) {
+			LOGGER.info(LoggerConstants.LOG_PKT_SYNC, APPLICATION_NAME, APPLICATION_ID,
+					"Trigger point is empty or null");
+			return false;
+		}
+		return true;
 	}
 
 	/*
@@ -387,18 +418,37 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 	 */
 	@Override
 	public void deleteRegistrations(final List<Registration> registrations) {
-		for (Registration registration : registrations) {
+		List<Registration> claimedRegistrations = claim(registrations);
+		try {
+			List<Registration> processedRegistrations = new ArrayList<>();
+			for (Registration registration : claimedRegistrations) {
 
-			if (registration.getServerStatusCode()
-					.equalsIgnoreCase(RegistrationConstants.PACKET_STATUS_CODE_PROCESSED)) {
-				/* Delete Registration */
-				delete(registration);
+				if (registration.getServerStatusCode()
+						.equalsIgnoreCase(RegistrationConstants.PACKET_STATUS_CODE_PROCESSED)) {
+					processedRegistrations.add(registration);
+				}
 			}
+			/* Delete Registrations */
+			delete(processedRegistrations);
+		} finally {
+			release(claimedRegistrations);
+		}
+
+	}
+
+	private void delete(List<Registration> registrations) {
+		if (registrations.isEmpty()) {
+			return;
 		}
+		/* Delete rows from DB, the files are kept if it fails */
+		regPacketStatusDAO.delete(registrations);
 
+		for (Registration registration : registrations) {
+			deletePacketFiles(registration);
+		}
 	}
 
-	private void delete(Registration registration) {
+	private void deletePacketFiles(Registration registration) {
 		File ackFile = null;
 		File zipFile = null;
 		String ackPath = registration.getAckFilename();
@@ -412,9 +462,6 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 			Files.delete(zipFile);
 
 		}
-
-		/* Delete row from DB */
-		regPacketStatusDAO.delete(registration);
 	}
 
 	/*
@@ -431,10 +478,10 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 		ResponseDTO responseDTO = new ResponseDTO();
 		SuccessResponseDTO successResponseDTO = new SuccessResponseDTO();
 		List<ErrorResponseDTO> errorList = new ArrayList<>();
+		List<Registration> packetsToBeSynched = new ArrayList<>();
 		try {
 
-			List<Registration> packetsToBeSynched = registrationDAO
-					.getPacketsToBeSynched(RegistrationConstants.PACKET_STATUS);
+			packetsToBeSynched = claim(registrationDAO.getPacketsToBeSynched(RegistrationConstants.PACKET_STATUS));
 			List<SyncRegistrationDTO> syncDtoList = new ArrayList<>();
 			List<PacketStatusDTO> packetDto = new ArrayList<>();
 			List<PacketStatusDTO> synchedPackets = new ArrayList<>();
@@ -502,6 +549,8 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 			errorResponseDTO.setMessage(exception.getMessage());
 			errorList.add(errorResponseDTO);
 			responseDTO.setErrorResponseDTOs(errorList);
+		} finally {
+			release(packetsToBeSynched);
 		}
 		return responseDTO;
 	}
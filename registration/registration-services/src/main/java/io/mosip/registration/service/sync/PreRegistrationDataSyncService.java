@@ -77,4 +77,11 @@ public interface PreRegistrationDataSyncService {
 	 * @return the timestamp
 	 */
 	public Timestamp getLastPreRegPacketDownloadedTime();
+
+	/**
+	 * Gets the progress of the running pre-registration packets download.
+	 *
+	 * @return the share of the packets downloaded, between 0 and 1
+	 */
+	public double getPreRegistrationDownloadProgress();
 }
@@ -68,6 +68,7 @@ import io.mosip.registration.service.remap.CenterMachineReMapService;
 import io.mosip.registration.service.sync.MasterSyncService;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.mastersync.MapperUtils;
+import io.mosip.registration.validator.RegIdObjectMasterDataValidator;
 
 /**
  * It makes call to the external 'MASTER Sync' services to download the master
@@ -128,6 +129,9 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	@Autowired
 	private DocumentCategoryDAO documentCategoryDAO;
 
+	@Autowired
+	private RegIdObjectMasterDataValidator regIdObjectMasterDataValidator;
+
 	/** Object for Logger. */
 	private static final Logger LOGGER = AppConfig.getLogger(MasterSyncServiceImpl.class);
 
@@ -727,6 +731,8 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 					triggerPoint, masterSyncDtls);
 			syncManager.updateClientSettingLastSyncTime(syncTransaction,
 					getTimestamp(syncDataResponseDto.getLastSyncTime()));
+			/* validate the ID objects against the synced master data */
+			regIdObjectMasterDataValidator.refresh();
 			LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
 					"Save Client Settings completed successfully.");
 		} else
@@ -15,9 +15,6 @@ import java.util.Map.Entry;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.WeakHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,7 +27,6 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
-import io.mosip.kernel.core.exception.IOException;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.core.util.FileUtils;
@@ -86,6 +82,9 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 	@Autowired
 	private PreRegZipHandlingService preRegZipHandlingService;
 
+	@Autowired
+	private PreRegistrationDownloadPipeline preRegistrationDownloadPipeline;
+
 	/**
 	 * Instance of LOGGER
 	 */
@@ -132,7 +131,8 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 
 					Map<String, String> preRegIds = (Map<String, String>) preRegistrationIdsDTO.getPreRegistrationIds();
 
-					getPreRegistrationPackets(syncJobId, responseDTO, preRegIds);
+					getPreRegistrationPackets(syncJobId, responseDTO,
+							preRegistrationDataSyncDTO.getDataSyncRequestDto().getRegistrationCenterId(), preRegIds);
 
 				} else {
 					String errMsg = RegistrationConstants.PRE_REG_TO_GET_ID_ERROR;
@@ -183,40 +183,66 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 	 *
 	 * @param syncJobId   the sync job id
 	 * @param responseDTO the response DTO
+	 * @param centerId    the registration center id
 	 * @param preRegIds   the pre-registration id's
 	 */
-	private void getPreRegistrationPackets(String syncJobId, ResponseDTO responseDTO, Map<String, String> preRegIds) {
-		ExecutorService executorServiceForPreReg = Executors.newFixedThreadPool(5);
-		try {
-			LOGGER.info("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
-					RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
-					"Fetching Pre-Registration ID's in parallel mode started");
-			/* Get Packets Using pre registration ID's */
-			for (Entry<String, String> preRegDetail : preRegIds.entrySet()) {
-				executorServiceForPreReg.execute(
-						new Runnable() {
-								public void run() {
-										preRegDetail.setValue(preRegDetail.getValue().contains("Z") ? preRegDetail.getValue() : preRegDetail.getValue() + "Z");
-					
-										getPreRegistration(responseDTO, preRegDetail.getKey(), syncJobId, Timestamp.from(Instant.parse(preRegDetail.getValue())));
-								}
-						}
-				);
+	private void getPreRegistrationPackets(String syncJobId, ResponseDTO responseDTO, String centerId,
+			Map<String, String> preRegIds) {
+		LOGGER.info("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
+				RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+				"Fetching Pre-Registration ID's in parallel mode started");
+
+		Map<String, Timestamp> preRegistrations = new LinkedHashMap<>();
+		int failed = 0;
+		for (Entry<String, String> preRegDetail : preRegIds.entrySet()) {
+			try {
+				String lastUpdatedTime = preRegDetail.getValue().contains("Z") ? preRegDetail.getValue()
+						: preRegDetail.getValue() + "Z";
+				preRegistrations.put(preRegDetail.getKey(), Timestamp.from(Instant.parse(lastUpdatedTime)));
+			} catch (RuntimeException exception) {
+				LOGGER.error("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
+						RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+						"Invalid last updated time of Pre-Registration " + preRegDetail.getKey() + " "
+								+ exception.getMessage());
+				failed++;
 			}
-			
-			executorServiceForPreReg.shutdown();
-			executorServiceForPreReg.awaitTermination(500, TimeUnit.SECONDS);
-		} catch (Exception interruptedException) {
-			executorServiceForPreReg.shutdown();
+		}
+
+		/* Get Packets Using pre registration ID's, skipping the ones already stored */
+		failed += preRegistrationDownloadPipeline.download(centerId, preRegistrations,
+				(preRegistrationId, lastUpdatedTimeStamp) -> isUpdated(lastUpdatedTimeStamp,
+						preRegistrationDAO.get(preRegistrationId), false),
+				(preRegistrationId, lastUpdatedTimeStamp) -> {
+					ResponseDTO packetResponseDTO = new ResponseDTO();
+					getPreRegistration(packetResponseDTO, preRegistrationId, syncJobId, lastUpdatedTimeStamp);
+					return packetResponseDTO.getErrorResponseDTOs() == null
+							|| packetResponseDTO.getErrorResponseDTOs().isEmpty();
+				});
+
+		if (failed == 0) {
+			setSuccessResponse(responseDTO, RegistrationConstants.PRE_REG_SUCCESS_MESSAGE, null);
+		} else {
 			LOGGER.error("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
 					RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
-					"Error Fetching Pre-Registration ID's in parallel mode " + interruptedException);
+					"Error Fetching " + failed + " Pre-Registration packets in parallel mode");
+			setErrorResponse(responseDTO, RegistrationConstants.PRE_REG_TO_GET_PACKET_ERROR, null);
 		}
 		LOGGER.info("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DATA_SYNC_SERVICE_IMPL",
 				RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
 				"Fetching Pre-Registration ID's in parallel mode completed");
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.registration.service.sync.PreRegistrationDataSyncService#
+	 * getPreRegistrationDownloadProgress()
+	 */
+	@Override
+	public double getPreRegistrationDownloadProgress() {
+		return preRegistrationDownloadPipeline.getProgress();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -281,7 +307,7 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 		}
 
 		boolean isUpdated = false;
-		byte[] decryptedPacket = null;
+		PreRegistrationDTO preRegistrationDTO = null;
 		boolean isFetchFromUi = false;
 
 		isUpdated = isUpdated(lastUpdatedTimeStamp, preRegistration, isUpdated);
@@ -320,11 +346,9 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 									mainResponseDTO.get(RegistrationConstants.RESPONSE)),
 							PreRegArchiveDTO.class);
 
-					decryptedPacket = preRegArchiveDTO.getZipBytes();
-
 					/* Get PreRegistrationDTO by taking packet Information */
-					PreRegistrationDTO preRegistrationDTO = preRegZipHandlingService
-							.encryptAndSavePreRegPacket(preRegistrationId, decryptedPacket);
+					preRegistrationDTO = preRegZipHandlingService.encryptAndSavePreRegPacket(preRegistrationId,
+							preRegArchiveDTO.getZipBytes());
 
 					// Transaction
 					SyncTransaction syncTransaction = syncManager.createSyncTransaction(
@@ -374,25 +398,19 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 		/* Only for Manual Trigger */
 		if (isFetchFromUi) {
 			try {
-				if (isPacketFromLocal(preRegistration, decryptedPacket)) {
-					/*
-					 * if the packet is already available,read encrypted packet from disk and
-					 * decrypt
-					 */
-					decryptedPacket = preRegZipHandlingService.decryptPreRegPacket(
-							preRegistration.getPacketSymmetricKey(),
-							FileUtils.readFileToByteArray(FileUtils.getFile(preRegistration.getPacketPath())));
+				/*
+				 * read the encrypted packet from disk, the packet just downloaded or the one
+				 * already available
+				 */
+				if (isPacketFromLocal(preRegistration, preRegistrationDTO)) {
+					/* set decrypted packet into Response */
+					setPacketToResponse(responseDTO, preRegistration.getPacketSymmetricKey(),
+							preRegistration.getPacketPath(), preRegistrationId);
+				} else {
+					setPacketToResponse(responseDTO, preRegistrationDTO.getSymmetricKey(),
+							preRegistrationDTO.getPacketPath(), preRegistrationId);
 				}
 
-				/* set decrypted packet into Response */
-				setPacketToResponse(responseDTO, decryptedPacket, preRegistrationId);
-
-			} catch (IOException exception) {
-				LOGGER.error("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - Manual Trigger",
-						RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
-						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
-				setErrorResponse(responseDTO, RegistrationConstants.PRE_REG_TO_GET_PACKET_ERROR, null);
-				return;
 			} catch (RegBaseUncheckedException exception) {
 				LOGGER.error("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - Manual Trigger",
 						RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
@@ -432,11 +450,11 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 	 * Checks if is packet from local.
 	 *
 	 * @param preRegistration the pre registration
-	 * @param decryptedPacket the decrypted packet
+	 * @param preRegistrationDTO the downloaded packet
 	 * @return true, if is packet from local
 	 */
-	private boolean isPacketFromLocal(PreRegistrationList preRegistration, byte[] decryptedPacket) {
-		return preRegistration != null && decryptedPacket == null;
+	private boolean isPacketFromLocal(PreRegistrationList preRegistration, PreRegistrationDTO preRegistrationDTO) {
+		return preRegistration != null && preRegistrationDTO == null;
 	}
 
 	/**
@@ -495,15 +513,17 @@ public class PreRegistrationDataSyncServiceImpl extends BaseService implements P
 	 * Sets the packet to response.
 	 *
 	 * @param responseDTO       the response DTO
-	 * @param decryptedPacket   the decrypted packet
+	 * @param symmetricKey      the key of the encrypted packet
+	 * @param packetPath        the path of the encrypted packet
 	 * @param preRegistrationId the pre registration id
 	 */
-	@SuppressWarnings("unused")
-	private void setPacketToResponse(ResponseDTO responseDTO, byte[] decryptedPacket, String preRegistrationId) {
+	private void setPacketToResponse(ResponseDTO responseDTO, String symmetricKey, String packetPath,
+			String preRegistrationId) {
 
 		try {
 			/* create attributes */
-			RegistrationDTO registrationDTO = preRegZipHandlingService.extractPreRegZipFile(decryptedPacket);
+			RegistrationDTO registrationDTO = preRegZipHandlingService.extractPreRegZipFile(symmetricKey,
+					packetPath);
 			registrationDTO.setPreRegistrationId(preRegistrationId);
 			Map<String, Object> attributes = new WeakHashMap<>();
 			attributes.put("registrationDto", registrationDTO);
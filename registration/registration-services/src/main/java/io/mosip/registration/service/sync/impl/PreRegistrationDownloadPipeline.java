@@ -0,0 +1,201 @@
+package io.mosip.registration.service.sync.impl;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.util.common.RetryBackoff;
+
+/**
+ * Downloads the pre-registration packets of a pre-registration sync.
+ *
+ * The packets are downloaded by a bounded number of threads, and the requests
+ * of a center are spread to the configured rate so a large sync does not flood
+ * the pre-registration service. A failed download is retried with an
+ * exponential backoff. The stored packets are the checkpoint of the sync: a
+ * packet already stored with the timestamp of the server is not downloaded
+ * again, so an interrupted sync resumes with the packets still missing.
+ *
+ * @since 1.1.4
+ */
+@Component
+public class PreRegistrationDownloadPipeline {
+
+	private static final Logger LOGGER = AppConfig.getLogger(PreRegistrationDownloadPipeline.class);
+
+	private static final int DEFAULT_MAX_CONCURRENCY = 5;
+	private static final int DEFAULT_RATE_PER_SECOND = 10;
+	private static final int DEFAULT_MAX_RETRIES = 2;
+	private static final long DEFAULT_RETRY_BACKOFF_MILLIS = 1000;
+
+	private final Map<String, RateLimit> rateLimits = new ConcurrentHashMap<>();
+
+	private final AtomicInteger completed = new AtomicInteger();
+
+	private volatile int total;
+
+	/**
+	 * Downloads and stores a single pre-registration packet.
+	 */
+	@FunctionalInterface
+	public interface PreRegistrationDownload {
+
+		/**
+		 * @param preRegistrationId    the pre-registration id
+		 * @param lastUpdatedTimeStamp the time the packet was last updated in the
+		 *                             server
+		 * @return true, if the packet is stored
+		 */
+		boolean download(String preRegistrationId, Timestamp lastUpdatedTimeStamp);
+	}
+
+	/**
+	 * Downloads the packets not stored yet.
+	 *
+	 * @param centerId         the center the packets are downloaded for
+	 * @param preRegistrations the pre-registration ids with the time they were
+	 *                         last updated in the server
+	 * @param isStored         checks whether a packet is already stored with the
+	 *                         given timestamp
+	 * @param download         the download of a single packet
+	 * @return the number of packets that could not be downloaded
+	 */
+	public int download(String centerId, Map<String, Timestamp> preRegistrations,
+			BiPredicate<String, Timestamp> isStored, PreRegistrationDownload download) {
+		int maxConcurrency = Math.max(ApplicationContext.getIntValueFromApplicationMap(
+				RegistrationConstants.PRE_REG_DOWNLOAD_MAX_CONCURRENCY, DEFAULT_MAX_CONCURRENCY), 1);
+		int ratePerSecond = ApplicationContext.getIntValueFromApplicationMap(
+				RegistrationConstants.PRE_REG_DOWNLOAD_RATE_PER_SECOND, DEFAULT_RATE_PER_SECOND);
+		int maxRetries = ApplicationContext.getIntValueFromApplicationMap(
+				RegistrationConstants.PRE_REG_DOWNLOAD_MAX_RETRIES, DEFAULT_MAX_RETRIES);
+		long retryBackoffMillis = ApplicationContext.getLongValueFromApplicationMap(
+				RegistrationConstants.PRE_REG_DOWNLOAD_RETRY_BACKOFF_MILLIS, DEFAULT_RETRY_BACKOFF_MILLIS);
+
+		completed.set(0);
+		total = preRegistrations.size();
+
+		RateLimit rateLimit = getRateLimit(String.valueOf(centerId), ratePerSecond);
+		ExecutorService executorService = Executors
+				.newFixedThreadPool(Math.max(Math.min(maxConcurrency, preRegistrations.size()), 1));
+		List<Future<Boolean>> futures = new ArrayList<>(preRegistrations.size());
+		int failed = 0;
+		int checked = 0;
+		try {
+			for (Entry<String, Timestamp> preRegistration : preRegistrations.entrySet()) {
+				futures.add(executorService.submit(() -> {
+					try {
+						return isStored.test(preRegistration.getKey(), preRegistration.getValue())
+								|| downloadPacket(preRegistration.getKey(), preRegistration.getValue(), download,
+										rateLimit, maxRetries, retryBackoffMillis);
+					} finally {
+						completed.incrementAndGet();
+					}
+				}));
+			}
+			for (Future<Boolean> future : futures) {
+				if (!getResult(future)) {
+					failed++;
+				}
+				checked++;
+			}
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			failed += futures.size() - checked;
+		} finally {
+			executorService.shutdownNow();
+			total = 0;
+		}
+		return failed;
+	}
+
+	/**
+	 * Gets the progress of the running download.
+	 *
+	 * @return the share of the packets done, between 0 and 1, or 0 if no
+	 *         download is running
+	 */
+	public double getProgress() {
+		int count = total;
+		return count == 0 ? 0 : Math.min((double) completed.get() / count, 1);
+	}
+
+	private boolean downloadPacket(String preRegistrationId, Timestamp lastUpdatedTimeStamp,
+			PreRegistrationDownload download, RateLimit rateLimit, int maxRetries, long retryBackoffMillis)
+			throws InterruptedException {
+		for (int attempt = 0;; attempt++) {
+			rateLimit.acquire();
+			if (download.download(preRegistrationId, lastUpdatedTimeStamp)) {
+				return true;
+			}
+			if (attempt >= maxRetries) {
+				return false;
+			}
+			RetryBackoff.await("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DOWNLOAD_PIPELINE",
+					"download of Pre-Registration " + preRegistrationId, attempt, retryBackoffMillis);
+		}
+	}
+
+	private boolean getResult(Future<Boolean> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException executionException) {
+			LOGGER.error("REGISTRATION - PRE_REGISTRATION_DATA_SYNC - PRE_REGISTRATION_DOWNLOAD_PIPELINE",
+					APPLICATION_NAME, APPLICATION_ID,
+					"Error downloading Pre-Registration packet " + executionException.getCause());
+			return false;
+		}
+	}
+
+	private RateLimit getRateLimit(String centerId, int ratePerSecond) {
+		long intervalNanos = ratePerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / ratePerSecond : 0;
+		return rateLimits.compute(centerId, (key, rateLimit) -> rateLimit != null
+				&& rateLimit.intervalNanos == intervalNanos ? rateLimit : new RateLimit(intervalNanos));
+	}
+
+	/**
+	 * Spreads the requests of a center evenly, one every interval.
+	 */
+	private static final class RateLimit {
+
+		private final long intervalNanos;
+		private long nextNanos = System.nanoTime();
+
+		private RateLimit(long intervalNanos) {
+			this.intervalNanos = intervalNanos;
+		}
+
+		private void acquire() throws InterruptedException {
+			if (intervalNanos == 0) {
+				return;
+			}
+			long waitNanos;
+			synchronized (this) {
+				long now = System.nanoTime();
+				long start = Math.max(now, nextNanos);
+				nextNanos = start + intervalNanos;
+				waitNanos = start - now;
+			}
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+}
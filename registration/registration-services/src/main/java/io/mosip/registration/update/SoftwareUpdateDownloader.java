@@ -0,0 +1,296 @@
+package io.mosip.registration.update;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.LoggerConstants;
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.util.common.RetryBackoff;
+
+/**
+ * Downloads the jars of a software update into a staging folder.
+ *
+ * The jars are downloaded by a bounded number of threads. A jar is written to
+ * a part file and hashed while it is streamed, and is moved into the staging
+ * folder only when it matches the checksum of the server manifest. An
+ * interrupted download keeps its part file and is resumed with an HTTP range
+ * request, and a jar already staged with the right checksum is not downloaded
+ * again, so an update interrupted on a poor link continues where it stopped.
+ * The folders staged for other versions are deleted, as their jars can not be
+ * resumed by this update.
+ *
+ * @since 1.1.4
+ */
+@Component
+public class SoftwareUpdateDownloader {
+
+	private static final Logger LOGGER = AppConfig.getLogger(SoftwareUpdateDownloader.class);
+
+	private static final int DEFAULT_MAX_CONCURRENCY = 4;
+	private static final int DEFAULT_MAX_RETRIES = 3;
+	private static final long DEFAULT_RETRY_BACKOFF_MILLIS = 1000;
+	private static final int DEFAULT_TIMEOUT_MILLIS = 60000;
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final String PART_EXTENSION = ".part";
+	private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
+	/**
+	 * Downloads the jars not staged yet.
+	 *
+	 * @param jarUrl        the url the jars are downloaded from, ending with a
+	 *                      slash
+	 * @param jars          the names of the jars with their checksum in the server
+	 *                      manifest
+	 * @param stagingFolder the folder the verified jars are staged in, next to
+	 *                      the folders staged for other versions
+	 * @throws IOException if any of the jars could not be downloaded and verified
+	 */
+	public void download(String jarUrl, Map<String, String> jars, Path stagingFolder) throws IOException {
+		int maxConcurrency = Math.max(ApplicationContext.getIntValueFromApplicationMap(
+				RegistrationConstants.SOFTWARE_UPDATE_MAX_CONCURRENCY, DEFAULT_MAX_CONCURRENCY), 1);
+		int maxRetries = ApplicationContext.getIntValueFromApplicationMap(
+				RegistrationConstants.SOFTWARE_UPDATE_MAX_RETRIES, DEFAULT_MAX_RETRIES);
+		long retryBackoffMillis = ApplicationContext.getLongValueFromApplicationMap(
+				RegistrationConstants.SOFTWARE_UPDATE_RETRY_BACKOFF_MILLIS, DEFAULT_RETRY_BACKOFF_MILLIS);
+
+		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+				"Downloading " + jars.size() + " jars started");
+
+		removeSupersededStagingFolders(stagingFolder);
+		Files.createDirectories(stagingFolder);
+		ExecutorService executorService = Executors
+				.newFixedThreadPool(Math.max(Math.min(maxConcurrency, jars.size()), 1));
+		Map<String, Future<?>> futures = new LinkedHashMap<>();
+		List<String> failedJars = new ArrayList<>();
+		try {
+			for (Entry<String, String> jar : jars.entrySet()) {
+				futures.put(jar.getKey(), executorService.submit(() -> {
+					downloadJar(jarUrl, jar.getKey(), jar.getValue(), stagingFolder, maxRetries, retryBackoffMillis);
+					return null;
+				}));
+			}
+			for (Entry<String, Future<?>> future : futures.entrySet()) {
+				try {
+					future.getValue().get();
+				} catch (ExecutionException executionException) {
+					LOGGER.error(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+							"Downloading jar : " + future.getKey() + " failed " + executionException.getCause());
+					failedJars.add(future.getKey());
+				}
+			}
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Download of jars interrupted", interruptedException);
+		} finally {
+			executorService.shutdownNow();
+		}
+
+		if (!failedJars.isEmpty()) {
+			throw new IOException("Download failed for jars " + failedJars);
+		}
+		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+				"Downloading " + jars.size() + " jars completed");
+	}
+
+	private void downloadJar(String jarUrl, String jarName, String checksum, Path stagingFolder, int maxRetries,
+			long retryBackoffMillis) throws IOException, InterruptedException {
+		Path stagedJar = stagingFolder.resolve(jarName);
+		if (Files.isRegularFile(stagedJar) && checksum.equalsIgnoreCase(getCheckSum(stagedJar))) {
+			LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+					"Jar : " + jarName + " already staged");
+			return;
+		}
+
+		Path partFile = stagingFolder.resolve(jarName + PART_EXTENSION);
+		for (int attempt = 0;; attempt++) {
+			IOException failure;
+			try {
+				if (transfer(jarUrl + jarName, partFile, checksum)) {
+					move(partFile, stagedJar);
+					return;
+				}
+				// A part file not matching the checksum can not be resumed
+				Files.deleteIfExists(partFile);
+				failure = new IOException("Checksum mismatch for jar : " + jarName);
+			} catch (IOException ioException) {
+				failure = ioException;
+			}
+			if (attempt >= maxRetries) {
+				throw failure;
+			}
+			LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+					"Download of jar : " + jarName + " failed : " + failure.getMessage());
+			RetryBackoff.await(LoggerConstants.LOG_REG_UPDATE, "download of jar : " + jarName, attempt,
+					retryBackoffMillis);
+		}
+	}
+
+	/**
+	 * Downloads the jar into the part file, continuing after the bytes already in
+	 * it when the server accepts the range.
+	 *
+	 * @return true, if the part file matches the checksum
+	 */
+	private boolean transfer(String url, Path partFile, String checksum) throws IOException {
+		long offset = Files.exists(partFile) ? Files.size(partFile) : 0;
+
+		URLConnection connection = new URL(url).openConnection();
+		connection.setConnectTimeout(ApplicationContext
+				.getIntValueFromApplicationMap(RegistrationConstants.HTTP_API_CONNECT_TIMEOUT, DEFAULT_TIMEOUT_MILLIS));
+		connection.setReadTimeout(ApplicationContext
+				.getIntValueFromApplicationMap(RegistrationConstants.HTTP_API_READ_TIMEOUT, DEFAULT_TIMEOUT_MILLIS));
+		if (offset > 0) {
+			connection.setRequestProperty("Range", "bytes=" + offset + "-");
+		}
+
+		try {
+			int responseCode = connection instanceof HttpURLConnection
+					? ((HttpURLConnection) connection).getResponseCode()
+					: HttpURLConnection.HTTP_OK;
+			if (offset > 0 && responseCode == HTTP_RANGE_NOT_SATISFIABLE) {
+				// Nothing left to download
+				return checksum.equalsIgnoreCase(getCheckSum(partFile));
+			}
+			boolean resumed = offset > 0 && responseCode == HttpURLConnection.HTTP_PARTIAL;
+			if (!resumed && responseCode != HttpURLConnection.HTTP_OK) {
+				throw new IOException("Unexpected response " + responseCode + " for " + url);
+			}
+
+			long contentLength = connection.getContentLengthLong();
+			if (contentLength > 0 && contentLength >= Files.getFileStore(partFile.getParent()).getUsableSpace()) {
+				throw new IOException("No Disk Space");
+			}
+
+			MessageDigest messageDigest = getMessageDigest();
+			if (resumed) {
+				LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+						"Resuming download of " + url + " from byte " + offset);
+				update(messageDigest, partFile);
+			}
+
+			try (InputStream inputStream = connection.getInputStream();
+					OutputStream outputStream = Files.newOutputStream(partFile, StandardOpenOption.CREATE,
+							StandardOpenOption.WRITE,
+							resumed ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				int read;
+				while ((read = inputStream.read(buffer)) != -1) {
+					outputStream.write(buffer, 0, read);
+					messageDigest.update(buffer, 0, read);
+				}
+			}
+			return checksum.equalsIgnoreCase(toHex(messageDigest.digest()));
+		} finally {
+			if (connection instanceof HttpURLConnection) {
+				((HttpURLConnection) connection).disconnect();
+			}
+		}
+	}
+
+	private void removeSupersededStagingFolders(Path stagingFolder) {
+		String version = stagingFolder.getFileName().toString();
+		File[] stagedVersions = stagingFolder.toAbsolutePath().getParent().toFile()
+				.listFiles(file -> file.isDirectory() && !file.getName().equals(version));
+		if (stagedVersions == null) {
+			return;
+		}
+		for (File stagedVersion : stagedVersions) {
+			try {
+				FileUtils.deleteDirectory(stagedVersion);
+				LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+						"Deleted superseded staging folder : " + stagedVersion.getName());
+			} catch (IOException ioException) {
+				LOGGER.error(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+						"Deleting superseded staging folder : " + stagedVersion.getName() + " failed "
+								+ ioException.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Moves the file, atomically where the file system supports it.
+	 *
+	 * @param source the file moved
+	 * @param target the file replaced
+	 * @throws IOException if the file could not be moved
+	 */
+	static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException atomicMoveNotSupportedException) {
+			LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+					"Atomic move not supported, moving " + source.getFileName() + " by copy");
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Gets the checksum of the file, as the manifest holds it.
+	 *
+	 * @param file the file
+	 * @return the hex encoded SHA-256 digest of the file
+	 * @throws IOException if the file could not be read
+	 */
+	static String getCheckSum(Path file) throws IOException {
+		MessageDigest messageDigest = getMessageDigest();
+		update(messageDigest, file);
+		return toHex(messageDigest.digest());
+	}
+
+	private static void update(MessageDigest messageDigest, Path file) throws IOException {
+		try (InputStream inputStream = Files.newInputStream(file)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				messageDigest.update(buffer, 0, read);
+			}
+		}
+	}
+
+	private static MessageDigest getMessageDigest() throws IOException {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+			throw new IOException(noSuchAlgorithmException.getMessage(), noSuchAlgorithmException);
+		}
+	}
+
+	private static String toHex(byte[] digest) {
+		StringBuilder hex = new StringBuilder(digest.length * 2);
+		for (byte digestByte : digest) {
+			hex.append(String.format("%02X", digestByte));
+		}
+		return hex.toString();
+	}
+
+}
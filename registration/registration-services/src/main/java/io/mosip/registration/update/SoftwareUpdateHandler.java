@@ -14,9 +14,11 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.NoSuchAlgorithmException;
+import java.nio.file.Paths;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -28,7 +30,6 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
-import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.registration.context.ApplicationContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -108,6 +109,11 @@ public class SoftwareUpdateHandler extends BaseService {
 
 	@Autowired
 	private GlobalParamService globalParamService;
+
+	@Autowired
+	private SoftwareUpdateDownloader softwareUpdateDownloader;
+
+	private String updateStagingFolder = ".update";
 	private String SQL = "sql";
 	private String exectionSqlFile = "initial_db_scripts.sql";
 	private String rollBackSqlFile = "rollback_scripts.sql";
@@ -212,8 +218,10 @@ public class SoftwareUpdateHandler extends BaseService {
 	 * If the jars needs to be added/updated in the local
 	 * </p>
 	 * <ul>
+	 * <li>Download the changed jars from the server in parallel and stage them
+	 * once their checksums are verified, resuming any interrupted download</li>
 	 * <li>Take the back-up of the current jars</li>
-	 * <li>Download the jars from the server and add/update it in the local</li>
+	 * <li>Swap the staged jars into the local</li>
 	 * </ul>
 	 * <p>
 	 * If the jars needs to be deleted in the local
@@ -240,57 +248,26 @@ public class SoftwareUpdateHandler extends BaseService {
 			// Get Server Manifest
 			getServerManifest();
 
-			// Back Current Application
-			backUp = backUpSetup();
-			// replace local manifest with Server manifest
-			serverManifest.write(new FileOutputStream(new File(manifestFile)));
-
-			List<String> downloadJars = new LinkedList<>();
-			List<String> deletableJars = new LinkedList<>();
-			List<String> checkableJars = new LinkedList<>();
-
-			Map<String, Attributes> localAttributes = localManifest.getEntries();
-			Map<String, Attributes> serverAttributes = serverManifest.getEntries();
-
 			// Compare local and server Manifest
-			for (Entry<String, Attributes> jar : localAttributes.entrySet()) {
-				checkableJars.add(jar.getKey());
-				if (!serverAttributes.containsKey(jar.getKey())) {
+			Map<String, String> downloadJars = getChangedJars();
+			List<String> deletableJars = getDeletableJars();
 
-					/* unnecessary jar after update */
-					deletableJars.add(jar.getKey());
-
-				} else {
-					Attributes localAttribute = jar.getValue();
-					Attributes serverAttribute = serverAttributes.get(jar.getKey());
-					if (!localAttribute.getValue(Attributes.Name.CONTENT_TYPE)
-							.equals(serverAttribute.getValue(Attributes.Name.CONTENT_TYPE))) {
-
-						/* Jar to be downloaded */
-						downloadJars.add(jar.getKey());
-
-					}
-
-					serverManifest.getEntries().remove(jar.getKey());
-
-				}
-			}
+			// Download and verify the changed jars before the setup is touched
+			Path stagingFolder = Paths.get(updateStagingFolder, latestVersion);
+			softwareUpdateDownloader.download(getURL(serverRegClientURL) + latestVersion + SLASH + libFolder,
+					downloadJars, stagingFolder);
 
-			for (Entry<String, Attributes> jar : serverAttributes.entrySet()) {
-				downloadJars.add(jar.getKey());
-			}
+			// Back Current Application
+			backUp = backUpSetup();
 
+			installJars(stagingFolder, downloadJars.keySet());
 			deleteJars(deletableJars);
 
-			// Un-Modified jars exist or not
-			checkableJars.removeAll(deletableJars);
-			checkableJars.removeAll(downloadJars);
-
-			getServerManifest();
-
-			// Download latest jars if not in local
-			checkJars(getLatestVersion(), downloadJars);
-			checkJars(getLatestVersion(), checkableJars);
+			// replace local manifest with Server manifest
+			try (FileOutputStream manifestOutputStream = new FileOutputStream(new File(manifestFile))) {
+				serverManifest.write(manifestOutputStream);
+			}
+			FileUtils.deleteDirectory(new File(updateStagingFolder));
 
 			setLocalManifest(serverManifest);
 			setServerManifest(null);
@@ -303,15 +280,68 @@ public class SoftwareUpdateHandler extends BaseService {
 		} catch (RuntimeException | IOException | ParserConfigurationException | SAXException exception) {
 			LOGGER.error(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
 					exception.getMessage() + ExceptionUtils.getStackTrace(exception));
-			// Rollback setup
-			File backUpFolder = backUp.toFile();
-
-			rollBackSetup(backUpFolder);
+			// Rollback setup, the staged jars are kept for the next attempt
+			if (backUp != null) {
+				rollBackSetup(backUp.toFile());
+			}
 
 			throw exception;
 		}
 		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
-				"Updating latest version started");
+				"Updating latest version completed");
+	}
+
+	/**
+	 * Gets the jars of the server manifest which are not in the setup yet. Only a
+	 * jar whose checksum differs from the local manifest, or which is missing or
+	 * modified in the setup, has to be downloaded.
+	 */
+	private Map<String, String> getChangedJars() {
+		Map<String, String> changedJars = new LinkedHashMap<>();
+		for (Entry<String, Attributes> jar : serverManifest.getEntries().entrySet()) {
+			String checkSum = jar.getValue().getValue(Attributes.Name.CONTENT_TYPE);
+			Attributes localAttribute = localManifest != null ? localManifest.getEntries().get(jar.getKey()) : null;
+			File jarInFolder = new File(getFolder(jar.getKey()) + jar.getKey());
+
+			if (localAttribute == null || !checkSum.equals(localAttribute.getValue(Attributes.Name.CONTENT_TYPE))
+					|| !jarInFolder.exists() || !isCheckSumValid(jarInFolder, serverManifest)) {
+				changedJars.put(jar.getKey(), checkSum);
+			}
+		}
+		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+				changedJars.size() + " of " + serverManifest.getEntries().size() + " jars changed");
+		return changedJars;
+	}
+
+	private List<String> getDeletableJars() {
+		List<String> deletableJars = new LinkedList<>();
+		if (localManifest != null) {
+			for (String jarName : localManifest.getEntries().keySet()) {
+				if (!serverManifest.getEntries().containsKey(jarName)) {
+
+					/* unnecessary jar after update */
+					deletableJars.add(jarName);
+				}
+			}
+		}
+		return deletableJars;
+	}
+
+	private void installJars(Path stagingFolder, Collection<String> jars) throws IOException {
+
+		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID, "Installing of jars started");
+		for (String jarName : jars) {
+			Path jarInFolder = Paths.get(getFolder(jarName), jarName);
+			Files.createDirectories(jarInFolder.getParent());
+
+			// Swap in the verified jar
+			SoftwareUpdateDownloader.move(stagingFolder.resolve(jarName), jarInFolder);
+		}
+		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID, "Installing of jars completed");
+	}
+
+	private String getFolder(String jarName) {
+		return jarName.contains(mosip) ? binFolder : libFolder;
 	}
 
 	private Path backUpSetup() throws io.mosip.kernel.core.exception.IOException {
@@ -350,54 +380,13 @@ public class SoftwareUpdateHandler extends BaseService {
 
 	}
 
-	private void checkJars(String version, List<String> checkableJars)
-			throws IOException, io.mosip.kernel.core.exception.IOException {
-
-		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID, "Checking of jars started");
-		for (String jarFile : checkableJars) {
-
-			String folder = jarFile.contains(mosip) ? binFolder : libFolder;
-
-			File jarInFolder = new File(folder + jarFile);
-
-			if (!jarInFolder.exists()) {
-
-				LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
-						"Downloading jar : " + jarFile + " started");
-				// Download Jar
-				Files.copy(getInputStreamOfJar(version, jarFile), jarInFolder.toPath());
-
-			} else if ((!isCheckSumValid(jarInFolder,
-					(currentVersion.equals(version)) ? localManifest : serverManifest))) {
-
-				FileUtils.forceDelete(jarInFolder);
-
-				LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
-						"Downloading jar : " + jarFile + " started");
-
-				// Download Jar
-				Files.copy(getInputStreamOfJar(version, jarFile), jarInFolder.toPath());
-			}
-
-		}
-
-		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID, "Checking of jars completed");
-	}
-
-	private InputStream getInputStreamOfJar(String version, String jarName) throws IOException {
-		return getInputStreamOf(getURL(serverRegClientURL) + version + SLASH + libFolder + jarName);
-
-	}
-
 	private void deleteJars(List<String> deletableJars) throws io.mosip.kernel.core.exception.IOException {
 
 		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID, "Deletion of jars started");
 		for (String jarName : deletableJars) {
 			File deleteFile = null;
 
-			String deleteFolder = jarName.contains(mosip) ? binFolder : libFolder;
-
-			deleteFile = new File(deleteFolder + jarName);
+			deleteFile = new File(getFolder(jarName) + jarName);
 
 			if (deleteFile.exists()) {
 				// Delete Jar
@@ -462,16 +451,16 @@ public class SoftwareUpdateHandler extends BaseService {
 				"Checking of checksum started for jar :" + jarFile.getName());
 		String checkSum;
 		try {
-			checkSum = HMACUtils2.digestAsPlainText(Files.readAllBytes(jarFile.toPath()));
+			checkSum = SoftwareUpdateDownloader.getCheckSum(jarFile.toPath());
 
 			// Get Check sum
 			String manifestCheckSum = getCheckSum(jarFile.getName(), manifest);
 
 			LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
 					"Checking of checksum completed for jar :" + jarFile.getName());
-			return checkSum.equals(manifestCheckSum);
+			return checkSum.equalsIgnoreCase(manifestCheckSum);
 
-		} catch (IOException | NoSuchAlgorithmException ioException) {
+		} catch (IOException ioException) {
 			LOGGER.error(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
 					ioException.getMessage() + ExceptionUtils.getStackTrace(ioException));
 			return false;
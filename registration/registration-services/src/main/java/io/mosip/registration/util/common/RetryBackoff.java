@@ -0,0 +1,56 @@
+package io.mosip.registration.util.common;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.util.concurrent.TimeUnit;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+
+/**
+ * The wait between the attempts of an operation retried with an exponential
+ * backoff: the configured backoff after the first attempt, doubled after every
+ * further attempt.
+ *
+ * @since 1.1.4
+ */
+public final class RetryBackoff {
+
+	private static final Logger LOGGER = AppConfig.getLogger(RetryBackoff.class);
+
+	/** The backoff stops doubling after this many attempts */
+	private static final int MAX_DOUBLINGS = 16;
+
+	private RetryBackoff() {
+	}
+
+	/**
+	 * Gets the wait after the given failed attempt.
+	 *
+	 * @param retryBackoffMillis the wait after the first attempt
+	 * @param attempt            the failed attempt, starting with 0
+	 * @return the wait in milliseconds
+	 */
+	public static long getBackoffMillis(long retryBackoffMillis, int attempt) {
+		return retryBackoffMillis << Math.min(attempt, MAX_DOUBLINGS);
+	}
+
+	/**
+	 * Logs the retry and waits for the backoff of the failed attempt.
+	 *
+	 * @param loggerName         the name the retry is logged with
+	 * @param operation          the operation retried, e.g. upload of packet
+	 * @param attempt            the failed attempt, starting with 0
+	 * @param retryBackoffMillis the wait after the first attempt
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public static void await(String loggerName, String operation, int attempt, long retryBackoffMillis)
+			throws InterruptedException {
+		long backoffMillis = getBackoffMillis(retryBackoffMillis, attempt);
+		LOGGER.info(loggerName, APPLICATION_NAME, APPLICATION_ID,
+				"Retrying " + operation + " in " + backoffMillis + " ms");
+		TimeUnit.MILLISECONDS.sleep(backoffMillis);
+	}
+
+}
@@ -19,13 +19,14 @@ import io.mosip.registration.dto.response.SchemaDto;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -36,49 +37,11 @@ import io.mosip.registration.dto.response.SyncDataBaseDto;
 import io.mosip.registration.dto.response.SyncDataResponseDto;
 import io.mosip.registration.entity.DynamicField;
 import io.mosip.registration.exception.RegBaseUncheckedException;
-import io.mosip.registration.repositories.AppAuthenticationRepository;
-import io.mosip.registration.repositories.AppDetailRepository;
-import io.mosip.registration.repositories.AppRolePriorityRepository;
-import io.mosip.registration.repositories.ApplicantValidDocumentRepository;
-import io.mosip.registration.repositories.BiometricAttributeRepository;
-import io.mosip.registration.repositories.BiometricTypeRepository;
-import io.mosip.registration.repositories.BlacklistedWordsRepository;
-import io.mosip.registration.repositories.CenterMachineRepository;
-import io.mosip.registration.repositories.DeviceMasterRepository;
 import io.mosip.registration.repositories.DeviceProviderRepository;
-import io.mosip.registration.repositories.DeviceSpecificationRepository;
-import io.mosip.registration.repositories.DeviceTypeRepository;
-import io.mosip.registration.repositories.DocumentCategoryRepository;
-import io.mosip.registration.repositories.DocumentTypeRepository;
 import io.mosip.registration.repositories.DynamicFieldRepository;
-import io.mosip.registration.repositories.FoundationalTrustProviderRepository;
-import io.mosip.registration.repositories.GenderRepository;
-import io.mosip.registration.repositories.IdTypeRepository;
-import io.mosip.registration.repositories.IndividualTypeRepository;
-import io.mosip.registration.repositories.LanguageRepository;
-import io.mosip.registration.repositories.LocationRepository;
-import io.mosip.registration.repositories.MachineMasterRepository;
-import io.mosip.registration.repositories.MachineSpecificationRepository;
-import io.mosip.registration.repositories.MachineTypeRepository;
 import io.mosip.registration.repositories.MosipDeviceServiceRepository;
-import io.mosip.registration.repositories.ProcessListRepository;
-import io.mosip.registration.repositories.ReasonCategoryRepository;
-import io.mosip.registration.repositories.ReasonListRepository;
 import io.mosip.registration.repositories.RegisteredDeviceTypeRepository;
 import io.mosip.registration.repositories.RegisteredSubDeviceTypeRepository;
-import io.mosip.registration.repositories.RegistrationCenterDeviceRepository;
-import io.mosip.registration.repositories.RegistrationCenterMachineDeviceRepository;
-import io.mosip.registration.repositories.RegistrationCenterRepository;
-import io.mosip.registration.repositories.RegistrationCenterTypeRepository;
-import io.mosip.registration.repositories.RegistrationCenterUserRepository;
-import io.mosip.registration.repositories.ScreenAuthorizationRepository;
-import io.mosip.registration.repositories.ScreenDetailRepository;
-import io.mosip.registration.repositories.SyncJobDefRepository;
-import io.mosip.registration.repositories.TemplateFileFormatRepository;
-import io.mosip.registration.repositories.TemplateRepository;
-import io.mosip.registration.repositories.TemplateTypeRepository;
-import io.mosip.registration.repositories.TitleRepository;
-import io.mosip.registration.repositories.ValidDocumentRepository;
 import org.springframework.web.client.HttpClientErrorException;
 
 @Component
@@ -88,155 +51,6 @@ public class ClientSettingSyncHelper {
 	
 	private static final String ENTITY_PACKAGE_NAME = "io.mosip.registration.entity.";	
 	private static final String FIELD_TYPE_DYNAMIC = "dynamic";
-		
-	/** Object for Sync Biometric Attribute Repository. */
-	@Autowired
-	private BiometricAttributeRepository biometricAttributeRepository;
-
-	/** Object for Sync Biometric Type Repository. */
-	@Autowired
-	private BiometricTypeRepository biometricTypeRepository;
-
-	/** Object for Sync Blacklisted Words Repository. */
-	@Autowired
-	private BlacklistedWordsRepository blacklistedWordsRepository;
-
-	/** Object for Sync Device Repository. */
-	@Autowired
-	private DeviceMasterRepository deviceMasterRepository;
-
-	/** Object for Sync Device Specification Repository. */
-	@Autowired
-	private DeviceSpecificationRepository deviceSpecificationRepository;
-
-	/** Object for Sync Device Type Repository. */
-	@Autowired
-	private DeviceTypeRepository deviceTypeRepository;
-
-	/** Object for Sync Document Category Repository. */
-	@Autowired
-	private DocumentCategoryRepository documentCategoryRepository;
-
-	/** Object for Sync Document Type Repository. */
-	@Autowired
-	private DocumentTypeRepository documentTypeRepository;
-
-	/** Object for Sync Gender Type Repository. */
-	@Autowired
-	private GenderRepository genderRepository;
-
-	/** Object for Sync Id Type Repository. */
-	@Autowired
-	private IdTypeRepository idTypeRepository;
-
-	/** Object for Sync Location Repository. */
-	@Autowired
-	private LocationRepository locationRepository;
-
-	/** Object for Sync Machine Repository. */
-	@Autowired
-	private MachineMasterRepository machineRepository;
-
-	/** Object for Sync Machine Specification Repository. */
-	@Autowired
-	private MachineSpecificationRepository machineSpecificationRepository;
-
-	/** Object for Sync Machine Type Repository. */
-	@Autowired
-	private MachineTypeRepository machineTypeRepository;
-
-	/** Object for Sync Reason Category Repository. */
-	@Autowired
-	private ReasonCategoryRepository reasonCategoryRepository;
-
-	/** Object for Sync Reason List Repository. */
-	@Autowired
-	private ReasonListRepository reasonListRepository;
-
-	/** Object for Sync Template File Format Repository. */
-	@Autowired
-	private TemplateFileFormatRepository templateFileFormatRepository;
-
-	/** Object for Sync Template Repository. */
-	@Autowired
-	private TemplateRepository templateRepository;
-
-	/** Object for Sync Template Type Repository. */
-	@Autowired
-	private TemplateTypeRepository templateTypeRepository;
-
-	/** Object for Sync Title Repository. */
-	@Autowired
-	private TitleRepository titleRepository;
-
-	/** Object for Sync Applicant Valid Document Repository. */
-	@Autowired
-	private ApplicantValidDocumentRepository applicantValidDocumentRepository;
-
-	/** Object for Sync Valid Document Repository. */
-	@Autowired
-	private ValidDocumentRepository validDocumentRepository;
-
-	/** Object for Sync language Repository. */
-	@Autowired
-	private LanguageRepository languageRepository;
-
-	/** Object for Sync language Repository. */
-	@Autowired
-	private RegistrationCenterDeviceRepository registrationCenterDeviceRepository;
-
-	/** Object for Sync language Repository. */
-	@Autowired
-	private RegistrationCenterMachineDeviceRepository registrationCenterMachineDeviceRepository;
-
-	/** Object for Sync language Repository. */
-	@Autowired
-	private RegistrationCenterUserRepository registrationCenterUserRepository;
-
-	/** Object for Sync language Repository. */
-	@Autowired
-	private CenterMachineRepository centerMachineRepository;
-
-	/** Object for Sync language Repository. */
-	@Autowired
-	private RegistrationCenterRepository registrationCenterRepository;
-
-	/** Object for Sync language Repository. */
-	@Autowired
-	private RegistrationCenterTypeRepository registrationCenterTypeRepository;
-
-	/** Object for Sync Individual type Repository. */
-	@Autowired
-	private IndividualTypeRepository individualTypeRepository;
-
-	/** Object for Sync app authentication Repository. */
-	@Autowired
-	private AppAuthenticationRepository appAuthenticationRepository;
-
-	/** Object for Sync app role Repository. */
-	@Autowired
-	private AppRolePriorityRepository appRolePriorityRepository;
-
-	/** Object for Sync app detail Repository. */
-	@Autowired
-	private AppDetailRepository appDetailRepository;
-
-	/** Object for Sync screen auth Repository. */
-	@Autowired
-	private ScreenAuthorizationRepository screenAuthorizationRepository;
-
-	/** Object for Sync screen auth Repository. */
-	@Autowired
-	private ProcessListRepository processListRepository;
-
-	/** Object for screen detail Repository. */
-	@Autowired
-	private ScreenDetailRepository screenDetailRepository;
-
-	/** Object for Sync screen auth Repository. */
-	@Autowired
-	private SyncJobDefRepository syncJobDefRepository;
-	
 
 	@Autowired
 	private RegisteredDeviceTypeRepository registeredDeviceTypeRepository;
@@ -247,9 +61,6 @@ public class ClientSettingSyncHelper {
 	@Autowired
 	private MosipDeviceServiceRepository mosipDeviceServiceRepository;
 	
-	@Autowired
-	private FoundationalTrustProviderRepository foundationalTrustProviderRepository;
-	
 	@Autowired
 	private DeviceProviderRepository deviceProviderRepository;
 	
@@ -264,6 +75,12 @@ public class ClientSettingSyncHelper {
 
 	@Autowired
 	private IdentitySchemaDao identitySchemaDao;
+
+	@Autowired
+	private MasterDataCacheEvictor masterDataCacheEvictor;
+
+	@Autowired
+	private MasterDataBatchWriter masterDataBatchWriter;
 		
 	private static final Map<String, String> ENTITY_CLASS_NAMES = new HashMap<String, String>();
 	
@@ -318,6 +135,7 @@ public class ClientSettingSyncHelper {
 			} catch (CompletionException e) {
 				throw e.getCause();
 			}
+			masterDataCacheEvictor.evictAll();
 
 			LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
 					"Complete master sync completed in (ms) : " + (System.currentTimeMillis() - start));
@@ -329,36 +147,52 @@ public class ClientSettingSyncHelper {
 	}
 	
 	/**
-	 * creating meta data for building the entities from SyncDataBaseDto
+	 * Streams the records of the entity from the sync payload into the database.
+	 * Records are parsed and mapped one at a time and written in batches, so the
+	 * payload is never held as a parsed tree.
 	 * 
-	 * @param syncDataBaseDto
-	 * @return
-	 * @throws Exception
+	 * @param syncDataResponseDto
+	 * @param entityName
+	 * @throws SyncFailedException
 	 */
-	private List buildEntities(SyncDataBaseDto syncDataBaseDto) throws SyncFailedException {	
-		try {		
-			List<Object> entities = new ArrayList<Object>();
+	private void saveEntities(SyncDataResponseDto syncDataResponseDto, String entityName) throws SyncFailedException {
+		try {
+			SyncDataBaseDto syncDataBaseDto = getSyncDataBaseDto(syncDataResponseDto, entityName);
 			if(syncDataBaseDto == null || syncDataBaseDto.getData() == null || syncDataBaseDto.getData().isEmpty())
-				return entities;
+				return;
 
-			LOGGER.debug(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Building entity of type : " +
+			LOGGER.debug(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Saving entity of type : " +
 					syncDataBaseDto.getEntityName());
 
+			Class<?> entityClass = getEntityClass(syncDataBaseDto.getEntityName());
 			byte[] data = clientCryptoFacade.decrypt(CryptoUtil.decodeBase64(syncDataBaseDto.getData()));
-			JSONArray jsonArray = new JSONArray(new String(data));
 
-			for(int i =0; i < jsonArray.length(); i++) {
-				JSONObject jsonObject = new JSONObject(jsonArray.getString(i));
-				Object entity = MetaDataUtils.setCreateJSONObjectToMetaData(jsonObject, getEntityClass(syncDataBaseDto.getEntityName()));
-				entities.add(entity);
-			}
+			try (JsonParser parser = MapperUtils.createJsonParser(data);
+					MasterDataBatchWriter.Batch batch = masterDataBatchWriter.begin()) {
+				if (parser.nextToken() != JsonToken.START_ARRAY)
+					throw new SyncFailedException("Data of " + entityName + " is not a json array");
+
+				while (parser.nextToken() != JsonToken.END_ARRAY) {
+					batch.add(MetaDataUtils.setCreateJsonNodeToMetaData(readRecord(parser), entityClass));
+				}
 
-			return entities;
+				LOGGER.debug(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Saved " + batch.getCount() +
+						" entities of type : " + syncDataBaseDto.getEntityName());
+			}
 		} catch (Throwable e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, ExceptionUtils.getStackTrace(e));
 			throw new SyncFailedException("Building entities is failed..." + e.getMessage());
 		}
 	}
+
+	/**
+	 * Reads the record the parser is positioned on. Records are sent as json
+	 * strings, a record sent as json object is read as it is.
+	 */
+	private JsonNode readRecord(JsonParser parser) throws IOException {
+		return parser.currentToken() == JsonToken.VALUE_STRING ? MapperUtils.convertJSONStringToTree(parser.getText())
+				: parser.readValueAsTree();
+	}
 	
 	private SyncDataBaseDto getSyncDataBaseDto(SyncDataResponseDto syncDataResponseDto, String entityName) throws Exception {
 		SyncDataBaseDto syncDataBaseDto = syncDataResponseDto.getDataToSync().stream()
@@ -388,10 +222,10 @@ public class ClientSettingSyncHelper {
 	@Async
 	private CompletableFuture<Boolean> handleDeviceSync(SyncDataResponseDto syncDataResponseDto) throws Exception {
 		try {		
-			deviceTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "DeviceType")));
-			deviceSpecificationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto,"DeviceSpecification")));
-			deviceMasterRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto,"Device")));
-			foundationalTrustProviderRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "FoundationalTrustProvider")));
+			saveEntities(syncDataResponseDto, "DeviceType");
+			saveEntities(syncDataResponseDto, "DeviceSpecification");
+			saveEntities(syncDataResponseDto, "Device");
+			saveEntities(syncDataResponseDto, "FoundationalTrustProvider");
 		} catch (Exception e) {
 			throw new SyncFailedException(e.getMessage()+"Saving the entities into machine sync is failed ");
 		}
@@ -406,9 +240,9 @@ public class ClientSettingSyncHelper {
 	@Async
 	private CompletableFuture handleMachineSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException {
 		try {
-			machineTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "MachineType")));
-			machineSpecificationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "MachineSpecification")));
-			machineRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Machine")));
+			saveEntities(syncDataResponseDto, "MachineType");
+			saveEntities(syncDataResponseDto, "MachineSpecification");
+			saveEntities(syncDataResponseDto, "Machine");
 		}  catch (Exception e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
 			throw new SyncFailedException("Machine data sync failed due to " +  e.getMessage());
@@ -424,12 +258,12 @@ public class ClientSettingSyncHelper {
 	@Async
 	private CompletableFuture handleRegistrationCenterSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
 		try {
-			registrationCenterTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterType")));
-			registrationCenterRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenter")));			
-			registrationCenterDeviceRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterDevice")));
-			centerMachineRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterMachine")));
-			registrationCenterMachineDeviceRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterMachineDevice")));
-			registrationCenterUserRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterUser")));
+			saveEntities(syncDataResponseDto, "RegistrationCenterType");
+			saveEntities(syncDataResponseDto, "RegistrationCenter");			
+			saveEntities(syncDataResponseDto, "RegistrationCenterDevice");
+			saveEntities(syncDataResponseDto, "RegistrationCenterMachine");
+			saveEntities(syncDataResponseDto, "RegistrationCenterMachineDevice");
+			saveEntities(syncDataResponseDto, "RegistrationCenterUser");
 		} catch (Exception e ) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
 			throw new SyncFailedException("RegistrationCenter data sync failed due to " +  e.getMessage());
@@ -445,9 +279,9 @@ public class ClientSettingSyncHelper {
 	@Async
 	private CompletableFuture handleAppDetailSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException {
 		try {
-			appDetailRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "AppDetail")));
-			appRolePriorityRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "AppRolePriority")));
-			appAuthenticationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "AppAuthenticationMethod")));
+			saveEntities(syncDataResponseDto, "AppDetail");
+			saveEntities(syncDataResponseDto, "AppRolePriority");
+			saveEntities(syncDataResponseDto, "AppAuthenticationMethod");
 		} catch (Exception e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
 			throw new SyncFailedException("AppDetail data sync failed due to " +  e.getMessage());
@@ -463,9 +297,9 @@ public class ClientSettingSyncHelper {
 	@Async
 	private CompletableFuture handleTemplateSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException{
 		try {
-			templateFileFormatRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "TemplateFileFormat")));
-			templateTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "TemplateType")));
-			templateRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Template")));
+			saveEntities(syncDataResponseDto, "TemplateFileFormat");
+			saveEntities(syncDataResponseDto, "TemplateType");
+			saveEntities(syncDataResponseDto, "Template");
 		} catch (Exception e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
 			throw new SyncFailedException("Template data sync failed due to " +  e.getMessage());
@@ -481,10 +315,10 @@ public class ClientSettingSyncHelper {
 	@Async
 	private CompletableFuture handleDocumentSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
 		try {
-			documentTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "DocumentType")));
-			documentCategoryRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "DocumentCategory")));
-			applicantValidDocumentRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ApplicantValidDocument")));
-			validDocumentRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ValidDocument")));
+			saveEntities(syncDataResponseDto, "DocumentType");
+			saveEntities(syncDataResponseDto, "DocumentCategory");
+			saveEntities(syncDataResponseDto, "ApplicantValidDocument");
+			saveEntities(syncDataResponseDto, "ValidDocument");
 		} catch (Exception e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
 			throw new SyncFailedException("Document data sync failed due to " +  e.getMessage());
@@ -500,13 +334,13 @@ public class ClientSettingSyncHelper {
 	@Async
 	private CompletableFuture handleIdSchemaPossibleValuesSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
 		try {
-			biometricTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "BiometricType")));
-			biometricAttributeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "BiometricAttribute")));
-			genderRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Gender")));
-			idTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "IdType")));
-			locationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Location")));
-			titleRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Title")));
-			individualTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "IndividualType")));
+			saveEntities(syncDataResponseDto, "BiometricType");
+			saveEntities(syncDataResponseDto, "BiometricAttribute");
+			saveEntities(syncDataResponseDto, "Gender");
+			saveEntities(syncDataResponseDto, "IdType");
+			saveEntities(syncDataResponseDto, "Location");
+			saveEntities(syncDataResponseDto, "Title");
+			saveEntities(syncDataResponseDto, "IndividualType");
 		} catch (Exception e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
 			throw new SyncFailedException("IdSchema data sync failed due to " +  e.getMessage());
@@ -522,10 +356,10 @@ public class ClientSettingSyncHelper {
 	@Async
 	private CompletableFuture handleMisellaneousSync1(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
 		try {
-			blacklistedWordsRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "BlacklistedWords")));
-			processListRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ProcessList")));
-			screenDetailRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ScreenDetail")));
-			screenAuthorizationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ScreenAuthorization")));
+			saveEntities(syncDataResponseDto, "BlacklistedWords");
+			saveEntities(syncDataResponseDto, "ProcessList");
+			saveEntities(syncDataResponseDto, "ScreenDetail");
+			saveEntities(syncDataResponseDto, "ScreenAuthorization");
 		} catch (Exception e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
 			throw new SyncFailedException("Miscellaneous data sync failed due to " +  e.getMessage());
@@ -541,10 +375,10 @@ public class ClientSettingSyncHelper {
 	@Async
 	private CompletableFuture handleMisellaneousSync2(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
 		try {
-			languageRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Language")));
-			reasonCategoryRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ReasonCategory")));
-			reasonListRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ReasonList")));
-			syncJobDefRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "SyncJobDef")));
+			saveEntities(syncDataResponseDto, "Language");
+			saveEntities(syncDataResponseDto, "ReasonCategory");
+			saveEntities(syncDataResponseDto, "ReasonList");
+			saveEntities(syncDataResponseDto, "SyncJobDef");
 		} catch (Exception e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
 			throw new SyncFailedException("Miscellaneous data sync failed due to " +  e.getMessage());
@@ -563,33 +397,33 @@ public class ClientSettingSyncHelper {
 					.filter(obj -> FIELD_TYPE_DYNAMIC.equalsIgnoreCase(obj.getEntityType()))
 					.iterator();
 			
-			List<DynamicField> fields = new ArrayList<DynamicField>();
 			while(iterator.hasNext()) {
 				SyncDataBaseDto syncDataBaseDto = iterator.next();
 				
 				if(syncDataBaseDto != null && syncDataBaseDto.getData() != null && !syncDataBaseDto.getData().isEmpty()) {
 					byte[] data = clientCryptoFacade.decrypt(CryptoUtil.decodeBase64(syncDataBaseDto.getData()));
-					JSONArray jsonArray = new JSONArray(new String(data));
-
-					for(int i=0; i< jsonArray.length(); i++) {
-						DynamicFieldDto dynamicFieldDto = MapperUtils.convertJSONStringToDto(jsonArray.getString(i),
-								new TypeReference<DynamicFieldDto>() {});
-						DynamicField dynamicField = new DynamicField();
-						dynamicField.setId(dynamicFieldDto.getId());
-						dynamicField.setDataType(dynamicFieldDto.getDataType());
-						dynamicField.setName(dynamicFieldDto.getName());
-						dynamicField.setLangCode(dynamicFieldDto.getLangCode());
-						dynamicField.setValueJson(dynamicFieldDto.getFieldVal() == null ?
-								"[]" : MapperUtils.convertObjectToJsonString(dynamicFieldDto.getFieldVal()));
-						dynamicField.setActive(dynamicFieldDto.isActive());
-						fields.add(dynamicField);
+
+					try (JsonParser parser = MapperUtils.createJsonParser(data);
+							MasterDataBatchWriter.Batch batch = masterDataBatchWriter.begin()) {
+						if (parser.nextToken() != JsonToken.START_ARRAY)
+							throw new SyncFailedException("Data of " + syncDataBaseDto.getEntityName() + " is not a json array");
+
+						while (parser.nextToken() != JsonToken.END_ARRAY) {
+							DynamicFieldDto dynamicFieldDto = MapperUtils.convertTreeToValue(readRecord(parser),
+									DynamicFieldDto.class);
+							DynamicField dynamicField = new DynamicField();
+							dynamicField.setId(dynamicFieldDto.getId());
+							dynamicField.setDataType(dynamicFieldDto.getDataType());
+							dynamicField.setName(dynamicFieldDto.getName());
+							dynamicField.setLangCode(dynamicFieldDto.getLangCode());
+							dynamicField.setValueJson(dynamicFieldDto.getFieldVal() == null ?
+									"[]" : MapperUtils.convertObjectToJsonString(dynamicFieldDto.getFieldVal()));
+							dynamicField.setActive(dynamicFieldDto.isActive());
+							batch.add(dynamicField);
+						}
 					}
 				}
 			}
-			
-			if (!fields.isEmpty()) {
-				dynamicFieldRepository.saveAll(fields);
-			}
 				
 		} catch(IOException e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
@@ -20,8 +20,6 @@ import java.util.Objects;
 
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
-import javax.persistence.ManyToMany;
-import javax.persistence.ManyToOne;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -29,13 +27,13 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 
-import org.json.JSONException;
-import org.json.JSONObject;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -278,20 +276,6 @@ public class MapperUtils {
 			}
 		}
 	}
-	
-	
-	
-	private static boolean isIgnoreField(Field dfield) {
-		return (Modifier.isStatic(dfield.getModifiers()) 
-				|| Modifier.isFinal(dfield.getModifiers()) 
-				|| dfield.isAnnotationPresent(ManyToMany.class)
-				|| dfield.isAnnotationPresent(ManyToOne.class)
-				|| dfield.getName().equals("crBy")
-				|| dfield.getName().equals("crDtime")
-				|| dfield.getName().equals("updBy")
-				|| dfield.getName().equals("updDtimes")) ?
-						true : false;		
-	}
 
 	/**
 	 * Map source which extends {@link BaseEntity} to a DTO object.
@@ -484,101 +468,7 @@ public class MapperUtils {
 		sf.setAccessible(false);
 	}
 	
-	/**
-	 * Map values from {@link BaseEntity} class source object to destination or vice
-	 * versa.
-	 * 
-	 * @param jsonObject      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @throws ParseException 
-	 * @throws JSONException 
-	 * @throws SecurityException 
-	 * @throws IllegalArgumentException 
-	 */
-	public static <D> D mapJSONObjectToEntity(final JSONObject jsonObject, Class<?> entityClass) throws IllegalAccessException, InstantiationException, ParseException, IllegalArgumentException, SecurityException, JSONException {
-		Objects.requireNonNull(jsonObject, SOURCE_NULL_MESSAGE);
-		Objects.requireNonNull(entityClass, "destination class should not be null");
-		Object destination = null;
-		try {
-			destination = entityClass.newInstance();
-		} catch (InstantiationException | IllegalAccessException exOperationException) {
-			LOGGER.error(MAPPER_UTILL, APPLICATION_NAME, APPLICATION_ID, "Exception in mapping vlaues from source : "
-					+ jsonObject.getClass().getName() + " to destination : " + entityClass.getName());
-			throw new RegBaseUncheckedException(MAPPER_UTILL,
-					exOperationException.getMessage() + ExceptionUtils.getStackTrace(exOperationException));
-		}
-		Objects.requireNonNull(destination, DESTINATION_NULL_MESSAGE);
-		setBaseFieldValueFromJsonObject(jsonObject, destination);// map super class values
-		mapJsonToEntity(jsonObject, destination, destination.getClass().getDeclaredFields());
-		return (D) destination;
-	}
-	
-	
-	/**
-	 * Take value from source field and insert value into destination field.
-	 * 
-	 * @param jsonObject      which value is going to be mapped
-	 * @param destination where values is going to be mapped
-	 * @param fields         destination fields
-	 * @throws IllegalAccessException if provided fields are not accessible
-	 * @throws JSONException 
-	 * @throws IllegalArgumentException 
-	 */
-	private static <D> void mapJsonToEntity(JSONObject jsonObject, D destination, Field[] fields)
-			throws InstantiationException, IllegalAccessException, ParseException, IllegalArgumentException, JSONException {
-
-		for (Field dfield : fields) {
-			if (isIgnoreField(dfield)) {
-				continue;
-			}
-			if (dfield.isAnnotationPresent(EmbeddedId.class)) {
-				Object id = dfield.getType().newInstance();
-				mapJsonToEntity(jsonObject, id, id.getClass().getDeclaredFields());
-				dfield.setAccessible(true);
-				dfield.set(destination, id);
-				dfield.setAccessible(false);
-				continue;
-			}
-			
-			//avoids failure of complete sync on missing of non-mandatory field
-			if(!jsonObject.has(dfield.getName()) || jsonObject.get(dfield.getName()) == JSONObject.NULL) {
-				//throw new RegBaseUncheckedException(MAPPER_UTILL, String.format(FIELD_MISSING_ERROR_MESSAGE, dfield.getName()));
-				//LOGGER.warn(MAPPER_UTILL, APPLICATION_NAME, APPLICATION_ID, String.format(FIELD_MISSING_ERROR_MESSAGE, dfield.getName()));
-				continue;
-			}
-			
-			dfield.setAccessible(true);			
-			
-			switch (dfield.getType().getName()) {
-			case "java.lang.Boolean":	
-				dfield.set(destination, jsonObject.get(dfield.getName()));
-				break;
-			case "boolean":
-				dfield.set(destination,  jsonObject.get(dfield.getName()));
-				break;
-			case "java.sql.Time":
-				dfield.set(destination, java.sql.Time.valueOf(jsonObject.getString(dfield.getName())));
-				break;
-			case "[B" :
-				dfield.set(destination, jsonObject.getString(dfield.getName()).getBytes());
-				break;
-			case "java.sql.Timestamp" :
-				dfield.set(destination, getTimestampValue(jsonObject.getString(dfield.getName())));
-				break;
-			case "java.time.LocalDateTime":
-				dfield.set(destination, getLocalDateTimeValue(jsonObject.getString(dfield.getName())));
-				break;
-			case "java.time.LocalDate":
-				dfield.set(destination, getLocalDateValue(jsonObject.getString(dfield.getName())));
-				break;
-			default:
-				dfield.set(destination, jsonObject.get(dfield.getName()));
-				break;
-			}			
-		}
-	}
-	
-	private static Timestamp getTimestampValue(String value) {
+	static Timestamp getTimestampValue(String value) {
 		Timestamp timestamp = null;
 		try {
 			timestamp = new Timestamp(SIMPLE_DATE_FORMAT.parse(value).getTime());
@@ -589,7 +479,7 @@ public class MapperUtils {
 		return timestamp;
 	}
 	
-	private static LocalDateTime getLocalDateTimeValue(String value) {
+	static LocalDateTime getLocalDateTimeValue(String value) {
 		LocalDateTime timestamp = null;
 		try {
 			Instant instant = Instant.parse(value);
@@ -601,7 +491,7 @@ public class MapperUtils {
 		return timestamp;
 	}
 	
-	private static LocalDate getLocalDateValue(String value) {
+	static LocalDate getLocalDateValue(String value) {
 		LocalDate timestamp = null;
 		try {
 			timestamp = LocalDate.parse(value);
@@ -613,17 +503,6 @@ public class MapperUtils {
 	}
 	
 	
-	private static <D> void setBaseFieldValueFromJsonObject(JSONObject source, D destination) throws InstantiationException, IllegalAccessException, ParseException, IllegalArgumentException, JSONException {
-
-		String destinationSupername = destination.getClass().getSuperclass().getName();// super class of destination object
-		String baseEntityClassName = RegistrationCommonFields.class.getName();// base entity fully qualified name
-		// if destination is an entity
-		if (destinationSupername.equals(baseEntityClassName)) {
-			Field[] destinationFields = destination.getClass().getSuperclass().getDeclaredFields();
-			mapJsonToEntity(source, destination, destinationFields);
-		}
-	}
-	
 	public static <T> T convertJSONStringToDto(final String jsonString, TypeReference<T> typeReference) throws IOException {
 		return mapper.readValue(jsonString, typeReference);
 	}
@@ -632,4 +511,24 @@ public class MapperUtils {
 		return mapper.writeValueAsString(object);
 	}
 
+	/**
+	 * Creates a streaming parser over the JSON content, which can read the
+	 * values it is positioned on as trees.
+	 *
+	 * @param content the JSON content
+	 * @return the parser
+	 * @throws IOException if the parser could not be created
+	 */
+	public static JsonParser createJsonParser(final byte[] content) throws IOException {
+		return mapper.getFactory().createParser(content);
+	}
+
+	public static JsonNode convertJSONStringToTree(final String jsonString) throws IOException {
+		return mapper.readTree(jsonString);
+	}
+
+	public static <T> T convertTreeToValue(final JsonNode jsonNode, Class<T> valueType) throws IOException {
+		return mapper.treeToValue(jsonNode, valueType);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package io.mosip.registration.util.mastersync;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Writes the entities of a master data sync in bounded batches.
+ *
+ * The ids saved for an entity class are read with one query when the first
+ * entity of the class is added. Entities with a saved id are updated, the
+ * others are inserted, so no entity is read back before it is written. The
+ * entities are flushed every batch size entities, which Hibernate sends to the
+ * database as JDBC batches (hibernate.jdbc.batch_size), and are then detached.
+ * Only the entities of the batch are detached, the other entities of the sync
+ * transaction stay managed.
+ */
+@Component
+public class MasterDataBatchWriter {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${hibernate.jdbc.batch_size:100}")
+	private int batchSize;
+
+	private final Map<Class<?>, List<SingularAttribute<?, ?>>> idAttributes = new ConcurrentHashMap<>();
+
+	/**
+	 * Starts a batch. It has to be closed to write the remaining entities.
+	 *
+	 * @return the batch
+	 */
+	public Batch begin() {
+		return new Batch();
+	}
+
+	private List<SingularAttribute<?, ?>> getIdAttributes(Class<?> entityClass) {
+		return idAttributes.computeIfAbsent(entityClass, key -> {
+			EntityType<?> entityType = entityManager.getMetamodel().entity(key);
+			if (entityType.hasSingleIdAttribute())
+				return Collections.singletonList(entityType.getId(entityType.getIdType().getJavaType()));
+			// the id class attributes are a set, they are sorted to read them in
+			// the same order from the entities and from the saved rows
+			List<SingularAttribute<?, ?>> attributes = new ArrayList<>(entityType.getIdClassAttributes());
+			attributes.sort(Comparator.comparing(SingularAttribute::getName));
+			return attributes;
+		});
+	}
+
+	private Set<List<Object>> getSavedIds(Class<?> entityClass) {
+		List<SingularAttribute<?, ?>> attributes = getIdAttributes(entityClass);
+		String query = "select " + attributes.stream().map(attribute -> "e." + attribute.getName())
+				.collect(Collectors.joining(", ")) + " from "
+				+ entityManager.getMetamodel().entity(entityClass).getName() + " e";
+
+		Set<List<Object>> savedIds = new HashSet<>();
+		for (Object row : entityManager.createQuery(query).getResultList()) {
+			List<Object> id = new ArrayList<>();
+			id.add(entityClass);
+			if (row instanceof Object[])
+				id.addAll(Arrays.asList((Object[]) row));
+			else
+				id.add(row);
+			savedIds.add(id);
+		}
+		return savedIds;
+	}
+
+	private List<Object> getId(Object entity) {
+		List<Object> id = new ArrayList<>();
+		id.add(entity.getClass());
+		for (SingularAttribute<?, ?> attribute : getIdAttributes(entity.getClass()))
+			id.add(getValue(attribute.getJavaMember(), entity));
+		return id;
+	}
+
+	private static Object getValue(Member member, Object entity) {
+		if (member instanceof Method) {
+			ReflectionUtils.makeAccessible((Method) member);
+			return ReflectionUtils.invokeMethod((Method) member, entity);
+		}
+		ReflectionUtils.makeAccessible((Field) member);
+		return ReflectionUtils.getField((Field) member, entity);
+	}
+
+	/**
+	 * The entities of one sync, written every batch size entities.
+	 */
+	public class Batch implements AutoCloseable {
+
+		private final Set<Class<?>> loadedClasses = new HashSet<>();
+
+		private final Set<List<Object>> savedIds = new HashSet<>();
+
+		private final Set<List<Object>> pendingIds = new HashSet<>();
+
+		private final List<Object> pending = new ArrayList<>();
+
+		private int written;
+
+		private Batch() {
+		}
+
+		/**
+		 * Adds the entity, inserting it or updating the saved one.
+		 *
+		 * @param entity the entity
+		 */
+		public void add(Object entity) {
+			if (loadedClasses.add(entity.getClass()))
+				savedIds.addAll(getSavedIds(entity.getClass()));
+
+			List<Object> id = getId(entity);
+			// a record sent twice is written after the pending one
+			if (pendingIds.contains(id))
+				flush();
+
+			if (savedIds.add(id))
+				entityManager.persist(entity);
+			else
+				entityManager.unwrap(Session.class).update(entity);
+			pendingIds.add(id);
+			pending.add(entity);
+
+			if (pending.size() >= batchSize)
+				flush();
+		}
+
+		/**
+		 * Gets the number of entities added.
+		 *
+		 * @return the count
+		 */
+		public int getCount() {
+			return written + pending.size();
+		}
+
+		@Override
+		public void close() {
+			if (!pending.isEmpty())
+				flush();
+		}
+
+		private void flush() {
+			entityManager.flush();
+			for (Object entity : pending)
+				entityManager.detach(entity);
+			written += pending.size();
+			pending.clear();
+			pendingIds.clear();
+		}
+	}
+
+}
@@ -0,0 +1,57 @@
+package io.mosip.registration.util.mastersync;
+
+import static io.mosip.registration.constants.LoggerConstants.LOG_REG_MASTER_SYNC;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnit;
+
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+
+/**
+ * Clears the second level and query caches of the master data entities.
+ *
+ * Master sync and global param updates write to the tables through bulk saves,
+ * so the cached query results are dropped once the new data is committed and
+ * the next lookup reads it from the database.
+ */
+@Component
+public class MasterDataCacheEvictor {
+
+	private static final Logger LOGGER = AppConfig.getLogger(MasterDataCacheEvictor.class);
+
+	@PersistenceUnit
+	private EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Evicts all cached entities and query results. Inside a transaction the
+	 * caches are evicted once it is committed, so a lookup in between cannot
+	 * cache the old data again.
+	 */
+	public void evictAll() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					evict();
+				}
+			});
+		} else {
+			evict();
+		}
+	}
+
+	private void evict() {
+		entityManagerFactory.getCache().evictAll();
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+		LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Master data caches evicted");
+	}
+
+}
@@ -0,0 +1,175 @@
+package io.mosip.registration.util.mastersync;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.Time;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.mosip.registration.entity.RegistrationCommonFields;
+
+/**
+ * Maps the JSON records of a master data sync to entities.
+ *
+ * The mapped fields of an entity class are resolved once and the mapper is
+ * reused for every record of that class. Mapping a record therefore does not
+ * look up declared fields and annotations again.
+ *
+ * @see MetaDataUtils#setCreateJsonNodeToMetaData(JsonNode, Class)
+ */
+final class MasterDataEntityMapper {
+
+	private static final Map<Class<?>, MasterDataEntityMapper> MAPPERS = new ConcurrentHashMap<>();
+
+	private final Constructor<?> constructor;
+
+	private final List<FieldMapping> fieldMappings;
+
+	/**
+	 * Gets the mapper of the entity class, creating it on first use.
+	 *
+	 * @param entityClass the entity class
+	 * @return the mapper
+	 */
+	static MasterDataEntityMapper forClass(Class<?> entityClass) {
+		return MAPPERS.computeIfAbsent(entityClass, type -> new MasterDataEntityMapper(type, true));
+	}
+
+	private MasterDataEntityMapper(Class<?> entityClass, boolean mapBaseFields) {
+		try {
+			constructor = entityClass.getDeclaredConstructor();
+			constructor.setAccessible(true);
+		} catch (NoSuchMethodException exception) {
+			throw new IllegalArgumentException("No default constructor in " + entityClass.getName(), exception);
+		}
+		List<FieldMapping> mappings = new ArrayList<>();
+		// super class values are mapped only for entities extending the common fields
+		if (mapBaseFields && RegistrationCommonFields.class.equals(entityClass.getSuperclass())) {
+			addFieldMappings(mappings, RegistrationCommonFields.class.getDeclaredFields());
+		}
+		addFieldMappings(mappings, entityClass.getDeclaredFields());
+		fieldMappings = Collections.unmodifiableList(mappings);
+	}
+
+	/**
+	 * Creates an entity from the record. Fields missing in the record or null
+	 * are left unset.
+	 *
+	 * @param record the JSON record
+	 * @return the entity
+	 * @throws ReflectiveOperationException if the entity could not be created
+	 * @throws IOException                  if a value could not be converted
+	 */
+	Object map(JsonNode record) throws ReflectiveOperationException, IOException {
+		Object destination = constructor.newInstance();
+		for (FieldMapping fieldMapping : fieldMappings) {
+			fieldMapping.map(record, destination);
+		}
+		return destination;
+	}
+
+	private static void addFieldMappings(List<FieldMapping> mappings, Field[] fields) {
+		for (Field field : fields) {
+			if (isIgnoreField(field)) {
+				continue;
+			}
+			field.setAccessible(true);
+			if (field.isAnnotationPresent(EmbeddedId.class)) {
+				mappings.add(new FieldMapping(field, null, new MasterDataEntityMapper(field.getType(), false)));
+			} else {
+				mappings.add(new FieldMapping(field, getValueConverter(field.getType()), null));
+			}
+		}
+	}
+
+	private static boolean isIgnoreField(Field field) {
+		return Modifier.isStatic(field.getModifiers())
+				|| Modifier.isFinal(field.getModifiers())
+				|| field.isAnnotationPresent(ManyToMany.class)
+				|| field.isAnnotationPresent(ManyToOne.class)
+				|| field.getName().equals("crBy")
+				|| field.getName().equals("crDtime")
+				|| field.getName().equals("updBy")
+				|| field.getName().equals("updDtimes");
+	}
+
+	private static ValueConverter getValueConverter(Class<?> type) {
+		switch (type.getName()) {
+		case "java.lang.Boolean":
+		case "boolean":
+			return JsonNode::asBoolean;
+		case "java.lang.String":
+			return value -> value.isValueNode() ? value.asText() : value.toString();
+		case "java.lang.Integer":
+		case "int":
+			return JsonNode::asInt;
+		case "java.lang.Long":
+		case "long":
+			return JsonNode::asLong;
+		case "java.lang.Double":
+		case "double":
+			return JsonNode::asDouble;
+		case "java.lang.Short":
+		case "short":
+			return value -> (short) value.asInt();
+		case "java.sql.Time":
+			return value -> Time.valueOf(value.asText());
+		case "[B":
+			return value -> value.asText().getBytes();
+		case "java.sql.Timestamp":
+			return value -> MapperUtils.getTimestampValue(value.asText());
+		case "java.time.LocalDateTime":
+			return value -> MapperUtils.getLocalDateTimeValue(value.asText());
+		case "java.time.LocalDate":
+			return value -> MapperUtils.getLocalDateValue(value.asText());
+		default:
+			return value -> MapperUtils.convertTreeToValue(value, type);
+		}
+	}
+
+	@FunctionalInterface
+	private interface ValueConverter {
+		Object convert(JsonNode value) throws IOException;
+	}
+
+	private static final class FieldMapping {
+
+		private final Field field;
+
+		private final ValueConverter valueConverter;
+
+		private final MasterDataEntityMapper embeddedIdMapper;
+
+		private FieldMapping(Field field, ValueConverter valueConverter, MasterDataEntityMapper embeddedIdMapper) {
+			this.field = field;
+			this.valueConverter = valueConverter;
+			this.embeddedIdMapper = embeddedIdMapper;
+		}
+
+		private void map(JsonNode record, Object destination) throws ReflectiveOperationException, IOException {
+			if (embeddedIdMapper != null) {
+				// the embedded id columns are top level values of the record
+				field.set(destination, embeddedIdMapper.map(record));
+				return;
+			}
+			JsonNode value = record.get(field.getName());
+			// avoids failure of complete sync on missing of non-mandatory field
+			if (value == null || value.isNull()) {
+				return;
+			}
+			field.set(destination, valueConverter.convert(value));
+		}
+	}
+
+}
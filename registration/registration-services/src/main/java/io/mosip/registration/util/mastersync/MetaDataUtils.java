@@ -7,9 +7,10 @@ import java.util.List;
 
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
-import org.json.JSONObject;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import io.mosip.kernel.core.dataaccess.exception.DataAccessLayerException;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.constants.RegistrationConstants;
@@ -153,34 +154,27 @@ public class MetaDataUtils {
 	}
 
 	/**
-	 * This method takes <code>source</code> JSONObject and a class which must
-	 * extends {@link RegistrationCommonFields} and map all values from Json object
-	 * to the <code>destinationClass</code> object and return it.
-	 * 
-	 * @param <T>              is a type parameter
-	 * @param <D>              is a type parameter
-	 * @param jsonObject       is the source
-	 * @param destinationClass is the destination class
+	 * This method takes a <code>record</code> read from a streamed sync payload
+	 * and maps it to the <code>entityClass</code> with the cached
+	 * {@link MasterDataEntityMapper} of the class.
+	 *
+	 * @param <D>         is a type parameter
+	 * @param record      is the source
+	 * @param entityClass is the destination class
 	 * @return an entity class which extends {@link RegistrationCommonFields}
-	 * @throws Throwable
-	 * @throws DataAccessLayerException if any error occurs while mapping values
-	 * @see MapperUtils#setCreateJSONObjectToMetaData(Object, Class)
+	 * @throws Exception if any error occurs while mapping values
 	 */
-	public static <T, D extends RegistrationCommonFields> D setCreateJSONObjectToMetaData(final JSONObject jsonObject,
-			Class<?> entityClass) throws Throwable {
-		String contextUser = null;
-		D entity = null;
-		try {
-			if (SessionContext.isSessionContextAvailable()) {
-				contextUser = SessionContext.userContext().getUserId();
-			} else {
-				contextUser = RegistrationConstants.JOB_TRIGGER_POINT_SYSTEM;
-			}
-			entity = (D) MapperUtils.mapJSONObjectToEntity(jsonObject, entityClass);
-		} catch (Throwable t) {
-			t.printStackTrace();
-			throw t;
+	public static <D extends RegistrationCommonFields> D setCreateJsonNodeToMetaData(final JsonNode record,
+			Class<?> entityClass) throws Exception {
+		String contextUser;
+		if (SessionContext.isSessionContextAvailable()) {
+			contextUser = SessionContext.userContext().getUserId();
+		} else {
+			contextUser = RegistrationConstants.JOB_TRIGGER_POINT_SYSTEM;
 		}
+
+		D entity = (D) MasterDataEntityMapper.forClass(entityClass).map(record);
+
 		setCreatedDateTime(contextUser, entity);
 		return entity;
 	}
@@ -4,31 +4,30 @@ import static io.mosip.registration.constants.LoggerConstants.REG_ID_OBJECT_MAST
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
-import org.apache.commons.collections4.SetValuedMap;
-import org.apache.commons.collections4.multimap.HashSetValuedHashMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jayway.jsonpath.Configuration;
-import com.jayway.jsonpath.JsonPath;
-import com.jayway.jsonpath.Option;
 
+import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.idobjectvalidator.constant.IdObjectValidatorErrorConstant;
 import io.mosip.kernel.core.idobjectvalidator.exception.IdObjectIOException;
@@ -47,13 +46,17 @@ import io.mosip.registration.entity.Gender;
 import io.mosip.registration.entity.Language;
 import io.mosip.registration.entity.Location;
 import io.mosip.registration.entity.ValidDocument;
-import net.minidev.json.JSONArray;
 
 /**
  * This class validates the user selected (which is provided by the UI layer)
  * dropdown data against one available at the database layer, which is synced
  * from MOSIP server.
  *
+ * The master data is held in an immutable index which is rebuilt in the
+ * background after every master sync and swapped atomically, so validations
+ * never see a partially loaded index and use the synced data without a
+ * restart.
+ *
  * @author SaravanaKumar G
  */
 @Service
@@ -63,38 +66,41 @@ public class RegIdObjectMasterDataValidator {
 
 	private Logger LOGGER = AppConfig.getLogger(RegIdObjectMasterDataValidator.class);
 
-	@Autowired
-	private MasterSyncDao masterSyncDao;
+	/** The identity attribute holding the gender. */
+	private static final String GENDER_ATTRIBUTE = "gender";
 
-	/** The mapper. */
-	@Autowired
-	private ObjectMapper mapper;
+	/** The identity attributes holding a location, with their hierarchy level. */
+	private static final Map<String, String> LOCATION_ATTRIBUTE_LEVELS = Map.of(
+			"region", IdObjectReferenceValidatorLocationMapping.REGION.getLevel(),
+			"province", IdObjectReferenceValidatorLocationMapping.PROVINCE.getLevel(),
+			"city", IdObjectReferenceValidatorLocationMapping.CITY.getLevel(),
+			"zone", IdObjectReferenceValidatorLocationMapping.ZONE.getLevel());
 
-	/** The Constant READ_OPTIONS. */
-	private static final Configuration READ_OPTIONS = Configuration.defaultConfiguration()
-			.addOptions(Option.SUPPRESS_EXCEPTIONS);
+	private static final String LANGUAGE = "language";
 
-	/** The Constant PATH_LIST_OPTIONS. */
-	private static final Configuration PATH_LIST_OPTIONS = Configuration.defaultConfiguration()
-			.addOptions(Option.SUPPRESS_EXCEPTIONS, Option.AS_PATH_LIST, Option.ALWAYS_RETURN_LIST);
+	private static final String VALUE = "value";
 
-	/** The language list. */
-	private List<String> languageList;
+	private static final String DOCUMENT_TYPE = "type";
 
-	/** The gender map. */
-	private SetValuedMap<String, String> genderMap;
+	@Autowired
+	private MasterSyncDao masterSyncDao;
 
-	/** The doc cat map. */
-	private SetValuedMap<String, String> docCatMap;
+	/** The mapper. */
+	@Autowired
+	private ObjectMapper mapper;
 
-	/** The doc type map. */
-	private SetValuedMap<String, String> docTypeMap;
+	/** The index of the master data in use. */
+	private final AtomicReference<MasterDataIndex> masterDataIndex = new AtomicReference<>(MasterDataIndex.EMPTY);
 
-	/** The location hierarchy details. */
-	private SetValuedMap<String, String> locationHierarchyDetails;
+	/** Whether a refresh is waiting to be run. */
+	private final AtomicBoolean refreshPending = new AtomicBoolean();
 
-	/** The location details. */
-	private Map<String, SetValuedMap<String, String>> locationDetails;
+	/** Rebuilds the index in the background. */
+	private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "id-object-master-data-refresh");
+		thread.setDaemon(true);
+		return thread;
+	});
 
 	/**
 	 * Load data.
@@ -104,19 +110,44 @@ public class RegIdObjectMasterDataValidator {
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Loading data has been started post construct");
 
-		loadLanguages();
-		loadGenderTypes();
-		loadLocationDetails();
-		loadDocCategories();
-		loadDocTypes();
+		Set<String> languages = loadLanguages();
+		Map<String, Set<String>> genders = loadGenderTypes();
+		Map<String, Map<String, Set<String>>> locations = loadLocationDetails();
+		Map<String, Set<String>> documentTypes = loadDocTypes(loadDocCategories());
+		masterDataIndex.set(new MasterDataIndex(languages, genders, locations, documentTypes));
 
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID, "Loading data has ended");
 
 	}
 
+	/**
+	 * Rebuilds the master data index in the background. Refreshes requested
+	 * while one is waiting to be run are merged into it, and the index in use
+	 * is kept until the new one is complete.
+	 */
+	public void refresh() {
+		if (refreshPending.compareAndSet(false, true)) {
+			refreshExecutor.execute(() -> {
+				refreshPending.set(false);
+				try {
+					loadData();
+				} catch (RuntimeException runtimeException) {
+					LOGGER.error(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
+							"Refreshing data failed, the previous data is used "
+									+ ExceptionUtils.getStackTrace(runtimeException));
+				}
+			});
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		refreshExecutor.shutdownNow();
+	}
+
 	/*
 	 * (non-Javadoc)
-	 * 
+	 *
 	 * @see
 	 * io.mosip.kernel.core.idobjectvalidator.spi.IdObjectValidator#validateIdObject
 	 * (java.lang.Object)
@@ -127,445 +158,283 @@ public class RegIdObjectMasterDataValidator {
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Validating ID object has been started");
 
+		JsonNode identity;
 		try {
-			String identityString = mapper.writeValueAsString(identityObject);
-			List<ServiceError> errorList = new ArrayList<>();
-			validateLanguage(identityString, errorList);
-			validateGender(identityString, errorList);
-			validateRegion(identityString, errorList);
-			validateProvince(identityString, errorList);
-			validateCity(identityString, errorList);
-			//validatePostalCode(identityString, errorList);
-			validateLocalAdministrativeAuthority(identityString, errorList);
-			validateDocuments(identityString, errorList);
+			identity = mapper.valueToTree(identityObject);
+		} catch (IllegalArgumentException e) {
+			throw new IdObjectIOException(IdObjectValidatorErrorConstant.ID_OBJECT_PARSING_FAILED, e);
+		}
+
+		List<ServiceError> errorList = new ArrayList<>();
+		validate(identity, masterDataIndex.get(), errorList);
+		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
+				"Validating ID object has been ended");
+		if (errorList.isEmpty()) {
+			return true;
+		} else {
 			LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-					"Validating ID object has been ended");
-			if (errorList.isEmpty()) {
-				return true;
-			} else {
-				LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-						"errorList >>>> " + errorList);
-				throw new IdObjectValidationFailedException(IdObjectValidatorErrorConstant.ID_OBJECT_VALIDATION_FAILED,
-						errorList);
+					"errorList >>>> " + errorList);
+			throw new IdObjectValidationFailedException(IdObjectValidatorErrorConstant.ID_OBJECT_VALIDATION_FAILED,
+					errorList);
+		}
+	}
+
+	/**
+	 * Validates the languages, gender, locations and documents of the identity
+	 * in a single pass over its attributes.
+	 *
+	 * @param identityObject
+	 *            the parsed identity object
+	 * @param index
+	 *            the master data index
+	 * @param errorList
+	 *            the error list
+	 */
+	private void validate(JsonNode identityObject, MasterDataIndex index, List<ServiceError> errorList) {
+		JsonNode identity = identityObject == null ? null
+				: identityObject.get(IdObjectValidatorConstant.ROOT_PATH.getValue());
+		if (identity == null || !identity.isObject()) {
+			return;
+		}
+
+		Iterator<Map.Entry<String, JsonNode>> attributes = identity.fields();
+		while (attributes.hasNext()) {
+			Map.Entry<String, JsonNode> attribute = attributes.next();
+			String attributeName = attribute.getKey();
+			JsonNode attributeValue = attribute.getValue();
+
+			Map<String, Set<String>> values = null;
+			if (GENDER_ATTRIBUTE.equals(attributeName)) {
+				values = index.genders;
+			} else if (LOCATION_ATTRIBUTE_LEVELS.containsKey(attributeName)) {
+				values = index.locations.getOrDefault(LOCATION_ATTRIBUTE_LEVELS.get(attributeName),
+						Collections.emptyMap());
+			}
+			validateLanguageValues(attributeName, attributeValue, index.languages, values, errorList);
+
+			Set<String> documentTypes = index.documentTypes.get(attributeName);
+			if (documentTypes != null && attributeValue.isObject()) {
+				JsonNode documentType = attributeValue.get(DOCUMENT_TYPE);
+				if (documentType != null && !documentType.isNull()
+						&& !documentTypes.contains(documentType.textValue())) {
+					addError(errorList, attributeName, DOCUMENT_TYPE);
+				}
 			}
-		} catch (JsonProcessingException e) {
-			throw new IdObjectIOException(IdObjectValidatorErrorConstant.ID_OBJECT_PARSING_FAILED, e);
 		}
 	}
 
+	/**
+	 * Validates the language of every value of the attribute and, when the
+	 * attribute has master data values, the value of those in a known language.
+	 *
+	 * @param attributeName
+	 *            the attribute name
+	 * @param attributeValue
+	 *            the attribute value
+	 * @param languages
+	 *            the active languages
+	 * @param values
+	 *            the valid values of the attribute by language, or null
+	 * @param errorList
+	 *            the error list
+	 */
+	private void validateLanguageValues(String attributeName, JsonNode attributeValue, Set<String> languages,
+			Map<String, Set<String>> values, List<ServiceError> errorList) {
+		List<String> keys = new ArrayList<>();
+		List<JsonNode> elements = new ArrayList<>();
+		if (attributeValue.isArray()) {
+			for (int i = 0; i < attributeValue.size(); i++) {
+				keys.add(String.valueOf(i));
+				elements.add(attributeValue.get(i));
+			}
+		} else if (attributeValue.isObject()) {
+			attributeValue.fields().forEachRemaining(field -> {
+				keys.add(field.getKey());
+				elements.add(field.getValue());
+			});
+		}
+
+		for (int i = 0; i < elements.size(); i++) {
+			JsonNode element = elements.get(i);
+			if (!element.isObject() || !element.has(LANGUAGE)) {
+				continue;
+			}
+			String language = element.get(LANGUAGE).textValue();
+			if (!languages.contains(language)) {
+				addError(errorList, attributeName, keys.get(i), LANGUAGE);
+			} else if (values != null && values.containsKey(language)) {
+				JsonNode value = element.get(VALUE);
+				if (!values.get(language).contains(value == null ? null : value.textValue())) {
+					addError(errorList, attributeName, keys.get(i), VALUE);
+				}
+			}
+		}
+	}
+
+	private void addError(List<ServiceError> errorList, String... path) {
+		errorList.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
+				String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
+						IdObjectValidatorConstant.ROOT_PATH.getValue()
+								+ IdObjectValidatorConstant.PATH_SEPERATOR.getValue()
+								+ String.join(IdObjectValidatorConstant.PATH_SEPERATOR.getValue(), path))));
+	}
+
 	/**
 	 * Load languages.
 	 */
-	private void loadLanguages() {
+	private Set<String> loadLanguages() {
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Loading languages has been started");
 
-		List<Language> langList = masterSyncDao.getActiveLanguages();
-		languageList = new ArrayList<>();
-		if (!langList.isEmpty()) {
-			langList.forEach(lang -> {
-				languageList.add(lang.getCode());
-			});
+		Set<String> languages = new HashSet<>();
+		for (Language lang : masterSyncDao.getActiveLanguages()) {
+			languages.add(lang.getCode());
 		}
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Loading languages has been ended");
+		return languages;
 	}
 
 	/**
 	 * Load gender types.
 	 */
-	private void loadGenderTypes() {
+	private Map<String, Set<String>> loadGenderTypes() {
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Loading gender types has been started");
 
-		List<Gender> genderList = masterSyncDao.getGenders();
-		if (!genderList.isEmpty()) {
-			genderMap = new HashSetValuedHashMap<>(genderList.size());
-			genderList.forEach(gender -> {
-				genderMap.put(gender.getLangCode(), gender.getGenderName());
-			});
+		Map<String, Set<String>> genders = new HashMap<>();
+		for (Gender gender : masterSyncDao.getGenders()) {
+			genders.computeIfAbsent(gender.getLangCode(), langCode -> new HashSet<>()).add(gender.getGenderName());
 		}
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Loading gender types has been ended");
-
+		return genders;
 	}
 
 	/**
 	 * Load doc categories.
 	 */
-	private void loadDocCategories() {
+	private Map<String, Set<String>> loadDocCategories() {
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Loading document categories has been started");
 
-		List<DocumentCategory> docList = masterSyncDao.getDocumentCategory();
-		if (!docList.isEmpty()) {
-			docCatMap = new HashSetValuedHashMap<>(docList.size());
-			docList.forEach(doc -> {
-				docCatMap.put(doc.getLangCode(), doc.getCode());
-			});
+		Map<String, Set<String>> docCategories = new HashMap<>();
+		for (DocumentCategory doc : masterSyncDao.getDocumentCategory()) {
+			docCategories.computeIfAbsent(doc.getLangCode(), langCode -> new HashSet<>()).add(doc.getCode());
 		}
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Loading document categories has been ended");
+		return docCategories;
 	}
 
 	/**
-	 * Load doc types.
+	 * Load doc types of the document categories held by identity attributes.
+	 *
+	 * @param docCategories
+	 *            the document categories by language
+	 * @return the valid document types by identity attribute
 	 */
-	private void loadDocTypes() {
+	private Map<String, Set<String>> loadDocTypes(Map<String, Set<String>> docCategories) {
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Loading document types has been started");
 
-		docTypeMap = new HashSetValuedHashMap<>();
-		if (Objects.nonNull(docCatMap) && !docCatMap.isEmpty()) {
-			docCatMap.keySet().stream().forEach(langCode -> docCatMap.get(langCode).stream().forEach(docCat -> {
-				List<ValidDocument> masterValidDocuments = masterSyncDao.getValidDocumets(docCat);
-
-				List<String> validDocuments = new ArrayList<>();
-				masterValidDocuments.forEach(docs -> {
-					validDocuments.add(docs.getDocTypeCode());
-				});
-
-				List<DocumentType> masterDocuments = masterSyncDao.getDocumentTypes(validDocuments, langCode);
-				if (!masterDocuments.isEmpty()) {
-					masterDocuments.forEach(docType -> {
-						docTypeMap.put(docCat, docType.getCode());
+		Map<String, String> documentAttributes = IdObjectReferenceValidatorDocumentMapping.getAllMapping();
+		Map<String, List<String>> validDocumentsByCategory = new HashMap<>();
+		Map<String, Set<String>> documentTypes = new HashMap<>();
+		docCategories.forEach((langCode, categories) -> categories.stream().filter(documentAttributes::containsKey)
+				.forEach(docCat -> {
+					List<String> validDocuments = validDocumentsByCategory.computeIfAbsent(docCat, category -> {
+						List<String> docTypeCodes = new ArrayList<>();
+						for (ValidDocument validDocument : masterSyncDao.getValidDocumets(category)) {
+							docTypeCodes.add(validDocument.getDocTypeCode());
+						}
+						return docTypeCodes;
 					});
-				}
-			}));
-		}
+
+					List<DocumentType> masterDocuments = masterSyncDao.getDocumentTypes(validDocuments, langCode);
+					for (DocumentType docType : masterDocuments) {
+						documentTypes.computeIfAbsent(documentAttributes.get(docCat), attribute -> new HashSet<>())
+								.add(docType.getCode());
+					}
+				}));
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Loading document types has been ended");
-
+		return documentTypes;
 	}
 
 	/**
-	 * Load location details.
+	 * Load location details, grouped by hierarchy level and language in a
+	 * single pass over the locations.
 	 */
-	private void loadLocationDetails() {
+	private Map<String, Map<String, Set<String>>> loadLocationDetails() {
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
 				"Loading location details has been started");
 
-		locationHierarchyDetails = new HashSetValuedHashMap<>();
-		locationDetails = new LinkedHashMap<>();
 		List<Location> locationList = masterSyncDao.getLocationDetails();
-		if (!locationList.isEmpty()) {
-			locationList.forEach(location -> {
-				locationHierarchyDetails.put(String.valueOf(location.getHierarchyLevel()), location.getHierarchyName());
-				locationDetails.put(location.getHierarchyName(), null);
-			});
-
-			Set<String> locationHierarchyNames = locationDetails.keySet().stream().collect(Collectors.toSet());
-			locationHierarchyNames.stream().forEach(hierarchyName -> {
-				SetValuedMap<String, String> locations = new HashSetValuedHashMap<>();
-				locationList.forEach(location -> {
-					if (location.getHierarchyName().equalsIgnoreCase(hierarchyName)) {
-						locations.put(location.getLangCode(), location.getName());
-					}
-					if (StringUtils.isNotBlank(RegistrationConstants.AUDIT_DEFAULT_USER)) {
-						locations.put(location.getLangCode(),
-								StringUtils.trim(RegistrationConstants.AUDIT_DEFAULT_USER));
-					}
-				});
-				locationDetails.put(hierarchyName, locations);
-			});
+		Map<String, Set<String>> hierarchyNamesByLevel = new HashMap<>();
+		Map<String, Map<String, Set<String>>> namesByHierarchy = new HashMap<>();
+		Set<String> langCodes = new HashSet<>();
+		for (Location location : locationList) {
+			hierarchyNamesByLevel.computeIfAbsent(String.valueOf(location.getHierarchyLevel()), level -> new HashSet<>())
+					.add(location.getHierarchyName().toLowerCase(Locale.ROOT));
+			namesByHierarchy.computeIfAbsent(location.getHierarchyName().toLowerCase(Locale.ROOT),
+					hierarchyName -> new HashMap<>())
+					.computeIfAbsent(location.getLangCode(), langCode -> new HashSet<>()).add(location.getName());
+			langCodes.add(location.getLangCode());
 		}
 
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Loading location details has been ended");
-
-	}
-
-	/**
-	 * Validate language.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateLanguage(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating language has been started");
-		JsonPath jsonPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_LANGUAGE_PATH.getValue());
-		JSONArray pathList = jsonPath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, String> dataMap = IntStream.range(0, pathList.size()).boxed().parallel()
-				.collect(Collectors.toMap(i -> String.valueOf(pathList.get(i)),
-						i -> JsonPath.compile(String.valueOf(pathList.get(i))).read(identityString, READ_OPTIONS)));
-		dataMap.entrySet().stream().filter(entry -> !languageList.contains(entry.getValue()))
-				.forEach(entry -> errorList
-						.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-								String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-										convertToPath(entry.getKey())))));
-
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating language has been ended");
-	}
+		Map<String, Map<String, Set<String>>> locations = new HashMap<>();
+		hierarchyNamesByLevel.forEach((level, hierarchyNames) -> {
+			Map<String, Set<String>> levelLocations = new HashMap<>();
+			hierarchyNames.forEach(hierarchyName -> namesByHierarchy.get(hierarchyName)
+					.forEach((langCode, names) -> levelLocations
+							.computeIfAbsent(langCode, code -> new HashSet<>()).addAll(names)));
+			if (StringUtils.isNotBlank(RegistrationConstants.AUDIT_DEFAULT_USER)) {
+				langCodes.forEach(langCode -> levelLocations.computeIfAbsent(langCode, code -> new HashSet<>())
+						.add(StringUtils.trim(RegistrationConstants.AUDIT_DEFAULT_USER)));
+			}
+			locations.put(level, levelLocations);
+		});
 
-	/**
-	 * Validate gender.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateGender(String identityString, List<ServiceError> errorList) {
 		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating Gender has been started");
-
-		JsonPath genderLangPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_GENDER_LANGUAGE_PATH.getValue());
-		List<String> genderLangPathList = genderLangPath.read(identityString, PATH_LIST_OPTIONS);
-		JsonPath genderValuePath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_GENDER_VALUE_PATH.getValue());
-		List<String> genderValuePathList = genderValuePath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, Map.Entry<String, String>> dataMap = IntStream.range(0, genderLangPathList.size()).parallel()
-				.filter(index -> languageList
-						.contains(JsonPath.compile(genderLangPathList.get(index)).read(identityString, READ_OPTIONS)))
-				.boxed()
-				.collect(Collectors.toMap(genderLangPathList::get,
-						i -> new AbstractMap.SimpleImmutableEntry<String, String>(genderValuePathList.get(i),
-								JsonPath.compile(genderValuePathList.get(i)).read(identityString, READ_OPTIONS))));
-		dataMap.entrySet().stream().filter(entry -> {
-			String lang = JsonPath.compile(entry.getKey()).read(identityString, READ_OPTIONS);
-			return genderMap.containsKey(lang) && !genderMap.get(lang).contains(entry.getValue().getValue());
-		}).forEach(entry -> errorList
-				.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-								convertToPath(entry.getValue().getKey())))));
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating Gender has been ended");
-
+				"Loading location details has been ended");
+		return locations;
 	}
 
 	/**
-	 * Validate region.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
+	 * The immutable lookup index of the master data used by the validation.
 	 */
-	private void validateRegion(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating region has been started");
-
-		SetValuedMap<String, String> regionMap = new HashSetValuedHashMap<>();
-		Set<String> regionNameList = locationHierarchyDetails.get(IdObjectReferenceValidatorLocationMapping.REGION.getLevel());
-		Optional.ofNullable(regionNameList).orElse(Collections.emptySet()).stream()
-				.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
-						.ifPresent(locationDetail -> regionMap.putAll(locationDetail)));
-		JsonPath langPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_REGION_LANGUAGE_PATH.getValue());
-		List<String> langPathList = langPath.read(identityString, PATH_LIST_OPTIONS);
-		JsonPath valuePath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_REGION_VALUE_PATH.getValue());
-		List<String> valuePathList = valuePath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, Map.Entry<String, String>> dataMap = IntStream.range(0, langPathList.size()).parallel()
-				.filter(index -> languageList
-						.contains(JsonPath.compile(langPathList.get(index)).read(identityString, READ_OPTIONS)))
-				.boxed()
-				.collect(Collectors.toMap(langPathList::get,
-						i -> new AbstractMap.SimpleImmutableEntry<String, String>(valuePathList.get(i),
-								JsonPath.compile(valuePathList.get(i)).read(identityString, READ_OPTIONS))));
-		dataMap.entrySet().stream().filter(entry -> {
-			String lang = JsonPath.compile(entry.getKey()).read(identityString, READ_OPTIONS);
-			return regionMap.containsKey(lang) && !regionMap.get(lang).contains(entry.getValue().getValue());
-		}).forEach(entry -> errorList
-				.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-								convertToPath(entry.getValue().getKey())))));
+	private static final class MasterDataIndex {
 
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating region has been ended");
-	}
+		private static final MasterDataIndex EMPTY = new MasterDataIndex(Collections.emptySet(),
+				Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
 
-	/**
-	 * Validate province.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateProvince(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating province has been started");
-
-		SetValuedMap<String, String> provinceMap = new HashSetValuedHashMap<>();
-		Set<String> provinceNameList = locationHierarchyDetails
-				.get(IdObjectReferenceValidatorLocationMapping.PROVINCE.getLevel());
-		Optional.ofNullable(provinceNameList).orElse(Collections.emptySet()).stream()
-				.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
-						.ifPresent(locationDetail -> provinceMap.putAll(locationDetail)));
-		JsonPath langPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_PROVINCE_LANGUAGE_PATH.getValue());
-		List<String> langPathList = langPath.read(identityString, PATH_LIST_OPTIONS);
-		JsonPath valuePath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_PROVINCE_VALUE_PATH.getValue());
-		List<String> valuePathList = valuePath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, Map.Entry<String, String>> dataMap = IntStream.range(0, langPathList.size()).parallel()
-				.filter(index -> languageList
-						.contains(JsonPath.compile(langPathList.get(index)).read(identityString, READ_OPTIONS)))
-				.boxed()
-				.collect(Collectors.toMap(langPathList::get,
-						i -> new AbstractMap.SimpleImmutableEntry<String, String>(valuePathList.get(i),
-								JsonPath.compile(valuePathList.get(i)).read(identityString, READ_OPTIONS))));
-		dataMap.entrySet().stream().filter(entry -> {
-			String lang = JsonPath.compile(entry.getKey()).read(identityString, READ_OPTIONS);
-			return provinceMap.containsKey(lang) && !provinceMap.get(lang).contains(entry.getValue().getValue());
-		}).forEach(entry -> errorList
-				.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-								convertToPath(entry.getValue().getKey())))));
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating province has been ended");
-	}
+		/** The active language codes. */
+		private final Set<String> languages;
 
-	/**
-	 * Validate city.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateCity(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating city has been started");
-
-		SetValuedMap<String, String> cityMap = new HashSetValuedHashMap<>();
-		Set<String> cityNameList = locationHierarchyDetails.get(IdObjectReferenceValidatorLocationMapping.CITY.getLevel());
-		Optional.ofNullable(cityNameList).orElse(Collections.emptySet()).stream()
-				.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
-						.ifPresent(locationDetail -> cityMap.putAll(locationDetail)));
-		JsonPath langPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_CITY_LANGUAGE_PATH.getValue());
-		List<String> langPathList = langPath.read(identityString, PATH_LIST_OPTIONS);
-		JsonPath valuePath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_CITY_VALUE_PATH.getValue());
-		List<String> valuePathList = valuePath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, Map.Entry<String, String>> dataMap = IntStream.range(0, langPathList.size()).parallel()
-				.filter(index -> languageList
-						.contains(JsonPath.compile(langPathList.get(index)).read(identityString, READ_OPTIONS)))
-				.boxed()
-				.collect(Collectors.toMap(langPathList::get,
-						i -> new AbstractMap.SimpleImmutableEntry<String, String>(valuePathList.get(i),
-								JsonPath.compile(valuePathList.get(i)).read(identityString, READ_OPTIONS))));
-		dataMap.entrySet().stream().filter(entry -> {
-			String lang = JsonPath.compile(entry.getKey()).read(identityString, READ_OPTIONS);
-			return cityMap.containsKey(lang) && !cityMap.get(lang).contains(entry.getValue().getValue());
-		}).forEach(entry -> errorList
-				.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-								convertToPath(entry.getValue().getKey())))));
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating city has been ended");
-	}
+		/** The gender names by language. */
+		private final Map<String, Set<String>> genders;
 
-	/**
-	 * Validate local administrative authority.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateLocalAdministrativeAuthority(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating local administrative authority has been started");
-
-		SetValuedMap<String, String> localAdministrativeAuthorityMap = new HashSetValuedHashMap<>();
-		Set<String> localAdminAuthNameList = locationHierarchyDetails
-				.get(IdObjectReferenceValidatorLocationMapping.ZONE.getLevel());
-		Optional.ofNullable(localAdminAuthNameList).orElse(Collections.emptySet()).stream()
-				.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
-						.ifPresent(locationDetail -> localAdministrativeAuthorityMap.putAll(locationDetail)));
-		JsonPath langPath = JsonPath
-				.compile(IdObjectValidatorConstant.IDENTITY_ZONE_LANGUAGE_PATH.getValue());
-		List<String> langPathList = langPath.read(identityString, PATH_LIST_OPTIONS);
-		JsonPath valuePath = JsonPath
-				.compile(IdObjectValidatorConstant.IDENTITY_ZONE_VALUE_PATH.getValue());
-		List<String> valuePathList = valuePath.read(identityString, PATH_LIST_OPTIONS);
-		Map<String, Map.Entry<String, String>> dataMap = IntStream.range(0, langPathList.size()).parallel()
-				.filter(index -> languageList
-						.contains(JsonPath.compile(langPathList.get(index)).read(identityString, READ_OPTIONS)))
-				.boxed()
-				.collect(Collectors.toMap(langPathList::get,
-						i -> new AbstractMap.SimpleImmutableEntry<String, String>(valuePathList.get(i),
-								JsonPath.compile(valuePathList.get(i)).read(identityString, READ_OPTIONS))));
-		dataMap.entrySet().stream().filter(entry -> {
-			String lang = JsonPath.compile(entry.getKey()).read(identityString, READ_OPTIONS);
-			return localAdministrativeAuthorityMap.containsKey(lang)
-					&& !localAdministrativeAuthorityMap.get(lang).contains(entry.getValue().getValue());
-		}).forEach(entry -> errorList
-				.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-						String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-								convertToPath(entry.getValue().getKey())))));
+		/** The location names by hierarchy level and language. */
+		private final Map<String, Map<String, Set<String>>> locations;
 
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating local administrative authority has been ended");
-	}
+		/** The document type codes by identity attribute. */
+		private final Map<String, Set<String>> documentTypes;
 
-	/**
-	 * Validate postal code.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validatePostalCode(String identityString, List<ServiceError> errorList) {
-		SetValuedMap<String, String> postalCodeMap = new HashSetValuedHashMap<>();
-		Set<String> postalCodeNameList = locationHierarchyDetails
-				.get(IdObjectReferenceValidatorLocationMapping.POSTAL_CODE.getLevel());
-		Optional.ofNullable(postalCodeNameList).orElse(Collections.emptySet()).stream()
-				.forEach(hierarchyName -> Optional.ofNullable(locationDetails.get(hierarchyName))
-						.ifPresent(postalCodeMap::putAll));
-		JsonPath jsonPath = JsonPath.compile(IdObjectValidatorConstant.IDENTITY_POSTAL_CODE_PATH.getValue());
-		String value = jsonPath.read(identityString, READ_OPTIONS);
-		if (Objects.nonNull(value) && !postalCodeMap.values().contains(value)) {
-			errorList.add(new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-					String.format(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-							convertToPath(jsonPath.getPath()))));
+		private MasterDataIndex(Set<String> languages, Map<String, Set<String>> genders,
+				Map<String, Map<String, Set<String>>> locations, Map<String, Set<String>> documentTypes) {
+			this.languages = Collections.unmodifiableSet(languages);
+			this.genders = unmodifiable(genders);
+			Map<String, Map<String, Set<String>>> levelLocations = new HashMap<>();
+			locations.forEach((level, levelLocation) -> levelLocations.put(level, unmodifiable(levelLocation)));
+			this.locations = Collections.unmodifiableMap(levelLocations);
+			this.documentTypes = unmodifiable(documentTypes);
 		}
-	}
 
-	/**
-	 * Validate documents.
-	 *
-	 * @param identityString
-	 *            the identity string
-	 * @param errorList
-	 *            the error list
-	 */
-	private void validateDocuments(String identityString, List<ServiceError> errorList) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating documents has been started");
-
-		IdObjectReferenceValidatorDocumentMapping.getAllMapping().entrySet().stream()
-				.filter(entry -> docTypeMap.containsKey(entry.getKey())).forEach(entry -> {
-					JsonPath jsonPath = JsonPath.compile("identity." + entry.getValue() + ".type");
-					Object value = jsonPath.read(identityString, READ_OPTIONS);
-					if (Objects.nonNull(value) && !docTypeMap.get(entry.getKey()).contains(value)) {
-						errorList.add(
-								new ServiceError(IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getErrorCode(),
-										String.format(
-												IdObjectValidatorErrorConstant.INVALID_INPUT_PARAMETER.getMessage(),
-												convertToPath(jsonPath.getPath()))));
-					}
-				});
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"Validating documents has been ended");
-	}
-
-	/**
-	 * Convert to path.
-	 *
-	 * @param jsonPath
-	 *            the json path
-	 * @return the string
-	 */
-	private String convertToPath(String jsonPath) {
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"converting to path has been started");
-
-		String path = String.valueOf(jsonPath.replaceAll("[$']", ""));
-
-		LOGGER.info(REG_ID_OBJECT_MASTER_DATA_VALIDATOR, APPLICATION_NAME, APPLICATION_ID,
-				"converting to path has been ended");
-		return path.substring(1, path.length() - 1).replace("][", "/");
+		private static Map<String, Set<String>> unmodifiable(Map<String, Set<String>> values) {
+			Map<String, Set<String>> copy = new HashMap<>();
+			values.forEach((key, value) -> copy.put(key, Collections.unmodifiableSet(value)));
+			return Collections.unmodifiableMap(copy);
+		}
 	}
 }
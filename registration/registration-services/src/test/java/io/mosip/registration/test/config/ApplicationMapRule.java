@@ -0,0 +1,52 @@
+package io.mosip.registration.test.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.rules.ExternalResource;
+
+import io.mosip.registration.context.ApplicationContext;
+
+/**
+ * Puts config values into the application map for each test and restores the
+ * previous values after it.
+ */
+public class ApplicationMapRule extends ExternalResource {
+
+	private final Map<String, Object> values = new LinkedHashMap<>();
+
+	private final Map<String, Object> previousValues = new HashMap<>();
+
+	/**
+	 * Adds a config value put for each test.
+	 *
+	 * @param key   the config key
+	 * @param value the config value
+	 * @return this rule
+	 */
+	public ApplicationMapRule with(String key, Object value) {
+		values.put(key, value);
+		return this;
+	}
+
+	@Override
+	protected void before() {
+		for (Map.Entry<String, Object> value : values.entrySet()) {
+			previousValues.put(value.getKey(), ApplicationContext.map().put(value.getKey(), value.getValue()));
+		}
+	}
+
+	@Override
+	protected void after() {
+		for (Map.Entry<String, Object> previousValue : previousValues.entrySet()) {
+			if (previousValue.getValue() == null) {
+				ApplicationContext.map().remove(previousValue.getKey());
+			} else {
+				ApplicationContext.map().put(previousValue.getKey(), previousValue.getValue());
+			}
+		}
+		previousValues.clear();
+	}
+
+}
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Properties;
 
 import io.mosip.kernel.clientcrypto.service.impl.ClientCryptoFacade;
+import org.apache.commons.dbcp2.BasicDataSource;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -18,7 +19,6 @@ import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import io.mosip.registration.config.DaoConfig;
 import io.mosip.registration.context.ApplicationContext;
@@ -49,7 +49,7 @@ public class DaoConfigTest {
 		PowerMockito.doReturn(decryptedData).when(ClientCryptoFacade.class, "encrypt", Mockito.any());
 
 		daoConfig = new DaoConfig();
-		assertEquals(daoConfig.dataSource().getClass(), DriverManagerDataSource.class);
+		assertEquals(daoConfig.dataSource().getClass(), BasicDataSource.class);
 		assertEquals(daoConfig.jdbcTemplate().getClass(), JdbcTemplate.class);
 		//assertEquals(daoConfig.propertiesConfig().getClass(), PropertiesConfig.class);
 	}
@@ -70,7 +70,7 @@ public class DaoConfigTest {
 		PowerMockito.doReturn(decryptedData).when(ClientCryptoFacade.class, "decrypt", Mockito.any());
 
 		daoConfig = new DaoConfig();
-		assertEquals(daoConfig.dataSource().getClass(), DriverManagerDataSource.class);
+		assertEquals(daoConfig.dataSource().getClass(), BasicDataSource.class);
 		assertEquals(daoConfig.jdbcTemplate().getClass(), JdbcTemplate.class);
 		//assertEquals(daoConfig.propertiesConfig().getClass(), PropertiesConfig.class);
 	}
@@ -71,6 +71,8 @@ import io.mosip.registration.repositories.TitleRepository;
 import io.mosip.registration.repositories.UserMachineMappingRepository;
 import io.mosip.registration.repositories.ValidDocumentRepository;
 import io.mosip.registration.util.mastersync.ClientSettingSyncHelper;
+import io.mosip.registration.util.mastersync.MasterDataBatchWriter;
+import io.mosip.registration.util.mastersync.MasterDataCacheEvictor;
 import io.mosip.registration.util.mastersync.MetaDataUtils;
 
 @RunWith(PowerMockRunner.class)
@@ -221,6 +223,12 @@ public class ClientSettingsHelperTest {
 	@Mock
 	private DeviceProviderRepository deviceProviderRepository;
 
+	@Mock
+	private MasterDataCacheEvictor masterDataCacheEvictor;
+
+	@Mock
+	private MasterDataBatchWriter masterDataBatchWriter;
+
 	@InjectMocks
 	private ClientSettingSyncHelper clientSettingSyncHelper;
 
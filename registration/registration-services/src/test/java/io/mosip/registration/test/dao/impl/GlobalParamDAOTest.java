@@ -24,6 +24,7 @@ import io.mosip.registration.dao.impl.GlobalParamDAOImpl;
 import io.mosip.registration.entity.GlobalParam;
 import io.mosip.registration.entity.id.GlobalParamId;
 import io.mosip.registration.repositories.GlobalParamRepository;
+import io.mosip.registration.util.mastersync.MasterDataCacheEvictor;
 
 public class GlobalParamDAOTest {
 
@@ -36,6 +37,9 @@ public class GlobalParamDAOTest {
 	@Mock
 	private GlobalParamRepository globalParamRepository;
 
+	@Mock
+	private MasterDataCacheEvictor masterDataCacheEvictor;
+
 	@Test
 	public void getGlobalParamsTest() {
 		List<GlobalParamName> params = new ArrayList<>(); 
@@ -36,11 +36,13 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
+import io.mosip.commons.packet.spi.IPacketCryptoService;
 import io.mosip.kernel.core.util.exception.JsonProcessingException;
 import io.mosip.registration.audit.AuditManagerService;
 import io.mosip.registration.constants.AuditEvent;
 import io.mosip.registration.constants.Components;
 import io.mosip.registration.constants.RegistrationClientStatusCode;
+import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.context.SessionContext.UserContext;
@@ -76,6 +78,8 @@ public class PacketSynchServiceImplTest {
 	private RequestHTTPDTO requestHTTPDTO;
 	@Mock
 	private AuditManagerService auditFactory;
+	@Mock
+	private IPacketCryptoService offlinePacketCryptoServiceImpl;
 	@InjectMocks
 	private PacketSynchServiceImpl packetSynchServiceImpl;
 
@@ -301,4 +305,89 @@ public class PacketSynchServiceImplTest {
 		Mockito.when(registrationDAO.getRegistrationById(Mockito.anyString(), Mockito.anyString())).thenReturn(reg);
 		assertTrue(packetSynchServiceImpl.fetchSynchedPacket("123456789"));
 	}
+
+	@Test
+	public void testPacketSyncSplitIntoBatches() throws Exception {
+		ApplicationContext.map().put(RegistrationConstants.PACKET_SYNC_BATCH_SIZE, "2");
+		mockSyncResponse();
+
+		assertEquals("", packetSynchServiceImpl.packetSync(packetsToSync(5)));
+
+		Mockito.verify(serviceDelegateUtil, Mockito.times(3)).post(Mockito.anyString(), Mockito.anyString(),
+				Mockito.anyString());
+		Mockito.verify(registrationDAO, Mockito.times(5)).updatePacketSyncStatus(Mockito.any(PacketStatusDTO.class));
+	}
+
+	@Test
+	public void testPacketSyncSplitByRequestSize() throws Exception {
+		ApplicationContext.map().put(RegistrationConstants.PACKET_SYNC_BATCH_MAX_BYTES, "1");
+		mockSyncResponse();
+
+		assertEquals("", packetSynchServiceImpl.packetSync(packetsToSync(3)));
+
+		// a packet larger than the limit is still synced, in a batch of its own
+		Mockito.verify(serviceDelegateUtil, Mockito.times(3)).post(Mockito.anyString(), Mockito.anyString(),
+				Mockito.anyString());
+	}
+
+	@Test
+	public void testSyncBatchSizeNotBelowOne() throws Exception {
+		ApplicationContext.map().put(RegistrationConstants.PACKET_SYNC_BATCH_SIZE, "0");
+		mockSyncResponse();
+
+		assertEquals("", packetSynchServiceImpl.packetSync(packetsToSync(3)));
+
+		Mockito.verify(serviceDelegateUtil, Mockito.times(3)).post(Mockito.anyString(), Mockito.anyString(),
+				Mockito.anyString());
+	}
+
+	@Test
+	public void testFailedBatchDoesNotStopOtherBatches() throws Exception {
+		ApplicationContext.map().put(RegistrationConstants.PACKET_SYNC_BATCH_SIZE, "2");
+		mockSyncResponse();
+		Mockito.when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.anyString(), Mockito.anyString()))
+				.thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST, "first batch rejected"))
+				.thenReturn(syncResponse(packetsToSync(6)))
+				.thenThrow(new HttpClientErrorException(HttpStatus.CONFLICT, "third batch rejected"));
+
+		String syncErrorStatus = packetSynchServiceImpl.packetSync(packetsToSync(6));
+
+		assertTrue(syncErrorStatus.contains("first batch rejected"));
+		assertTrue(syncErrorStatus.contains("third batch rejected"));
+		Mockito.verify(serviceDelegateUtil, Mockito.times(3)).post(Mockito.anyString(), Mockito.anyString(),
+				Mockito.anyString());
+		Mockito.verify(registrationDAO, Mockito.times(2)).updatePacketSyncStatus(Mockito.any(PacketStatusDTO.class));
+	}
+
+	private void mockSyncResponse() throws Exception {
+		Mockito.when(offlinePacketCryptoServiceImpl.encrypt(Mockito.anyString(), Mockito.any()))
+				.thenReturn("encrypted".getBytes());
+		Mockito.when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.anyString(), Mockito.anyString()))
+				.thenReturn(syncResponse(packetsToSync(6)));
+	}
+
+	private static LinkedHashMap<String, Object> syncResponse(List<PacketStatusDTO> packets) {
+		List<LinkedHashMap<String, Object>> statuses = new ArrayList<>();
+		for (PacketStatusDTO packet : packets) {
+			LinkedHashMap<String, Object> status = new LinkedHashMap<>();
+			status.put("registrationId", packet.getFileName());
+			status.put("status", RegistrationConstants.SUCCESS);
+			statuses.add(status);
+		}
+		LinkedHashMap<String, Object> response = new LinkedHashMap<>();
+		response.put("response", statuses);
+		return response;
+	}
+
+	private static List<PacketStatusDTO> packetsToSync(int count) {
+		List<PacketStatusDTO> packets = new ArrayList<>();
+		for (int index = 0; index < count; index++) {
+			PacketStatusDTO packet = new PacketStatusDTO();
+			packet.setFileName("1000110001002592019043005190" + index);
+			packet.setPacketClientStatus(RegistrationClientStatusCode.APPROVED.getCode());
+			packet.setPacketStatus("NEW");
+			packets.add(packet);
+		}
+		return packets;
+	}
 }
@@ -0,0 +1,110 @@
+package io.mosip.registration.test.mdm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sun.net.httpserver.HttpServer;
+
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.mdm.service.impl.MdmHttpClient;
+import io.mosip.registration.test.config.ApplicationMapRule;
+
+public class MdmHttpClientTest {
+
+	@Rule
+	public ApplicationMapRule applicationMap = new ApplicationMapRule()
+			.with(RegistrationConstants.MDM_DISCOVERY_TIMEOUT_MILLIS, "1000")
+			.with(RegistrationConstants.MDM_CONNECTION_POOL_SIZE, "1");
+
+	private MdmHttpClient mdmHttpClient = new MdmHttpClient();
+
+	private HttpServer httpServer;
+
+	private Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+	private String url;
+
+	@Before
+	public void initialize() throws IOException {
+		httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		httpServer.createContext("/", exchange -> {
+			clientPorts.add(exchange.getRemoteAddress().getPort());
+			byte[] response = ("[\"" + exchange.getRequestMethod() + "\"]").getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, response.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(response);
+			}
+		});
+		httpServer.start();
+
+		url = "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/capture";
+	}
+
+	@After
+	public void cleanUp() throws IOException {
+		mdmHttpClient.close();
+		httpServer.stop(0);
+	}
+
+	@Test
+	public void executeReusesConnectionTest() throws IOException {
+		for (int index = 0; index < 3; index++) {
+			List<String> response = mdmHttpClient.readValue(mdmHttpClient.execute("RCAPTURE", url, "{}"),
+					new TypeReference<List<String>>() {
+					});
+			assertEquals(List.of("RCAPTURE"), response);
+		}
+
+		assertEquals(1, clientPorts.size());
+	}
+
+	@Test(timeout = 10000)
+	public void closedStreamReleasesConnectionTest() throws IOException {
+		InputStream stream = mdmHttpClient.stream("STREAM", url, "{}");
+		assertEquals('[', stream.read());
+		stream.close();
+
+		assertEquals("[\"RCAPTURE\"]", mdmHttpClient.execute("RCAPTURE", url, "{}"));
+	}
+
+	@Test(timeout = 10000)
+	public void streamReadToEndReleasesConnectionTest() throws IOException {
+		InputStream stream = mdmHttpClient.stream("STREAM", url, "{}");
+		while (stream.read() != -1) {
+		}
+
+		assertEquals("[\"RCAPTURE\"]", mdmHttpClient.execute("RCAPTURE", url, "{}"));
+	}
+
+	@Test
+	public void discoverTest() {
+		assertEquals("[\"MOSIPDINFO\"]", mdmHttpClient.discover("MOSIPDINFO", url));
+	}
+
+	@Test
+	public void discoverNoServiceTest() throws IOException {
+		int port;
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			port = serverSocket.getLocalPort();
+		}
+
+		assertNull(mdmHttpClient.discover("MOSIPDINFO", "http://127.0.0.1:" + port + "/info"));
+	}
+
+}
@@ -0,0 +1,115 @@
+package io.mosip.registration.test.mdm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.mdm.constants.MosipBioDeviceConstants;
+import io.mosip.registration.mdm.dto.MdmBioDevice;
+import io.mosip.registration.mdm.integrator.MosipDeviceSpecificationProvider;
+import io.mosip.registration.mdm.service.impl.MdmHttpClient;
+import io.mosip.registration.mdm.service.impl.MosipDeviceSpecificationFactory;
+import io.mosip.registration.test.config.ApplicationMapRule;
+
+public class MosipDeviceSpecificationFactoryTest {
+
+	@Rule
+	public ApplicationMapRule applicationMap = new ApplicationMapRule()
+			.with(RegistrationConstants.MDM_START_PORT_RANGE, "4500")
+			.with(RegistrationConstants.MDM_END_PORT_RANGE, "4509")
+			.with(RegistrationConstants.MDM_DISCOVERY_MAX_CONCURRENCY, "2");
+
+	private MosipDeviceSpecificationFactory deviceSpecificationFactory = new MosipDeviceSpecificationFactory();
+
+	private MdmHttpClient mdmHttpClient = mock(MdmHttpClient.class);
+
+	private MosipDeviceSpecificationProvider deviceSpecificationProvider = mock(
+			MosipDeviceSpecificationProvider.class);
+
+	@Before
+	public void initialize() {
+		ReflectionTestUtils.setField(deviceSpecificationFactory, "mdmHttpClient", mdmHttpClient);
+		ReflectionTestUtils.setField(deviceSpecificationFactory, "deviceSpecificationProviders",
+				List.of(deviceSpecificationProvider));
+		MosipDeviceSpecificationFactory.getDeviceInfoMap().clear();
+	}
+
+	@After
+	public void cleanUp() {
+		deviceSpecificationFactory.shutdown();
+		MosipDeviceSpecificationFactory.getDeviceInfoMap().clear();
+	}
+
+	@Test
+	public void discoveryProbesBoundedTest() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		when(mdmHttpClient.discover(eq("MOSIPDINFO"), anyString())).thenAnswer(invocation -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			TimeUnit.MILLISECONDS.sleep(20);
+			running.decrementAndGet();
+			return null;
+		});
+
+		deviceSpecificationFactory.initByPort(null);
+
+		verify(mdmHttpClient, times(10)).discover(eq("MOSIPDINFO"), anyString());
+		assertTrue(maxRunning.get() <= 2);
+	}
+
+	@Test
+	public void runningDiscoveryJoinedTest() throws Exception {
+		CountDownLatch probing = new CountDownLatch(1);
+		when(mdmHttpClient.discover(eq("MOSIPDINFO"), anyString())).thenAnswer(invocation -> {
+			probing.await(5, TimeUnit.SECONDS);
+			return null;
+		});
+
+		CompletableFuture<Void> discovery = ReflectionTestUtils.invokeMethod(deviceSpecificationFactory, "discover");
+		CompletableFuture<Void> joinedDiscovery = ReflectionTestUtils.invokeMethod(deviceSpecificationFactory,
+				"discover");
+		probing.countDown();
+		discovery.get(5, TimeUnit.SECONDS);
+
+		assertSame(discovery, joinedDiscovery);
+		verify(mdmHttpClient, times(10)).discover(eq("MOSIPDINFO"), anyString());
+	}
+
+	@Test
+	public void unpluggedDeviceRemovedTest() {
+		MosipDeviceSpecificationFactory.getDeviceInfoMap().put("iris_double", new MdmBioDevice());
+		MdmBioDevice fingerprintDevice = new MdmBioDevice();
+		fingerprintDevice.setDeviceType("Finger");
+		fingerprintDevice.setDeviceSubType("Slap");
+		when(mdmHttpClient.discover("MOSIPDINFO",
+				deviceSpecificationFactory.buildUrl(4500, MosipBioDeviceConstants.DEVICE_INFO_ENDPOINT)))
+						.thenReturn("deviceInfo");
+		when(deviceSpecificationProvider.getMdmDevices("deviceInfo", 4500)).thenReturn(List.of(fingerprintDevice));
+
+		deviceSpecificationFactory.initByPort(null);
+
+		assertEquals(Set.of("finger_slab"), MosipDeviceSpecificationFactory.getDeviceInfoMap().keySet());
+		assertSame(fingerprintDevice, MosipDeviceSpecificationFactory.getDeviceInfoMap().get("finger_slab"));
+	}
+
+}
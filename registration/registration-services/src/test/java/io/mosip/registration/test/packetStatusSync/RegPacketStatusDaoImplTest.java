@@ -2,7 +2,10 @@ package io.mosip.registration.test.packetStatusSync;
 
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,9 +15,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
-import io.mosip.registration.dao.AuditLogControlDAO;
 import io.mosip.registration.dao.impl.RegPacketStatusDAOImpl;
-import io.mosip.registration.entity.AuditLogControl;
 import io.mosip.registration.entity.Registration;
 import io.mosip.registration.repositories.AuditLogControlRepository;
 import io.mosip.registration.repositories.RegTransactionRepository;
@@ -36,23 +37,6 @@ public class RegPacketStatusDaoImplTest {
 	@Mock
 	AuditLogControlRepository auditLogControlRepository;
 
-	@Mock
-	AuditLogControlDAO auditLogControlDAO;
-
-	@Test
-	public void getTest() {
-		when(registrationRepository.findById(Mockito.any(), Mockito.anyString())).thenReturn(new Registration());
-
-		packetStatusDao.get("12345");
-	}
-
-	@Test
-	public void updateTest() {
-		Registration registration = new Registration();
-		when(registrationRepository.update(Mockito.any())).thenReturn(registration);
-
-		packetStatusDao.update(registration);
-	}
 
 	@Test
 	public void findByClientStatusCodeTest() {
@@ -64,21 +48,32 @@ public class RegPacketStatusDaoImplTest {
 	}
 
 	@Test
-	public void deleteTest() {
-		Registration registration = new Registration();
+	public void updateServerStatusTest() {
+		Map<String, String> serverStatuses = new LinkedHashMap<>();
+		serverStatuses.put("REG12345", "PROCESSED");
+		serverStatuses.put("REG12346", "PROCESSED");
+		serverStatuses.put("REG12347", "REREGISTER");
+
+		packetStatusDao.updateServerStatus(serverStatuses, "System");
+
+		Mockito.verify(registrationRepository).updateServerStatusCode(Mockito.eq("PROCESSED"), Mockito.any(),
+				Mockito.eq("System"), Mockito.any(), Mockito.eq(Arrays.asList("REG12345", "REG12346")));
+		Mockito.verify(registrationRepository).updateServerStatusCode(Mockito.eq("REREGISTER"), Mockito.any(),
+				Mockito.eq("System"), Mockito.any(), Mockito.eq(Arrays.asList("REG12347")));
+		Mockito.verify(regTransactionRepository).saveAll(Mockito.anyList());
+	}
 
+	@Test
+	public void deleteRegistrationsTest() {
+		Registration registration = new Registration();
 		registration.setId("REG12345");
+		List<String> registrationIds = Arrays.asList("REG12345");
 
-		AuditLogControl auditLogControl = new AuditLogControl();
-		auditLogControl.setRegistrationId(registration.getId());
-
-		Mockito.doNothing().when(registrationRepository).deleteById(Mockito.anyString());
-		Mockito.doNothing().when(regTransactionRepository).deleteInBatch(Mockito.anyCollection());
-		Mockito.when(auditLogControlDAO.get("REG12345")).thenReturn(auditLogControl);
-		Mockito.doNothing().when(auditLogControlDAO).delete(auditLogControl);
-
-		packetStatusDao.delete(registration);
+		packetStatusDao.delete(Arrays.asList(registration));
 
+		Mockito.verify(auditLogControlRepository).deleteByRegistrationIdIn(registrationIds);
+		Mockito.verify(regTransactionRepository).deleteByRegIdIn(registrationIds);
+		Mockito.verify(registrationRepository).deleteByIdIn(registrationIds);
 	}
 
 }
@@ -2,18 +2,25 @@ package io.mosip.registration.test.packetStatusSync;
 
 import static io.mosip.kernel.core.util.JsonUtils.javaObjectToJsonString;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.net.URISyntaxException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import io.mosip.kernel.core.util.HMACUtils2;
 import org.junit.AfterClass;
@@ -21,6 +28,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -31,6 +39,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
@@ -60,6 +69,8 @@ public class RegPacketStatusServiceTest {
 
 	@Rule
 	public MockitoRule mockitoRule = MockitoJUnit.rule();
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
 	@Mock
 	private ServiceDelegateUtil serviceDelegateUtil;
 	@Mock
@@ -126,9 +137,13 @@ public class RegPacketStatusServiceTest {
 
 		when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.any(), Mockito.anyString())).thenReturn(response);
 		Assert.assertNotNull(packetStatusService.packetSyncStatus("System").getSuccessResponseDTO());
+		Mockito.verify(packetStatusDao).updateServerStatus(
+				Mockito.eq(Collections.singletonMap("12345", RegistrationConstants.PACKET_STATUS_CODE_PROCESSED + "123")),
+				Mockito.anyString());
 
-		when(packetStatusDao.update(Mockito.any())).thenThrow(RuntimeException.class);
-		packetStatusService.packetSyncStatus("System");
+		Mockito.doThrow(RuntimeException.class).when(packetStatusDao).updateServerStatus(Mockito.anyMap(),
+				Mockito.anyString());
+		Assert.assertNotNull(packetStatusService.packetSyncStatus("System").getErrorResponseDTOs());
 
 	}
 
@@ -155,9 +170,84 @@ public class RegPacketStatusServiceTest {
 
 		when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.anyMap(), Mockito.anyString())).thenReturn(response);
 		Assert.assertNotNull(packetStatusService.packetSyncStatus("System").getSuccessResponseDTO());
+		Mockito.verify(serviceDelegateUtil, Mockito.never()).post(Mockito.anyString(), Mockito.any(),
+				Mockito.anyString());
+	}
 
-		when(packetStatusDao.update(Mockito.any())).thenThrow(RuntimeException.class);
-		packetStatusService.packetSyncStatus("System");
+	@Test
+	public void packetSyncStatusSplitByBatchSizeTest() throws RegBaseCheckedException, SocketTimeoutException {
+		applicationMap.put(RegistrationConstants.PACKET_STATUS_SYNC_BATCH_SIZE, "2");
+		List<Registration> list = new LinkedList<>();
+		for (int index = 1; index <= 5; index++) {
+			list.add(uploadedRegistration("1234" + index));
+		}
+		when(packetStatusDao.getPacketIdsByStatusUploaded()).thenReturn(list);
+		when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.any(), Mockito.anyString()))
+				.thenReturn(statusResponse("12341"));
+
+		Assert.assertNotNull(packetStatusService.packetSyncStatus("System").getSuccessResponseDTO());
+
+		Mockito.verify(serviceDelegateUtil, Mockito.times(3)).post(Mockito.anyString(), Mockito.any(),
+				Mockito.anyString());
+		applicationMap.remove(RegistrationConstants.PACKET_STATUS_SYNC_BATCH_SIZE);
+	}
+
+	@Test
+	public void packetSyncStatusSkipsClaimedRegistrationsTest() throws RegBaseCheckedException, SocketTimeoutException {
+		claimedRegistrationIds().add("12341");
+		List<Registration> list = new LinkedList<>();
+		list.add(uploadedRegistration("12341"));
+		list.add(uploadedRegistration("12342"));
+		when(packetStatusDao.getPacketIdsByStatusUploaded()).thenReturn(list);
+		when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.any(), Mockito.anyString()))
+				.thenReturn(statusResponse("12341", "12342"));
+
+		Assert.assertNotNull(packetStatusService.packetSyncStatus("System").getSuccessResponseDTO());
+
+		Mockito.verify(packetStatusDao).updateServerStatus(
+				Mockito.eq(Collections.singletonMap("12342", RegistrationConstants.PACKET_STATUS_CODE_PROCESSED)),
+				Mockito.anyString());
+		assertEquals(Collections.singleton("12341"), claimedRegistrationIds());
+	}
+
+	@Test
+	public void packetSyncStatusAllRegistrationsClaimedTest() throws RegBaseCheckedException, SocketTimeoutException {
+		claimedRegistrationIds().add("12341");
+		List<Registration> list = new LinkedList<>();
+		list.add(uploadedRegistration("12341"));
+		when(packetStatusDao.getPacketIdsByStatusUploaded()).thenReturn(list);
+
+		ResponseDTO responseDTO = packetStatusService.packetSyncStatus("System");
+
+		assertEquals(RegistrationConstants.PACKET_STATUS_SYNC_ALREADY_STARTED,
+				responseDTO.getErrorResponseDTOs().get(0).getMessage());
+		Mockito.verify(serviceDelegateUtil, Mockito.never()).post(Mockito.anyString(), Mockito.any(),
+				Mockito.anyString());
+	}
+
+	private Registration uploadedRegistration(String id) {
+		Registration registration = new Registration();
+		registration.setId(id);
+		registration.setClientStatusCode(RegistrationConstants.PACKET_STATUS_CODE_PROCESSED);
+		return registration;
+	}
+
+	private LinkedHashMap<String, Object> statusResponse(String... ids) {
+		List<LinkedHashMap<String, String>> registrations = new ArrayList<>();
+		for (String id : ids) {
+			LinkedHashMap<String, String> registration = new LinkedHashMap<>();
+			registration.put("registrationId", id);
+			registration.put("statusCode", RegistrationConstants.PACKET_STATUS_CODE_PROCESSED);
+			registrations.add(registration);
+		}
+		LinkedHashMap<String, Object> response = new LinkedHashMap<>();
+		response.put(RegistrationConstants.RESPONSE, registrations);
+		return response;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<String> claimedRegistrationIds() {
+		return (Set<String>) ReflectionTestUtils.getField(packetStatusService, "claimedRegistrationIds");
 	}
 
 	@Test
@@ -231,7 +321,7 @@ public class RegPacketStatusServiceTest {
 
 		when(registrationDAO.get(Mockito.any(), Mockito.anyString())).thenReturn(list);
 
-		Mockito.doNothing().when(packetStatusDao).delete(Mockito.any());
+		Mockito.doNothing().when(packetStatusDao).delete(Mockito.anyList());
 
 		assertSame(successResponseDTO.getMessage(),
 				packetStatusService.deleteRegistrationPackets().getSuccessResponseDTO().getMessage());
@@ -304,4 +394,35 @@ public class RegPacketStatusServiceTest {
 		packetStatusService.deleteAllProcessedRegPackets();
 
 	}
+
+	@Test
+	public void deleteRegistrationsDeletesFilesAfterRowsTest() throws IOException {
+		List<Registration> list = prepareSamplePackets();
+		File ackFile = temporaryFolder.newFile("2018782130000102012019115112_Ack.html");
+		File zipFile = temporaryFolder.newFile("2018782130000102012019115112.zip");
+		list.get(0).setAckFilename(ackFile.getAbsolutePath());
+
+		packetStatusService.deleteRegistrations(list);
+
+		Mockito.verify(packetStatusDao).delete(list);
+		assertFalse(ackFile.exists());
+		assertFalse(zipFile.exists());
+	}
+
+	@Test
+	public void deleteRegistrationsKeepsFilesWhenRowsNotDeletedTest() throws IOException {
+		List<Registration> list = prepareSamplePackets();
+		File ackFile = temporaryFolder.newFile("2018782130000102012019115112_Ack.html");
+		File zipFile = temporaryFolder.newFile("2018782130000102012019115112.zip");
+		list.get(0).setAckFilename(ackFile.getAbsolutePath());
+		Mockito.doThrow(RuntimeException.class).when(packetStatusDao).delete(Mockito.anyList());
+
+		try {
+			packetStatusService.deleteRegistrations(list);
+			fail("failed delete of the rows was not reported");
+		} catch (RuntimeException runtimeException) {
+			assertTrue(ackFile.exists());
+			assertTrue(zipFile.exists());
+		}
+	}
 }
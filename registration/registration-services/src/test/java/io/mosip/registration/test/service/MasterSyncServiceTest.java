@@ -81,6 +81,7 @@ import io.mosip.registration.service.remap.CenterMachineReMapService;
 import io.mosip.registration.service.sync.impl.MasterSyncServiceImpl;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
+import io.mosip.registration.validator.RegIdObjectMasterDataValidator;
 
 /**
  * @author Sreekar Chukka
@@ -138,6 +139,9 @@ public class MasterSyncServiceTest {
 	@Mock
 	private IdentitySchemaDao identitySchemaDao; 
 
+	@Mock
+	private RegIdObjectMasterDataValidator regIdObjectMasterDataValidator;
+
 	@Before
 	public void beforeClass() throws Exception {
 		doNothing().when(auditFactory).audit(Mockito.any(AuditEvent.class), Mockito.any(Components.class),
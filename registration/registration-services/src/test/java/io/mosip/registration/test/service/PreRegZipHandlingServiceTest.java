@@ -1,17 +1,24 @@
 package io.mosip.registration.test.service;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -22,6 +29,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -35,6 +43,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import io.mosip.kernel.core.exception.IOException;
 import io.mosip.kernel.core.security.constants.MosipSecurityMethod;
+import io.mosip.kernel.core.security.encryption.MosipEncryptor;
 import io.mosip.kernel.core.util.FileUtils;
 import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
 import io.mosip.registration.constants.RegistrationConstants;
@@ -66,6 +75,9 @@ public class PreRegZipHandlingServiceTest {
 	@Rule
 	public MockitoRule mockitoRule = MockitoJUnit.rule();
 
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	@Mock
 	private KeyGenerator keyGenerator;
 
@@ -201,9 +213,132 @@ public class PreRegZipHandlingServiceTest {
 	@Test
 	public void decryptPreRegPacketTest() throws RegBaseCheckedException, IOException {
 
-		final byte[] decrypted = preRegZipHandlingServiceImpl.decryptPreRegPacket("0E8BAAEB3CED73CBC9BF4964F321824A",
-				encryptPacket().getEncryptedPacket());
-		assertNotNull(decrypted);
+		PreRegistrationDTO preRegistrationDTO = encryptPacket();
+		final byte[] decrypted = preRegZipHandlingServiceImpl.decryptPreRegPacket(preRegistrationDTO.getSymmetricKey(),
+				FileUtils.readFileToByteArray(new File(preRegistrationDTO.getPacketPath())));
+		assertArrayEquals(preRegPacket, decrypted);
+	}
+
+	@Test
+	public void extractStoredPreRegPacketTest() throws Exception {
+		mockDocumentField();
+		byte[] document = "scanned document".getBytes();
+
+		PreRegistrationDTO preRegistrationDTO = preRegZipHandlingServiceImpl
+				.encryptAndSavePreRegPacket("89149679063971", createPreRegZip(document));
+		RegistrationDTO registrationDTO = preRegZipHandlingServiceImpl
+				.extractPreRegZipFile(preRegistrationDTO.getSymmetricKey(), preRegistrationDTO.getPacketPath());
+
+		byte[] extracted = registrationDTO.getDocuments().get("proofOfAddress").getDocument();
+		assertArrayEquals(document, extracted);
+		assertSame(extracted, registrationDTO.getDocuments().get("proofOfAddress").getDocument());
+	}
+
+	@Test
+	public void extractStoredPreRegPacketInOldFormatTest() throws Exception {
+		mockDocumentField();
+		byte[] document = "scanned document".getBytes();
+		byte[] preRegZip = createPreRegZip(document);
+		String symmetricKey = "0E8BAAEB3CED73CBC9BF4964F321824A";
+		byte[] encryptedPacket = MosipEncryptor.symmetricEncrypt(Base64.getDecoder().decode(symmetricKey), preRegZip,
+				MosipSecurityMethod.AES_WITH_CBC_AND_PKCS7PADDING);
+		File packet = temporaryFolder.newFile("89149679063972.zip");
+		java.nio.file.Files.write(packet.toPath(), encryptedPacket);
+
+		assertArrayEquals(preRegZip, preRegZipHandlingServiceImpl.decryptPreRegPacket(symmetricKey, encryptedPacket));
+		RegistrationDTO registrationDTO = preRegZipHandlingServiceImpl.extractPreRegZipFile(symmetricKey,
+				packet.getAbsolutePath());
+		assertArrayEquals(document, registrationDTO.getDocuments().get("proofOfAddress").getDocument());
+	}
+
+	@Test
+	public void extractStoredPreRegPacketWithEmptyDocumentTest() throws Exception {
+		mockDocumentField();
+
+		PreRegistrationDTO preRegistrationDTO = preRegZipHandlingServiceImpl
+				.encryptAndSavePreRegPacket("89149679063973", createPreRegZip(new byte[0]));
+		RegistrationDTO registrationDTO = preRegZipHandlingServiceImpl
+				.extractPreRegZipFile(preRegistrationDTO.getSymmetricKey(), preRegistrationDTO.getPacketPath());
+
+		assertFalse(registrationDTO.getDocuments().containsKey("proofOfAddress"));
+	}
+
+	@Test
+	public void documentOfDeletedPreRegPacketTest() throws Exception {
+		mockDocumentField();
+		byte[] document = "scanned document".getBytes();
+
+		PreRegistrationDTO preRegistrationDTO = preRegZipHandlingServiceImpl
+				.encryptAndSavePreRegPacket("89149679063974", createPreRegZip(document));
+		RegistrationDTO registrationDTO = preRegZipHandlingServiceImpl
+				.extractPreRegZipFile(preRegistrationDTO.getSymmetricKey(), preRegistrationDTO.getPacketPath());
+		assertTrue(new File(preRegistrationDTO.getPacketPath()).delete());
+
+		// the document was copied when the pre-registration was loaded
+		assertArrayEquals(document, registrationDTO.getDocuments().get("proofOfAddress").getDocument());
+	}
+
+	@Test
+	public void documentOfReplacedPreRegPacketTest() throws Exception {
+		mockDocumentField();
+		byte[] document = "scanned document".getBytes();
+
+		PreRegistrationDTO preRegistrationDTO = preRegZipHandlingServiceImpl
+				.encryptAndSavePreRegPacket("89149679063975", createPreRegZip(document));
+		RegistrationDTO registrationDTO = preRegZipHandlingServiceImpl
+				.extractPreRegZipFile(preRegistrationDTO.getSymmetricKey(), preRegistrationDTO.getPacketPath());
+		// the sync downloads an updated packet under a new key
+		preRegZipHandlingServiceImpl.encryptAndSavePreRegPacket("89149679063975",
+				createPreRegZip("updated document".getBytes()));
+
+		assertArrayEquals(document, registrationDTO.getDocuments().get("proofOfAddress").getDocument());
+	}
+
+	@Test(expected = RegBaseUncheckedException.class)
+	public void unreadableDocumentCopyTest() throws Exception {
+		mockDocumentField();
+		File tempFolder = new File(System.getProperty("java.io.tmpdir"));
+		Set<String> existingCopies = listDocumentCopies(tempFolder);
+
+		PreRegistrationDTO preRegistrationDTO = preRegZipHandlingServiceImpl
+				.encryptAndSavePreRegPacket("89149679063976", createPreRegZip("scanned document".getBytes()));
+		RegistrationDTO registrationDTO = preRegZipHandlingServiceImpl
+				.extractPreRegZipFile(preRegistrationDTO.getSymmetricKey(), preRegistrationDTO.getPacketPath());
+		for (String copy : listDocumentCopies(tempFolder)) {
+			if (!existingCopies.contains(copy))
+				assertTrue(new File(tempFolder, copy).delete());
+		}
+
+		// a document that can not be read is never taken as missing
+		registrationDTO.getDocuments().get("proofOfAddress").getDocument();
+	}
+
+	private static Set<String> listDocumentCopies(File tempFolder) {
+		String[] copies = tempFolder.list((folder, name) -> name.startsWith("pre-reg-document"));
+		return copies == null ? new HashSet<>() : new HashSet<>(Arrays.asList(copies));
+	}
+
+	private void mockDocumentField() {
+		UiSchemaDTO documentField = new UiSchemaDTO();
+		documentField.setId("proofOfAddress");
+		documentField.setType("documentType");
+		documentField.setSubType("POA");
+		Mockito.when(identitySchemaService.getUISchema(Mockito.anyDouble())).thenReturn(List.of(documentField));
+		Mockito.when(documentTypeDAO.getDocTypeByName(Mockito.anyString())).thenReturn(new ArrayList<>());
+	}
+
+	private static byte[] createPreRegZip(byte[] document) throws java.io.IOException {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(byteArrayOutputStream)) {
+			zipOutputStream.putNextEntry(new ZipEntry("ID.json"));
+			zipOutputStream.write(("{\"identity\" : {\"IDSchemaVersion\" : 0.1, \"proofOfAddress\" : "
+					+ "{\"format\" : \"pdf\", \"type\" : \"DOC001\", \"value\" : \"POA_DOC001\"}}}").getBytes());
+			zipOutputStream.closeEntry();
+			zipOutputStream.putNextEntry(new ZipEntry("POA_DOC001.pdf"));
+			zipOutputStream.write(document);
+			zipOutputStream.closeEntry();
+		}
+		return byteArrayOutputStream.toByteArray();
 	}
 	//
 	// @Test(expected = RegBaseCheckedException.class)
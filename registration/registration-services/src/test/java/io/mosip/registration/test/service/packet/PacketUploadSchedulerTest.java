@@ -0,0 +1,188 @@
+package io.mosip.registration.test.service.packet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.exception.RegBaseCheckedException;
+import io.mosip.registration.exception.RegBaseUncheckedException;
+import io.mosip.registration.service.packet.impl.PacketUploadScheduler;
+import io.mosip.registration.service.packet.impl.PacketUploadScheduler.ConcurrencyLimit;
+import io.mosip.registration.service.packet.impl.PacketUploadScheduler.Result;
+import io.mosip.registration.test.config.ApplicationMapRule;
+
+public class PacketUploadSchedulerTest {
+
+	@Rule
+	public ApplicationMapRule applicationMap = new ApplicationMapRule()
+			.with(RegistrationConstants.PACKET_UPLOAD_MAX_CONCURRENCY, "4")
+			.with(RegistrationConstants.PACKET_UPLOAD_MAX_RETRIES, "2")
+			.with(RegistrationConstants.PACKET_UPLOAD_RETRY_BACKOFF_MILLIS, "1");
+
+	private PacketUploadScheduler packetUploadScheduler = new PacketUploadScheduler();
+
+	@After
+	public void cleanUp() {
+		packetUploadScheduler.shutdown();
+	}
+
+	@Test
+	public void uploadKeepsPacketOrderTest() {
+		List<File> packets = new ArrayList<>();
+		for (int index = 0; index < 10; index++) {
+			packets.add(new File("packet" + index + ".zip"));
+		}
+
+		List<Result<String>> results = packetUploadScheduler.upload(packets, File::getName);
+
+		assertEquals(packets.size(), results.size());
+		for (int index = 0; index < packets.size(); index++) {
+			assertEquals(packets.get(index).getName(), results.get(index).getResponse());
+			assertNull(results.get(index).getException());
+		}
+	}
+
+	@Test
+	public void uploadRetriesConnectionFailureTest() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		List<Result<String>> results = packetUploadScheduler.upload(List.of(new File("packet.zip")), packet -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new RegBaseUncheckedException("REG-PAK-UPL-001", "Connection failure",
+						new ResourceAccessException("Connection refused", new IOException("Connection refused")));
+			}
+			return packet.getName();
+		});
+
+		assertEquals(3, attempts.get());
+		assertEquals("packet.zip", results.get(0).getResponse());
+	}
+
+	@Test
+	public void uploadRetriesTimeoutTest() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		List<Result<String>> results = packetUploadScheduler.upload(List.of(new File("packet.zip")), packet -> {
+			attempts.incrementAndGet();
+			throw new RegBaseCheckedException("REG-PAK-UPL-002", "Read timed out",
+					new SocketTimeoutException("Read timed out"));
+		});
+
+		assertEquals(3, attempts.get());
+		assertTrue(results.get(0).getException() instanceof RegBaseCheckedException);
+	}
+
+	@Test
+	public void uploadRuntimeFailureNotRetriedTest() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		List<Result<String>> results = packetUploadScheduler.upload(List.of(new File("packet.zip")), packet -> {
+			attempts.incrementAndGet();
+			throw new RegBaseUncheckedException("REG-PAK-UPL-001", "Runtime error", new IllegalStateException());
+		});
+
+		assertEquals(1, attempts.get());
+		assertTrue(results.get(0).getException() instanceof RegBaseUncheckedException);
+	}
+
+	@Test
+	public void uploadReusesThreadsTest() {
+		List<File> packets = List.of(new File("packet1.zip"), new File("packet2.zip"), new File("packet3.zip"));
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		for (int run = 0; run < 3; run++) {
+			packetUploadScheduler.upload(packets, packet -> {
+				threads.add(Thread.currentThread());
+				return packet.getName();
+			});
+		}
+
+		assertTrue(threads.size() <= 4);
+		for (Thread thread : threads) {
+			assertEquals("packet-upload", thread.getName());
+		}
+	}
+
+	@Test
+	public void concurrencyLimitRaisedWhileThroughputImprovesTest() {
+		ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit(4);
+		assertEquals(2, concurrencyLimit.getLimit());
+
+		uploadWindow(concurrencyLimit, 1000);
+		assertEquals(3, concurrencyLimit.getLimit());
+
+		uploadWindow(concurrencyLimit, 2000);
+		assertEquals(4, concurrencyLimit.getLimit());
+
+		uploadWindow(concurrencyLimit, 4000);
+		assertEquals(4, concurrencyLimit.getLimit());
+	}
+
+	@Test
+	public void concurrencyLimitLoweredWhenThroughputDropsTest() {
+		ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit(4);
+		uploadWindow(concurrencyLimit, 1000);
+		assertEquals(3, concurrencyLimit.getLimit());
+
+		uploadWindow(concurrencyLimit, 100);
+		assertEquals(2, concurrencyLimit.getLimit());
+
+		// within 10 % of the previous window the limit is kept
+		uploadWindow(concurrencyLimit, 150);
+		assertEquals(2, concurrencyLimit.getLimit());
+	}
+
+	@Test
+	public void concurrencyLimitHalvedOnConnectionFailureTest() {
+		ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit(8);
+		uploadWindow(concurrencyLimit, 1000);
+		uploadWindow(concurrencyLimit, 2000);
+		assertEquals(4, concurrencyLimit.getLimit());
+
+		concurrencyLimit.onConnectionFailure();
+		assertEquals(2, concurrencyLimit.getLimit());
+		concurrencyLimit.onConnectionFailure();
+		concurrencyLimit.onConnectionFailure();
+		assertEquals(1, concurrencyLimit.getLimit());
+	}
+
+	/**
+	 * Completes a window of uploads of the given size per upload, each taking a
+	 * second, so the measured throughput does not depend on the test run time.
+	 */
+	private static void uploadWindow(ConcurrencyLimit concurrencyLimit, long bytes) {
+		int uploads = concurrencyLimit.getLimit();
+		for (int upload = 0; upload < uploads; upload++) {
+			concurrencyLimit.onUploaded(bytes, 1_000_000_000L);
+		}
+	}
+
+	@Test
+	public void uploadFailureNotRetriedTest() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		List<Result<String>> results = packetUploadScheduler.upload(List.of(new File("packet.zip")), packet -> {
+			attempts.incrementAndGet();
+			throw new RegBaseCheckedException("500", "Server error");
+		});
+
+		assertEquals(1, attempts.get());
+		assertTrue(results.get(0).getException() instanceof RegBaseCheckedException);
+	}
+
+}
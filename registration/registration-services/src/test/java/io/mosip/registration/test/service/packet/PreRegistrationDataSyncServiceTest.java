@@ -26,6 +26,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.powermock.api.mockito.PowerMockito;
@@ -52,6 +53,7 @@ import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.jobs.SyncManager;
 import io.mosip.registration.service.external.PreRegZipHandlingService;
 import io.mosip.registration.service.sync.impl.PreRegistrationDataSyncServiceImpl;
+import io.mosip.registration.service.sync.impl.PreRegistrationDownloadPipeline;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
 
@@ -84,6 +86,9 @@ public class PreRegistrationDataSyncServiceTest {
 	@Mock
 	PreRegZipHandlingService preRegZipHandlingService;
 
+	@Spy
+	private PreRegistrationDownloadPipeline preRegistrationDownloadPipeline;
+
 	static byte[] preRegPacket;
 
 	static Map<String, Object> preRegData = new HashMap<>();
@@ -113,6 +118,7 @@ public class PreRegistrationDataSyncServiceTest {
 		Map<String, Object> applicationMap = new HashMap<>();
 		applicationMap.put(RegistrationConstants.PRE_REG_DELETION_CONFIGURED_DAYS, "45");
 		applicationMap.put(RegistrationConstants.PRE_REG_DAYS_LIMIT, "5");
+		applicationMap.put(RegistrationConstants.PRE_REG_DOWNLOAD_MAX_RETRIES, "0");
 
 		Map<String, Object> map = new HashMap<>();
 		map.put(RegistrationConstants.PRE_REG_DELETION_CONFIGURED_DAYS, "5");
@@ -159,7 +165,8 @@ public class PreRegistrationDataSyncServiceTest {
 		preRegistrationDTO.setPreRegId("70694681371453");
 		Mockito.when(preRegZipHandlingService
 		.encryptAndSavePreRegPacket(Mockito.anyString(), Mockito.any())).thenReturn(preRegistrationDTO);
-		Mockito.when(preRegZipHandlingService.extractPreRegZipFile(Mockito.any())).thenReturn(new RegistrationDTO());
+		Mockito.when(preRegZipHandlingService.extractPreRegZipFile(Mockito.anyString(), Mockito.anyString()))
+				.thenReturn(new RegistrationDTO());
 
 		preRegistrationDataSyncServiceImpl.getPreRegistrationIds("System");
 
@@ -229,7 +236,8 @@ public class PreRegistrationDataSyncServiceTest {
 		preRegistrationDTO.setPreRegId("70694681371453");
 		Mockito.when(preRegZipHandlingService
 		.encryptAndSavePreRegPacket(Mockito.anyString(), Mockito.any())).thenReturn(preRegistrationDTO);
-		Mockito.when(preRegZipHandlingService.extractPreRegZipFile(Mockito.any())).thenReturn(new RegistrationDTO());
+		Mockito.when(preRegZipHandlingService.extractPreRegZipFile(Mockito.anyString(), Mockito.anyString()))
+				.thenReturn(new RegistrationDTO());
 
 		ResponseDTO responseDTO = preRegistrationDataSyncServiceImpl.getPreRegistration("70694681371453");
 		assertNotNull(responseDTO);
@@ -306,7 +314,8 @@ public class PreRegistrationDataSyncServiceTest {
 		Mockito.when(preRegZipHandlingService
 		.encryptAndSavePreRegPacket(Mockito.anyString(), Mockito.any())).thenReturn(preRegistrationDTO);
 	
-		doThrow(new RegBaseCheckedException()).when(preRegZipHandlingService).extractPreRegZipFile(Mockito.any());
+		doThrow(new RegBaseCheckedException()).when(preRegZipHandlingService).extractPreRegZipFile(Mockito.anyString(),
+				Mockito.anyString());
 
 		preRegistrationDataSyncServiceImpl.getPreRegistration("70694681371453");
 
@@ -326,7 +335,8 @@ public class PreRegistrationDataSyncServiceTest {
 	private void mockEncryptedPacket() throws RegBaseCheckedException {
 		mockEncryptedData();
 
-		Mockito.when(preRegZipHandlingService.extractPreRegZipFile(preRegPacket)).thenReturn(new RegistrationDTO());
+		Mockito.when(preRegZipHandlingService.extractPreRegZipFile("0E8BAAEB3CED73CBC9BF4964F321824A", "path"))
+				.thenReturn(new RegistrationDTO());
 
 	}
 
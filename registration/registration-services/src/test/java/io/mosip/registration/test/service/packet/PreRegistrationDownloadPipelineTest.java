@@ -0,0 +1,80 @@
+package io.mosip.registration.test.service.packet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.service.sync.impl.PreRegistrationDownloadPipeline;
+import io.mosip.registration.test.config.ApplicationMapRule;
+
+public class PreRegistrationDownloadPipelineTest {
+
+	@Rule
+	public ApplicationMapRule applicationMap = new ApplicationMapRule()
+			.with(RegistrationConstants.PRE_REG_DOWNLOAD_MAX_CONCURRENCY, "3")
+			.with(RegistrationConstants.PRE_REG_DOWNLOAD_RATE_PER_SECOND, "0")
+			.with(RegistrationConstants.PRE_REG_DOWNLOAD_MAX_RETRIES, "2")
+			.with(RegistrationConstants.PRE_REG_DOWNLOAD_RETRY_BACKOFF_MILLIS, "1");
+
+	private PreRegistrationDownloadPipeline preRegistrationDownloadPipeline = new PreRegistrationDownloadPipeline();
+
+	private Map<String, Timestamp> preRegistrations = new LinkedHashMap<>();
+
+	@Before
+	public void initialize() {
+		for (int index = 0; index < 10; index++) {
+			preRegistrations.put("7069468137145" + index, new Timestamp(System.currentTimeMillis()));
+		}
+	}
+
+	@Test
+	public void downloadSkipsStoredPacketsTest() {
+		Set<String> downloaded = ConcurrentHashMap.newKeySet();
+
+		int failed = preRegistrationDownloadPipeline.download("10031", preRegistrations,
+				(preRegistrationId, lastUpdatedTimeStamp) -> preRegistrationId.endsWith("0"),
+				(preRegistrationId, lastUpdatedTimeStamp) -> downloaded.add(preRegistrationId));
+
+		assertEquals(0, failed);
+		assertEquals(9, downloaded.size());
+		assertFalse(downloaded.contains("70694681371450"));
+	}
+
+	@Test
+	public void downloadRetriesFailedPacketTest() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		int failed = preRegistrationDownloadPipeline.download("10031", Map.of("70694681371453", new Timestamp(0)),
+				(preRegistrationId, lastUpdatedTimeStamp) -> false,
+				(preRegistrationId, lastUpdatedTimeStamp) -> attempts.incrementAndGet() == 3);
+
+		assertEquals(0, failed);
+		assertEquals(3, attempts.get());
+	}
+
+	@Test
+	public void downloadReportsFailedPacketsTest() {
+		int failed = preRegistrationDownloadPipeline.download("10031", preRegistrations,
+				(preRegistrationId, lastUpdatedTimeStamp) -> false, (preRegistrationId, lastUpdatedTimeStamp) -> {
+					if (preRegistrationId.endsWith("9")) {
+						throw new IllegalStateException("Download failed");
+					}
+					return !preRegistrationId.endsWith("8");
+				});
+
+		assertEquals(2, failed);
+		assertEquals(0, preRegistrationDownloadPipeline.getProgress(), 0);
+	}
+
+}
@@ -11,11 +11,13 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 
+import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.springframework.core.env.Environment;
@@ -30,12 +32,15 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.dao.RegistrationDAO;
 import io.mosip.registration.dto.PacketStatusDTO;
 import io.mosip.registration.entity.Registration;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.repositories.RegistrationRepository;
+import io.mosip.registration.service.packet.impl.PacketUploadScheduler;
 import io.mosip.registration.service.packet.impl.PacketUploadServiceImpl;
 import io.mosip.registration.util.restclient.RequestHTTPDTO;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
@@ -60,9 +65,17 @@ public class PacketUploadServiceTest {
 	@Mock
 	private RegistrationRepository registrationRepository;
 
+	@Spy
+	private PacketUploadScheduler packetUploadScheduler = new PacketUploadScheduler();
+
 	@InjectMocks
 	private PacketUploadServiceImpl packetUploadServiceImpl;
 
+	@Before
+	public void initialize() {
+		ApplicationContext.map().put(RegistrationConstants.PACKET_UPLOAD_MAX_RETRIES, "0");
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testGetSynchedPackets() {
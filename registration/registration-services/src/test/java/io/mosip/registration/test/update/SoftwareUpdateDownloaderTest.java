@@ -0,0 +1,147 @@
+package io.mosip.registration.test.update;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.test.config.ApplicationMapRule;
+import io.mosip.registration.update.SoftwareUpdateDownloader;
+
+public class SoftwareUpdateDownloaderTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public ApplicationMapRule applicationMap = new ApplicationMapRule()
+			.with(RegistrationConstants.SOFTWARE_UPDATE_MAX_CONCURRENCY, "2")
+			.with(RegistrationConstants.SOFTWARE_UPDATE_MAX_RETRIES, "1")
+			.with(RegistrationConstants.SOFTWARE_UPDATE_RETRY_BACKOFF_MILLIS, "1");
+
+	private SoftwareUpdateDownloader softwareUpdateDownloader = new SoftwareUpdateDownloader();
+
+	private HttpServer httpServer;
+
+	private List<String> ranges = new CopyOnWriteArrayList<>();
+
+	private byte[] jar = new byte[200000];
+
+	private String jarUrl;
+
+	private Path stagingFolder;
+
+	@Before
+	public void initialize() throws IOException {
+		for (int index = 0; index < jar.length; index++) {
+			jar[index] = (byte) index;
+		}
+
+		httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		httpServer.createContext("/lib/", exchange -> {
+			String range = exchange.getRequestHeaders().getFirst("Range");
+			ranges.add(String.valueOf(range));
+			int offset = range != null ? Integer.parseInt(range.replace("bytes=", "").replace("-", "")) : 0;
+			if (range != null) {
+				exchange.getResponseHeaders().add("Content-Range",
+						"bytes " + offset + "-" + (jar.length - 1) + "/" + jar.length);
+			}
+			exchange.sendResponseHeaders(range != null ? 206 : 200, jar.length - offset);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(jar, offset, jar.length - offset);
+			}
+		});
+		httpServer.start();
+
+		jarUrl = "http://localhost:" + httpServer.getAddress().getPort() + "/lib/";
+		stagingFolder = temporaryFolder.getRoot().toPath().resolve("0.12.0");
+	}
+
+	@After
+	public void cleanUp() {
+		httpServer.stop(0);
+	}
+
+	@Test
+	public void downloadStagesVerifiedJarsTest() throws Exception {
+		softwareUpdateDownloader.download(jarUrl,
+				Map.of("registration-api.jar", getCheckSum(jar), "registration-client.jar", getCheckSum(jar)),
+				stagingFolder);
+
+		assertArrayEquals(jar, Files.readAllBytes(stagingFolder.resolve("registration-api.jar")));
+		assertArrayEquals(jar, Files.readAllBytes(stagingFolder.resolve("registration-client.jar")));
+		assertEquals(2, stagingFolder.toFile().list().length);
+	}
+
+	@Test
+	public void downloadResumesPartFileTest() throws Exception {
+		Files.createDirectories(stagingFolder);
+		Files.write(stagingFolder.resolve("registration-api.jar.part"), Arrays.copyOf(jar, 1000));
+
+		softwareUpdateDownloader.download(jarUrl, Map.of("registration-api.jar", getCheckSum(jar)), stagingFolder);
+
+		assertEquals(List.of("bytes=1000-"), ranges);
+		assertArrayEquals(jar, Files.readAllBytes(stagingFolder.resolve("registration-api.jar")));
+	}
+
+	@Test
+	public void downloadSkipsStagedJarTest() throws Exception {
+		Files.createDirectories(stagingFolder);
+		Files.write(stagingFolder.resolve("registration-api.jar"), jar);
+
+		softwareUpdateDownloader.download(jarUrl, Map.of("registration-api.jar", getCheckSum(jar)), stagingFolder);
+
+		assertEquals(0, ranges.size());
+	}
+
+	@Test
+	public void downloadDeletesSupersededStagingFoldersTest() throws Exception {
+		Path supersededFolder = temporaryFolder.newFolder("0.11.0").toPath();
+		Files.write(supersededFolder.resolve("registration-api.jar.part"), Arrays.copyOf(jar, 1000));
+
+		softwareUpdateDownloader.download(jarUrl, Map.of("registration-api.jar", getCheckSum(jar)), stagingFolder);
+
+		assertFalse(Files.exists(supersededFolder));
+		assertArrayEquals(jar, Files.readAllBytes(stagingFolder.resolve("registration-api.jar")));
+	}
+
+	@Test(expected = IOException.class)
+	public void downloadChecksumMismatchTest() throws Exception {
+		try {
+			softwareUpdateDownloader.download(jarUrl, Map.of("registration-api.jar", getCheckSum(new byte[] { 1 })),
+					stagingFolder);
+		} finally {
+			assertEquals(2, ranges.size());
+			assertFalse(Files.exists(stagingFolder.resolve("registration-api.jar")));
+		}
+	}
+
+	private static String getCheckSum(byte[] bytes) throws NoSuchAlgorithmException {
+		StringBuilder checkSum = new StringBuilder();
+		for (byte digestByte : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+			checkSum.append(String.format("%02X", digestByte));
+		}
+		return checkSum.toString();
+	}
+
+}
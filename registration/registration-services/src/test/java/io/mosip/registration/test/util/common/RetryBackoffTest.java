@@ -0,0 +1,41 @@
+package io.mosip.registration.test.util.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.mosip.registration.util.common.RetryBackoff;
+
+public class RetryBackoffTest {
+
+	@Test
+	public void backoffDoubledForEveryAttemptTest() {
+		assertEquals(1000, RetryBackoff.getBackoffMillis(1000, 0));
+		assertEquals(2000, RetryBackoff.getBackoffMillis(1000, 1));
+		assertEquals(8000, RetryBackoff.getBackoffMillis(1000, 3));
+	}
+
+	@Test
+	public void backoffStopsDoublingTest() {
+		assertEquals(RetryBackoff.getBackoffMillis(1000, 16), RetryBackoff.getBackoffMillis(1000, 63));
+		assertTrue(RetryBackoff.getBackoffMillis(1000, 63) > 0);
+	}
+
+	@Test
+	public void awaitWaitsForBackoffTest() throws InterruptedException {
+		long start = System.nanoTime();
+
+		RetryBackoff.await("REGISTRATION - RETRY_BACKOFF_TEST", "test operation", 1, 10);
+
+		assertTrue(System.nanoTime() - start >= 20_000_000L);
+	}
+
+	@Test(expected = InterruptedException.class)
+	public void awaitInterruptedTest() throws InterruptedException {
+		Thread.currentThread().interrupt();
+
+		RetryBackoff.await("REGISTRATION - RETRY_BACKOFF_TEST", "test operation", 0, 1000);
+	}
+
+}
@@ -1,8 +1,11 @@
 package io.mosip.registration.test.util.mastersync;
 
 import static io.mosip.registration.util.mastersync.MapperUtils.map;
+import static io.mosip.registration.util.mastersync.MetaDataUtils.setCreateJsonNodeToMetaData;
 import static io.mosip.registration.util.mastersync.MetaDataUtils.setCreateMetaData;
 import static io.mosip.registration.util.mastersync.MetaDataUtils.setUpdateMetaData;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.sql.Timestamp;
@@ -19,6 +22,8 @@ import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.context.SessionContext.UserContext;
 import io.mosip.registration.dto.mastersync.LanguageDto;
@@ -113,5 +118,22 @@ public class MapperTest {
 		List<RegistrationCenter> rcds = setCreateMetaData(rcdDtos, Title.class);
 		assertTrue(!EmptyCheckUtils.isNullEmpty(rcds));
 	}
+
+	@Test
+	public void testSetCreateJsonNodeToMetaData() throws Exception {
+		ObjectMapper mapper = new ObjectMapper();
+		for (int i = 0; i < 2; i++) {
+			Title title = setCreateJsonNodeToMetaData(mapper.readTree(
+					"{\"code\":\"T100" + i + "\",\"langCode\":\"eng\",\"titleName\":\"Mr\",\"titleDescription\":null,\"isActive\":true}"),
+					Title.class);
+
+			assertEquals("T100" + i, title.getId().getCode());
+			assertEquals("eng", title.getId().getLangCode());
+			assertEquals("Mr", title.getTitleName());
+			assertNull(title.getTitleDescription());
+			assertTrue(title.getIsActive());
+			assertTrue(title.getCrDtime() != null);
+		}
+	}
 	
 }
@@ -0,0 +1,147 @@
+package io.mosip.registration.test.util.mastersync;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.persistence.metamodel.Type;
+
+import org.hibernate.Session;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.clientcrypto.service.impl.ClientCryptoFacade;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.registration.dto.response.SyncDataBaseDto;
+import io.mosip.registration.dto.response.SyncDataResponseDto;
+import io.mosip.registration.entity.Title;
+import io.mosip.registration.entity.id.CodeAndLanguageCodeID;
+import io.mosip.registration.util.mastersync.ClientSettingSyncHelper;
+import io.mosip.registration.util.mastersync.MasterDataBatchWriter;
+
+public class MasterDataBatchWriterTest {
+
+	private ClientSettingSyncHelper clientSettingSyncHelper = new ClientSettingSyncHelper();
+
+	private MasterDataBatchWriter masterDataBatchWriter = new MasterDataBatchWriter();
+
+	private EntityManager entityManager = mock(EntityManager.class);
+
+	private Session session = mock(Session.class);
+
+	private ClientCryptoFacade clientCryptoFacade = mock(ClientCryptoFacade.class);
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() throws Exception {
+		ReflectionTestUtils.setField(masterDataBatchWriter, "entityManager", entityManager);
+		ReflectionTestUtils.setField(masterDataBatchWriter, "batchSize", 2);
+		ReflectionTestUtils.setField(clientSettingSyncHelper, "masterDataBatchWriter", masterDataBatchWriter);
+		ReflectionTestUtils.setField(clientSettingSyncHelper, "clientCryptoFacade", clientCryptoFacade);
+
+		Type<CodeAndLanguageCodeID> idType = mock(Type.class);
+		doReturn(CodeAndLanguageCodeID.class).when(idType).getJavaType();
+		SingularAttribute<Title, CodeAndLanguageCodeID> idAttribute = mock(SingularAttribute.class);
+		when(idAttribute.getName()).thenReturn("id");
+		when(idAttribute.getJavaMember()).thenReturn(Title.class.getDeclaredField("id"));
+		EntityType<Title> entityType = mock(EntityType.class);
+		when(entityType.getName()).thenReturn("Title");
+		when(entityType.hasSingleIdAttribute()).thenReturn(true);
+		doReturn(idType).when(entityType).getIdType();
+		doReturn(idAttribute).when(entityType).getId(CodeAndLanguageCodeID.class);
+		Metamodel metamodel = mock(Metamodel.class);
+		doReturn(entityType).when(metamodel).entity(Title.class);
+		when(entityManager.getMetamodel()).thenReturn(metamodel);
+		when(entityManager.unwrap(Session.class)).thenReturn(session);
+
+		Query savedIds = mock(Query.class);
+		when(savedIds.getResultList()).thenReturn(Collections.singletonList(id("T1001")));
+		when(entityManager.createQuery("select e.id from Title e")).thenReturn(savedIds);
+	}
+
+	@Test
+	public void testNewEntitiesInsertedAndSavedEntitiesUpdated() throws Exception {
+		saveTitles(title("T1000"), title("T1001"), title("T1002"));
+
+		verify(entityManager, times(1)).createQuery("select e.id from Title e");
+		verify(entityManager).persist(Mockito.argThat(hasCode("T1000")));
+		verify(session).update(Mockito.argThat(hasCode("T1001")));
+		verify(entityManager).persist(Mockito.argThat(hasCode("T1002")));
+		verify(entityManager, never()).merge(any());
+		verify(entityManager, never()).find(any(), any());
+	}
+
+	@Test
+	public void testBatchFlushedAndDetachedAtBatchSize() throws Exception {
+		saveTitles(title("T1000"), title("T1001"), title("T1002"));
+
+		InOrder inOrder = inOrder(entityManager, session);
+		inOrder.verify(entityManager).persist(Mockito.argThat(hasCode("T1000")));
+		inOrder.verify(session).update(Mockito.argThat(hasCode("T1001")));
+		inOrder.verify(entityManager).flush();
+		inOrder.verify(entityManager).detach(Mockito.argThat(hasCode("T1000")));
+		inOrder.verify(entityManager).detach(Mockito.argThat(hasCode("T1001")));
+		inOrder.verify(entityManager).persist(Mockito.argThat(hasCode("T1002")));
+		inOrder.verify(entityManager).flush();
+		inOrder.verify(entityManager).detach(Mockito.argThat(hasCode("T1002")));
+		verify(entityManager, never()).clear();
+	}
+
+	@Test
+	public void testRecordSentTwiceUpdatedAfterInsert() throws Exception {
+		saveTitles(title("T1000"), title("T1000"));
+
+		InOrder inOrder = inOrder(entityManager, session);
+		inOrder.verify(entityManager).persist(Mockito.argThat(hasCode("T1000")));
+		inOrder.verify(entityManager).flush();
+		inOrder.verify(session).update(Mockito.argThat(hasCode("T1000")));
+		inOrder.verify(entityManager).flush();
+	}
+
+	private void saveTitles(String... titles) throws Exception {
+		byte[] data = ("[" + String.join(",", titles) + "]").getBytes(StandardCharsets.UTF_8);
+		when(clientCryptoFacade.decrypt(any())).thenReturn(data);
+
+		SyncDataBaseDto syncDataBaseDto = new SyncDataBaseDto();
+		syncDataBaseDto.setEntityName("Title");
+		syncDataBaseDto.setEntityType("structured");
+		syncDataBaseDto.setData(CryptoUtil.encodeBase64(data));
+		SyncDataResponseDto syncDataResponseDto = new SyncDataResponseDto();
+		syncDataResponseDto.setDataToSync(Collections.singletonList(syncDataBaseDto));
+
+		ReflectionTestUtils.invokeMethod(clientSettingSyncHelper, "saveEntities", syncDataResponseDto, "Title");
+	}
+
+	private static String title(String code) {
+		return "{\"code\":\"" + code + "\",\"langCode\":\"eng\",\"titleName\":\"Mr\",\"isActive\":true}";
+	}
+
+	private static CodeAndLanguageCodeID id(String code) {
+		CodeAndLanguageCodeID id = new CodeAndLanguageCodeID();
+		id.setCode(code);
+		id.setLangCode("eng");
+		return id;
+	}
+
+	private static ArgumentMatcher<Object> hasCode(String code) {
+		return entity -> entity instanceof Title && id(code).equals(((Title) entity).getId());
+	}
+
+}
@@ -1,6 +1,7 @@
 package io.mosip.registration.test.validator;
 
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -11,6 +12,7 @@ import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
@@ -35,8 +37,8 @@ public class RegIdObjectMasterDataValidatorTest {
 	@Mock
 	private MasterSyncDao masterSyncDao;
 	
-	@Mock
-	private ObjectMapper mapper;
+	@Spy
+	private ObjectMapper mapper = new ObjectMapper();
 
 	@InjectMocks
 	private RegIdObjectMasterDataValidator regIdObjectMasterDataValidator;
@@ -82,12 +84,74 @@ public class RegIdObjectMasterDataValidatorTest {
 		Mockito.when(masterSyncDao.getLocationDetails()).thenReturn(locationList);
 		regIdObjectMasterDataValidator.loadData();
 		String identityString = "{\"identity\":{\"IDSchemaVersion\":1.0,\"UIN\":4920546943,\"fullName\":[{\"language\":\"eng\",\"value\":\"Ibrahim Ibn Ali\"}],\"dateOfBirth\":\"1955/04/15\",\"age\":45,\"gender\":[{\"language\":\"eng\",\"value\":\"MLE\"}],\"addressLine1\":[{\"language\":\"eng\",\"value\":\"exemple d'adresse ligne 1\"}],\"addressLine2\":[{\"language\":\"eng\",\"value\":\"exemple d'adresse ligne 2\"}],\"addressLine3\":[{\"language\":\"eng\",\"value\":\"exemple d'adresse ligne 2\"}],\"region\":[{\"language\":\"eng\",\"value\":\"Rabat Sale Kenitra\"}],\"province\":[{\"language\":\"eng\",\"value\":\"Kenitra\"}],\"city\":[{\"language\":\"eng\",\"value\":\"Kenitra\"}],\"postalCode\":\"10112\",\"phone\":\"9876543210\",\"email\":\"abc@xyz.com\",\"CNIENumber\":\"6789545678909\",\"localAdministrativeAuthority\":[{\"language\":\"eng\",\"value\":\"Mograne\"}],\"parentOrGuardianRID\":212124324784912,\"parentOrGuardianUIN\":212124324784912,\"parentOrGuardianName\":[{\"language\":\"eng\",\"value\":\"salma\"}],\"proofOfAddress\":{\"format\":\"pdf\",\"type\":\"Ration Card\",\"value\":\"fileReferenceID\"},\"proofOfIdentity\":{\"format\":\"txt\",\"type\":\"Passport\",\"value\":\"fileReferenceID\"},\"proofOfRelationship\":{\"format\":\"pdf\",\"type\":\"Birth Certificate\",\"value\":\"fileReferenceID\"},\"proofOfDateOfBirth\":{\"format\":\"pdf\",\"type\":\"passport\",\"value\":\"fileReferenceID\"},\"individualBiometrics\":{\"format\":\"cbeff\",\"version\":1.0,\"value\":\"fileReferenceID\"},\"parentOrGuardianBiometrics\":{\"format\":\"cbeff\",\"version\":1.1,\"value\":\"fileReferenceID\"}}}";
-		Mockito.when(mapper.writeValueAsString(Mockito.any())).thenReturn(identityString);
 		/*assertTrue(regIdObjectMasterDataValidator.validateIdObject(
 				new ObjectMapper().readValue(identityString.getBytes(StandardCharsets.UTF_8), Object.class),
 				IdObjectValidatorSupportedOperations.NEW_REGISTRATION));*/
 	}
 	
+	@Test
+	public void validateIdObjectSinglePassTest() throws Exception {
+		loadMasterData("Male");
+		String identityString = "{\"identity\":{\"fullName\":[{\"language\":\"eng\",\"value\":\"Ibrahim\"}],\"gender\":[{\"language\":\"eng\",\"value\":\"Male\"}],\"region\":[{\"language\":\"eng\",\"value\":\"Rabat Sale\"}],\"proofOfIdentity\":{\"format\":\"pdf\",\"type\":\"DOC001\",\"value\":\"fileReferenceID\"}}}";
+
+		assertTrue(regIdObjectMasterDataValidator.validateIdObject(
+				new ObjectMapper().readValue(identityString.getBytes(StandardCharsets.UTF_8), Object.class)));
+	}
+
+	@Test(expected = IdObjectValidationFailedException.class)
+	public void validateIdObjectInvalidValuesTest() throws Exception {
+		loadMasterData("Male");
+		String identityString = "{\"identity\":{\"fullName\":[{\"language\":\"fra\",\"value\":\"Ibrahim\"}],\"gender\":[{\"language\":\"eng\",\"value\":\"Female\"}],\"region\":[{\"language\":\"eng\",\"value\":\"Kenitra\"}],\"proofOfIdentity\":{\"format\":\"pdf\",\"type\":\"DOC002\",\"value\":\"fileReferenceID\"}}}";
+
+		regIdObjectMasterDataValidator.validateIdObject(
+				new ObjectMapper().readValue(identityString.getBytes(StandardCharsets.UTF_8), Object.class));
+	}
+
+	@Test
+	public void validateIdObjectAfterReloadTest() throws Exception {
+		loadMasterData("Male");
+		String identityString = "{\"identity\":{\"gender\":[{\"language\":\"eng\",\"value\":\"Female\"}]}}";
+		Object identityObject = new ObjectMapper().readValue(identityString.getBytes(StandardCharsets.UTF_8),
+				Object.class);
+
+		try {
+			regIdObjectMasterDataValidator.validateIdObject(identityObject);
+			fail();
+		} catch (IdObjectValidationFailedException exception) {
+			// the gender is not in the loaded master data
+		}
+
+		loadMasterData("Female");
+		assertTrue(regIdObjectMasterDataValidator.validateIdObject(identityObject));
+	}
+
+	private void loadMasterData(String genderName) {
+		Language lang = new Language();
+		lang.setCode("eng");
+		Gender gender = new Gender();
+		gender.setGenderName(genderName);
+		gender.setLangCode("eng");
+		DocumentCategory documentCategory = new DocumentCategory();
+		documentCategory.setLangCode("eng");
+		documentCategory.setCode("POI");
+		ValidDocument validDocument = new ValidDocument();
+		validDocument.setDocTypeCode("DOC001");
+		DocumentType documentType = new DocumentType();
+		documentType.setCode("DOC001");
+		Location location = new Location();
+		location.setHierarchyLevel(1);
+		location.setHierarchyName("Region");
+		location.setLangCode("eng");
+		location.setName("Rabat Sale");
+		Mockito.when(masterSyncDao.getActiveLanguages()).thenReturn(List.of(lang));
+		Mockito.when(masterSyncDao.getGenders()).thenReturn(List.of(gender));
+		Mockito.when(masterSyncDao.getDocumentCategory()).thenReturn(List.of(documentCategory));
+		Mockito.when(masterSyncDao.getValidDocumets(Mockito.any())).thenReturn(List.of(validDocument));
+		Mockito.when(masterSyncDao.getDocumentTypes(Mockito.any(), Mockito.any())).thenReturn(List.of(documentType));
+		Mockito.when(masterSyncDao.getLocationDetails()).thenReturn(List.of(location));
+		regIdObjectMasterDataValidator.loadData();
+	}
+
 	/*@Test(expected = IdObjectValidationFailedException.class)
 	public void validateIdObjectTestException() throws Exception {
 		